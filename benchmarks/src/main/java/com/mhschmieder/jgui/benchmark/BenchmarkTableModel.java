@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BenchmarkTableModel} is a minimal row-oriented Table Model that
+ * mimics the typical data model of a {@code JxDynamicTablePanel} derived class,
+ * where each row is a small data object and the table is backed by a list.
+ * <p>
+ * The row data is stored as primitive arrays so that the benchmark fixture
+ * itself doesn't dominate the allocation profile of the code being measured.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BenchmarkTableModel extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long serialVersionUID = -3466311950785829417L;
+
+    /**
+     * The number of columns in each row of this Table Model.
+     */
+    private final int         numberOfColumns;
+
+    /**
+     * The row data for this Table Model, in model order.
+     */
+    private final List< double[] > rows;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BenchmarkTableModel} with the specified number of
+     * columns and no rows.
+     *
+     * @param columnCount
+     *            The number of columns in each row of this Table Model
+     *
+     * @since 1.0
+     */
+    public BenchmarkTableModel( final int columnCount ) {
+        // Always call the superclass constructor first!
+        super();
+
+        numberOfColumns = columnCount;
+        rows = new ArrayList<>();
+    }
+
+    ////////////////////// Table manipulation methods ////////////////////////
+
+    /**
+     * Appends the specified number of generated rows to the end of the model,
+     * firing a single insertion event for the entire block.
+     *
+     * @param numberOfRows
+     *            The number of rows to append
+     *
+     * @since 1.0
+     */
+    public void addRows( final int numberOfRows ) {
+        if ( numberOfRows <= 0 ) {
+            return;
+        }
+
+        final int firstRow = rows.size();
+        for ( int row = firstRow; row < firstRow + numberOfRows; row++ ) {
+            rows.add( makeRow( row ) );
+        }
+
+        fireTableRowsInserted( firstRow, rows.size() - 1 );
+    }
+
+    /**
+     * Inserts a copy of the specified reference row at the specified index.
+     *
+     * @param insertIndex
+     *            The index for inserting the new row
+     * @param referenceIndex
+     *            The index of the row to copy, or {@code -1} to generate one
+     *
+     * @since 1.0
+     */
+    public void insertRow( final int insertIndex, final int referenceIndex ) {
+        final double[] row = ( ( referenceIndex >= 0 ) && ( referenceIndex < rows.size() ) )
+            ? rows.get( referenceIndex ).clone()
+            : makeRow( insertIndex );
+        rows.add( insertIndex, row );
+
+        fireTableRowsInserted( insertIndex, insertIndex );
+    }
+
+    /**
+     * Inserts a block of copies of the specified reference row at the
+     * specified index, firing a single insertion event for the entire block.
+     *
+     * @param insertIndex
+     *            The index for inserting the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param referenceIndex
+     *            The index of the row to copy, or {@code -1} to generate them
+     *
+     * @since 1.0
+     */
+    public void insertRows( final int insertIndex,
+                            final int numberOfRows,
+                            final int referenceIndex ) {
+        final List< double[] > newRows = new ArrayList<>( numberOfRows );
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            newRows.add( ( ( referenceIndex >= 0 ) && ( referenceIndex < rows.size() ) )
+                ? rows.get( referenceIndex ).clone()
+                : makeRow( insertIndex + row ) );
+        }
+        rows.addAll( insertIndex, newRows );
+
+        fireTableRowsInserted( insertIndex, ( insertIndex + numberOfRows ) - 1 );
+    }
+
+    /**
+     * Inserts a block of copies of the supplied rows at the specified index,
+     * firing a single insertion event for the entire block.
+     *
+     * @param insertIndex
+     *            The index for inserting the first new row
+     * @param suppliedRows
+     *            The rows to copy, in row order
+     *
+     * @since 1.0
+     */
+    public void insertRows( final int insertIndex,
+                            final List< double[] > suppliedRows ) {
+        if ( suppliedRows.isEmpty() ) {
+            return;
+        }
+
+        final List< double[] > newRows = new ArrayList<>( suppliedRows.size() );
+        for ( final double[] suppliedRow : suppliedRows ) {
+            newRows.add( suppliedRow.clone() );
+        }
+        rows.addAll( insertIndex, newRows );
+
+        fireTableRowsInserted( insertIndex, ( insertIndex + newRows.size() ) - 1 );
+    }
+
+    /**
+     * Removes the row at the specified index.
+     *
+     * @param deleteIndex
+     *            The index of the row to remove
+     *
+     * @since 1.0
+     */
+    public void removeRow( final int deleteIndex ) {
+        rows.remove( deleteIndex );
+
+        fireTableRowsDeleted( deleteIndex, deleteIndex );
+    }
+
+    /**
+     * Removes a contiguous range of rows, firing a single deletion event.
+     *
+     * @param firstRow
+     *            The index of the first row to remove
+     * @param lastRow
+     *            The index of the last row to remove
+     *
+     * @since 1.0
+     */
+    public void removeRows( final int firstRow, final int lastRow ) {
+        rows.subList( firstRow, lastRow + 1 ).clear();
+
+        fireTableRowsDeleted( firstRow, lastRow );
+    }
+
+    /**
+     * Returns the primitive cell value at the specified row and column.
+     *
+     * @param row
+     *            The row index of the cell
+     * @param column
+     *            The column index of the cell
+     * @return The primitive cell value at the specified row and column
+     *
+     * @since 1.0
+     */
+    public double getDoubleAt( final int row, final int column ) {
+        return rows.get( row )[ column ];
+    }
+
+    /**
+     * Returns a newly generated row whose contents depend on its index.
+     *
+     * @param row
+     *            The row index used to seed the generated values
+     * @return A newly generated row
+     */
+    private double[] makeRow( final int row ) {
+        final double[] values = new double[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            values[ column ] = ( row * 0.5d ) + column;
+        }
+        return values;
+    }
+
+    /////////////////// AbstractTableModel method overrides /////////////////
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return numberOfColumns;
+    }
+
+    @Override
+    public Class< ? > getColumnClass( final int columnIndex ) {
+        return Double.class;
+    }
+
+    @Override
+    public Object getValueAt( final int rowIndex, final int columnIndex ) {
+        return Double.valueOf( rows.get( rowIndex )[ columnIndex ] );
+    }
+
+    @Override
+    public boolean isCellEditable( final int rowIndex, final int columnIndex ) {
+        return true;
+    }
+
+    @Override
+    public void setValueAt( final Object aValue, final int rowIndex, final int columnIndex ) {
+        if ( aValue instanceof Number ) {
+            rows.get( rowIndex )[ columnIndex ] = ( ( Number ) aValue ).doubleValue();
+            fireTableCellUpdated( rowIndex, columnIndex );
+        }
+    }
+
+}
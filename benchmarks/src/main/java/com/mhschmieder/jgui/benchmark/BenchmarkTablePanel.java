@@ -0,0 +1,392 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import com.mhschmieder.jgui.layout.JxDynamicTablePanel;
+
+import javax.swing.ListSelectionModel;
+import java.awt.EventQueue;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code BenchmarkTablePanel} is a concrete {@link JxDynamicTablePanel} that
+ * is used as the fixture for all of the table panel benchmarks.
+ * <p>
+ * It keeps a separate "domain" copy of each row, as is typical of application
+ * tables, so that the model/view syncing methods have real work to do.
+ * <p>
+ * The benchmarks invoke the panel from the JMH worker thread rather than the
+ * event-dispatching thread, as they run headless and nothing else touches the
+ * panel; the only exception is the auto-scroll request that row insertion
+ * queues, which is why {@link #flushEventQueue()} exists.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BenchmarkTablePanel extends JxDynamicTablePanel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long       serialVersionUID = 2950281136584462906L;
+
+    /**
+     * The Table Model that backs the table in this panel.
+     */
+    private final BenchmarkTableModel tableModel;
+
+    /**
+     * The application-side copy of each row, which is what gets synced from
+     * the view during the model update methods.
+     */
+    private final List< double[] >  domainRows;
+
+    /**
+     * Flag for whether contiguous row ranges are deleted in one step, as in a
+     * derived class that overrides the range deletion method, or one row at a
+     * time, as in a derived class that only implements single row deletion.
+     */
+    private boolean                 rangeDeletionEnabled;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BenchmarkTablePanel} with the specified table size.
+     *
+     * @param numberOfColumns
+     *            The number of columns in the table
+     * @param numberOfRows
+     *            The initial number of rows in the table
+     *
+     * @since 1.0
+     */
+    public BenchmarkTablePanel( final int numberOfColumns, final int numberOfRows ) {
+        // Always call the superclass constructor first!
+        super( 0, numberOfColumns - 1, true );
+
+        tableModel = new BenchmarkTableModel( numberOfColumns );
+        tableModel.addRows( numberOfRows );
+
+        rangeDeletionEnabled = true;
+
+        domainRows = new ArrayList<>( numberOfRows );
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            domainRows.add( new double[ numberOfColumns ] );
+        }
+
+        final int[] columnWidths = new int[ numberOfColumns ];
+        Arrays.fill( columnWidths, 80 );
+        final Boolean[] columnAutoEdit = new Boolean[ numberOfColumns ];
+        Arrays.fill( columnAutoEdit, Boolean.TRUE );
+        final Boolean[] columnAutoSelect = new Boolean[ numberOfColumns ];
+        Arrays.fill( columnAutoSelect, Boolean.TRUE );
+
+        initPanel( null,
+                   true,
+                   tableModel,
+                   columnWidths,
+                   columnAutoEdit,
+                   columnAutoSelect,
+                   ListSelectionModel.MULTIPLE_INTERVAL_SELECTION,
+                   false,
+                   true,
+                   false,
+                   80 * numberOfColumns,
+                   400 );
+    }
+
+    //////////////////////// Benchmark fixture methods ///////////////////////
+
+    /**
+     * Returns the Table Model that backs the table in this panel.
+     *
+     * @return The Table Model that backs the table in this panel
+     *
+     * @since 1.0
+     */
+    public BenchmarkTableModel getBenchmarkTableModel() {
+        return tableModel;
+    }
+
+    /**
+     * Sets whether contiguous row ranges are deleted in one step, or one row
+     * at a time via the single row deletion method.
+     *
+     * @param enabled
+     *            {@code true} to delete contiguous row ranges in one step
+     *
+     * @since 1.0
+     */
+    public void setRangeDeletionEnabled( final boolean enabled ) {
+        rangeDeletionEnabled = enabled;
+    }
+
+    /**
+     * Appends generated rows, or removes rows from the end of the table, until
+     * the table has the specified number of rows.
+     *
+     * @param numberOfRows
+     *            The number of rows the table should have
+     *
+     * @since 1.0
+     */
+    public void resizeTo( final int numberOfRows ) {
+        final int numberOfColumns = tableModel.getColumnCount();
+        final int shortfall = numberOfRows - tableModel.getRowCount();
+        if ( shortfall < 0 ) {
+            domainRows.subList( numberOfRows, domainRows.size() ).clear();
+            tableModel.removeRows( numberOfRows, ( numberOfRows - shortfall ) - 1 );
+            return;
+        }
+
+        for ( int row = 0; row < shortfall; row++ ) {
+            domainRows.add( new double[ numberOfColumns ] );
+        }
+        tableModel.addRows( shortfall );
+    }
+
+    /**
+     * Replaces the current selection with a set of rows, laid out as requested.
+     *
+     * @param firstRow
+     *            The index of the first row to select
+     * @param numberOfRows
+     *            The number of rows to select
+     * @param contiguous
+     *            {@code true} to select one contiguous block of rows;
+     *            {@code false} to select every other row starting at the first
+     *
+     * @since 1.0
+     */
+    public void selectRows( final int firstRow,
+                            final int numberOfRows,
+                            final boolean contiguous ) {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        selectionModel.setValueIsAdjusting( true );
+        selectionModel.clearSelection();
+        if ( contiguous ) {
+            selectionModel.addSelectionInterval( firstRow, firstRow + numberOfRows - 1 );
+        }
+        else {
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                final int rowIndex = firstRow + ( 2 * row );
+                selectionModel.addSelectionInterval( rowIndex, rowIndex );
+            }
+        }
+        selectionModel.setValueIsAdjusting( false );
+    }
+
+    /**
+     * Marks every domain row as stale, so that the next model update has to
+     * sync every cell from the view.
+     *
+     * @since 1.0
+     */
+    public void invalidateDomainRows() {
+        for ( final double[] domainRow : domainRows ) {
+            Arrays.fill( domainRow, Double.NaN );
+        }
+        markAllRowsDirty();
+    }
+
+    /**
+     * Returns the domain value that was last synced from the specified cell.
+     *
+     * @param row
+     *            The row index of the cell
+     * @param column
+     *            The column index of the cell
+     * @return The domain value that was last synced from the specified cell
+     *
+     * @since 1.0
+     */
+    public double getDomainValueAt( final int row, final int column ) {
+        return domainRows.get( row )[ column ];
+    }
+
+    /**
+     * Waits until all pending events, such as auto-scroll requests, have been
+     * processed on the event-dispatching thread.
+     *
+     * @since 1.0
+     */
+    public static void flushEventQueue() {
+        try {
+            EventQueue.invokeAndWait( () -> {} );
+        }
+        catch ( final InterruptedException ie ) {
+            Thread.currentThread().interrupt();
+        }
+        catch ( final InvocationTargetException ite ) {
+            ite.printStackTrace();
+        }
+    }
+
+    ///////////////////// JxTablePanel method overrides //////////////////////
+
+    @Override
+    protected void loadCellEditorsAndRenderers() {
+        // Always call the superclass first!
+        super.loadCellEditorsAndRenderers();
+
+        initCellEditorsAndRenderers();
+    }
+
+    @Override
+    protected void initCellEditorsAndRenderers() {}
+
+    @Override
+    protected boolean updateModelAt( final int row, final int column ) {
+        if ( !super.updateModelAt( row, column ) ) {
+            return false;
+        }
+
+        // Go through the generic Table Model API, as most derived classes do.
+        final Object value = tableModel.getValueAt( row, column );
+        if ( !( value instanceof Number ) ) {
+            return false;
+        }
+
+        final double viewValue = ( ( Number ) value ).doubleValue();
+        final double[] domainRow = domainRows.get( row );
+        if ( Double.compare( domainRow[ column ], viewValue ) == 0 ) {
+            return false;
+        }
+
+        domainRow[ column ] = viewValue;
+        return true;
+    }
+
+    ////////////////// JxDynamicTablePanel method overrides //////////////////
+
+    @Override
+    protected int insertTableRowAt( final int insertIndex,
+                                    final int minimumInsertIndex,
+                                    final int maximumInsertIndex,
+                                    final int maximumLastRowIndex ) {
+        if ( !canInsertTableRowAt( insertIndex,
+                                   minimumInsertIndex,
+                                   maximumInsertIndex,
+                                   maximumLastRowIndex ) ) {
+            return -1;
+        }
+
+        // Clone the row before the insertion point, as real tables do.
+        final int referenceIndex = insertIndex - 1;
+        domainRows.add( insertIndex, ( referenceIndex >= 0 )
+            ? domainRows.get( referenceIndex ).clone()
+            : new double[ tableModel.getColumnCount() ] );
+        tableModel.insertRow( insertIndex, referenceIndex );
+
+        return insertIndex;
+    }
+
+    @Override
+    protected int deleteTableRowAt( final int deleteIndex,
+                                    final int minimumDeleteIndex,
+                                    final int maximumDeleteIndex,
+                                    final int minimumLastRowIndex ) {
+        if ( !canDeleteTableRowAt( deleteIndex,
+                                   minimumDeleteIndex,
+                                   maximumDeleteIndex,
+                                   minimumLastRowIndex ) ) {
+            return -1;
+        }
+
+        domainRows.remove( deleteIndex );
+        tableModel.removeRow( deleteIndex );
+
+        return deleteIndex;
+    }
+
+    @Override
+    protected int deleteTableRowRange( final int firstDeleteIndex,
+                                       final int lastDeleteIndex,
+                                       final int minimumDeleteIndex,
+                                       final int maximumDeleteIndex,
+                                       final int minimumLastRowIndex ) {
+        if ( !rangeDeletionEnabled ) {
+            return super.deleteTableRowRange( firstDeleteIndex,
+                                              lastDeleteIndex,
+                                              minimumDeleteIndex,
+                                              maximumDeleteIndex,
+                                              minimumLastRowIndex );
+        }
+
+        domainRows.subList( firstDeleteIndex, lastDeleteIndex + 1 ).clear();
+        tableModel.removeRows( firstDeleteIndex, lastDeleteIndex );
+
+        return lastDeleteIndex;
+    }
+
+    @Override
+    protected int insertTableRowsAt( final int insertIndex,
+                                     final int numberOfRows,
+                                     final int minimumInsertIndex,
+                                     final int maximumInsertIndex,
+                                     final int maximumLastRowIndex ) {
+        final int referenceIndex = insertIndex - 1;
+        final int numberOfColumns = tableModel.getColumnCount();
+        final List< double[] > newDomainRows = new ArrayList<>( numberOfRows );
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            newDomainRows.add( ( referenceIndex >= 0 )
+                ? domainRows.get( referenceIndex ).clone()
+                : new double[ numberOfColumns ] );
+        }
+        domainRows.addAll( insertIndex, newDomainRows );
+        tableModel.insertRows( insertIndex, numberOfRows, referenceIndex );
+
+        return insertIndex;
+    }
+
+    @Override
+    protected int insertTableRowsAt( final int insertIndex,
+                                     final List< ? > rows,
+                                     final int minimumInsertIndex,
+                                     final int maximumInsertIndex,
+                                     final int maximumLastRowIndex ) {
+        final int numberOfColumns = tableModel.getColumnCount();
+        final List< double[] > newDomainRows = new ArrayList<>( rows.size() );
+        for ( final Object row : rows ) {
+            newDomainRows.add( ( row instanceof double[] )
+                ? Arrays.copyOf( ( double[] ) row, numberOfColumns )
+                : new double[ numberOfColumns ] );
+        }
+        domainRows.addAll( insertIndex, newDomainRows );
+        tableModel.insertRows( insertIndex, newDomainRows );
+
+        return insertIndex;
+    }
+
+}
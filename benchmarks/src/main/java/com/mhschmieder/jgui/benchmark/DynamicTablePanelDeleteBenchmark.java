@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import org.apache.commons.math3.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code DynamicTablePanelDeleteBenchmark} measures deleting a multi-row
+ * selection via {@code JxDynamicTablePanel.deleteTableRows()}.
+ * <p>
+ * As each call consumes its selection, this runs in single-shot mode and
+ * restores the table size and selection before every invocation.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, batchSize = 1 )
+@Measurement( iterations = 20, batchSize = 1 )
+@Fork( value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx4g" } )
+@State( Scope.Thread )
+public class DynamicTablePanelDeleteBenchmark {
+
+    /**
+     * The number of rows in the table.
+     */
+    @Param( { "1000", "100000", "1000000" } )
+    public int                  rowCount;
+
+    /**
+     * The number of rows to delete, capped at half of the table.
+     */
+    @Param( { "1000" } )
+    public int                  selectionSize;
+
+    /**
+     * The layout of the selected rows.
+     */
+    @Param( { "CONTIGUOUS", "ALTERNATING" } )
+    public SelectionLayout      selectionLayout;
+
+    /**
+     * Flag for whether the fixture deletes contiguous ranges in one step, or
+     * falls back to deleting one row at a time.
+     */
+    @Param( { "true", "false" } )
+    public boolean              rangeDeletion;
+
+    /**
+     * The table panel under test.
+     */
+    private BenchmarkTablePanel tablePanel;
+
+    /**
+     * Builds the table.
+     */
+    @Setup( Level.Trial )
+    public void setUpTrial() {
+        tablePanel = new BenchmarkTablePanel( 4, rowCount );
+        tablePanel.setRangeDeletionEnabled( rangeDeletion );
+    }
+
+    /**
+     * Restores the table size and selects the rows to be deleted, starting a
+     * quarter of the way into the table.
+     */
+    @Setup( Level.Invocation )
+    public void setUpInvocation() {
+        tablePanel.resizeTo( rowCount );
+
+        final int numberOfRows = FastMath.min( selectionSize, rowCount / 2 );
+        tablePanel.selectRows( rowCount / 4, numberOfRows, selectionLayout.isContiguous() );
+    }
+
+    /**
+     * Measures deleting the selected rows.
+     *
+     * @return The index of the row selected after the deletion
+     */
+    @Benchmark
+    public int deleteTableRows() {
+        return tablePanel.deleteTableRows();
+    }
+
+}
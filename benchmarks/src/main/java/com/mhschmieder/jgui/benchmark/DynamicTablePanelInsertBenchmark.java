@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code DynamicTablePanelInsertBenchmark} measures single row insertion via
+ * {@code JxDynamicTablePanel.insertTableRow()}, with the selection in the
+ * middle of the table so that each insertion shifts half of the rows.
+ * <p>
+ * The table is rebuilt for every iteration so that its growth during an
+ * iteration stays small relative to its nominal size.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx4g" } )
+@State( Scope.Thread )
+public class DynamicTablePanelInsertBenchmark {
+
+    /**
+     * The number of rows in the table.
+     */
+    @Param( { "1000", "100000", "1000000" } )
+    public int                  rowCount;
+
+    /**
+     * The table panel under test.
+     */
+    private BenchmarkTablePanel tablePanel;
+
+    /**
+     * Builds the table and selects the middle row as the insertion reference.
+     */
+    @Setup( Level.Iteration )
+    public void setUp() {
+        tablePanel = new BenchmarkTablePanel( 4, rowCount );
+        tablePanel.selectRow( rowCount / 2 );
+    }
+
+    /**
+     * Drains the auto-scroll requests queued during the iteration.
+     */
+    @TearDown( Level.Iteration )
+    public void tearDown() {
+        BenchmarkTablePanel.flushEventQueue();
+    }
+
+    /**
+     * Measures inserting one row after the selected row.
+     *
+     * @return The index of the inserted row
+     */
+    @Benchmark
+    public int insertTableRow() {
+        return tablePanel.insertTableRow();
+    }
+
+}
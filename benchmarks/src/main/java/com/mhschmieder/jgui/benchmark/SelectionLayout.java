@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+/**
+ * {@code SelectionLayout} is an enumeration of the ways that the benchmarks
+ * lay out a multi-row selection, as selection cost can depend as much on the
+ * number of selected intervals as on the number of selected rows.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum SelectionLayout {
+    /**
+     * One contiguous block of selected rows, as from a Shift-click.
+     */
+    CONTIGUOUS,
+    /**
+     * Every other row selected, as from repeated Ctrl-clicks; this is the
+     * worst case for any code that works in terms of selection intervals.
+     */
+    ALTERNATING;
+
+    /**
+     * Returns {@code true} if this layout is a single contiguous interval.
+     *
+     * @return {@code true} if this layout is a single contiguous interval
+     *
+     * @since 1.0
+     */
+    public boolean isContiguous() {
+        return this == CONTIGUOUS;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TablePanelModelSyncBenchmark} measures syncing the data model from
+ * the table view via {@code JxTablePanel.updateModel()}, both when nothing
+ * has changed and when a single cell was edited since the last sync, with and
+ * without dirty row tracking.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx4g" } )
+@State( Scope.Thread )
+public class TablePanelModelSyncBenchmark {
+
+    /**
+     * The number of rows in the table.
+     */
+    @Param( { "1000", "100000", "1000000" } )
+    public int                  rowCount;
+
+    /**
+     * Flag for whether the model update only visits dirty rows, or sweeps the
+     * full table.
+     */
+    @Param( { "false", "true" } )
+    public boolean              dirtyRowTracking;
+
+    /**
+     * The table panel under test.
+     */
+    private BenchmarkTablePanel tablePanel;
+
+    /**
+     * The next value to write into the edited cell.
+     */
+    private double              nextValue;
+
+    /**
+     * Builds the table and syncs it once, so that all domain rows are current.
+     */
+    @Setup( Level.Trial )
+    public void setUp() {
+        tablePanel = new BenchmarkTablePanel( 4, rowCount );
+        tablePanel.setDirtyRowTrackingEnabled( dirtyRowTracking );
+        tablePanel.invalidateDomainRows();
+        tablePanel.updateModel();
+        nextValue = 0d;
+    }
+
+    /**
+     * Measures a sync where no cells changed since the previous sync.
+     *
+     * @return {@code true} if the model changed, which it shouldn't have
+     */
+    @Benchmark
+    public boolean updateModelUnchanged() {
+        return tablePanel.updateModel();
+    }
+
+    /**
+     * Measures a sync after a single cell was edited in the middle of the
+     * table, which is the most common case for data-entry screens.
+     *
+     * @return {@code true} if the model changed
+     */
+    @Benchmark
+    public boolean updateModelAfterSingleEdit() {
+        nextValue += 1d;
+        tablePanel.getBenchmarkTableModel()
+                  .setValueAt( Double.valueOf( nextValue ), rowCount / 2, 1 );
+        return tablePanel.updateModel();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TablePanelSelectRowBenchmark} measures programmatic single-row
+ * selection in {@code JxTablePanel}, stepping through the table so that each
+ * call really does change the selection.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx4g" } )
+@State( Scope.Thread )
+public class TablePanelSelectRowBenchmark {
+
+    /**
+     * A prime stride, so that successive selections are spread over the table.
+     */
+    private static final int    ROW_STRIDE = 7919;
+
+    /**
+     * The number of rows in the table.
+     */
+    @Param( { "1000", "100000", "1000000" } )
+    public int                  rowCount;
+
+    /**
+     * The table panel under test.
+     */
+    private BenchmarkTablePanel tablePanel;
+
+    /**
+     * The next row to select.
+     */
+    private int                 nextRow;
+
+    /**
+     * Builds the table.
+     */
+    @Setup( Level.Trial )
+    public void setUp() {
+        tablePanel = new BenchmarkTablePanel( 4, rowCount );
+        nextRow = 0;
+    }
+
+    /**
+     * Measures selecting a single row, replacing the previous selection.
+     */
+    @Benchmark
+    public void selectRow() {
+        nextRow = ( nextRow + ROW_STRIDE ) % rowCount;
+        tablePanel.selectRow( nextRow );
+    }
+
+}
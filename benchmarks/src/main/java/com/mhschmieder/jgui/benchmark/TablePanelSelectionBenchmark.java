@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TablePanelSelectionBenchmark} measures the selection queries of
+ * {@code JxTablePanel} that toolbar enablement and the row editing actions
+ * depend on, with half of the table's rows selected.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx4g" } )
+@State( Scope.Thread )
+public class TablePanelSelectionBenchmark {
+
+    /**
+     * The number of rows in the table.
+     */
+    @Param( { "1000", "100000", "1000000" } )
+    public int                  rowCount;
+
+    /**
+     * The layout of the selected rows.
+     */
+    @Param( { "CONTIGUOUS", "ALTERNATING" } )
+    public SelectionLayout      selectionLayout;
+
+    /**
+     * The table panel under test.
+     */
+    private BenchmarkTablePanel tablePanel;
+
+    /**
+     * Builds the table and selects half of its rows.
+     */
+    @Setup( Level.Trial )
+    public void setUp() {
+        tablePanel = new BenchmarkTablePanel( 4, rowCount );
+        tablePanel.selectRows( 0, rowCount / 2, selectionLayout.isContiguous() );
+    }
+
+    /**
+     * Measures fetching the selected rows in reverse order.
+     *
+     * @return The selected rows, so that the work isn't eliminated
+     */
+    @Benchmark
+    public Integer[] getSelectedRows() {
+        return tablePanel.getSelectedRows();
+    }
+
+    /**
+     * Measures taking a primitive snapshot of the selected rows in reverse
+     * order.
+     *
+     * @return The selected rows, so that the work isn't eliminated
+     */
+    @Benchmark
+    public int[] getSelectedRowIndices() {
+        return tablePanel.getSelectedRowIndices();
+    }
+
+    /**
+     * Measures counting the selected rows.
+     *
+     * @return The number of selected rows
+     */
+    @Benchmark
+    public int getNumberOfSelectedRows() {
+        return tablePanel.getNumberOfSelectedRows();
+    }
+
+    /**
+     * Measures finding the hierarchically-lower-most selected row.
+     *
+     * @return The selected row
+     */
+    @Benchmark
+    public int getSelectedRow() {
+        return tablePanel.getSelectedRow( 0 );
+    }
+
+    /**
+     * Measures the toolbar enablement check for the Delete action.
+     *
+     * @return {@code true} if the selected rows can be deleted
+     */
+    @Benchmark
+    public boolean canDeleteTableRows() {
+        return tablePanel.canDeleteTableRows();
+    }
+
+}
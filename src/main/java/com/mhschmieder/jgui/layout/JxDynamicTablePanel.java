@@ -30,9 +30,37 @@
  */
 package com.mhschmieder.jgui.layout;
 
+import com.mhschmieder.jgui.table.BackPressurePolicy;
+import com.mhschmieder.jgui.table.BackgroundRowAppender;
+import com.mhschmieder.jgui.table.RingBufferTableModel;
+import com.mhschmieder.jgui.table.RowPool;
+import com.mhschmieder.jgui.util.ProgressListener;
 import org.apache.commons.math3.util.FastMath;
 
+import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
 import java.awt.EventQueue;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * {@code DynamicTableXPanel} is a further abstraction of {@link JxTablePanel}
@@ -49,6 +77,98 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
      */
     private static final long serialVersionUID = 5990582758011481642L;
 
+    /**
+     * The name of the bound property for whether a row can be inserted, as
+     * returned by {@link #canInsertTableRows()}.
+     */
+    public static final String CAN_INSERT_TABLE_ROWS_PROPERTY = "canInsertTableRows"; //$NON-NLS-1$
+
+    /**
+     * The name of the bound property for whether the selected rows can be
+     * deleted, as returned by {@link #canDeleteTableRows()}.
+     */
+    public static final String CAN_DELETE_TABLE_ROWS_PROPERTY = "canDeleteTableRows"; //$NON-NLS-1$
+
+    /**
+     * The default maximum number of rows appended per frame during an
+     * asynchronous load, which keeps each frame's model update short.
+     */
+    public static final int   DEFAULT_ROWS_PER_FRAME = 4096;
+
+    /**
+     * The interval between appending chunks of rows during an asynchronous
+     * load, in milliseconds, which is roughly one frame at 60 Hz.
+     */
+    private static final int  FRAME_INTERVAL_MILLIS  = 16;
+
+    /**
+     * The number of frames' worth of converted rows that an asynchronous load
+     * may queue ahead of the table before the fetching thread has to wait.
+     */
+    private static final int  PENDING_FRAMES_PER_LOAD = 4;
+
+    /**
+     * The default executor for fetching and converting rows during an
+     * asynchronous load, which runs each load on its own daemon thread, as
+     * loads are usually I/O-bound and shouldn't tie up shared pools.
+     */
+    private static final Executor DEFAULT_ROW_LOADER = rowLoader -> {
+        final Thread loaderThread = new Thread( rowLoader, "Table Row Loader" ); //$NON-NLS-1$
+        loaderThread.setDaemon( true );
+        loaderThread.start();
+    };
+
+    /**
+     * Flag for whether an auto-scroll request is already queued on the
+     * event-dispatching thread, so that bursts of row insertions only ever
+     * queue one scroll between them.
+     */
+    private boolean           autoScrollPending;
+
+    /**
+     * The most recent reference row index for the queued auto-scroll request.
+     */
+    private int               autoScrollReferenceIndex;
+
+    /**
+     * The selected rows that can't be deleted, which are kept up to date
+     * incrementally from selection and model events so that the row action
+     * state doesn't have to re-check the whole selection on every change.
+     */
+    private final BitSet      undeletableSelectedRows;
+
+    /**
+     * Flag for whether the row action state is being tracked from events,
+     * which starts once the table is loaded.
+     */
+    private boolean           actionStateTracked;
+
+    /**
+     * Flag for whether the tracked row action state must be rebuilt from the
+     * whole selection, as after a change that events can't describe.
+     */
+    private boolean           actionStateRebuildPending;
+
+    /**
+     * The tracked state of whether a row can be inserted.
+     */
+    private boolean           canInsertRows;
+
+    /**
+     * The tracked state of whether the selected rows can be deleted.
+     */
+    private boolean           canDeleteRows;
+
+    /**
+     * The listener that updates the row action state from selection events.
+     */
+    private final ListSelectionListener actionStateSelectionTracker;
+
+    /**
+     * The listener that updates the row action state from model events.
+     */
+    private final TableModelListener    actionStateModelTracker;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -73,6 +193,55 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
                                   final boolean autoSelectionIsEnabled ) {
         // Always call the superclass constructor first!
         super( firstColumn, lastColumn, autoSelectionIsEnabled );
+
+        autoScrollPending = false;
+        autoScrollReferenceIndex = -1;
+
+        undeletableSelectedRows = new BitSet();
+        actionStateTracked = false;
+        actionStateRebuildPending = false;
+        canInsertRows = false;
+        canDeleteRows = false;
+        actionStateSelectionTracker = this::selectionChangedForActionState;
+        actionStateModelTracker = this::modelChangedForActionState;
+    }
+
+    /////////////////////// Initialization methods ///////////////////////////
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This also starts tracking the row action state from the table's
+     * selection and model events, so that {@link #canInsertTableRows()} and
+     * {@link #canDeleteTableRows()} are answered without re-checking the
+     * whole selection.
+     */
+    @Override
+    protected void loadComponents( final TableModel tableModel,
+                                   final int[] columnWidths,
+                                   final Boolean[] columnAutoEdit,
+                                   final Boolean[] columnAutoSelect,
+                                   final int selectionMode,
+                                   final boolean columnBasedSelectionAllowed,
+                                   final boolean rowBasedSelectionAllowed,
+                                   final boolean autoCreateRowSorter ) {
+        // Always call the superclass first!
+        super.loadComponents( tableModel,
+                              columnWidths,
+                              columnAutoEdit,
+                              columnAutoSelect,
+                              selectionMode,
+                              columnBasedSelectionAllowed,
+                              rowBasedSelectionAllowed,
+                              autoCreateRowSorter );
+
+        table.getSelectionModel().addListSelectionListener( actionStateSelectionTracker );
+        table.getModel().addTableModelListener( actionStateModelTracker );
+        table.addPropertyChangeListener( "selectionModel", this::trackedComponentReplaced ); //$NON-NLS-1$
+        table.addPropertyChangeListener( "model", this::trackedComponentReplaced ); //$NON-NLS-1$
+
+        actionStateTracked = true;
+        rebuildActionState();
     }
 
     ////////////////////// Table manipulation methods ////////////////////////
@@ -105,45 +274,281 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
 
     }
 
+    /**
+     * Returns {@code true} if a row can be inserted after the selected row,
+     * or after the default row if none are selected, as by
+     * {@link #insertTableRow()}.
+     * <p>
+     * Once the table is loaded, this returns state that is kept up to date
+     * from selection and model events, and changes to it are reported as the
+     * {@link #CAN_INSERT_TABLE_ROWS_PROPERTY} bound property, so toolbars can
+     * listen for it rather than polling on every selection change.
+     *
+     * @return {@code true} if a row can be inserted after the selected row
+     *
+     * @since 1.0
+     */
+    public boolean canInsertTableRows() {
+        if ( !actionStateTracked ) {
+            return checkCanInsertTableRows();
+        }
+        if ( actionStateRebuildPending ) {
+            rebuildActionState();
+        }
+
+        return canInsertRows;
+    }
+
     /**
      * Returns {@code true} if row deletion is legal, regardless of context.
+     * <p>
+     * Once the table is loaded, this returns state that is kept up to date
+     * from selection and model events, and changes to it are reported as the
+     * {@link #CAN_DELETE_TABLE_ROWS_PROPERTY} bound property. Each selection
+     * event only re-checks the selected rows within its changed range, so
+     * moving a small selection costs the same however large the table or the
+     * previous selection is.
+     * <p>
+     * Derived classes whose {@link #canDeleteTableRowAt(int, int, int, int)}
+     * depends on more than the row's index and contents should invoke
+     * {@link #invalidateRowActionState()} when that other state changes.
      *
      * @return {@code true} if row deletion is legal, regardless of context
      *
      * @since 1.0
      */
     public boolean canDeleteTableRows() {
+        if ( !actionStateTracked ) {
+            return checkCanDeleteTableRows();
+        }
+        if ( actionStateRebuildPending ) {
+            rebuildActionState();
+        }
+
+        return canDeleteRows;
+    }
+
+    /**
+     * Marks the tracked row action state as stale, so that it is rebuilt from
+     * the whole selection, which derived classes should invoke when a change
+     * affects whether rows can be inserted or deleted without any selection
+     * or model events saying so.
+     * <p>
+     * The rebuild is deferred, so that several invalidations in a row only
+     * cost one rebuild.
+     *
+     * @since 1.0
+     */
+    protected final void invalidateRowActionState() {
+        if ( !actionStateTracked || actionStateRebuildPending ) {
+            return;
+        }
+        actionStateRebuildPending = true;
+
+        EventQueue.invokeLater( () -> {
+            if ( actionStateRebuildPending ) {
+                rebuildActionState();
+            }
+        } );
+    }
+
+    /**
+     * Returns {@code true} if a row can be inserted after the selected row,
+     * checked directly rather than from the tracked state.
+     *
+     * @return {@code true} if a row can be inserted after the selected row
+     */
+    private boolean checkCanInsertTableRows() {
+        final int minimumInsertIndex = 0;
+        final int maximumLastRowIndex = Integer.MAX_VALUE;
+        final int insertIndex = getSelectedRow( minimumInsertIndex ) + 1;
+        final int maximumInsertIndex = getLastRowIndex() + 1;
+        return canInsertTableRowAt( insertIndex,
+                                    minimumInsertIndex,
+                                    maximumInsertIndex,
+                                    maximumLastRowIndex );
+    }
+
+    /**
+     * Returns {@code true} if row deletion is legal, checked directly against
+     * the whole selection rather than from the tracked state.
+     *
+     * @return {@code true} if row deletion is legal
+     */
+    private boolean checkCanDeleteTableRows() {
         // Determine whether the table is populated or empty, whether any
         // delete-enabled rows are selected, and any additional criteria
         // supplied by overridden methods. If no rows are selected, we seed
         // the logic auto-selected to the last row.
         //
         // Maybe provide or override the preferred auto-select row index?
-        boolean canDeleteRows = true;
-        final Integer[] selectedRowIndices = getSelectedRows();
-        if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            for ( final Integer selectedRowIndex : selectedRowIndices ) {
-                if ( !canDeleteTableRowAt( selectedRowIndex.intValue() ) ) {
-                    canDeleteRows = false;
-                    break;
-                }
-            }
+        //
+        // The selection is visited in place rather than copied.
+        boolean canDeleteSelectedRows = true;
+        if ( hasSelectedRows() ) {
+            canDeleteSelectedRows = visitSelectedRows( this::canDeleteTableRowAt );
         }
         else {
-            // If no rows were selected, and auto-selection is enabled, correct
-            // the default selection to be the last valid row index.
-            if ( isAutoSelectionEnabled() ) {
-                final int maximumRowIndex = getLastRowIndex();
-                if ( !canDeleteTableRowAt( maximumRowIndex ) ) {
-                    canDeleteRows = false;
-                }
-            }
-            else {
-                canDeleteRows = false;
-            }
+            canDeleteSelectedRows = canDeleteDefaultRow();
         }
 
-        return canDeleteRows;
+        return canDeleteSelectedRows;
+    }
+
+    /**
+     * Returns {@code true} if the default row can be deleted when no rows are
+     * selected, which is the last row if auto-selection is enabled.
+     *
+     * @return {@code true} if the default row can be deleted
+     */
+    private boolean canDeleteDefaultRow() {
+        // If no rows were selected, and auto-selection is enabled, correct
+        // the default selection to be the last valid row index.
+        return isAutoSelectionEnabled() && canDeleteTableRowAt( getLastRowIndex() );
+    }
+
+    /**
+     * Rebuilds the tracked row action state by checking the whole selection.
+     */
+    private void rebuildActionState() {
+        actionStateRebuildPending = false;
+
+        undeletableSelectedRows.clear();
+        visitSelectedRows( this::trackUndeletableRow );
+        updateActionState();
+    }
+
+    /**
+     * Re-checks the selected rows within the specified range, after their
+     * selection or contents have changed.
+     *
+     * @param firstRowIndex
+     *            The first row index to re-check
+     * @param lastRowIndex
+     *            The last row index to re-check
+     */
+    private void recheckRows( final int firstRowIndex, final int lastRowIndex ) {
+        final int maximumRowIndex = FastMath.min( lastRowIndex, getLastRowIndex() );
+        if ( firstRowIndex <= maximumRowIndex ) {
+            undeletableSelectedRows.clear( firstRowIndex, maximumRowIndex + 1 );
+            visitSelectedRows( firstRowIndex, maximumRowIndex, this::trackUndeletableRow );
+        }
+    }
+
+    /**
+     * Records a selected row as undeletable, if it can't be deleted.
+     *
+     * @param rowIndex
+     *            The index of a selected row
+     * @return {@code true}, so that the selection visit always continues
+     */
+    private boolean trackUndeletableRow( final int rowIndex ) {
+        if ( !canDeleteTableRowAt( rowIndex ) ) {
+            undeletableSelectedRows.set( rowIndex );
+        }
+
+        return true;
+    }
+
+    /**
+     * Updates the tracked row action state from the undeletable selected rows,
+     * and notifies any listeners of the properties that changed.
+     */
+    private void updateActionState() {
+        // Rows beyond the end of the table are no longer part of the state.
+        final int numberOfRows = getLastRowIndex() + 1;
+        if ( undeletableSelectedRows.length() > numberOfRows ) {
+            undeletableSelectedRows.clear( numberOfRows, undeletableSelectedRows.length() );
+        }
+
+        final boolean oldCanInsertRows = canInsertRows;
+        final boolean oldCanDeleteRows = canDeleteRows;
+        canInsertRows = checkCanInsertTableRows();
+        canDeleteRows = hasSelectedRows()
+            ? undeletableSelectedRows.isEmpty()
+            : canDeleteDefaultRow();
+
+        firePropertyChange( CAN_INSERT_TABLE_ROWS_PROPERTY, oldCanInsertRows, canInsertRows );
+        firePropertyChange( CAN_DELETE_TABLE_ROWS_PROPERTY, oldCanDeleteRows, canDeleteRows );
+    }
+
+    /**
+     * Updates the tracked row action state from a selection event, only
+     * re-checking the rows whose selection may have changed.
+     *
+     * @param listSelectionEvent
+     *            The event describing the selection change
+     */
+    private void selectionChangedForActionState( final ListSelectionEvent listSelectionEvent ) {
+        if ( actionStateRebuildPending ) {
+            return;
+        }
+
+        recheckRows( listSelectionEvent.getFirstIndex(), listSelectionEvent.getLastIndex() );
+        updateActionState();
+    }
+
+    /**
+     * Updates the tracked row action state from a model event.
+     * <p>
+     * Without a row sorter, view and model indices are the same, so updated
+     * rows are re-checked in place. Inserted and deleted rows change the row
+     * count, which {@link #canDeleteTableRowAt(int, int, int, int)} may depend
+     * on for any row (such as a minimum number of rows), so the state is
+     * rebuilt from the whole selection instead; the same goes for changes
+     * under a row sorter, or changes that don't say which rows changed.
+     * <p>
+     * This listener is registered after the table's own, so it is notified
+     * before the table has adjusted its selection to inserted or deleted rows;
+     * the deferred rebuild therefore sees the adjusted selection.
+     *
+     * @param tableModelEvent
+     *            The event describing the change to the Table Model
+     */
+    private void modelChangedForActionState( final TableModelEvent tableModelEvent ) {
+        if ( actionStateRebuildPending ) {
+            return;
+        }
+
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        if ( ( table.getRowSorter() != null ) || ( firstRow == TableModelEvent.HEADER_ROW )
+                || ( lastRow == Integer.MAX_VALUE )
+                || ( tableModelEvent.getType() != TableModelEvent.UPDATE ) ) {
+            invalidateRowActionState();
+            return;
+        }
+
+        // Updates leave the selection and row count alone, so only the
+        // updated rows need to be re-checked.
+        recheckRows( firstRow, lastRow );
+        updateActionState();
+    }
+
+    /**
+     * Moves the row action state tracking to a replacement selection model or
+     * Table Model, and rebuilds the state.
+     *
+     * @param propertyChangeEvent
+     *            The event describing the replacement
+     */
+    private void trackedComponentReplaced( final PropertyChangeEvent propertyChangeEvent ) {
+        final Object oldValue = propertyChangeEvent.getOldValue();
+        final Object newValue = propertyChangeEvent.getNewValue();
+        if ( oldValue instanceof ListSelectionModel ) {
+            ( ( ListSelectionModel ) oldValue ).removeListSelectionListener( actionStateSelectionTracker );
+        }
+        if ( newValue instanceof ListSelectionModel ) {
+            ( ( ListSelectionModel ) newValue ).addListSelectionListener( actionStateSelectionTracker );
+        }
+        if ( oldValue instanceof TableModel ) {
+            ( ( TableModel ) oldValue ).removeTableModelListener( actionStateModelTracker );
+        }
+        if ( newValue instanceof TableModel ) {
+            ( ( TableModel ) newValue ).addTableModelListener( actionStateModelTracker );
+        }
+
+        invalidateRowActionState();
     }
 
     /**
@@ -261,19 +666,622 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
                                                      maximumLastRowIndex );
 
         // Request an auto-scroll to the row that was just inserted.
-        //
+        requestAutoScroll( referenceIndex );
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table after the selected row index.
+     * <p>
+     * This method finds the lower-most row selected (or the last row if none
+     * were selected), and inserts the requested number of initially similar
+     * rows right after it, as a single batch.
+     *
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    public int insertTableRows( final int numberOfRows ) {
+        final int minimumInsertIndex = 0;
+        final int maximumLastRowIndex = Integer.MAX_VALUE;
+
+        // Insert the new table rows after the currently selected row.
+        final int referenceIndex = insertTableRows( numberOfRows,
+                                                    minimumInsertIndex,
+                                                    maximumLastRowIndex );
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table after the selected row index.
+     * <p>
+     * This method finds the lower-most row selected (or the last row if none
+     * were selected), and inserts the requested number of initially similar
+     * rows right after it, as a single batch.
+     *
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    protected final int insertTableRows( final int numberOfRows,
+                                         final int minimumInsertIndex,
+                                         final int maximumLastRowIndex ) {
+        final int selectionIndex = getSelectedRow( minimumInsertIndex );
+        final int insertIndex = selectionIndex + 1;
+
+        return insertGeneratedRowsAt( insertIndex,
+                                      numberOfRows,
+                                      minimumInsertIndex,
+                                      maximumLastRowIndex );
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table at the specified index as a single batch.
+     * <p>
+     * Each new row is initially similar to the row before it, as with single
+     * row insertion.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    public final int insertTableRowsAt( final int insertIndex, final int numberOfRows ) {
+        final int minimumInsertIndex = 0;
+        final int maximumLastRowIndex = Integer.MAX_VALUE;
+
+        return insertGeneratedRowsAt( insertIndex,
+                                      numberOfRows,
+                                      minimumInsertIndex,
+                                      maximumLastRowIndex );
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table at the specified index as a single batch,
+     * using row data objects obtained from the supplied source.
+     * <p>
+     * The row data objects must be of the type that the derived class uses
+     * for its data model, as they are passed through to
+     * {@link #insertTableRowsAt(int, List, int, int, int)}.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param rowSupplier
+     *            The source of the row data objects to insert, which is
+     *            invoked once per row, in row order
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    public final int insertTableRowsAt( final int insertIndex,
+                                        final int numberOfRows,
+                                        final Supplier< ? > rowSupplier ) {
+        final List< Object > rows = new ArrayList<>( FastMath.max( numberOfRows, 0 ) );
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            rows.add( rowSupplier.get() );
+        }
+
+        return insertTableRowsAt( insertIndex, rows );
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table at the specified index as a single batch,
+     * using the supplied row data objects.
+     * <p>
+     * The row data objects must be of the type that the derived class uses
+     * for its data model, as they are passed through to
+     * {@link #insertTableRowsAt(int, List, int, int, int)}.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param rows
+     *            The row data objects to insert, in row order
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    public final int insertTableRowsAt( final int insertIndex, final List< ? > rows ) {
+        return insertSuppliedRowsAt( insertIndex, rows, true );
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table at the specified index as a single batch,
+     * using the supplied row data objects.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param rows
+     *            The row data objects to insert, in row order
+     * @param autoScroll
+     *            {@code true} if the table should scroll to show the new rows
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     */
+    private int insertSuppliedRowsAt( final int insertIndex,
+                                      final List< ? > rows,
+                                      final boolean autoScroll ) {
+        final int minimumInsertIndex = 0;
+        final int maximumLastRowIndex = Integer.MAX_VALUE;
+
+        // Only insert as many rows as the table has room for.
+        final int maximumInsertIndex = getLastRowIndex() + 1;
+        final int numberOfRows = getNumberOfInsertableRows( rows.size(),
+                                                            insertIndex,
+                                                            minimumInsertIndex,
+                                                            maximumInsertIndex,
+                                                            maximumLastRowIndex );
+        if ( numberOfRows <= 0 ) {
+            return -1;
+        }
+
+        final List< ? > insertableRows = ( numberOfRows < rows.size() )
+            ? rows.subList( 0, numberOfRows )
+            : rows;
+        final int referenceIndex = insertTableRowsAt( insertIndex,
+                                                      insertableRows,
+                                                      minimumInsertIndex,
+                                                      maximumInsertIndex,
+                                                      maximumLastRowIndex );
+
+        // Request a single auto-scroll for the entire batch.
+        if ( autoScroll && ( referenceIndex >= 0 ) ) {
+            requestAutoScroll( ( referenceIndex + numberOfRows ) - 1 );
+        }
+
+        return referenceIndex;
+    }
+
+    /**
+     * Starts loading rows into the table asynchronously, with the rows fetched
+     * and converted on a dedicated background thread, and appended to the end
+     * of the table in chunks of up to {@link #DEFAULT_ROWS_PER_FRAME} rows
+     * per frame.
+     *
+     * @param <S>
+     *            The type of the source records
+     * @param rowSource
+     *            The source records to fetch, whose iteration may block
+     * @param rowConverter
+     *            The function that converts each source record to a row data
+     *            object of the type that the derived class uses for its data
+     *            model
+     * @param expectedNumberOfRows
+     *            The expected number of rows, for progress reporting, or
+     *            {@code -1} if unknown
+     * @param progressListener
+     *            The listener to report the number of rows loaded to after
+     *            each chunk, or {@code null} if progress isn't needed
+     * @return A future that completes on the event-dispatching thread with the
+     *         number of rows loaded, and that can be cancelled to stop loading
+     *
+     * @see #loadTableRowsAsync(Iterable, Function, long, ProgressListener, int,
+     *      Executor)
+     *
+     * @since 1.0
+     */
+    public final < S > CompletableFuture< Integer > loadTableRowsAsync(
+            final Iterable< ? extends S > rowSource,
+            final Function< ? super S, ? > rowConverter,
+            final long expectedNumberOfRows,
+            final ProgressListener progressListener ) {
+        return loadTableRowsAsync( rowSource,
+                                   rowConverter,
+                                   expectedNumberOfRows,
+                                   progressListener,
+                                   DEFAULT_ROWS_PER_FRAME,
+                                   DEFAULT_ROW_LOADER );
+    }
+
+    /**
+     * Starts loading rows into the table asynchronously, with the rows fetched
+     * and converted on the specified executor, and appended to the end of the
+     * table in coalesced chunks once per frame.
+     * <p>
+     * Each chunk is appended via
+     * {@link #insertTableRowsAt(int, List, int, int, int)} as a single batch;
+     * no auto-scroll is requested, so the user can browse the first rows while
+     * the rest stream in. On Java 21 and later, a virtual-thread-per-task executor is a good
+     * choice for I/O-bound sources.
+     * <p>
+     * The fetching thread is held to a few frames ahead of the table, so
+     * that a fast source can't fill the heap with rows that are still waiting
+     * to be appended, unless it runs on the event-dispatching thread itself.
+     * <p>
+     * Cancelling the returned future stops both the fetching and the
+     * appending, leaving any rows that were already appended in the table.
+     * The future completes early if the table runs out of room, and completes
+     * exceptionally if the source or converter throws, after appending the
+     * rows that were converted before the failure.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param <S>
+     *            The type of the source records
+     * @param rowSource
+     *            The source records to fetch, whose iteration may block
+     * @param rowConverter
+     *            The function that converts each source record to a row data
+     *            object of the type that the derived class uses for its data
+     *            model
+     * @param expectedNumberOfRows
+     *            The expected number of rows, for progress reporting, or
+     *            {@code -1} if unknown
+     * @param progressListener
+     *            The listener to report the number of rows loaded to after
+     *            each chunk, on the event-dispatching thread, or {@code null}
+     *            if progress isn't needed
+     * @param maximumRowsPerFrame
+     *            The maximum number of rows to append per frame
+     * @param rowLoader
+     *            The executor to fetch and convert the rows on
+     * @return A future that completes on the event-dispatching thread with the
+     *         number of rows loaded, and that can be cancelled to stop loading
+     *
+     * @since 1.0
+     */
+    public final < S > CompletableFuture< Integer > loadTableRowsAsync(
+            final Iterable< ? extends S > rowSource,
+            final Function< ? super S, ? > rowConverter,
+            final long expectedNumberOfRows,
+            final ProgressListener progressListener,
+            final int maximumRowsPerFrame,
+            final Executor rowLoader ) {
+        final AsyncRowLoad asyncRowLoad = new AsyncRowLoad( expectedNumberOfRows,
+                                                            progressListener,
+                                                            FastMath.max( 1,
+                                                                          maximumRowsPerFrame ) );
+        try {
+            rowLoader.execute( () -> asyncRowLoad.fetchRows( rowSource, rowConverter ) );
+        }
+        catch ( final RejectedExecutionException ree ) {
+            asyncRowLoad.loadResult.completeExceptionally( ree );
+            return asyncRowLoad.loadResult;
+        }
+
+        asyncRowLoad.frameTimer.start();
+
+        return asyncRowLoad.loadResult;
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table at the specified index as a single batch.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     */
+    private int insertGeneratedRowsAt( final int insertIndex,
+                                       final int numberOfRows,
+                                       final int minimumInsertIndex,
+                                       final int maximumLastRowIndex ) {
+        // Only insert as many rows as the table has room for.
+        final int maximumInsertIndex = getLastRowIndex() + 1;
+        final int numberOfInsertableRows = getNumberOfInsertableRows( numberOfRows,
+                                                                      insertIndex,
+                                                                      minimumInsertIndex,
+                                                                      maximumInsertIndex,
+                                                                      maximumLastRowIndex );
+        if ( numberOfInsertableRows <= 0 ) {
+            return -1;
+        }
+
+        final int referenceIndex = insertTableRowsAt( insertIndex,
+                                                      numberOfInsertableRows,
+                                                      minimumInsertIndex,
+                                                      maximumInsertIndex,
+                                                      maximumLastRowIndex );
+
+        // Request a single auto-scroll for the entire batch.
+        if ( referenceIndex >= 0 ) {
+            requestAutoScroll( ( referenceIndex + numberOfInsertableRows ) - 1 );
+        }
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the number of rows that can be inserted at the specified index,
+     * which is zero if even a single row can't be inserted there, and is
+     * otherwise clipped to the remaining room in the table.
+     *
+     * @param numberOfRows
+     *            The number of rows requested for insertion
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting a new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The number of rows that can be inserted at the specified index
+     */
+    private int getNumberOfInsertableRows( final int numberOfRows,
+                                           final int insertIndex,
+                                           final int minimumInsertIndex,
+                                           final int maximumInsertIndex,
+                                           final int maximumLastRowIndex ) {
+        if ( ( numberOfRows <= 0 ) || !canInsertTableRowAt( insertIndex,
+                                                            minimumInsertIndex,
+                                                            maximumInsertIndex,
+                                                            maximumLastRowIndex ) ) {
+            return 0;
+        }
+
+        // Use long arithmetic, as the maximum last row index is often the
+        // largest possible integer.
+        final long numberOfSpareRows = ( long ) maximumLastRowIndex - getLastRowIndex();
+        return ( int ) FastMath.min( numberOfRows, numberOfSpareRows );
+    }
+
+    /**
+     * Requests an auto-scroll to show the specified reference row, which is
+     * usually a row that was just inserted.
+     * <p>
+     * Only one request is ever queued on the event-dispatching thread at a
+     * time; requests that arrive while one is pending simply update its
+     * reference row, so bursts of insertions cost a single scroll.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param referenceIndex
+     *            The index of the row to scroll to
+     *
+     * @since 1.0
+     */
+    protected final void requestAutoScroll( final int referenceIndex ) {
+        autoScrollReferenceIndex = referenceIndex;
+        if ( autoScrollPending ) {
+            return;
+        }
+        autoScrollPending = true;
+
         // These actions MUST be done on the event-dispatching thread!
         EventQueue.invokeLater( () -> {
+            autoScrollPending = false;
+
             // A reasonable compromise is to assume table height of twenty rows
             // and scroll to half that row count beyond the initial reference
             // row index requested for the row insert.
-            final int scrollToRow = FastMath.min( referenceIndex + 10,
+            final int scrollToRow = FastMath.min( autoScrollReferenceIndex + 10,
                     table.getRowCount() - 1 );
             table.scrollRectToVisible( table
                     .getCellRect( scrollToRow, table.getColumnCount(), false ) );
         } );
+    }
 
-        return referenceIndex;
+    /**
+     * Returns the number of rows added, after appending a batch of rows to a
+     * bounded tail-mode table, such as a live event log.
+     * <p>
+     * The ring-buffer model must be this table's model. It evicts its oldest
+     * rows to make room once full, so memory use stays fixed however many rows
+     * are appended, and the table's usual row limits don't apply.
+     * <p>
+     * If the user was following the tail, the table auto-scrolls to show the
+     * new rows. If they have scrolled away from the bottom, auto-scrolling is
+     * suppressed, and the view is instead scrolled up by the number of rows
+     * evicted from the table, so that the rows they are looking at stay in
+     * place until they are evicted themselves.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param tailModel
+     *            The ring-buffer model that backs this table
+     * @param rows
+     *            The row data objects to append, oldest first
+     * @return The number of rows actually added to the table, which excludes
+     *         any of the batch's oldest rows that the rest of it would have
+     *         evicted straight away, as those never reach the table
+     *
+     * @since 1.0
+     */
+    public final < T > int appendTailRows( final RingBufferTableModel< T > tailModel,
+                                           final List< ? extends T > rows ) {
+        if ( table.getModel() != tailModel ) {
+            throw new IllegalArgumentException( "Tail model is not this table's model" ); //$NON-NLS-1$
+        }
+        if ( rows.isEmpty() ) {
+            return 0;
+        }
+
+        // Check whether the user is following the tail before the model
+        // changes, as the append may or may not move the scroll bar.
+        final boolean followingTail = isScrolledToBottom();
+        final int numberOfRowsBefore = tailModel.getRowCount();
+        tailModel.appendRows( rows );
+
+        // The model's eviction count also includes any of the batch's own
+        // rows that didn't fit, which the view never showed, so only the rows
+        // that left the table are scrolled past.
+        final int numberOfAddedRows = FastMath.min( rows.size(), tailModel.getMaximumRowCount() );
+        final int numberOfEvictedRows = ( numberOfRowsBefore + numberOfAddedRows )
+                - tailModel.getRowCount();
+
+        if ( followingTail ) {
+            requestAutoScroll( tailModel.getRowCount() - 1 );
+        }
+        else {
+            scrollUpByRows( numberOfEvictedRows );
+        }
+
+        return numberOfAddedRows;
+    }
+
+    /**
+     * Returns a thread-safe appender that producer threads can hand rows to,
+     * which appends them to the end of the table in batches once per frame.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param backPressurePolicy
+     *            The policy for producers that outrun the table, which can't
+     *            be {@link BackPressurePolicy#COALESCE} as that needs a key
+     * @param capacity
+     *            The maximum number of rows that can be pending at a time
+     * @return A thread-safe appender for this table
+     *
+     * @see #createBackgroundRowAppender(BackPressurePolicy, int, Function)
+     *
+     * @since 1.0
+     */
+    public final < T > BackgroundRowAppender< T > createBackgroundRowAppender(
+            final BackPressurePolicy backPressurePolicy,
+            final int capacity ) {
+        return createBackgroundRowAppender( backPressurePolicy, capacity, null );
+    }
+
+    /**
+     * Returns a thread-safe appender that producer threads can hand rows to,
+     * which appends them to the end of the table in batches once per frame.
+     * <p>
+     * Producers no longer need to post their own events to the
+     * event-dispatching thread; the appender queues their rows without locks,
+     * and a frame timer appends up to {@link #DEFAULT_ROWS_PER_FRAME} rows per
+     * frame via {@link #insertTableRowsAt(int, List, int, int, int)}. The
+     * table auto-scrolls to the new rows only if the user is following the
+     * tail, as with {@link #appendTailRows}. Rows that the table has no room
+     * for are counted as dropped.
+     * <p>
+     * The appender can be closed when the producers are done; rows that are
+     * already pending are still appended.
+     *
+     * @param <T>
+     *            The type of the row data objects, which must be the type that
+     *            the derived class uses for its data model
+     * @param backPressurePolicy
+     *            The policy for producers that outrun the table
+     * @param capacity
+     *            The maximum number of rows that can be pending at a time,
+     *            which is ignored by the coalescing policy
+     * @param rowKey
+     *            The function that returns the coalescing key of a row, which
+     *            is required by the coalescing policy and ignored otherwise
+     * @return A thread-safe appender for this table
+     * @throws IllegalArgumentException
+     *             If the coalescing policy is requested without a key function
+     *
+     * @since 1.0
+     */
+    public final < T > BackgroundRowAppender< T > createBackgroundRowAppender(
+            final BackPressurePolicy backPressurePolicy,
+            final int capacity,
+            final Function< ? super T, ? > rowKey ) {
+        return new BackgroundRowAppender<>( this::appendBackgroundRows,
+                                            backPressurePolicy,
+                                            capacity,
+                                            DEFAULT_ROWS_PER_FRAME,
+                                            rowKey );
+    }
+
+    /**
+     * Returns the number of rows appended, after appending a batch of rows
+     * from a background row appender to the end of the table.
+     *
+     * @param rows
+     *            The row data objects to append, oldest first
+     * @return The number of rows appended
+     */
+    private int appendBackgroundRows( final List< ? > rows ) {
+        // Check whether the user is following the tail before the model
+        // changes, so that browsing older rows isn't interrupted.
+        final boolean followingTail = isScrolledToBottom();
+        final int numberOfRowsBefore = table.getModel().getRowCount();
+        insertSuppliedRowsAt( getLastRowIndex() + 1, rows, followingTail );
+
+        return table.getModel().getRowCount() - numberOfRowsBefore;
+    }
+
+    //////////////////////// Row pooling methods ///////////////////////////
+
+    /**
+     * Returns a row data object for a new row, reused from the specified row
+     * pool if pooling is enabled and a recycled row is available, or otherwise
+     * made by the specified factory.
+     * <p>
+     * Derived classes that pool their rows own a {@link RowPool} of the type
+     * that they use for their data model, and pass it here from
+     * {@link #insertTableRowAt(int, int, int, int)}, so that the pool can only
+     * ever hold rows of that type. Recycled rows have been reset, so derived
+     * classes should initialize the returned row fully, such as by copying the
+     * reference row into it, rather than relying on the factory's defaults.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param rowPool
+     *            The pool to reuse recycled rows from, or {@code null} if row
+     *            pooling is disabled
+     * @param rowFactory
+     *            The factory for a new row, if no recycled row is available
+     * @return A recycled or new row data object
+     *
+     * @since 1.0
+     */
+    protected static < T > T obtainRow( final RowPool< T > rowPool,
+                                        final Supplier< ? extends T > rowFactory ) {
+        return ( rowPool != null ) ? rowPool.acquire( rowFactory ) : rowFactory.get();
+    }
+
+    /**
+     * Recycles the row data object of a deleted row into the specified row
+     * pool, if pooling is enabled, where it is reset for reuse by later
+     * insertions.
+     * <p>
+     * Derived classes that pool their rows call this from
+     * {@link #deleteTableRowAt(int, int, int, int)}, once nothing else refers
+     * to the removed row, such as an undo history or a snapshot of the table.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param rowPool
+     *            The pool to recycle the row into, or {@code null} if row
+     *            pooling is disabled
+     * @param row
+     *            The row data object of a deleted row, which nothing else may
+     *            still refer to
+     *
+     * @since 1.0
+     */
+    protected static < T > void recycleRow( final RowPool< T > rowPool, final T row ) {
+        if ( rowPool != null ) {
+            rowPool.release( row );
+        }
     }
 
     /**
@@ -282,7 +1290,9 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
      * <p>
      * There is no default implementation in this abstract base class, as the
      * data model for each derived class will be needed for making a data object
-     * associated with the row's contents.
+     * associated with the row's contents. Implementations that support row
+     * pooling get the new data object from
+     * {@link #obtainRow(RowPool, Supplier)}.
      *
      * @param insertIndex
      *            The selected index for inserting a new row
@@ -301,6 +1311,121 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
                                              final int maximumInsertIndex,
                                              final int maximumLastRowIndex );
 
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), after inserting a contiguous block of rows at the specified
+     * index.
+     * <p>
+     * The insertion has already been checked against the bounds, and the
+     * number of rows clipped to the remaining room in the table.
+     * <p>
+     * The default implementation inserts the rows one at a time via
+     * {@link #insertTableRowAt}, so that each new row is initially similar to
+     * the row before it. Derived classes with large tables should override
+     * this method to add the entire block to their data model in one step and
+     * fire a single {@code TableModelEvent} for it.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting a new row, prior to
+     *            inserting this block
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    protected int insertTableRowsAt( final int insertIndex,
+                                     final int numberOfRows,
+                                     final int minimumInsertIndex,
+                                     final int maximumInsertIndex,
+                                     final int maximumLastRowIndex ) {
+        int referenceIndex = -1;
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            final int correctedIndex = insertTableRowAt( insertIndex + row,
+                                                         minimumInsertIndex,
+                                                         maximumInsertIndex + row,
+                                                         maximumLastRowIndex );
+            if ( referenceIndex < 0 ) {
+                referenceIndex = correctedIndex;
+            }
+        }
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), after inserting the supplied row data objects as a contiguous
+     * block at the specified index.
+     * <p>
+     * The insertion has already been checked against the bounds, and the list
+     * of rows clipped to the remaining room in the table.
+     * <p>
+     * This is the insertion path for {@link #insertTableRowsAt(int, List)},
+     * for asynchronous loading, and for background row appenders.
+     * <p>
+     * The default implementation inserts the rows one at a time via
+     * {@link #insertTableRowAt}, and then copies the cell values into each new
+     * row when its row data object is an {@code Object[]} of column values;
+     * rows of any other type keep the contents they were inserted with. As
+     * only the derived class knows the data type of its rows, derived classes
+     * with large tables should override this method to add the entire block to
+     * their data model in one step and fire a single {@code TableModelEvent}
+     * for it.
+     *
+     * @param insertIndex
+     *            The index at which to insert the first new row
+     * @param rows
+     *            The row data objects to insert, in row order
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting a new row, prior to
+     *            inserting this block
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    protected int insertTableRowsAt( final int insertIndex,
+                                     final List< ? > rows,
+                                     final int minimumInsertIndex,
+                                     final int maximumInsertIndex,
+                                     final int maximumLastRowIndex ) {
+        final TableModel tableModel = table.getModel();
+        int referenceIndex = -1;
+        int row = 0;
+        for ( final Object rowData : rows ) {
+            final int correctedIndex = insertTableRowAt( insertIndex + row,
+                                                         minimumInsertIndex,
+                                                         maximumInsertIndex + row,
+                                                         maximumLastRowIndex );
+            if ( referenceIndex < 0 ) {
+                referenceIndex = correctedIndex;
+            }
+            if ( ( correctedIndex >= 0 ) && ( rowData instanceof Object[] ) ) {
+                final Object[] cellValues = ( Object[] ) rowData;
+                final int numberOfColumns = FastMath.min( cellValues.length,
+                                                          tableModel.getColumnCount() );
+                for ( int column = 0; column < numberOfColumns; column++ ) {
+                    tableModel.setValueAt( cellValues[ column ], correctedIndex, column );
+                }
+            }
+            row++;
+        }
+
+        return referenceIndex;
+    }
+
     /**
      * Returns the row index for the final deleted row (if valid), or the last
      * row if none were selected.
@@ -345,18 +1470,38 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
     protected final int deleteTableRows( final int minimumDeleteIndex,
                                          final int minimumLastRowIndex ) {
         // Delete all of the selected table row(s), except the minimum row.
+        //
+        // The selection is processed as contiguous ranges, in reverse order,
+        // so that derived classes can remove each range with a single model
+        // mutation and a single table event.
         int referenceIndex = -1;
-        final Integer[] selectedRowIndices = getSelectedRows();
-        if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            int correctedIndex = -1;
-            for ( final Integer deleteIndex : selectedRowIndices ) {
+        final int[] selectedRowRanges = getSelectedRowRanges();
+        if ( selectedRowRanges.length > 0 ) {
+            int selectionLength = 0;
+            for ( int rangeIndex = 0; rangeIndex < selectedRowRanges.length; rangeIndex += 2 ) {
+                final int firstSelectedIndex = selectedRowRanges[ rangeIndex ];
+                final int lastDeleteIndex = selectedRowRanges[ rangeIndex + 1 ];
+                selectionLength += ( lastDeleteIndex - firstSelectedIndex ) + 1;
+
                 // As the table changes size inside this loop, we have to
-                // refresh the last row index on each iteration.
+                // refresh the last row index on each range, and clip the range
+                // so that we never delete below the minimum index or shrink
+                // the table below its minimum size.
                 final int maximumDeleteIndex = getLastRowIndex();
-                correctedIndex = deleteTableRowAt( deleteIndex.intValue(),
-                                                   minimumDeleteIndex,
-                                                   maximumDeleteIndex,
-                                                   minimumLastRowIndex );
+                final int numberOfSpareRows = maximumDeleteIndex - minimumLastRowIndex;
+                final int firstDeleteIndex = FastMath.max( FastMath.max( firstSelectedIndex,
+                                                                         minimumDeleteIndex ),
+                                                           ( lastDeleteIndex
+                                                                   - numberOfSpareRows ) + 1 );
+                if ( firstDeleteIndex > lastDeleteIndex ) {
+                    continue;
+                }
+
+                final int correctedIndex = deleteTableRowRange( firstDeleteIndex,
+                                                                lastDeleteIndex,
+                                                                minimumDeleteIndex,
+                                                                maximumDeleteIndex,
+                                                                minimumLastRowIndex );
 
                 // Make sure we only use the first valid corrected index, as we
                 // handle delete in reverse order and want to use the last
@@ -369,7 +1514,6 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
             // Now adjust the last selected row index for the number of rows
             // deleted (minus one, as we always try to select the row directly
             // after the one deleted).
-            final int selectionLength = selectedRowIndices.length;
             referenceIndex -= ( selectionLength - 1 );
         }
         else {
@@ -389,12 +1533,66 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
         return referenceIndex;
     }
 
+    /**
+     * Returns the row index for the highest deleted row (if any rows in the
+     * range were deleted), after deleting a contiguous range of rows.
+     * <p>
+     * The range has already been clipped to the minimum delete index and to
+     * the number of rows that the table can spare, so implementations only
+     * need to apply any additional deletion criteria of their own.
+     * <p>
+     * The default implementation deletes the range one row at a time, from
+     * the highest row to the lowest, via {@link #deleteTableRowAt}. Derived
+     * classes with large tables should override this method to remove the
+     * entire range from their data model in one step and fire a single
+     * {@code TableModelEvent} for it, as that is what makes bulk deletion
+     * scale with the number of selected ranges rather than selected rows.
+     *
+     * @param firstDeleteIndex
+     *            The lowest row index in the range to delete
+     * @param lastDeleteIndex
+     *            The highest row index in the range to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param maximumDeleteIndex
+     *            The maximum allowed index for deleting an existing row, prior
+     *            to deleting this range
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index for the highest deleted row (if any rows in the
+     *         range were deleted)
+     *
+     * @since 1.0
+     */
+    protected int deleteTableRowRange( final int firstDeleteIndex,
+                                       final int lastDeleteIndex,
+                                       final int minimumDeleteIndex,
+                                       final int maximumDeleteIndex,
+                                       final int minimumLastRowIndex ) {
+        int referenceIndex = -1;
+        for ( int deleteIndex = lastDeleteIndex; deleteIndex >= firstDeleteIndex; deleteIndex-- ) {
+            // Derived classes may decline to delete individual rows, so we
+            // can't assume how much the table shrank on each iteration.
+            final int correctedIndex = deleteTableRowAt( deleteIndex,
+                                                         minimumDeleteIndex,
+                                                         getLastRowIndex(),
+                                                         minimumLastRowIndex );
+            if ( referenceIndex < 0 ) {
+                referenceIndex = correctedIndex;
+            }
+        }
+
+        return referenceIndex;
+    }
+
     /**
      * Returns the row index for the deleted row (if the row was deleted).
      * <p>
      * There is no default implementation in this abstract base class, as the
      * data model for each derived class will be needed for making a data object
-     * associated with the row's contents.
+     * associated with the row's contents. Implementations that support row
+     * pooling pass the removed data object to
+     * {@link #recycleRow(RowPool, Object)}.
      *
      * @param deleteIndex
      *            The selected index for deleting an existing row
@@ -413,4 +1611,239 @@ public abstract class JxDynamicTablePanel extends JxTablePanel {
                                              final int maximumDeleteIndex,
                                              final int minimumLastRowIndex );
 
+    /**
+     * {@code AsyncRowLoad} holds the state of one asynchronous load, passing
+     * rows from the background fetching thread to a once-per-frame timer on
+     * the event-dispatching thread via a lock-free queue.
+     */
+    private final class AsyncRowLoad implements ActionListener {
+        /**
+         * The converted rows that are waiting to be appended to the table.
+         */
+        private final Queue< Object >      pendingRows;
+
+        /**
+         * The number of rows in the pending queue, as the queue's own size is
+         * not a constant-time operation.
+         */
+        private final AtomicInteger        numberOfPendingRows;
+
+        /**
+         * The free slots in the pending queue, which hold the fetching thread
+         * back when it gets too far ahead of the table.
+         */
+        private final Semaphore            freeSlots;
+
+        /**
+         * The future that completes with the number of rows loaded, and whose
+         * cancellation stops the load.
+         */
+        private final CompletableFuture< Integer > loadResult;
+
+        /**
+         * The timer that appends a chunk of pending rows once per frame.
+         */
+        private final Timer                frameTimer;
+
+        /**
+         * The expected number of rows, or {@code -1} if unknown.
+         */
+        private final long                 expectedNumberOfRows;
+
+        /**
+         * The listener to report progress to, or {@code null} if none.
+         */
+        private final ProgressListener     progressListener;
+
+        /**
+         * The maximum number of rows to append per frame.
+         */
+        private final int                  maximumRowsPerFrame;
+
+        /**
+         * Flag for whether the fetching thread has finished, whether or not
+         * it succeeded.
+         */
+        private volatile boolean           fetchFinished;
+
+        /**
+         * The exception that stopped the fetching thread, if any.
+         */
+        private volatile Throwable         fetchFailure;
+
+        /**
+         * The number of rows appended to the table so far.
+         */
+        private int                        numberOfRowsLoaded;
+
+        /**
+         * Constructs an {@code AsyncRowLoad} that is ready to be started.
+         *
+         * @param expectedRowCount
+         *            The expected number of rows, or {@code -1} if unknown
+         * @param listener
+         *            The listener to report progress to, or {@code null}
+         * @param rowsPerFrame
+         *            The maximum number of rows to append per frame
+         */
+        AsyncRowLoad( final long expectedRowCount,
+                      final ProgressListener listener,
+                      final int rowsPerFrame ) {
+            pendingRows = new ConcurrentLinkedQueue<>();
+            numberOfPendingRows = new AtomicInteger();
+            freeSlots = new Semaphore( rowsPerFrame * PENDING_FRAMES_PER_LOAD );
+            loadResult = new CompletableFuture<>();
+            frameTimer = new Timer( FRAME_INTERVAL_MILLIS, this );
+
+            expectedNumberOfRows = expectedRowCount;
+            progressListener = listener;
+            maximumRowsPerFrame = rowsPerFrame;
+
+            fetchFinished = false;
+            fetchFailure = null;
+            numberOfRowsLoaded = 0;
+        }
+
+        /**
+         * Fetches and converts the source records on the background thread,
+         * until they run out or the load is cancelled.
+         *
+         * @param <S>
+         *            The type of the source records
+         * @param rowSource
+         *            The source records to fetch
+         * @param rowConverter
+         *            The function that converts each source record to a row
+         */
+        < S > void fetchRows( final Iterable< ? extends S > rowSource,
+                              final Function< ? super S, ? > rowConverter ) {
+            // Nothing drains the queue while the event-dispatching thread is
+            // busy fetching, so it can't wait for room.
+            final boolean bounded = !EventQueue.isDispatchThread();
+            try {
+                for ( final S sourceRecord : rowSource ) {
+                    if ( loadResult.isDone() ) {
+                        break;
+                    }
+                    final Object row = rowConverter.apply( sourceRecord );
+                    if ( bounded && !acquireSlot() ) {
+                        break;
+                    }
+                    pendingRows.add( row );
+                    numberOfPendingRows.incrementAndGet();
+                }
+            }
+            catch ( final InterruptedException ie ) {
+                fetchFailure = ie;
+                Thread.currentThread().interrupt();
+            }
+            catch ( final RuntimeException | Error e ) {
+                fetchFailure = e;
+            }
+            finally {
+                fetchFinished = true;
+            }
+        }
+
+        /**
+         * Takes a free slot in the pending queue, waiting a frame at a time
+         * for the table to catch up, so that cancellation is noticed.
+         *
+         * @return {@code false} if the load finished while waiting
+         * @throws InterruptedException
+         *             If the fetching thread is interrupted while waiting
+         */
+        private boolean acquireSlot() throws InterruptedException {
+            while ( !freeSlots.tryAcquire( FRAME_INTERVAL_MILLIS, TimeUnit.MILLISECONDS ) ) {
+                if ( loadResult.isDone() ) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Appends the next chunk of pending rows to the table, once per frame,
+         * and completes the load when there is nothing left to append.
+         *
+         * @param actionEvent
+         *            The timer event
+         */
+        @Override
+        public void actionPerformed( final ActionEvent actionEvent ) {
+            if ( loadResult.isDone() ) {
+                frameTimer.stop();
+                pendingRows.clear();
+                return;
+            }
+
+            // Check for completion before draining, so that rows queued just
+            // before the fetching thread finished are never left behind.
+            final boolean finished = fetchFinished;
+
+            // The pending count can briefly lag the queue, so clamp it.
+            final int numberOfRowsPending = FastMath.max( 0, numberOfPendingRows.get() );
+            final List< Object > frameRows = new ArrayList<>(
+                    FastMath.min( maximumRowsPerFrame, numberOfRowsPending ) );
+            Object row;
+            while ( ( frameRows.size() < maximumRowsPerFrame )
+                    && ( ( row = pendingRows.poll() ) != null ) ) {
+                frameRows.add( row );
+            }
+            if ( !frameRows.isEmpty() ) {
+                numberOfPendingRows.addAndGet( -frameRows.size() );
+                freeSlots.release( frameRows.size() );
+            }
+
+            try {
+                if ( !frameRows.isEmpty() ) {
+                    final int numberOfRowsRequested = frameRows.size();
+                    final int numberOfRowsBefore = table.getModel().getRowCount();
+                    insertSuppliedRowsAt( getLastRowIndex() + 1, frameRows, false );
+                    final int numberOfRowsAppended = table.getModel().getRowCount()
+                            - numberOfRowsBefore;
+                    numberOfRowsLoaded += numberOfRowsAppended;
+                    if ( progressListener != null ) {
+                        progressListener.progressChanged( numberOfRowsLoaded,
+                                                          expectedNumberOfRows );
+                    }
+
+                    // If the table ran out of room, there's no point going on.
+                    if ( numberOfRowsAppended < numberOfRowsRequested ) {
+                        finishLoad( null );
+                        return;
+                    }
+                }
+            }
+            catch ( final RuntimeException re ) {
+                finishLoad( re );
+                return;
+            }
+
+            if ( finished && pendingRows.isEmpty() ) {
+                finishLoad( fetchFailure );
+            }
+        }
+
+        /**
+         * Stops the frame timer and completes the load.
+         *
+         * @param failure
+         *            The exception that stopped the load, or {@code null} if
+         *            it completed normally
+         */
+        private void finishLoad( final Throwable failure ) {
+            frameTimer.stop();
+            pendingRows.clear();
+
+            if ( failure != null ) {
+                loadResult.completeExceptionally( failure );
+            }
+            else {
+                loadResult.complete( Integer.valueOf( numberOfRowsLoaded ) );
+            }
+        }
+    }
+
 }
@@ -37,21 +37,63 @@ import com.mhschmieder.jcontrols.table.TableInitializationUtilities;
 import com.mhschmieder.jcontrols.table.TableVectorizationUtilities;
 import com.mhschmieder.jgraphics.color.ColorUtilities;
 import com.mhschmieder.jgui.border.BorderUtilities;
+import com.mhschmieder.jgui.table.AggregateFunction;
+import com.mhschmieder.jgui.table.ColumnAggregateFooter;
+import com.mhschmieder.jgui.table.ColumnAggregates;
+import com.mhschmieder.jgui.table.ColumnAutoFitUtilities;
+import com.mhschmieder.jgui.table.DelimitedFormat;
+import com.mhschmieder.jgui.table.DelimitedTableExporter;
+import com.mhschmieder.jgui.table.IncrementalRowSorter;
+import com.mhschmieder.jgui.table.IntervalListSelectionModel;
+import com.mhschmieder.jgui.table.LazyTableTransferHandler;
+import com.mhschmieder.jgui.table.ListTableModel;
+import com.mhschmieder.jgui.table.PagedTableVectorizationUtilities;
+import com.mhschmieder.jgui.table.SearchHits;
+import com.mhschmieder.jgui.table.SnapshotDiff;
+import com.mhschmieder.jgui.table.SnapshotRowFilter;
+import com.mhschmieder.jgui.table.TableSearchIndex;
+import com.mhschmieder.jgui.table.TableSnapshot;
+import com.mhschmieder.jgui.util.BitSetUtilities;
+import com.mhschmieder.jgui.util.ProgressListener;
+import com.mhschmieder.jgui.util.VectorPageSink;
 import org.apache.commons.math3.util.FastMath;
 
 import javax.swing.BorderFactory;
+import javax.swing.BoundedRangeModel;
 import javax.swing.CellEditor;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import javax.swing.ListSelectionModel;
+import javax.swing.RowSorter;
+import javax.swing.TransferHandler;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableModel;
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.EventQueue;
 import java.awt.Graphics2D;
+import java.awt.Point;
+import java.beans.PropertyChangeEvent;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * {@code TableXPanel} is an abstract base class that serves as a
@@ -68,6 +110,12 @@ public abstract class JxTablePanel extends JxPanel {
      */
     private static final long serialVersionUID = 8715148654648213855L;
 
+    /**
+     * The shared selection snapshot for when no rows are selected, to avoid
+     * allocating an empty array on every query.
+     */
+    private static final int[] NO_SELECTED_ROWS = new int[ 0 ];
+
     /**
      * The font size to use in table cells; may be OS or LAF-dependent.
      * <p>
@@ -121,6 +169,127 @@ public abstract class JxTablePanel extends JxPanel {
      */
     private final boolean     autoSelectionEnabled;
 
+    /**
+     * Flag for whether the model update only visits rows that are marked as
+     * dirty ({@code true}), or always sweeps the full table ({@code false}).
+     */
+    private boolean           dirtyRowTrackingEnabled;
+
+    /**
+     * The model row indices that have changed since the last model update.
+     */
+    private final BitSet      dirtyRows;
+
+    /**
+     * The model column indices that have changed since the last model update,
+     * for any of the dirty rows.
+     */
+    private final BitSet      dirtyColumns;
+
+    /**
+     * Flag for whether all columns of the dirty rows need to be synced, such
+     * as after a whole-row update or a row insertion.
+     */
+    private boolean           allColumnsDirty;
+
+    /**
+     * Flag for whether the entire table needs to be synced, such as after a
+     * model replacement or a structure change.
+     */
+    private boolean           allRowsDirty;
+
+    /**
+     * The listener that marks rows as dirty when the table model changes.
+     */
+    private final TableModelListener dirtyRowTracker;
+
+    /**
+     * A counter that is incremented whenever rows are inserted or deleted, or
+     * the model is replaced, so that results computed from an older snapshot
+     * of the model can be recognized as having stale row indices.
+     */
+    private int               structureGeneration;
+
+    /**
+     * Flag for whether the columns are auto-fitted to a sample of their
+     * content once the table is loaded, rather than only using fixed widths.
+     */
+    private boolean           columnAutoFitEnabled;
+
+    /**
+     * The footer that shows the column aggregates, or {@code null} if none is
+     * shown.
+     */
+    private ColumnAggregateFooter aggregateFooter;
+
+    /**
+     * The aggregate function to show in the footer for each model column, or
+     * {@code null} if no footer is shown.
+     */
+    private AggregateFunction[] aggregateFunctions;
+
+    /**
+     * A counter that is incremented whenever a parallel row filter is started
+     * or cancelled, so that filter tasks still in flight can tell that they
+     * are stale and stop early.
+     */
+    private final AtomicInteger filterGeneration;
+
+    /**
+     * The model rows that were updated while a parallel row filter is in
+     * flight, or {@code null} if none is in flight.
+     */
+    private BitSet            rowsUpdatedDuringFilter;
+
+    /**
+     * The model rows that were marked as dirty while a parallel model update
+     * is in flight, or {@code null} if none is in flight.
+     */
+    private BitSet            rowsDirtiedDuringSync;
+
+    /**
+     * Flag for whether the entire table was marked as dirty while a parallel
+     * model update is in flight.
+     */
+    private boolean           allRowsDirtiedDuringSync;
+
+    /**
+     * Flag for whether dirty row tracking is suspended while a parallel model
+     * update applies its rows, so that the model events fired by the update
+     * itself don't mark the applied rows as dirty again.
+     */
+    private boolean           dirtyRowTrackingSuspended;
+
+    /**
+     * The result of the parallel row filter that is in flight, or {@code null}
+     * if none is in flight.
+     */
+    private transient CompletableFuture< Integer > pendingRowFilter;
+
+    /**
+     * The search index over the table model, or {@code null} if searches scan
+     * the model.
+     */
+    private transient TableSearchIndex searchIndex;
+
+    /**
+     * The model columns that the search index covers, or {@code null} if no
+     * search index is enabled.
+     */
+    private int[]             searchIndexColumns;
+
+    /**
+     * Flag for whether selections are copied lazily, via the transfer handler
+     * from {@link #createTransferHandler}.
+     */
+    private boolean           lazyCopyEnabled;
+
+    /**
+     * Flag for whether the table's row sorter was provided by
+     * {@link #createRowSorter}, so that it is re-created for a new model.
+     */
+    private boolean           rowSorterInstalled;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -153,6 +322,27 @@ public abstract class JxTablePanel extends JxPanel {
         tableHeaderInUse = false;
 
         tableCellFontSize = 12f;
+
+        dirtyRowTrackingEnabled = false;
+        dirtyRows = new BitSet();
+        dirtyColumns = new BitSet();
+        allColumnsDirty = false;
+        allRowsDirty = true;
+        dirtyRowTracker = this::trackDirtyRows;
+        structureGeneration = 0;
+        columnAutoFitEnabled = false;
+        aggregateFooter = null;
+        aggregateFunctions = null;
+        filterGeneration = new AtomicInteger();
+        rowsUpdatedDuringFilter = null;
+        rowsDirtiedDuringSync = null;
+        allRowsDirtiedDuringSync = false;
+        dirtyRowTrackingSuspended = false;
+        pendingRowFilter = null;
+        searchIndex = null;
+        searchIndexColumns = null;
+        rowSorterInstalled = false;
+        lazyCopyEnabled = false;
     }
 
     /////////////////////// Initialization methods ///////////////////////////
@@ -196,8 +386,8 @@ public abstract class JxTablePanel extends JxPanel {
      * @param rowBasedSelectionAllowed
      *            {@code true} if entire rows can be selected as a cell group
      * @param autoCreateRowSorter
-     *            {@code true} if an automatic row sorter should be set up that
-     *            is strictly UTF-8 alphabetical
+     *            {@code true} if an automatic row sorter should be set up, as
+     *            provided by {@link #createRowSorter}
      * @param tableWidthPixels
      *            The width of the table's viewport, in pixels
      * @param tableHeightPixels
@@ -265,8 +455,8 @@ public abstract class JxTablePanel extends JxPanel {
      * @param rowBasedSelectionAllowed
      *            {@code true} if entire rows can be selected as a cell group
      * @param autoCreateRowSorter
-     *            {@code true} if an automatic row sorter should be set up that
-     *            is strictly UTF-8 alphabetical
+     *            {@code true} if an automatic row sorter should be set up, as
+     *            provided by {@link #createRowSorter}
      *
      * @since 1.0
      */
@@ -294,8 +484,43 @@ public abstract class JxTablePanel extends JxPanel {
                             rowBasedSelectionAllowed,
                             autoCreateRowSorter );
 
+        // Store the row selection as ranges, so that selecting, counting and
+        // deleting large blocks of rows doesn't touch every selected index.
+        final ListSelectionModel selectionModel = createSelectionModel( selectionMode );
+        if ( selectionModel != null ) {
+            table.setSelectionModel( selectionModel );
+        }
+
+        // Copy selections lazily if requested, so that copying many rows
+        // returns at once.
+        if ( lazyCopyEnabled ) {
+            final TransferHandler transferHandler = createTransferHandler();
+            if ( transferHandler != null ) {
+                table.setTransferHandler( transferHandler );
+            }
+        }
+
         // Initialize table metrics, such as row height, column width.
         TableInitializationUtilities.initTableMetrics( table, columnWidths );
+
+        // Refine the fixed column widths from a sample of the content, in the
+        // background, so that wide tables still open quickly.
+        if ( columnAutoFitEnabled ) {
+            autoFitColumnWidths();
+        }
+
+        // Replace the auto-created row sorter if a derived class provides its
+        // own, such as one that keeps its view index up to date incrementally.
+        if ( autoCreateRowSorter ) {
+            installRowSorter( tableModel );
+        }
+
+        // Track which rows change, so that model updates can skip the rest.
+        // Finished cell edits are tracked directly, as not all table models
+        // fire events when their values are set.
+        tableModel.addTableModelListener( dirtyRowTracker );
+        table.addPropertyChangeListener( "model", this::modelReplaced ); //$NON-NLS-1$
+        table.addPropertyChangeListener( "tableCellEditor", this::cellEditorChanged ); //$NON-NLS-1$
     }
 
     /**
@@ -414,238 +639,2045 @@ public abstract class JxTablePanel extends JxPanel {
         return autoSelectionEnabled;
     }
 
-    ////////////////////// Model/View syncing methods ////////////////////////
+    /**
+     * Returns {@code true} if the columns are auto-fitted to a sample of their
+     * content when the table is loaded.
+     *
+     * @return {@code true} if the columns are auto-fitted to a sample of their
+     *         content when the table is loaded
+     *
+     * @since 1.0
+     */
+    public final boolean isColumnAutoFitEnabled() {
+        return columnAutoFitEnabled;
+    }
 
     /**
-     * Updates the model to match the table view at the specified row.
+     * Sets whether the columns are auto-fitted to a sample of their content
+     * when the table is loaded, in which case the fixed column widths passed
+     * to {@link #initPanel} only serve as the initial widths.
      * <p>
-     * Check for columns to exclude, such as action buttons, to avoid side
-     * effects of bringing another window forward.
+     * Derived classes must set this before invoking {@link #initPanel} for it
+     * to apply when the table is loaded; it is disabled by default.
      *
-     * @param row
-     *            The row index for the table row to be synced to the model
-     * @return {@code true} if the model changed after syncing it from the view
+     * @param enabled
+     *            {@code true} if the columns should be auto-fitted to a sample
+     *            of their content when the table is loaded
      *
      * @since 1.0
      */
-    public final boolean updateModelAt( final int row ) {
-        boolean modelChanged = false;
-        final TableModel tableModel = table.getModel();
-        final int numberOfColumns = tableModel.getColumnCount();
-
-        // Iterate through the individual columns in the current row.
-        for ( int column = 0; column < numberOfColumns; column++ ) {
-            modelChanged |= updateModelAt( row, column );
-        }
-
-        return modelChanged;
+    public final void setColumnAutoFitEnabled( final boolean enabled ) {
+        columnAutoFitEnabled = enabled;
     }
 
     /**
-     * Updates the model to match the table view at the specified cell.
+     * Returns {@code true} if selections are copied lazily, formatting the
+     * cells only when the clipboard contents are requested.
      *
-     * @param row
-     *            The row index for the table cell to be synced to the model
-     * @param column
-     *            The column index for the table cell to be synced to the model
-     * @return {@code true} if the model changed after syncing it from the view
+     * @return {@code true} if selections are copied lazily
      *
      * @since 1.0
      */
-    protected boolean updateModelAt( final int row, final int column ) {
-        // If the index is out of bounds, report an error and return.
-        final int lastRowIndex = getLastRowIndex();
-        if ( ( row < 0 ) || ( row > lastRowIndex ) ) {
-            System.err.println( "WARNING: invalid table row index in " + toString() ); //$NON-NLS-1$
-            return false;
-        }
-        return true;
+    public final boolean isLazyCopyEnabled() {
+        return lazyCopyEnabled;
     }
 
     /**
-     * Post-processes anything that needs to happen after the model is synced.
+     * Sets whether selections are copied lazily, via the transfer handler from
+     * {@link #createTransferHandler}, in place of the table's default one.
      * <p>
-     * As this is an abstract base class, and as not all derived classes will
-     * need to do anything after syncing the model from the view, it is given a
-     * no-op default implementation.
+     * Lazy copying returns at once however many rows are selected, but only
+     * exports plain text, whereas the table's default transfer handler also
+     * exports the selection as HTML.
      * <p>
-     * This method will generally be invoked inside event callbacks; the same
-     * ones that invoke the model update methods.
+     * Derived classes must set this before invoking {@link #initPanel} for it
+     * to apply when the table is loaded; it is disabled by default.
      *
-     * @param row
-     *            The row index for the table cell that was synced to the model
-     * @param column
-     *            The column index for the table cell that was synced to the
-     *            model
-     * @param modelChanged
-     *            {@code true} if the model changed after syncing it from the
-     *            view
+     * @param enabled
+     *            {@code true} if selections should be copied lazily
      *
      * @since 1.0
      */
-    protected void updateModelPostProcessing( final int row,
-                                              final int column,
-                                              final boolean modelChanged ) {}
+    public final void setLazyCopyEnabled( final boolean enabled ) {
+        lazyCopyEnabled = enabled;
+    }
 
-    //////////////////////// Vectorization methods ///////////////////////////
+    ////////////////////// Model/View syncing methods ////////////////////////
 
     /**
-     * This method vectorizes the table, via direct custom graphics calls.
+     * Returns {@code true} if the model update only visits dirty rows, or
+     * {@code false} if it sweeps the full table every time.
      *
-     * @param graphicsContext
-     *            The {@link Graphics2D} Graphics Context for vectorizing the
-     *            content of this component
-     * @param offsetX
-     *            The initial offset to apply along the x-axis for positioning
-     *            the table rows in the vectorized output
-     * @param offsetY
-     *            The initial offset to apply along the y-axis for positioning
-     *            the table columns in the vectorized output
-     * @param rowsToExclude
-     *            A {@link HashSet} of the rows to exclude from vectorization;
-     *            not required to be contiguous
+     * @return {@code true} if the model update only visits dirty rows
      *
-     * @version 1.0
+     * @since 1.0
      */
-    public final void vectorize( final Graphics2D graphicsContext,
-                                 final int offsetX,
-                                 final int offsetY,
-                                 final HashSet< Integer > rowsToExclude ) {
-        final Color backgroundColor = getBackground();
-
-        // Vectorize the full table, optionally including the table header.
-        TableVectorizationUtilities.vectorizeTable( graphicsContext,
-                                                    offsetX,
-                                                    offsetY,
-                                                    table,
-                                                    tableHeaderInUse,
-                                                    rowsToExclude,
-                                                    backgroundColor );
+    public final boolean isDirtyRowTrackingEnabled() {
+        return dirtyRowTrackingEnabled;
     }
 
-    ////////////////////// Table manipulation methods ////////////////////////
-
     /**
-     * Cancels cell editing on all of the table columns.
+     * Sets whether the model update only visits rows that have changed since
+     * the last update, or sweeps the full table every time.
+     * <p>
+     * Rows are marked dirty by table model events and by finished cell edits;
+     * derived classes whose view can change in other ways should mark those
+     * rows dirty themselves, or leave this disabled. It is disabled by default,
+     * which is the original full-sweep behavior.
+     * <p>
+     * The first model update after enabling this always sweeps the full table,
+     * as changes weren't tracked while it was disabled.
+     *
+     * @param enabled
+     *            {@code true} if the model update should only visit dirty rows
      *
      * @since 1.0
      */
-    public final void cancelCellEditing() {
-        for ( int column = firstColumnIndex; column <= lastColumnIndex; column++ ) {
-            final CellEditor cellEditor =
-                                        table.getColumnModel().getColumn( column ).getCellEditor();
-            if ( cellEditor != null ) {
-                cellEditor.cancelCellEditing();
-            }
+    public final void setDirtyRowTrackingEnabled( final boolean enabled ) {
+        if ( enabled && !dirtyRowTrackingEnabled ) {
+            markAllRowsDirty();
         }
+        dirtyRowTrackingEnabled = enabled;
     }
 
     /**
-     * Clears any active selection in the table.
+     * Marks the specified row as dirty in all columns, so that the next model
+     * update syncs it from the view.
+     * <p>
+     * This has no effect while dirty row tracking is disabled, as enabling it
+     * marks the entire table as dirty anyway.
+     *
+     * @param row
+     *            The model row index for the table row to mark as dirty
      *
      * @since 1.0
      */
-    public final void clearSelection() {
-        table.clearSelection();
+    public final void markRowDirty( final int row ) {
+        if ( dirtyRowTrackingEnabled && !dirtyRowTrackingSuspended && ( row >= 0 ) ) {
+            dirtyRows.set( row );
+            allColumnsDirty = true;
+            if ( rowsDirtiedDuringSync != null ) {
+                rowsDirtiedDuringSync.set( row );
+            }
+        }
     }
 
     /**
-     * Returns the index of the last column in the table.
+     * Marks the specified cell as dirty, so that the next model update syncs
+     * it from the view.
+     * <p>
+     * This has no effect while dirty row tracking is disabled, as enabling it
+     * marks the entire table as dirty anyway.
      *
-     * @return The index of the last column in the table
+     * @param row
+     *            The model row index for the table cell to mark as dirty
+     * @param column
+     *            The model column index for the table cell to mark as dirty
      *
      * @since 1.0
      */
-    public final int getLastColumnIndex() {
-        final TableModel tableModel = table.getModel();
-        return tableModel.getColumnCount() - 1;
+    public final void markCellDirty( final int row, final int column ) {
+        if ( !dirtyRowTrackingEnabled || dirtyRowTrackingSuspended || ( row < 0 ) ) {
+            return;
+        }
+
+        dirtyRows.set( row );
+        if ( column >= 0 ) {
+            dirtyColumns.set( column );
+        }
+        else {
+            allColumnsDirty = true;
+        }
+        if ( rowsDirtiedDuringSync != null ) {
+            rowsDirtiedDuringSync.set( row );
+        }
     }
 
     /**
-     * Returns the index of the last row in the table.
-     *
-     * @return The index of the last row in the table
+     * Marks the entire table as dirty, so that the next model update performs
+     * a full sweep.
      *
      * @since 1.0
      */
-    public final int getLastRowIndex() {
-        final TableModel tableModel = table.getModel();
-        return tableModel.getRowCount() - 1;
+    public final void markAllRowsDirty() {
+        allRowsDirty = true;
+        if ( rowsDirtiedDuringSync != null ) {
+            allRowsDirtiedDuringSync = true;
+        }
     }
 
     /**
-     * Returns the number of selected rows, or zero if none selected.
-     *
-     * @return The number of selected rows, or zero if none selected
+     * Clears all of the dirty row and cell flags, such as after a model update.
      */
-    public final int getNumberOfSelectedRows() {
-        final Integer[] selectedRowIndices = getSelectedRows();
-        final int numberOfSelectedRows = ( selectedRowIndices != null )
-            ? selectedRowIndices.length
-            : 0;
-
-        return numberOfSelectedRows;
+    private void clearDirtyRows() {
+        dirtyRows.clear();
+        dirtyColumns.clear();
+        allColumnsDirty = false;
+        allRowsDirty = false;
     }
 
     /**
-     * Returns the list of currently selected table row indices, in reverse
-     * order so that deletions and other actions can be performed sequentially
-     * without any of the indices "going bad" mid-stream.
-     *
-     * @return A list of the selected table row indices, or {@code null} if none
-     *         selected
+     * Updates the dirty row flags to account for a table model change.
+     * <p>
+     * Insertions and deletions shift the flags of the rows that follow them,
+     * so that the flags stay attached to the same rows. The structure
+     * generation and the rows updated during a parallel filter are kept up to
+     * date whether or not dirty row tracking is enabled.
      *
-     * @since 1.0
+     * @param tableModelEvent
+     *            The event describing the table model change
      */
-    public final Integer[] getSelectedRows() {
-        final int[] selectedTableRows = table.getSelectedRows();
-        final int selectionLength = selectedTableRows.length;
-        if ( selectionLength <= 0 ) {
-            return null;
+    private void trackDirtyRows( final TableModelEvent tableModelEvent ) {
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        final int eventType = tableModelEvent.getType();
+        final boolean wholeTableChanged = ( firstRow == TableModelEvent.HEADER_ROW )
+                || ( lastRow == Integer.MAX_VALUE );
+        if ( wholeTableChanged || ( eventType != TableModelEvent.UPDATE ) ) {
+            structureGeneration++;
+        }
+        else if ( rowsUpdatedDuringFilter != null ) {
+            rowsUpdatedDuringFilter.set( firstRow, lastRow + 1 );
         }
 
-        // In order to guarantee that all indices are valid at the time they are
-        // applied without having to be altered to accommodate a dynamically
-        // changing table, we apply Java's sort algorithms to rearrange the list
-        // of indices in reverse numerical order.
-        final Integer[] selectedRowIndices = new Integer[ selectionLength ];
-        for ( int rowIndex = 0; rowIndex < selectionLength; rowIndex++ ) {
-            selectedRowIndices[ rowIndex ] = Integer.valueOf( selectedTableRows[ rowIndex ] );
+        // Enabling dirty row tracking marks the entire table as dirty, so the
+        // flags don't need to be kept up to date while it is disabled.
+        if ( !dirtyRowTrackingEnabled || dirtyRowTrackingSuspended ) {
+            return;
+        }
+        if ( wholeTableChanged ) {
+            markAllRowsDirty();
+            return;
         }
-        Arrays.sort( selectedRowIndices, Collections.reverseOrder() );
 
-        return selectedRowIndices;
+        switch ( eventType ) {
+        case TableModelEvent.INSERT:
+            BitSetUtilities.insertRange( dirtyRows, firstRow, ( lastRow - firstRow ) + 1 );
+            dirtyRows.set( firstRow, lastRow + 1 );
+            allColumnsDirty = true;
+            break;
+        case TableModelEvent.DELETE:
+            BitSetUtilities.removeRange( dirtyRows, firstRow, lastRow + 1 );
+            break;
+        case TableModelEvent.UPDATE:
+        default:
+            dirtyRows.set( firstRow, lastRow + 1 );
+            if ( rowsDirtiedDuringSync != null ) {
+                rowsDirtiedDuringSync.set( firstRow, lastRow + 1 );
+            }
+            final int column = tableModelEvent.getColumn();
+            if ( column == TableModelEvent.ALL_COLUMNS ) {
+                allColumnsDirty = true;
+            }
+            else {
+                dirtyColumns.set( column );
+            }
+            break;
+        }
     }
 
     /**
-     * Returns the hierarchically-lower-most selected row, or the last row in
-     * the table if none were selected.
-     *
-     * @param minimumRowIndex
-     *            The lowest index that is considered valid for the selected row
-     * @return The hierarchically-lower-most selected row, or the last row in
-     *         the table if none were selected
+     * Moves the dirty row tracking to the new table model, when the table's
+     * model is replaced.
      *
-     * @since 1.0
+     * @param propertyChangeEvent
+     *            The event describing the table model replacement
      */
-    public final int getSelectedRow( final int minimumRowIndex ) {
-        // If the user didn't select any rows, default initially to the row
-        // before the first valid row index, to make sure any selected row
-        // overrides the initial default.
-        int selectionIndex = minimumRowIndex - 1;
+    private void modelReplaced( final PropertyChangeEvent propertyChangeEvent ) {
+        final Object oldModel = propertyChangeEvent.getOldValue();
+        if ( oldModel instanceof TableModel ) {
+            ( ( TableModel ) oldModel ).removeTableModelListener( dirtyRowTracker );
+        }
+        final Object newModel = propertyChangeEvent.getNewValue();
+        if ( newModel instanceof TableModel ) {
+            ( ( TableModel ) newModel ).addTableModelListener( dirtyRowTracker );
+        }
 
-        final Integer[] selectedRowIndices = getSelectedRows();
-        if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            final int maximumRowIndex = selectedRowIndices.length - 1;
-            selectionIndex = selectedRowIndices[ maximumRowIndex ].intValue();
+        // The table only re-creates row sorters of its own, so replace ours.
+        if ( rowSorterInstalled && ( newModel instanceof TableModel ) ) {
+            installRowSorter( ( TableModel ) newModel );
         }
-        else {
-            // If no rows were selected, and auto-selection is enabled, correct
-            // the default selection to be the last valid row index.
-            if ( autoSelectionEnabled ) {
-                final int maximumRowIndex = getLastRowIndex();
-                selectionIndex = FastMath.max( selectionIndex, maximumRowIndex );
-            }
+
+        // The aggregates are bound to the old model, so re-create the footer.
+        if ( ( aggregateFunctions != null ) && ( newModel instanceof TableModel ) ) {
+            showAggregateFooter( aggregateFunctions );
+        }
+
+        // The search index is bound to the old model too, so rebuild it.
+        if ( ( searchIndexColumns != null ) && ( newModel instanceof TableModel ) ) {
+            enableSearchIndex( searchIndexColumns );
+        }
+
+        markAllRowsDirty();
+        structureGeneration++;
+    }
+
+    /**
+     * Installs the row sorter for the specified Table Model, if the factory
+     * method provides one, in place of the table's auto-created row sorter.
+     *
+     * @param tableModel
+     *            The Table Model to sort
+     */
+    private void installRowSorter( final TableModel tableModel ) {
+        final RowSorter< ? extends TableModel > rowSorter = createRowSorter( tableModel );
+        if ( rowSorter != null ) {
+            table.setAutoCreateRowSorter( false );
+            table.setRowSorter( rowSorter );
+            rowSorterInstalled = true;
+        }
+    }
+
+    /**
+     * Returns the row sorter to use in place of the table's auto-created row
+     * sorter, when automatic row sorting is requested.
+     * <p>
+     * The default implementation returns {@code null}, which keeps the table's
+     * own auto-created {@code TableRowSorter}, with its locale-sensitive
+     * string ordering, custom comparators and {@code RowFilter} support.
+     * Derived classes with large tables can opt in to an
+     * {@link IncrementalRowSorter} here instead, so that model changes fix up
+     * the sorted view without re-sorting it; this is also required for
+     * {@link #filterRowsInParallel}.
+     *
+     * @param tableModel
+     *            The Table Model to sort
+     * @return The row sorter to use, or {@code null} to keep the table's own
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("static-method")
+    protected RowSorter< ? extends TableModel > createRowSorter( final TableModel tableModel ) {
+        return null;
+    }
+
+    /**
+     * Returns the row selection model to use in place of the table's default
+     * one.
+     * <p>
+     * The default implementation returns an {@link IntervalListSelectionModel},
+     * which stores the selection as ranges so that the selection helpers in
+     * this class run in time proportional to the number of selected ranges.
+     * Derived classes can return a different model, or {@code null} to keep
+     * the table's own default selection model.
+     *
+     * @param selectionMode
+     *            Not an enum, so must be a valid int matching single selection,
+     *            single interval selection, or multiple interval selection, as
+     *            defined in {@code ListSelectionModel}
+     * @return The row selection model to use, or {@code null} to keep the
+     *         table's own
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("static-method")
+    protected ListSelectionModel createSelectionModel( final int selectionMode ) {
+        return new IntervalListSelectionModel( selectionMode );
+    }
+
+    /**
+     * Returns the transfer handler to use in place of the table's default
+     * one, for copying the selected cells to the clipboard, when lazy copying
+     * is enabled.
+     * <p>
+     * The default implementation returns a {@link LazyTableTransferHandler},
+     * which only captures the selected row ranges when copying, and formats
+     * the cells when the clipboard contents are requested. Derived classes can
+     * return a different handler, or {@code null} to keep the table's own
+     * default transfer handler.
+     *
+     * @see #setLazyCopyEnabled(boolean)
+     *
+     * @return The transfer handler to use, or {@code null} to keep the table's
+     *         own
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("static-method")
+    protected TransferHandler createTransferHandler() {
+        return new LazyTableTransferHandler();
+    }
+
+    /**
+     * Marks the edited cell as dirty when cell editing finishes, whether it
+     * was stopped or cancelled.
+     * <p>
+     * The table clears its cell editor before it resets the editing row and
+     * column, so they are still valid when this is invoked.
+     *
+     * @param propertyChangeEvent
+     *            The event describing the cell editor change
+     */
+    private void cellEditorChanged( final PropertyChangeEvent propertyChangeEvent ) {
+        if ( ( propertyChangeEvent.getNewValue() != null )
+                || ( propertyChangeEvent.getOldValue() == null ) ) {
+            return;
+        }
+
+        final int editingRow = table.getEditingRow();
+        final int editingColumn = table.getEditingColumn();
+        if ( ( editingRow >= 0 ) && ( editingColumn >= 0 ) ) {
+            markCellDirty( table.convertRowIndexToModel( editingRow ),
+                           table.convertColumnIndexToModel( editingColumn ) );
+        }
+    }
+
+
+    /**
+     * Updates the model to match the table view at the specified row.
+     * <p>
+     * Check for columns to exclude, such as action buttons, to avoid side
+     * effects of bringing another window forward.
+     *
+     * @param row
+     *            The row index for the table row to be synced to the model
+     * @return {@code true} if the model changed after syncing it from the view
+     *
+     * @since 1.0
+     */
+    public final boolean updateModelAt( final int row ) {
+        boolean modelChanged = false;
+        final TableModel tableModel = table.getModel();
+        final int numberOfColumns = tableModel.getColumnCount();
+
+        // Iterate through the individual columns in the current row.
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            modelChanged |= updateModelAt( row, column );
+        }
+
+        return modelChanged;
+    }
+
+    /**
+     * Updates the model to match the table view at the specified cell.
+     *
+     * @param row
+     *            The row index for the table cell to be synced to the model
+     * @param column
+     *            The column index for the table cell to be synced to the model
+     * @return {@code true} if the model changed after syncing it from the view
+     *
+     * @since 1.0
+     */
+    protected boolean updateModelAt( final int row, final int column ) {
+        // If the index is out of bounds, report an error and return.
+        final int lastRowIndex = getLastRowIndex();
+        if ( ( row < 0 ) || ( row > lastRowIndex ) ) {
+            System.err.println( "WARNING: invalid table row index in " + toString() ); //$NON-NLS-1$
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Syncs the model from the table view in two phases, with the per-row
+     * parsing and validation done in parallel on the common fork-join pool.
+     *
+     * @return A future that completes on the event-dispatching thread, with
+     *         {@code true} if the model changed after syncing it from the view
+     *
+     * @see #updateModelInParallel(ForkJoinPool)
+     *
+     * @since 1.0
+     */
+    public final CompletableFuture< Boolean > updateModelInParallel() {
+        return updateModelInParallel( ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * Syncs the model from the table view in two phases, with the per-row
+     * parsing and validation done in parallel on the specified fork-join pool.
+     * <p>
+     * The first phase copies the cell values of the rows to be synced into an
+     * immutable {@link TableSnapshot} on the event-dispatching thread, and then
+     * hands the snapshot to {@link #validateTableRow} in parallel on the pool.
+     * The second phase runs back on the event-dispatching thread, passing each
+     * row's result to {@link #applyValidatedTableRow} and then passing each of
+     * the synced cells in the row to {@link #updateModelPostProcessing}.
+     * <p>
+     * The same rows and columns are synced as for {@link #updateModel()}, so
+     * dirty row tracking applies here too; only the columns being synced are
+     * copied into the snapshot. Dirty row tracking is suspended while the rows
+     * are applied, so that the model's own events don't mark them dirty again.
+     * <p>
+     * The dirty flags are only cleared once every row has been applied, so
+     * they are kept intact if either phase fails; rows that are marked as
+     * dirty while the update is in flight stay dirty. If rows are inserted or
+     * deleted while the validation is in flight, the results no longer line up
+     * with the table, so the second phase discards them and syncs the full
+     * table directly, with the same post-processing.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param validationPool
+     *            The fork-join pool to run the validation phase on
+     * @return A future that completes on the event-dispatching thread, with
+     *         {@code true} if the model changed after syncing it from the view
+     *
+     * @since 1.0
+     */
+    public final CompletableFuture< Boolean > updateModelInParallel(
+            final ForkJoinPool validationPool ) {
+        // Phase one, on the event-dispatching thread: copy the cell values.
+        final TableModel tableModel = table.getModel();
+        final int[] rowsToSync = getRowsToSync();
+        final int[] columnsToSync = getColumnsToSync();
+        final TableSnapshot tableSnapshot = ( columnsToSync != null )
+            ? TableSnapshot.of( tableModel, rowsToSync, columnsToSync )
+            : TableSnapshot.of( tableModel, rowsToSync );
+        final int snapshotGeneration = structureGeneration;
+        final BitSet rowsDirtiedSinceSnapshot = new BitSet();
+        rowsDirtiedDuringSync = rowsDirtiedSinceSnapshot;
+        allRowsDirtiedDuringSync = false;
+
+        final CompletableFuture< Boolean > modelChanged = new CompletableFuture<>();
+        validationPool.execute( () -> {
+            // Phase one, on the fork-join pool: validate the rows in parallel.
+            final Object[] validatedRows = new Object[ tableSnapshot.getRowCount() ];
+            try {
+                new RowValidationTask( this,
+                                       tableSnapshot,
+                                       validatedRows,
+                                       0,
+                                       validatedRows.length ).invoke();
+            }
+            catch ( final Throwable throwable ) {
+                EventQueue.invokeLater( () -> {
+                    endDirtyRowSync( rowsDirtiedSinceSnapshot );
+                    modelChanged.completeExceptionally( throwable );
+                } );
+                return;
+            }
+
+            // Phase two, back on the event-dispatching thread: apply results.
+            EventQueue.invokeLater( () -> {
+                try {
+                    modelChanged.complete( Boolean.valueOf(
+                            applyValidatedTableRows( tableSnapshot,
+                                                     validatedRows,
+                                                     snapshotGeneration,
+                                                     rowsDirtiedSinceSnapshot ) ) );
+                }
+                catch ( final Throwable throwable ) {
+                    modelChanged.completeExceptionally( throwable );
+                }
+                finally {
+                    endDirtyRowSync( rowsDirtiedSinceSnapshot );
+                }
+            } );
+        } );
+
+        return modelChanged;
+    }
+
+    /**
+     * Returns the result of parsing and validating one row of a table
+     * snapshot, for the first phase of {@link #updateModelInParallel}.
+     * <p>
+     * This method is invoked concurrently on fork-join worker threads, so it
+     * must not touch Swing components or any other state that isn't
+     * thread-safe; everything it needs should come from the snapshot.
+     * <p>
+     * The default implementation does no work off the event-dispatching
+     * thread, and returns {@code null} so that the row is synced the classic
+     * way during the second phase. Derived classes should override this along
+     * with {@link #applyValidatedTableRow} to move their parsing here.
+     *
+     * @param tableSnapshot
+     *            The snapshot of the rows being synced
+     * @param snapshotRow
+     *            The row index within the snapshot; use
+     *            {@link TableSnapshot#getModelRow} to get the model row index
+     * @return The validated row, in whatever form the derived class needs to
+     *         apply it, or {@code null} if there is nothing to apply
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("static-method")
+    protected Object validateTableRow( final TableSnapshot tableSnapshot,
+                                       final int snapshotRow ) {
+        return null;
+    }
+
+    /**
+     * Applies the result of validating one row to the data model, for the
+     * second phase of {@link #updateModelInParallel}.
+     * <p>
+     * This method is invoked on the event-dispatching thread.
+     * <p>
+     * Only the columns that were copied into the snapshot need to be synced;
+     * use {@link TableSnapshot#isColumnCopied} to check for them.
+     * <p>
+     * The default implementation ignores the validated row and syncs each of
+     * those cells from the view directly via {@link #updateModelAt(int, int)},
+     * which is always correct even if {@link #validateTableRow} wasn't
+     * overridden.
+     *
+     * @param tableSnapshot
+     *            The snapshot of the rows being synced
+     * @param snapshotRow
+     *            The row index within the snapshot; use
+     *            {@link TableSnapshot#getModelRow} to get the model row index
+     * @param validatedRow
+     *            The result of validating the row, which may be {@code null}
+     * @return {@code true} if the model changed after applying the row
+     *
+     * @since 1.0
+     */
+    protected boolean applyValidatedTableRow( final TableSnapshot tableSnapshot,
+                                              final int snapshotRow,
+                                              final Object validatedRow ) {
+        final int row = tableSnapshot.getModelRow( snapshotRow );
+        boolean modelChanged = false;
+        final int numberOfColumns = tableSnapshot.getColumnCount();
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            if ( tableSnapshot.isColumnCopied( column ) ) {
+                modelChanged |= updateModelAt( row, column );
+            }
+        }
+
+        return modelChanged;
+    }
+
+    /**
+     * Returns the status of applying a full set of validated rows to the data
+     * model, for the second phase of {@link #updateModelInParallel}.
+     *
+     * @param tableSnapshot
+     *            The snapshot of the rows being synced
+     * @param validatedRows
+     *            The results of validating each row in the snapshot
+     * @param snapshotGeneration
+     *            The structure generation at the time of the snapshot
+     * @param rowsDirtiedSinceSnapshot
+     *            The model rows that were marked as dirty after the snapshot
+     * @return {@code true} if the model changed after applying the rows
+     */
+    private boolean applyValidatedTableRows( final TableSnapshot tableSnapshot,
+                                             final Object[] validatedRows,
+                                             final int snapshotGeneration,
+                                             final BitSet rowsDirtiedSinceSnapshot ) {
+        boolean modelChanged = false;
+        dirtyRowTrackingSuspended = true;
+        try {
+            if ( snapshotGeneration != structureGeneration ) {
+                // If rows were inserted or deleted in the meantime, the
+                // snapshot's row indices can't be trusted, so fall back to a
+                // full sweep of the live table.
+                final int numberOfRows = table.getModel().getRowCount();
+                for ( int row = 0; row < numberOfRows; row++ ) {
+                    final boolean rowChanged = updateModelAt( row );
+                    postProcessSyncedRow( row, null, rowChanged );
+                    modelChanged |= rowChanged;
+                }
+            }
+            else {
+                final int numberOfRows = tableSnapshot.getRowCount();
+                for ( int snapshotRow = 0; snapshotRow < numberOfRows; snapshotRow++ ) {
+                    final boolean rowChanged = applyValidatedTableRow(
+                            tableSnapshot, snapshotRow, validatedRows[ snapshotRow ] );
+                    postProcessSyncedRow( tableSnapshot.getModelRow( snapshotRow ),
+                                          tableSnapshot,
+                                          rowChanged );
+                    modelChanged |= rowChanged;
+                }
+            }
+        }
+        finally {
+            dirtyRowTrackingSuspended = false;
+        }
+
+        // A full sweep synced everything from the live table, including any
+        // rows that were marked as dirty since the snapshot.
+        if ( snapshotGeneration != structureGeneration ) {
+            clearDirtyRows();
+            return modelChanged;
+        }
+
+        // Only now that every row has been applied can the dirty flags that
+        // the snapshot covered be cleared; rows that were marked as dirty
+        // since then may have been applied from stale values, so keep those.
+        final boolean allRowsDirtiedSinceSnapshot = allRowsDirtiedDuringSync
+                && ( rowsDirtiedDuringSync == rowsDirtiedSinceSnapshot );
+        clearDirtyRows();
+        if ( allRowsDirtiedSinceSnapshot ) {
+            allRowsDirty = true;
+        }
+        else if ( !rowsDirtiedSinceSnapshot.isEmpty() ) {
+            dirtyRows.or( rowsDirtiedSinceSnapshot );
+            allColumnsDirty = true;
+        }
+
+        return modelChanged;
+    }
+
+    /**
+     * Post-processes each of the cells in a row that a parallel model update
+     * synced, so that the validated and the fallback paths report the same
+     * cells.
+     *
+     * @param row
+     *            The model row index for the table row that was synced
+     * @param tableSnapshot
+     *            The snapshot whose copied columns were synced, or {@code null}
+     *            if all of the columns were synced
+     * @param rowChanged
+     *            {@code true} if the model changed after syncing the row
+     */
+    private void postProcessSyncedRow( final int row,
+                                       final TableSnapshot tableSnapshot,
+                                       final boolean rowChanged ) {
+        final int numberOfColumns = table.getModel().getColumnCount();
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            if ( ( tableSnapshot == null ) || tableSnapshot.isColumnCopied( column ) ) {
+                updateModelPostProcessing( row, column, rowChanged );
+            }
+        }
+    }
+
+    /**
+     * Stops recording the rows that are marked as dirty during a parallel
+     * model update, unless a newer update has since taken over.
+     *
+     * @param rowsDirtiedSinceSnapshot
+     *            The model rows that were marked as dirty after the snapshot
+     */
+    private void endDirtyRowSync( final BitSet rowsDirtiedSinceSnapshot ) {
+        if ( rowsDirtiedDuringSync == rowsDirtiedSinceSnapshot ) {
+            rowsDirtiedDuringSync = null;
+            allRowsDirtiedDuringSync = false;
+        }
+    }
+
+    /**
+     * Returns the model row indices that the next model update needs to visit,
+     * in ascending order, taking dirty row tracking into account.
+     *
+     * @return The model row indices that the next model update needs to visit
+     */
+    private int[] getRowsToSync() {
+        final int numberOfRows = table.getModel().getRowCount();
+        if ( !dirtyRowTrackingEnabled || allRowsDirty ) {
+            final int[] rowsToSync = new int[ numberOfRows ];
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                rowsToSync[ row ] = row;
+            }
+            return rowsToSync;
+        }
+
+        return dirtyRows.get( 0, numberOfRows ).stream().toArray();
+    }
+
+    /**
+     * Returns the model column indices that the next model update needs to
+     * visit in each of its rows, taking dirty row tracking into account.
+     *
+     * @return The model column indices that the next model update needs to
+     *         visit, or {@code null} if it needs to visit all of the columns
+     */
+    private int[] getColumnsToSync() {
+        if ( !dirtyRowTrackingEnabled || allRowsDirty || allColumnsDirty ) {
+            return null;
+        }
+
+        final int numberOfColumns = table.getModel().getColumnCount();
+        return dirtyColumns.get( 0, numberOfColumns ).stream().toArray();
+    }
+
+    /**
+     * Post-processes anything that needs to happen after the model is synced.
+     * <p>
+     * As this is an abstract base class, and as not all derived classes will
+     * need to do anything after syncing the model from the view, it is given a
+     * no-op default implementation.
+     * <p>
+     * This method will generally be invoked inside event callbacks; the same
+     * ones that invoke the model update methods.
+     *
+     * @param row
+     *            The row index for the table cell that was synced to the model
+     * @param column
+     *            The column index for the table cell that was synced to the
+     *            model
+     * @param modelChanged
+     *            {@code true} if the model changed after syncing it from the
+     *            view
+     *
+     * @since 1.0
+     */
+    protected void updateModelPostProcessing( final int row,
+                                              final int column,
+                                              final boolean modelChanged ) {}
+
+    //////////////////////// Vectorization methods ///////////////////////////
+
+    /**
+     * This method vectorizes the table, via direct custom graphics calls.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this component
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param rowsToExclude
+     *            A {@link HashSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous
+     *
+     * @version 1.0
+     */
+    public final void vectorize( final Graphics2D graphicsContext,
+                                 final int offsetX,
+                                 final int offsetY,
+                                 final HashSet< Integer > rowsToExclude ) {
+        final Color backgroundColor = getBackground();
+
+        // Vectorize the full table, optionally including the table header.
+        TableVectorizationUtilities.vectorizeTable( graphicsContext,
+                                                    offsetX,
+                                                    offsetY,
+                                                    table,
+                                                    tableHeaderInUse,
+                                                    rowsToExclude,
+                                                    backgroundColor );
+    }
+
+    /**
+     * Returns the number of pages emitted, after vectorizing the table in
+     * page-sized bands of rows, streaming each page to the output target as
+     * soon as it is complete.
+     * <p>
+     * Unlike {@link #vectorize}, memory use is bounded by the page size rather
+     * than by the table size, as each page is finished before the next one is
+     * started. The table header, if in use, is repeated at the top of each
+     * page.
+     *
+     * @param pageSink
+     *            The multi-page output target to vectorize the pages into
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows on each page
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table rows on each page
+     * @param rowsPerPage
+     *            The maximum number of table rows to put on each page
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization,
+     *            or {@code null} if all rows should be included
+     * @param progressListener
+     *            The listener to report progress to after each page, in units
+     *            of rows, or {@code null} if progress isn't needed
+     * @return The number of pages emitted
+     *
+     * @since 1.0
+     */
+    public final int vectorizePages( final VectorPageSink pageSink,
+                                     final int offsetX,
+                                     final int offsetY,
+                                     final int rowsPerPage,
+                                     final BitSet rowsToExclude,
+                                     final ProgressListener progressListener ) {
+        return vectorizePages( pageSink,
+                               offsetX,
+                               offsetY,
+                               rowsPerPage,
+                               ( rowsToExclude != null ) ? rowsToExclude::get : null,
+                               progressListener );
+    }
+
+    /**
+     * Returns the number of pages emitted, after vectorizing the table in
+     * page-sized bands of rows, streaming each page to the output target as
+     * soon as it is complete.
+     * <p>
+     * Unlike {@link #vectorize}, memory use is bounded by the page size rather
+     * than by the table size, as each page is finished before the next one is
+     * started. The table header, if in use, is repeated at the top of each
+     * page.
+     *
+     * @param pageSink
+     *            The multi-page output target to vectorize the pages into
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows on each page
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table rows on each page
+     * @param rowsPerPage
+     *            The maximum number of table rows to put on each page
+     * @param rowsToExclude
+     *            A predicate that returns {@code true} for the rows to exclude
+     *            from vectorization, or {@code null} if all rows should be
+     *            included
+     * @param progressListener
+     *            The listener to report progress to after each page, in units
+     *            of rows, or {@code null} if progress isn't needed
+     * @return The number of pages emitted
+     *
+     * @since 1.0
+     */
+    public final int vectorizePages( final VectorPageSink pageSink,
+                                     final int offsetX,
+                                     final int offsetY,
+                                     final int rowsPerPage,
+                                     final IntPredicate rowsToExclude,
+                                     final ProgressListener progressListener ) {
+        final Color backgroundColor = getBackground();
+
+        // Vectorize the table a page at a time, optionally repeating the
+        // table header on each page.
+        return PagedTableVectorizationUtilities.vectorizeTablePages( pageSink,
+                                                                     offsetX,
+                                                                     offsetY,
+                                                                     table,
+                                                                     tableHeaderInUse,
+                                                                     rowsPerPage,
+                                                                     rowsToExclude,
+                                                                     backgroundColor,
+                                                                     progressListener );
+    }
+
+    /////////////////////////// Export methods /////////////////////////////
+
+    /**
+     * Returns the number of rows exported, after streaming the table to a
+     * channel as delimited text encoded in UTF-8.
+     *
+     * @param channel
+     *            The channel to write the delimited text to, such as a
+     *            {@link java.nio.channels.FileChannel}, which is left open
+     * @param delimitedFormat
+     *            The delimited text format to export to
+     * @param viewOrder
+     *            {@code true} to export in the current view order, or
+     *            {@code false} to export in model order
+     * @param rowsToExclude
+     *            The indices of the rows to exclude from the export, or
+     *            {@code null} if all rows should be included
+     * @return The number of rows exported, not counting the header
+     * @throws IOException
+     *             If writing to the channel fails
+     *
+     * @since 1.0
+     */
+    public final long exportTable( final WritableByteChannel channel,
+                                   final DelimitedFormat delimitedFormat,
+                                   final boolean viewOrder,
+                                   final BitSet rowsToExclude )
+            throws IOException {
+        return exportTable( channel,
+                            delimitedFormat,
+                            viewOrder,
+                            ( rowsToExclude != null ) ? rowsToExclude::get : null );
+    }
+
+    /**
+     * Returns the number of rows exported, after streaming the table to a
+     * channel as delimited text encoded in UTF-8.
+     * <p>
+     * The text is built and encoded in fixed-size chunks, so memory use stays
+     * constant regardless of the number of rows. A header record of column
+     * names is written first if the table header is in use, as with
+     * {@link #vectorize}.
+     * <p>
+     * This method should be invoked on the event-dispatching thread, unless
+     * the model is known not to change during the export.
+     *
+     * @param channel
+     *            The channel to write the delimited text to, such as a
+     *            {@link java.nio.channels.FileChannel}, which is left open
+     * @param delimitedFormat
+     *            The delimited text format to export to
+     * @param viewOrder
+     *            {@code true} to export in the current view order, or
+     *            {@code false} to export in model order
+     * @param rowsToExclude
+     *            A predicate that returns {@code true} for the rows to exclude,
+     *            by view row index in view order or by model row index in
+     *            model order, or {@code null} if all rows should be included
+     * @return The number of rows exported, not counting the header
+     * @throws IOException
+     *             If writing to the channel fails
+     *
+     * @since 1.0
+     */
+    public final long exportTable( final WritableByteChannel channel,
+                                   final DelimitedFormat delimitedFormat,
+                                   final boolean viewOrder,
+                                   final IntPredicate rowsToExclude )
+            throws IOException {
+        final DelimitedTableExporter tableExporter =
+                                                   new DelimitedTableExporter( delimitedFormat,
+                                                                               StandardCharsets.UTF_8 );
+        return tableExporter.exportTable( table,
+                                          channel,
+                                          tableHeaderInUse,
+                                          viewOrder,
+                                          rowsToExclude );
+    }
+
+    ///////////////////////// Aggregate footer methods /////////////////////
+
+    /**
+     * Shows a footer beneath the table with an aggregate of each specified
+     * column, such as its sum or maximum, replacing any footer already shown.
+     * <p>
+     * The aggregates are updated incrementally from the model's events, so
+     * edits, insertions and deletions cost {@code O(log n)} per changed cell
+     * rather than a re-scan of the column. The footer follows the table to a
+     * new model if the model is replaced.
+     *
+     * @param functionsByModelColumn
+     *            The aggregate function to show for each model column, with
+     *            {@code null} for columns that have no aggregate
+     *
+     * @since 1.0
+     */
+    public final void showAggregateFooter( final AggregateFunction... functionsByModelColumn ) {
+        disposeAggregateFooter();
+
+        final int[] modelColumns = new int[ functionsByModelColumn.length ];
+        int numberOfAggregatedColumns = 0;
+        for ( int column = 0; column < functionsByModelColumn.length; column++ ) {
+            if ( functionsByModelColumn[ column ] != null ) {
+                modelColumns[ numberOfAggregatedColumns++ ] = column;
+            }
+        }
+
+        final ColumnAggregates columnAggregates =
+                                                new ColumnAggregates( table.getModel(),
+                                                                      Arrays.copyOf( modelColumns,
+                                                                                     numberOfAggregatedColumns ) );
+        aggregateFunctions = functionsByModelColumn.clone();
+        aggregateFooter = new ColumnAggregateFooter( table,
+                                                     columnAggregates,
+                                                     aggregateFunctions );
+        add( aggregateFooter, "South" );
+
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Hides the column aggregates footer, if one is shown, and stops updating
+     * its aggregates.
+     *
+     * @since 1.0
+     */
+    public final void hideAggregateFooter() {
+        disposeAggregateFooter();
+        aggregateFunctions = null;
+
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Returns the column aggregates footer.
+     *
+     * @return The column aggregates footer, or {@code null} if none is shown
+     *
+     * @since 1.0
+     */
+    public final ColumnAggregateFooter getAggregateFooter() {
+        return aggregateFooter;
+    }
+
+    /**
+     * Removes the column aggregates footer, if one is shown, and disposes of
+     * its aggregates.
+     */
+    private void disposeAggregateFooter() {
+        if ( aggregateFooter != null ) {
+            remove( aggregateFooter );
+            aggregateFooter.dispose();
+            aggregateFooter = null;
+        }
+    }
+
+    ////////////////////// Clipboard methods /////////////////////////////////
+
+    /**
+     * Copies the selected cells to the system clipboard, as the table's copy
+     * key binding does.
+     * <p>
+     * When lazy copying is enabled, this returns without formatting any cells,
+     * regardless of the number of selected rows.
+     *
+     * @since 1.0
+     */
+    public final void copySelectionToClipboard() {
+        final TransferHandler transferHandler = table.getTransferHandler();
+        if ( transferHandler != null ) {
+            transferHandler.exportToClipboard( table,
+                                               table.getToolkit().getSystemClipboard(),
+                                               TransferHandler.COPY );
+        }
+    }
+
+    ////////////////////////// Row filter methods ////////////////////////////
+
+    /**
+     * Filters the table view in parallel on the common fork-join pool.
+     *
+     * @param rowFilter
+     *            The filter that decides which rows to include in the view, or
+     *            {@code null} to include all rows
+     * @param columns
+     *            The model column indices that the filter reads, or none if it
+     *            may read any column
+     * @return A future that completes on the event-dispatching thread, with the
+     *         number of rows in the filtered view
+     *
+     * @see #filterRowsInParallel(ForkJoinPool, SnapshotRowFilter, int...)
+     *
+     * @since 1.0
+     */
+    public final CompletableFuture< Integer > filterRowsInParallel( final SnapshotRowFilter rowFilter,
+                                                                    final int... columns ) {
+        return filterRowsInParallel( ForkJoinPool.commonPool(), rowFilter, columns );
+    }
+
+    /**
+     * Filters the table view in parallel on the specified fork-join pool, and
+     * applies the result to the {@link IncrementalRowSorter} in one step.
+     * <p>
+     * The filtered columns of every row are copied into a {@link TableSnapshot}
+     * on the event-dispatching thread, and the filter is then evaluated over
+     * the snapshot in fork-join blocks, each of which records its matches in
+     * its own words of a shared bit set. The matches are compacted into the
+     * new view index on the pool, so that the event-dispatching thread only
+     * has to install it, and re-sort it if the view is sorted.
+     * <p>
+     * Starting a new filter cancels the one in flight, if any, whose tasks
+     * stop at their next block, so that typing into a filter field doesn't
+     * queue up stale work. Rows that are edited while the filter is in flight
+     * are re-checked against the live model once the result is applied, and
+     * if rows are inserted or deleted in the meantime, the snapshot's row
+     * indices can't be trusted, so the filter is evaluated serially instead.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param filterPool
+     *            The fork-join pool to evaluate the filter on
+     * @param rowFilter
+     *            The filter that decides which rows to include in the view, or
+     *            {@code null} to include all rows
+     * @param columns
+     *            The model column indices that the filter reads, or none if it
+     *            may read any column
+     * @return A future that completes on the event-dispatching thread, with the
+     *         number of rows in the filtered view, or that is cancelled if the
+     *         filter is superseded before it is applied
+     * @throws IllegalStateException
+     *             If the table isn't sorted by an {@link IncrementalRowSorter},
+     *             as provided by {@link #createRowSorter}
+     *
+     * @since 1.0
+     */
+    public final CompletableFuture< Integer > filterRowsInParallel( final ForkJoinPool filterPool,
+                                                                    final SnapshotRowFilter rowFilter,
+                                                                    final int... columns ) {
+        final RowSorter< ? extends TableModel > rowSorter = table.getRowSorter();
+        if ( !( rowSorter instanceof IncrementalRowSorter ) ) {
+            throw new IllegalStateException( "Parallel filtering requires an IncrementalRowSorter" ); //$NON-NLS-1$
+        }
+        final IncrementalRowSorter< ? > incrementalRowSorter = ( IncrementalRowSorter< ? > ) rowSorter;
+
+        cancelRowFilter();
+        if ( rowFilter == null ) {
+            incrementalRowSorter.setRowFilter( null );
+            return CompletableFuture.completedFuture( Integer.valueOf( table.getRowCount() ) );
+        }
+
+        // Copy the filtered columns on the event-dispatching thread.
+        final TableModel tableModel = table.getModel();
+        final int numberOfRows = tableModel.getRowCount();
+        final int[] modelRows = new int[ numberOfRows ];
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            modelRows[ row ] = row;
+        }
+        final TableSnapshot tableSnapshot = ( columns.length > 0 )
+            ? TableSnapshot.of( tableModel, modelRows, columns )
+            : TableSnapshot.of( tableModel, modelRows );
+        final IntPredicate liveRowFilter = TableSnapshot.createLiveRowFilter( tableModel,
+                                                                             rowFilter,
+                                                                             columns );
+        final int generation = filterGeneration.get();
+        final int snapshotGeneration = structureGeneration;
+
+        final CompletableFuture< Integer > viewRowCount = new CompletableFuture<>();
+        rowsUpdatedDuringFilter = new BitSet();
+        pendingRowFilter = viewRowCount;
+        filterPool.execute( () -> {
+            // Evaluate the filter in parallel, one bit per row.
+            final long[] includedRowWords = new long[ ( numberOfRows + 63 ) >>> 6 ];
+            try {
+                new RowFilterTask( rowFilter,
+                                   tableSnapshot,
+                                   includedRowWords,
+                                   filterGeneration,
+                                   generation,
+                                   0,
+                                   numberOfRows ).invoke();
+            }
+            catch ( final RuntimeException re ) {
+                EventQueue.invokeLater( () -> {
+                    if ( filterGeneration.get() == generation ) {
+                        rowsUpdatedDuringFilter = null;
+                        pendingRowFilter = null;
+                    }
+                    viewRowCount.completeExceptionally( re );
+                } );
+                return;
+            }
+            if ( filterGeneration.get() != generation ) {
+                return;
+            }
+
+            final int[] includedRows = BitSet.valueOf( includedRowWords ).stream().toArray();
+            EventQueue.invokeLater( () -> applyRowFilter( incrementalRowSorter,
+                                                          liveRowFilter,
+                                                          includedRows,
+                                                          generation,
+                                                          snapshotGeneration,
+                                                          viewRowCount ) );
+        } );
+
+        return viewRowCount;
+    }
+
+    /**
+     * Cancels the parallel row filter that is in flight, if any, leaving the
+     * current view as it is.
+     *
+     * @since 1.0
+     */
+    public final void cancelRowFilter() {
+        filterGeneration.incrementAndGet();
+        rowsUpdatedDuringFilter = null;
+
+        if ( pendingRowFilter != null ) {
+            final CompletableFuture< Integer > cancelledRowFilter = pendingRowFilter;
+            pendingRowFilter = null;
+            cancelledRowFilter.cancel( false );
+        }
+    }
+
+    /**
+     * Applies the result of a parallel row filter to the row sorter, unless
+     * the filter has been superseded in the meantime.
+     *
+     * @param rowSorter
+     *            The row sorter that was filtered
+     * @param liveRowFilter
+     *            The filter on live model rows, for rows that change later
+     * @param includedRows
+     *            The model rows that passed the filter, in ascending order
+     * @param generation
+     *            The filter generation at the start of the filter
+     * @param snapshotGeneration
+     *            The structure generation at the time of the snapshot
+     * @param viewRowCount
+     *            The future to complete with the number of rows in the view
+     */
+    private void applyRowFilter( final IncrementalRowSorter< ? > rowSorter,
+                                 final IntPredicate liveRowFilter,
+                                 final int[] includedRows,
+                                 final int generation,
+                                 final int snapshotGeneration,
+                                 final CompletableFuture< Integer > viewRowCount ) {
+        if ( filterGeneration.get() != generation ) {
+            return;
+        }
+
+        final BitSet updatedRows = rowsUpdatedDuringFilter;
+        rowsUpdatedDuringFilter = null;
+        pendingRowFilter = null;
+        if ( table.getRowSorter() != rowSorter ) {
+            viewRowCount.cancel( false );
+            return;
+        }
+
+        if ( snapshotGeneration != structureGeneration ) {
+            rowSorter.setRowFilter( liveRowFilter );
+        }
+        else {
+            rowSorter.setRowFilter( liveRowFilter, includedRows, includedRows.length );
+
+            // Let the sorter move the rows that were edited in the meantime.
+            for ( int row = updatedRows.nextSetBit( 0 ); row >= 0; ) {
+                final int endRow = updatedRows.nextClearBit( row );
+                rowSorter.rowsUpdated( row, endRow - 1 );
+                row = updatedRows.nextSetBit( endRow );
+            }
+        }
+
+        viewRowCount.complete( Integer.valueOf( table.getRowCount() ) );
+    }
+
+    //////////////////////////// Search methods //////////////////////////////
+
+    /**
+     * Enables a search index over the specified model columns, replacing any
+     * search index already enabled, so that searches of a few characters or
+     * more no longer scan every cell.
+     * <p>
+     * The index is built on the common fork-join pool, and is kept current
+     * from the model's events from then on; searches scan the model until the
+     * first build completes. The index follows the table to a new model if
+     * the model is replaced.
+     *
+     * @param columns
+     *            The model column indices to index, or none to index all of
+     *            the columns
+     *
+     * @since 1.0
+     */
+    public final void enableSearchIndex( final int... columns ) {
+        disposeSearchIndex();
+
+        searchIndexColumns = columns.clone();
+        searchIndex = new TableSearchIndex( table.getModel(),
+                                            ForkJoinPool.commonPool(),
+                                            searchIndexColumns );
+    }
+
+    /**
+     * Disables the search index, if one is enabled, so that searches scan the
+     * model again.
+     *
+     * @since 1.0
+     */
+    public final void disableSearchIndex() {
+        disposeSearchIndex();
+        searchIndexColumns = null;
+    }
+
+    /**
+     * Returns the search index.
+     *
+     * @return The search index, or {@code null} if none is enabled
+     *
+     * @since 1.0
+     */
+    public final TableSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns all of the cells whose text contains the specified query,
+     * ignoring case, such as for highlighting them.
+     * <p>
+     * This uses the search index, if one is enabled, and otherwise scans the
+     * model.
+     *
+     * @param query
+     *            The text to search for
+     * @return The matching cells, in row-major model order
+     *
+     * @since 1.0
+     */
+    public final SearchHits findAll( final String query ) {
+        return ( searchIndex != null )
+            ? searchIndex.findAll( query )
+            : TableSearchIndex.scan( table.getModel(), query );
+    }
+
+    /**
+     * Selects and scrolls to the next cell in view order whose text contains
+     * the specified query, ignoring case, starting from the lead selection
+     * and wrapping around at the end of the table.
+     * <p>
+     * The view is walked outwards from the lead cell and the walk stops at the
+     * first match, so the cost doesn't depend on how many cells match. If a
+     * search index is enabled, rows that can't match are skipped without
+     * reading their cells, and only the indexed columns are searched.
+     *
+     * @param query
+     *            The text to search for
+     * @param forward
+     *            {@code true} to search forward, or {@code false} to search
+     *            backward
+     * @return {@code true} if a matching cell was found
+     *
+     * @since 1.0
+     */
+    public final boolean findNext( final String query, final boolean forward ) {
+        final String normalizedQuery = TableSearchIndex.normalize( query );
+        final int numberOfRows = table.getRowCount();
+        final int numberOfColumns = table.getColumnCount();
+        if ( normalizedQuery.isEmpty() || ( numberOfRows == 0 ) || ( numberOfColumns == 0 ) ) {
+            return false;
+        }
+
+        final BitSet candidateRows = ( searchIndex != null )
+            ? searchIndex.findCandidateRows( normalizedQuery )
+            : null;
+        if ( ( candidateRows != null ) && candidateRows.isEmpty() ) {
+            return false;
+        }
+
+        // Start just past the lead cell, or at the end of the table that the
+        // search runs from if there is no lead row.
+        final int direction = forward ? 1 : -1;
+        final int leadRow = table.getSelectionModel().getLeadSelectionIndex();
+        final int leadColumn = table.getColumnModel().getSelectionModel()
+                .getLeadSelectionIndex();
+        final int startRow;
+        final int startColumn;
+        if ( ( leadRow >= 0 ) && ( leadRow < numberOfRows ) ) {
+            startRow = leadRow;
+            startColumn = FastMath.min( FastMath.max( leadColumn, 0 ), numberOfColumns - 1 )
+                    + direction;
+        }
+        else {
+            startRow = forward ? 0 : numberOfRows - 1;
+            startColumn = forward ? 0 : numberOfColumns - 1;
+        }
+
+        // The start row is visited twice: first from the start column on, and
+        // last, after wrapping around, up to and including the lead cell.
+        final TableModel tableModel = table.getModel();
+        final int lineStartColumn = forward ? 0 : numberOfColumns - 1;
+        for ( int step = 0; step <= numberOfRows; step++ ) {
+            int viewRow = startRow + ( step * direction );
+            if ( viewRow >= numberOfRows ) {
+                viewRow -= numberOfRows;
+            }
+            else if ( viewRow < 0 ) {
+                viewRow += numberOfRows;
+            }
+
+            final int modelRow = table.convertRowIndexToModel( viewRow );
+            if ( ( candidateRows != null ) && !candidateRows.get( modelRow ) ) {
+                continue;
+            }
+
+            final int firstColumn = ( step == 0 ) ? startColumn : lineStartColumn;
+            final int endColumn = ( step == numberOfRows ) ? startColumn : lineStartColumn
+                    + ( numberOfColumns * direction );
+            for ( int viewColumn = firstColumn; viewColumn != endColumn; viewColumn += direction ) {
+                final int modelColumn = table.convertColumnIndexToModel( viewColumn );
+                if ( ( ( searchIndex == null ) || searchIndex.isIndexedColumn( modelColumn ) )
+                        && TableSearchIndex.contains( tableModel,
+                                                      modelRow,
+                                                      modelColumn,
+                                                      normalizedQuery ) ) {
+                    table.changeSelection( viewRow, viewColumn, false, false );
+                    table.scrollRectToVisible( table.getCellRect( viewRow, viewColumn, true ) );
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Disposes of the search index, if one is enabled.
+     */
+    private void disposeSearchIndex() {
+        if ( searchIndex != null ) {
+            searchIndex.dispose();
+            searchIndex = null;
+        }
+    }
+
+    ////////////////////// Table manipulation methods ////////////////////////
+
+    /**
+     * Sizes each column to fit its header and a sample of its cells, without
+     * measuring every cell on the event-dispatching thread.
+     * <p>
+     * The sample is drawn from the head, the tail, and a random selection of
+     * the rest of the table. The cell text is measured on the common fork-join
+     * pool, and the widths are then applied in one batch.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @return A future that completes on the event-dispatching thread with the
+     *         new preferred width of each view column, once they are applied
+     *
+     * @see ColumnAutoFitUtilities#autoFitColumnWidths(javax.swing.JTable, int,
+     *      java.util.concurrent.Executor)
+     *
+     * @since 1.0
+     */
+    public final CompletableFuture< int[] > autoFitColumnWidths() {
+        return ColumnAutoFitUtilities.autoFitColumnWidths( table,
+                                                           ColumnAutoFitUtilities.DEFAULT_SAMPLE_SIZE,
+                                                           ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * Returns the difference that was applied, after refreshing the table
+     * from a new version of its rows, in place of replacing its model.
+     * <p>
+     * Only the rows that were deleted, inserted, moved or changed generate
+     * events, so the selection, scroll position and sort order are kept, and
+     * the cost of the refresh is in proportion to the size of the change.
+     * Any cell edit in progress is cancelled first, as its row may go away.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param listModel
+     *            The list model that backs this table
+     * @param newRows
+     *            The new version of the rows
+     * @param rowKey
+     *            The function that returns the identifying key of a row
+     * @param rowEquality
+     *            The predicate that returns {@code true} if an old row and the
+     *            matching new row have the same contents
+     * @return The difference that was applied
+     *
+     * @since 1.0
+     */
+    public final < T > SnapshotDiff refreshTable( final ListTableModel< T > listModel,
+                                                  final List< ? extends T > newRows,
+                                                  final Function< ? super T, ? > rowKey,
+                                                  final BiPredicate< ? super T, ? super T > rowEquality ) {
+        if ( table.getModel() != listModel ) {
+            throw new IllegalArgumentException( "List model is not this table's model" ); //$NON-NLS-1$
+        }
+
+        cancelCellEditing();
+
+        return listModel.applySnapshot( newRows, rowKey, rowEquality );
+    }
+
+    /**
+     * Refreshes the table from a new version of its rows, computing the
+     * difference in the background so that large tables don't block the
+     * event-dispatching thread, and then applying it as with
+     * {@link #refreshTable}.
+     * <p>
+     * The current rows are copied on the calling thread, and the difference
+     * is computed from that copy. If the model changes before the difference
+     * is applied, the difference is recomputed against the model's rows at
+     * that point instead.
+     * <p>
+     * This method must be invoked on the event-dispatching thread, and the new
+     * rows must not change until the returned future completes.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param listModel
+     *            The list model that backs this table
+     * @param newRows
+     *            The new version of the rows
+     * @param rowKey
+     *            The function that returns the identifying key of a row, which
+     *            must be safe to call from the executor's threads
+     * @param rowEquality
+     *            The predicate that returns {@code true} if an old row and the
+     *            matching new row have the same contents, which must be safe
+     *            to call from the executor's threads
+     * @param executor
+     *            The executor to compute the difference on
+     * @return A future that completes on the event-dispatching thread with the
+     *         difference that was applied
+     *
+     * @since 1.0
+     */
+    public final < T > CompletableFuture< SnapshotDiff > refreshTableAsync(
+            final ListTableModel< T > listModel,
+            final List< ? extends T > newRows,
+            final Function< ? super T, ? > rowKey,
+            final BiPredicate< ? super T, ? super T > rowEquality,
+            final Executor executor ) {
+        if ( table.getModel() != listModel ) {
+            throw new IllegalArgumentException( "List model is not this table's model" ); //$NON-NLS-1$
+        }
+
+        final List< T > oldRows = new ArrayList<>( listModel.getRows() );
+        final long modificationCount = listModel.getModificationCount();
+        return CompletableFuture
+                .supplyAsync( () -> SnapshotDiff.compute( oldRows, newRows, rowKey, rowEquality ),
+                              executor )
+                .thenApplyAsync( snapshotDiff -> {
+                    cancelCellEditing();
+                    if ( listModel.getModificationCount() != modificationCount ) {
+                        return listModel.applySnapshot( newRows, rowKey, rowEquality );
+                    }
+
+                    listModel.applySnapshotDiff( snapshotDiff, newRows );
+                    return snapshotDiff;
+                }, EventQueue::invokeLater );
+    }
+
+    /**
+     * Returns {@code true} if the table is scrolled to its last rows, allowing
+     * for up to one row of slack, as is the case when the user is following
+     * the tail of a growing table.
+     *
+     * @return {@code true} if the table is scrolled to its last rows
+     *
+     * @since 1.0
+     */
+    public final boolean isScrolledToBottom() {
+        final BoundedRangeModel scrollModel = scrollPane.getVerticalScrollBar().getModel();
+        return ( scrollModel.getValue() + scrollModel.getExtent() ) >= ( scrollModel
+                .getMaximum() - table.getRowHeight() );
+    }
+
+    /**
+     * Scrolls the table up by the specified number of rows, or as far as its
+     * top, without any deferral.
+     * <p>
+     * This is useful for keeping the visible rows in place when rows are
+     * removed from above them.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param numberOfRows
+     *            The number of rows to scroll up by
+     *
+     * @since 1.0
+     */
+    public final void scrollUpByRows( final int numberOfRows ) {
+        if ( numberOfRows <= 0 ) {
+            return;
+        }
+
+        final JViewport viewport = scrollPane.getViewport();
+        final Point viewPosition = viewport.getViewPosition();
+        final long scrollDistance = ( long ) numberOfRows * table.getRowHeight();
+        viewPosition.y = ( int ) FastMath.max( 0L, viewPosition.y - scrollDistance );
+        viewport.setViewPosition( viewPosition );
+    }
+
+    /**
+     * Cancels cell editing on all of the table columns.
+     *
+     * @since 1.0
+     */
+    public final void cancelCellEditing() {
+        for ( int column = firstColumnIndex; column <= lastColumnIndex; column++ ) {
+            final CellEditor cellEditor =
+                                        table.getColumnModel().getColumn( column ).getCellEditor();
+            if ( cellEditor != null ) {
+                cellEditor.cancelCellEditing();
+            }
+        }
+    }
+
+    /**
+     * Clears any active selection in the table.
+     *
+     * @since 1.0
+     */
+    public final void clearSelection() {
+        table.clearSelection();
+    }
+
+    /**
+     * Returns the index of the last column in the table.
+     *
+     * @return The index of the last column in the table
+     *
+     * @since 1.0
+     */
+    public final int getLastColumnIndex() {
+        final TableModel tableModel = table.getModel();
+        return tableModel.getColumnCount() - 1;
+    }
+
+    /**
+     * Returns the index of the last row in the table.
+     *
+     * @return The index of the last row in the table
+     *
+     * @since 1.0
+     */
+    public final int getLastRowIndex() {
+        final TableModel tableModel = table.getModel();
+        return tableModel.getRowCount() - 1;
+    }
+
+    /**
+     * Returns the number of selected rows, or zero if none selected.
+     * <p>
+     * This method queries the selection model directly, so that toolbar
+     * enablement checks don't have to allocate and sort a copy of the
+     * selection just to find out how big it is. With an
+     * {@link IntervalListSelectionModel}, it only visits the selected ranges.
+     *
+     * @return The number of selected rows, or zero if none selected
+     */
+    public final int getNumberOfSelectedRows() {
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            return intervalSelectionModel.getSelectedItemsCount( getLastViewRowIndex() );
+        }
+
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        final int maximumSelectedRowIndex = getMaximumSelectedRowIndex();
+
+        int numberOfSelectedRows = 0;
+        if ( minimumSelectedRowIndex >= 0 ) {
+            for ( int rowIndex = minimumSelectedRowIndex;
+                  rowIndex <= maximumSelectedRowIndex; rowIndex++ ) {
+                if ( selectionModel.isSelectedIndex( rowIndex ) ) {
+                    numberOfSelectedRows++;
+                }
+            }
+        }
+
+        return numberOfSelectedRows;
+    }
+
+    /**
+     * Returns {@code true} if any rows are selected, without counting them.
+     *
+     * @return {@code true} if any rows are selected
+     *
+     * @since 1.0
+     */
+    public final boolean hasSelectedRows() {
+        final int minimumSelectedRowIndex = table.getSelectionModel().getMinSelectionIndex();
+        return ( minimumSelectedRowIndex >= 0 )
+                && ( minimumSelectedRowIndex <= getMaximumSelectedRowIndex() );
+    }
+
+    /**
+     * Returns the list of currently selected table row indices, in reverse
+     * order so that deletions and other actions can be performed sequentially
+     * without any of the indices "going bad" mid-stream.
+     * <p>
+     * This is the legacy boxed form of {@link #getSelectedRowIndices()}, and
+     * is retained for compatibility with existing clients; new code should
+     * prefer the primitive form, especially for large selections.
+     *
+     * @return A list of the selected table row indices, or {@code null} if none
+     *         selected
+     *
+     * @since 1.0
+     */
+    public final Integer[] getSelectedRows() {
+        final int[] selectedRowIndices = getSelectedRowIndices();
+        final int selectionLength = selectedRowIndices.length;
+        if ( selectionLength <= 0 ) {
+            return null;
+        }
+
+        final Integer[] selectedRows = new Integer[ selectionLength ];
+        for ( int selectionIndex = 0; selectionIndex < selectionLength; selectionIndex++ ) {
+            selectedRows[ selectionIndex ] = Integer.valueOf( selectedRowIndices[ selectionIndex ] );
+        }
+
+        return selectedRows;
+    }
+
+    /**
+     * Returns a snapshot of the currently selected table row indices as a
+     * primitive array, in reverse order so that deletions and other actions
+     * can be performed sequentially without any of the indices "going bad"
+     * mid-stream.
+     * <p>
+     * The selection model is walked from the highest selected index down to
+     * the lowest, so the result is already in reverse order and no sorting or
+     * boxing is required.
+     *
+     * @return A snapshot of the selected table row indices in reverse order,
+     *         or an empty array if none selected
+     *
+     * @since 1.0
+     */
+    public final int[] getSelectedRowIndices() {
+        final int numberOfSelectedRows = getNumberOfSelectedRows();
+        if ( numberOfSelectedRows <= 0 ) {
+            return NO_SELECTED_ROWS;
+        }
+
+        final int[] selectedRowIndices = new int[ numberOfSelectedRows ];
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            final int[] selectedRowRanges = intervalSelectionModel
+                    .getSelectedRanges( getLastViewRowIndex() );
+            int selectionIndex = 0;
+            for ( int rangeIndex = 0; rangeIndex < selectedRowRanges.length; rangeIndex += 2 ) {
+                for ( int rowIndex = selectedRowRanges[ rangeIndex + 1 ];
+                      rowIndex >= selectedRowRanges[ rangeIndex ]; rowIndex-- ) {
+                    selectedRowIndices[ selectionIndex++ ] = rowIndex;
+                }
+            }
+            return selectedRowIndices;
+        }
+
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        int selectionIndex = 0;
+        for ( int rowIndex = getMaximumSelectedRowIndex();
+              ( rowIndex >= minimumSelectedRowIndex )
+                      && ( selectionIndex < numberOfSelectedRows ); rowIndex-- ) {
+            if ( selectionModel.isSelectedIndex( rowIndex ) ) {
+                selectedRowIndices[ selectionIndex++ ] = rowIndex;
+            }
+        }
+
+        return selectedRowIndices;
+    }
+
+    /**
+     * Returns a snapshot of the currently selected table row indices as a
+     * {@link BitSet}, which is the most compact form for large selections and
+     * supports fast membership tests as well as iteration in either direction.
+     *
+     * @return A snapshot of the selected table row indices, which is empty if
+     *         none selected
+     *
+     * @since 1.0
+     */
+    public final BitSet getSelectedRowSet() {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        final int maximumSelectedRowIndex = getMaximumSelectedRowIndex();
+
+        final BitSet selectedRowSet = new BitSet( maximumSelectedRowIndex + 1 );
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            final int[] selectedRowRanges = intervalSelectionModel
+                    .getSelectedRanges( getLastViewRowIndex() );
+            for ( int rangeIndex = 0; rangeIndex < selectedRowRanges.length; rangeIndex += 2 ) {
+                selectedRowSet.set( selectedRowRanges[ rangeIndex ],
+                                    selectedRowRanges[ rangeIndex + 1 ] + 1 );
+            }
+        }
+        else if ( minimumSelectedRowIndex >= 0 ) {
+            for ( int rowIndex = minimumSelectedRowIndex;
+                  rowIndex <= maximumSelectedRowIndex; rowIndex++ ) {
+                if ( selectionModel.isSelectedIndex( rowIndex ) ) {
+                    selectedRowSet.set( rowIndex );
+                }
+            }
+        }
+
+        return selectedRowSet;
+    }
+
+    /**
+     * Returns a snapshot of the currently selected table rows as contiguous
+     * ranges, in reverse order so that each range can be deleted or otherwise
+     * acted on without invalidating the indices of the ranges still to come.
+     * <p>
+     * The ranges are flattened into pairs, so that the first and last row
+     * indices of range {@code n} are at array indices {@code 2n} and
+     * {@code 2n + 1} respectively.
+     *
+     * @return A snapshot of the selected row ranges in reverse order, or an
+     *         empty array if none selected
+     *
+     * @since 1.0
+     */
+    public final int[] getSelectedRowRanges() {
+        if ( !hasSelectedRows() ) {
+            return NO_SELECTED_ROWS;
+        }
+
+        // The interval selection model already holds the ranges.
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            return intervalSelectionModel.getSelectedRanges( getLastViewRowIndex() );
+        }
+
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        int[] selectedRowRanges = new int[ 16 ];
+        int numberOfRangeIndices = 0;
+        int rangeLastRowIndex = -1;
+        for ( int rowIndex = getMaximumSelectedRowIndex();
+              rowIndex >= minimumSelectedRowIndex - 1; rowIndex-- ) {
+            final boolean rowSelected = ( rowIndex >= minimumSelectedRowIndex )
+                    && selectionModel.isSelectedIndex( rowIndex );
+            if ( rowSelected && ( rangeLastRowIndex < 0 ) ) {
+                rangeLastRowIndex = rowIndex;
+            }
+            else if ( !rowSelected && ( rangeLastRowIndex >= 0 ) ) {
+                // Close off the current range, which ended on the prior row.
+                if ( numberOfRangeIndices == selectedRowRanges.length ) {
+                    selectedRowRanges = Arrays.copyOf( selectedRowRanges,
+                                                       2 * numberOfRangeIndices );
+                }
+                selectedRowRanges[ numberOfRangeIndices++ ] = rowIndex + 1;
+                selectedRowRanges[ numberOfRangeIndices++ ] = rangeLastRowIndex;
+                rangeLastRowIndex = -1;
+            }
+        }
+
+        return Arrays.copyOf( selectedRowRanges, numberOfRangeIndices );
+    }
+
+    /**
+     * Visits the currently selected table row indices in reverse order, with
+     * no intermediate copy of the selection, stopping early if the visitor
+     * rejects a row.
+     * <p>
+     * The visitor must not modify the selection or the table model.
+     *
+     * @param rowVisitor
+     *            The visitor to apply to each selected row index; returns
+     *            {@code false} to stop visiting any further rows
+     * @return {@code true} if every selected row was visited and accepted, or
+     *         if there were no selected rows
+     *
+     * @since 1.0
+     */
+    public final boolean visitSelectedRows( final IntPredicate rowVisitor ) {
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            return intervalSelectionModel.visitSelectedIndicesInReverse( getLastViewRowIndex(),
+                                                                         rowVisitor );
+        }
+
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        if ( minimumSelectedRowIndex < 0 ) {
+            return true;
+        }
+
+        for ( int rowIndex = getMaximumSelectedRowIndex();
+              rowIndex >= minimumSelectedRowIndex; rowIndex-- ) {
+            if ( selectionModel.isSelectedIndex( rowIndex ) && !rowVisitor.test( rowIndex ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Visits the currently selected table row indices within the specified
+     * window, in increasing order, stopping early if the visitor rejects a
+     * row.
+     * <p>
+     * With an {@link IntervalListSelectionModel}, only the selected rows in
+     * the window are visited, so the cost doesn't depend on the size of the
+     * selection outside of it. The visitor must not modify the selection or
+     * the table model.
+     *
+     * @param firstRowIndex
+     *            The lowest row index to visit
+     * @param lastRowIndex
+     *            The highest row index to visit, which is clipped to the last
+     *            row in the table's view
+     * @param rowVisitor
+     *            The visitor to apply to each selected row index; returns
+     *            {@code false} to stop visiting any further rows
+     * @return {@code true} if every selected row in the window was visited and
+     *         accepted, or if there were no selected rows in the window
+     *
+     * @since 1.0
+     */
+    public final boolean visitSelectedRows( final int firstRowIndex,
+                                            final int lastRowIndex,
+                                            final IntPredicate rowVisitor ) {
+        final int maximumRowIndex = FastMath.min( lastRowIndex, getLastViewRowIndex() );
+        final IntervalListSelectionModel intervalSelectionModel = getIntervalSelectionModel();
+        if ( intervalSelectionModel != null ) {
+            return intervalSelectionModel.visitSelectedIndices( firstRowIndex,
+                                                                maximumRowIndex,
+                                                                rowVisitor );
+        }
+
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        if ( selectionModel.isSelectionEmpty() ) {
+            return true;
+        }
+
+        final int minimumSelectedRowIndex = FastMath.max( firstRowIndex,
+                                                          selectionModel.getMinSelectionIndex() );
+        final int maximumSelectedRowIndex = FastMath.min( maximumRowIndex,
+                                                          selectionModel.getMaxSelectionIndex() );
+        for ( int rowIndex = minimumSelectedRowIndex;
+              rowIndex <= maximumSelectedRowIndex; rowIndex++ ) {
+            if ( selectionModel.isSelectedIndex( rowIndex ) && !rowVisitor.test( rowIndex ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the table's row selection model if it stores the selection as
+     * ranges, so that the selection helpers can work on the ranges directly.
+     *
+     * @return The table's interval selection model, or {@code null} if it
+     *         uses a different selection model
+     */
+    private IntervalListSelectionModel getIntervalSelectionModel() {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        return ( selectionModel instanceof IntervalListSelectionModel )
+            ? ( IntervalListSelectionModel ) selectionModel
+            : null;
+    }
+
+    /**
+     * Returns the highest selected row index that is still valid for the
+     * table's current row count, or {@code -1} if none selected.
+     * <p>
+     * The selection model can briefly hold indices beyond the end of the table
+     * while model events are being processed, so this matches the clipping
+     * that {@code JTable} itself applies.
+     *
+     * @return The highest valid selected row index, or {@code -1} if none
+     *         selected
+     */
+    private int getMaximumSelectedRowIndex() {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        return FastMath.min( selectionModel.getMaxSelectionIndex(), getLastViewRowIndex() );
+    }
+
+    /**
+     * Returns the index of the last row in the table's view, which is what
+     * row selections are clipped to; this differs from
+     * {@link #getLastRowIndex()} when a row filter hides some model rows.
+     *
+     * @return The index of the last row in the table's view, or {@code -1} if
+     *         the view is empty
+     */
+    private int getLastViewRowIndex() {
+        return table.getRowCount() - 1;
+    }
+
+    /**
+     * Returns the hierarchically-lower-most selected row, or the last row in
+     * the table if none were selected.
+     *
+     * @param minimumRowIndex
+     *            The lowest index that is considered valid for the selected row
+     * @return The hierarchically-lower-most selected row, or the last row in
+     *         the table if none were selected
+     *
+     * @since 1.0
+     */
+    public final int getSelectedRow( final int minimumRowIndex ) {
+        // If the user didn't select any rows, default initially to the row
+        // before the first valid row index, to make sure any selected row
+        // overrides the initial default.
+        int selectionIndex = minimumRowIndex - 1;
+
+        // The lower-most selected row is just the minimum selection index, as
+        // long as it is still valid for the table's current row count.
+        if ( hasSelectedRows() ) {
+            selectionIndex = table.getSelectionModel().getMinSelectionIndex();
+        }
+        else {
+            // If no rows were selected, and auto-selection is enabled, correct
+            // the default selection to be the last valid row index.
+            if ( autoSelectionEnabled ) {
+                final int maximumRowIndex = getLastRowIndex();
+                selectionIndex = FastMath.max( selectionIndex, maximumRowIndex );
+            }
         }
 
         return selectionIndex;
@@ -728,9 +2760,15 @@ public abstract class JxTablePanel extends JxPanel {
      * This method iterates through all of the table's rows to sync the data
      * model to their current values and to determine if any data changed
      * anywhere in the table.
+     * <p>
+     * If dirty row tracking is enabled, only the rows (and where known, the
+     * columns) that changed since the previous update are visited, unless a
+     * model replacement or structure change requires a full sweep.
      *
      * @return {@code true} if the model changed after syncing it from the view
      *
+     * @see #setDirtyRowTrackingEnabled(boolean)
+     *
      * @since 1.0
      */
     @Override
@@ -739,10 +2777,31 @@ public abstract class JxTablePanel extends JxPanel {
         final TableModel tableModel = table.getModel();
         final int numberOfRows = tableModel.getRowCount();
 
-        // Iterate through the individual rows.
-        for ( int row = 0; row < numberOfRows; row++ ) {
-            modelChanged |= updateModelAt( row );
+        if ( !dirtyRowTrackingEnabled || allRowsDirty ) {
+            // Iterate through the individual rows.
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                modelChanged |= updateModelAt( row );
+            }
+        }
+        else if ( allColumnsDirty ) {
+            // Iterate through the individual dirty rows.
+            for ( int row = dirtyRows.nextSetBit( 0 ); ( row >= 0 ) && ( row < numberOfRows );
+                  row = dirtyRows.nextSetBit( row + 1 ) ) {
+                modelChanged |= updateModelAt( row );
+            }
         }
+        else {
+            // Iterate through the individual dirty cells.
+            for ( int row = dirtyRows.nextSetBit( 0 ); ( row >= 0 ) && ( row < numberOfRows );
+                  row = dirtyRows.nextSetBit( row + 1 ) ) {
+                for ( int column = dirtyColumns.nextSetBit( 0 ); column >= 0;
+                      column = dirtyColumns.nextSetBit( column + 1 ) ) {
+                    modelChanged |= updateModelAt( row, column );
+                }
+            }
+        }
+
+        clearDirtyRows();
 
         return modelChanged;
     }
@@ -832,4 +2891,218 @@ public abstract class JxTablePanel extends JxPanel {
         table.setForegroundFromBackground( Color.WHITE );
     }
 
+    /**
+     * {@code RowFilterTask} splits the evaluation of a row filter over a table
+     * snapshot into fork-join subtasks, each of which evaluates a contiguous
+     * block of rows into its own words of a shared bit set.
+     */
+    private static final class RowFilterTask extends RecursiveAction {
+        /**
+         * Unique Serial Version ID for this class, to avoid class loader
+         * conflicts.
+         */
+        private static final long serialVersionUID = 3390542917285330176L;
+
+        /**
+         * The number of rows below which a block is evaluated sequentially,
+         * which is a multiple of the bit set word size.
+         */
+        private static final int  SEQUENTIAL_THRESHOLD = 4096;
+
+        /**
+         * The filter to evaluate.
+         */
+        private final transient SnapshotRowFilter rowFilter;
+
+        /**
+         * The snapshot of the rows being filtered.
+         */
+        private final transient TableSnapshot tableSnapshot;
+
+        /**
+         * The bit set words that record the included snapshot rows.
+         */
+        private final long[]      includedRowWords;
+
+        /**
+         * The current filter generation, which is checked before each block.
+         */
+        private final AtomicInteger currentGeneration;
+
+        /**
+         * The filter generation that this task belongs to.
+         */
+        private final int         generation;
+
+        /**
+         * The first snapshot row in this block, which is word-aligned.
+         */
+        private final int         firstRow;
+
+        /**
+         * The snapshot row after the last one in this block.
+         */
+        private final int         endRow;
+
+        /**
+         * Constructs a {@code RowFilterTask} for a block of snapshot rows.
+         *
+         * @param filter
+         *            The filter to evaluate
+         * @param snapshot
+         *            The snapshot of the rows being filtered
+         * @param words
+         *            The bit set words that record the included snapshot rows
+         * @param filterGeneration
+         *            The current filter generation
+         * @param taskGeneration
+         *            The filter generation that this task belongs to
+         * @param fromRow
+         *            The first snapshot row in this block, which must be
+         *            word-aligned
+         * @param toRow
+         *            The snapshot row after the last one in this block
+         */
+        RowFilterTask( final SnapshotRowFilter filter,
+                       final TableSnapshot snapshot,
+                       final long[] words,
+                       final AtomicInteger filterGeneration,
+                       final int taskGeneration,
+                       final int fromRow,
+                       final int toRow ) {
+            rowFilter = filter;
+            tableSnapshot = snapshot;
+            includedRowWords = words;
+            currentGeneration = filterGeneration;
+            generation = taskGeneration;
+            firstRow = fromRow;
+            endRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            // Stop early if a newer filter has superseded this one.
+            if ( currentGeneration.get() != generation ) {
+                return;
+            }
+
+            if ( ( endRow - firstRow ) <= SEQUENTIAL_THRESHOLD ) {
+                for ( int snapshotRow = firstRow; snapshotRow < endRow; snapshotRow++ ) {
+                    if ( rowFilter.include( tableSnapshot, snapshotRow ) ) {
+                        includedRowWords[ snapshotRow >>> 6 ] |= 1L << snapshotRow;
+                    }
+                }
+                return;
+            }
+
+            // Split on a word boundary, so that no two blocks share a word.
+            final int middleRow = ( ( firstRow + endRow ) >>> 1 ) & ~63;
+            invokeAll( new RowFilterTask( rowFilter,
+                                          tableSnapshot,
+                                          includedRowWords,
+                                          currentGeneration,
+                                          generation,
+                                          firstRow,
+                                          middleRow ),
+                       new RowFilterTask( rowFilter,
+                                          tableSnapshot,
+                                          includedRowWords,
+                                          currentGeneration,
+                                          generation,
+                                          middleRow,
+                                          endRow ) );
+        }
+    }
+
+    /**
+     * {@code RowValidationTask} splits the validation of a table snapshot into
+     * fork-join subtasks, each of which validates a contiguous block of rows.
+     */
+    private static final class RowValidationTask extends RecursiveAction {
+        /**
+         * Unique Serial Version ID for this class, to avoid class loader
+         * conflicts.
+         */
+        private static final long serialVersionUID = -6012848911409466447L;
+
+        /**
+         * The number of rows below which a block is validated sequentially.
+         */
+        private static final int  SEQUENTIAL_THRESHOLD = 1024;
+
+        /**
+         * The table panel that provides the row validation method.
+         */
+        private final transient JxTablePanel tablePanel;
+
+        /**
+         * The snapshot of the rows being synced.
+         */
+        private final transient TableSnapshot tableSnapshot;
+
+        /**
+         * The results of validating each row in the snapshot.
+         */
+        private final Object[]    validatedRows;
+
+        /**
+         * The first snapshot row in this block.
+         */
+        private final int         firstRow;
+
+        /**
+         * The snapshot row after the last one in this block.
+         */
+        private final int         endRow;
+
+        /**
+         * Constructs a {@code RowValidationTask} for a block of snapshot rows.
+         *
+         * @param panel
+         *            The table panel that provides the row validation method
+         * @param snapshot
+         *            The snapshot of the rows being synced
+         * @param results
+         *            The results of validating each row in the snapshot
+         * @param fromRow
+         *            The first snapshot row in this block
+         * @param toRow
+         *            The snapshot row after the last one in this block
+         */
+        RowValidationTask( final JxTablePanel panel,
+                           final TableSnapshot snapshot,
+                           final Object[] results,
+                           final int fromRow,
+                           final int toRow ) {
+            tablePanel = panel;
+            tableSnapshot = snapshot;
+            validatedRows = results;
+            firstRow = fromRow;
+            endRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if ( ( endRow - firstRow ) <= SEQUENTIAL_THRESHOLD ) {
+                for ( int snapshotRow = firstRow; snapshotRow < endRow; snapshotRow++ ) {
+                    validatedRows[ snapshotRow ] = tablePanel.validateTableRow( tableSnapshot,
+                                                                                snapshotRow );
+                }
+                return;
+            }
+
+            final int middleRow = ( firstRow + endRow ) >>> 1;
+            invokeAll( new RowValidationTask( tablePanel,
+                                              tableSnapshot,
+                                              validatedRows,
+                                              firstRow,
+                                              middleRow ),
+                       new RowValidationTask( tablePanel,
+                                              tableSnapshot,
+                                              validatedRows,
+                                              middleRow,
+                                              endRow ) );
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code AggregateFunction} is an enumeration of the summary statistics that
+ * can be shown for a numeric table column.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum AggregateFunction {
+    /**
+     * The number of numeric values in the column.
+     */
+    COUNT( "Count" ), //$NON-NLS-1$
+    /**
+     * The sum of the numeric values in the column.
+     */
+    SUM( "Sum" ), //$NON-NLS-1$
+    /**
+     * The arithmetic mean of the numeric values in the column.
+     */
+    MEAN( "Mean" ), //$NON-NLS-1$
+    /**
+     * The smallest numeric value in the column.
+     */
+    MIN( "Min" ), //$NON-NLS-1$
+    /**
+     * The largest numeric value in the column.
+     */
+    MAX( "Max" ); //$NON-NLS-1$
+
+    /**
+     * The short label that identifies the statistic in a table footer.
+     */
+    private final String label;
+
+    /**
+     * Constructs an {@code AggregateFunction} with its display label.
+     *
+     * @param displayLabel
+     *            The short label that identifies the statistic in a table
+     *            footer
+     */
+    AggregateFunction( final String displayLabel ) {
+        label = displayLabel;
+    }
+
+    /**
+     * Returns the short label that identifies the statistic in a table footer.
+     *
+     * @return The short label that identifies the statistic
+     *
+     * @since 1.0
+     */
+    public String getLabel() {
+        return label;
+    }
+
+}
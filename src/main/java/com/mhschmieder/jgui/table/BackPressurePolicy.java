@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code BackPressurePolicy} is an enumeration of the ways that a
+ * {@link BackgroundRowAppender} can hold back producer threads that append
+ * rows faster than the event-dispatching thread applies them.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum BackPressurePolicy {
+    /**
+     * Producers wait for room once the pending rows reach the capacity, so no
+     * rows are lost but producers are slowed to the rate of the table.
+     */
+    BLOCK,
+    /**
+     * Producers never wait; once the pending rows reach the capacity, the
+     * oldest pending row is dropped for each new one, as for live feeds where
+     * only the latest rows matter.
+     */
+    DROP_OLDEST,
+    /**
+     * Producers never wait; a pending row is replaced by a newer row with the
+     * same key, keeping its place in the queue, so the backlog is bounded by
+     * the number of distinct keys rather than by the arrival rate.
+     */
+    COALESCE;
+}
@@ -0,0 +1,507 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.Timer;
+import java.awt.EventQueue;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@code BackgroundRowAppender} lets any number of producer threads append
+ * rows to a table without touching its model, by queueing the rows on a
+ * lock-free queue that the event-dispatching thread drains in batches once
+ * per frame.
+ * <p>
+ * Producers don't post an event per row; the first row after the queue goes
+ * idle schedules the frame timer, which then applies up to a fixed number of
+ * rows per frame as a single batch until the queue is empty again. So bursts
+ * of tens of thousands of rows per second cost the event-dispatching thread
+ * about sixty model updates per second, and the {@link BackPressurePolicy}
+ * decides what happens when producers outrun it.
+ * <p>
+ * The producer methods are thread-safe; everything else, including the row
+ * sink, runs on the event-dispatching thread.
+ *
+ * @param <T>
+ *            The type of the row data objects
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BackgroundRowAppender< T > implements ActionListener, AutoCloseable {
+
+    /**
+     * The default maximum number of pending rows.
+     */
+    public static final int                   DEFAULT_CAPACITY       = 65536;
+
+    /**
+     * The default maximum number of rows applied per frame.
+     */
+    public static final int                   DEFAULT_ROWS_PER_FRAME = 4096;
+
+    /**
+     * The interval between batches, in milliseconds, which is roughly one
+     * frame at 60 Hz.
+     */
+    private static final int                  FRAME_INTERVAL_MILLIS  = 16;
+
+    /**
+     * The function that applies a batch of rows to the table on the
+     * event-dispatching thread, returning the number of rows applied.
+     */
+    private final ToIntFunction< List< T > > rowSink;
+
+    /**
+     * The policy for producers that outrun the event-dispatching thread.
+     */
+    private final BackPressurePolicy          backPressurePolicy;
+
+    /**
+     * The maximum number of pending rows, for the blocking and dropping
+     * policies.
+     */
+    private final int                         capacity;
+
+    /**
+     * The maximum number of rows applied per frame.
+     */
+    private final int                         maximumRowsPerFrame;
+
+    /**
+     * The function that returns the coalescing key of a row, for the
+     * coalescing policy, or {@code null} otherwise.
+     */
+    private final Function< ? super T, ? >    rowKey;
+
+    /**
+     * The pending rows in arrival order, or their keys for the coalescing
+     * policy.
+     */
+    private final ConcurrentLinkedQueue< Object > pendingQueue;
+
+    /**
+     * The latest pending row for each queued key, for the coalescing policy,
+     * or {@code null} otherwise.
+     */
+    private final ConcurrentHashMap< Object, T > pendingRowsByKey;
+
+    /**
+     * The free slots in the queue, for the blocking policy, or {@code null}
+     * otherwise.
+     */
+    private final Semaphore                   freeSlots;
+
+    /**
+     * The number of entries in the pending queue, as the queue's own size is
+     * not a constant-time operation.
+     */
+    private final AtomicInteger               numberOfPendingRows;
+
+    /**
+     * Flag for whether the frame timer is running or about to be started.
+     */
+    private final AtomicBoolean               drainScheduled;
+
+    /**
+     * The number of rows that were dropped, either to make room or because
+     * the table had no room for them.
+     */
+    private final LongAdder                   numberOfDroppedRows;
+
+    /**
+     * The number of rows that were replaced by a newer row with the same key.
+     */
+    private final LongAdder                   numberOfCoalescedRows;
+
+    /**
+     * The timer that drains the queue once per frame while rows are pending.
+     */
+    private final Timer                       frameTimer;
+
+    /**
+     * The number of rows applied to the table so far.
+     */
+    private volatile long                     numberOfRowsApplied;
+
+    /**
+     * Flag for whether producers are no longer allowed to append rows.
+     */
+    private volatile boolean                  closed;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BackgroundRowAppender} that is ready for producers.
+     *
+     * @param sink
+     *            The function that applies a batch of rows to the table on the
+     *            event-dispatching thread, returning the number of rows it
+     *            applied
+     * @param policy
+     *            The policy for producers that outrun the event-dispatching
+     *            thread
+     * @param maximumNumberOfPendingRows
+     *            The maximum number of pending rows, which is ignored by the
+     *            coalescing policy
+     * @param rowsPerFrame
+     *            The maximum number of rows to apply per frame
+     * @param coalescingKey
+     *            The function that returns the coalescing key of a row, which
+     *            is required by the coalescing policy and ignored otherwise
+     * @throws IllegalArgumentException
+     *             If the coalescing policy is requested without a key function
+     *
+     * @since 1.0
+     */
+    public BackgroundRowAppender( final ToIntFunction< List< T > > sink,
+                                  final BackPressurePolicy policy,
+                                  final int maximumNumberOfPendingRows,
+                                  final int rowsPerFrame,
+                                  final Function< ? super T, ? > coalescingKey ) {
+        if ( ( policy == BackPressurePolicy.COALESCE ) && ( coalescingKey == null ) ) {
+            throw new IllegalArgumentException( "Coalescing requires a row key function" ); //$NON-NLS-1$
+        }
+
+        rowSink = sink;
+        backPressurePolicy = policy;
+        capacity = FastMath.max( 1, maximumNumberOfPendingRows );
+        maximumRowsPerFrame = FastMath.max( 1, rowsPerFrame );
+        rowKey = ( policy == BackPressurePolicy.COALESCE ) ? coalescingKey : null;
+
+        pendingQueue = new ConcurrentLinkedQueue<>();
+        pendingRowsByKey = ( policy == BackPressurePolicy.COALESCE )
+            ? new ConcurrentHashMap<>()
+            : null;
+        freeSlots = ( policy == BackPressurePolicy.BLOCK ) ? new Semaphore( capacity ) : null;
+        numberOfPendingRows = new AtomicInteger();
+        drainScheduled = new AtomicBoolean();
+        numberOfDroppedRows = new LongAdder();
+        numberOfCoalescedRows = new LongAdder();
+        frameTimer = new Timer( FRAME_INTERVAL_MILLIS, this );
+        frameTimer.setCoalesce( true );
+
+        numberOfRowsApplied = 0L;
+        closed = false;
+    }
+
+    ////////////////////////// Producer methods //////////////////////////////
+
+    /**
+     * Queues a row to be appended to the table, waiting for room first if the
+     * blocking policy is in effect and the queue is full.
+     * <p>
+     * This method is thread-safe. On the event-dispatching thread, it applies
+     * pending rows rather than waiting for room, so that it can't deadlock.
+     *
+     * @param row
+     *            The row data object to append, which must not be {@code null}
+     * @return {@code false} if the row was rejected because this appender is
+     *         closed
+     * @throws InterruptedException
+     *             If the thread is interrupted while waiting for room
+     *
+     * @since 1.0
+     */
+    public boolean append( final T row ) throws InterruptedException {
+        Objects.requireNonNull( row, "row" ); //$NON-NLS-1$
+        if ( closed ) {
+            return false;
+        }
+
+        switch ( backPressurePolicy ) {
+        case BLOCK:
+            if ( !acquireSlot() ) {
+                return false;
+            }
+            enqueue( row );
+            break;
+        case DROP_OLDEST:
+            enqueue( row );
+            if ( ( numberOfPendingRows.get() > capacity ) && ( pendingQueue.poll() != null ) ) {
+                numberOfPendingRows.decrementAndGet();
+                numberOfDroppedRows.increment();
+            }
+            break;
+        case COALESCE:
+        default:
+            final Object key = rowKey.apply( row );
+            if ( pendingRowsByKey.put( key, row ) != null ) {
+                // The key is still queued, and the drainer will pick up this
+                // newer row when it gets to it.
+                numberOfCoalescedRows.increment();
+            }
+            else {
+                enqueue( key );
+            }
+            break;
+        }
+
+        scheduleDrain();
+
+        return true;
+    }
+
+    /**
+     * Queues rows to be appended to the table, in iteration order.
+     *
+     * @param rows
+     *            The row data objects to append, none of which may be
+     *            {@code null}
+     * @return The number of rows queued, which is less than the number of
+     *         rows if this appender is closed part way through
+     * @throws InterruptedException
+     *             If the thread is interrupted while waiting for room
+     *
+     * @see #append(Object)
+     *
+     * @since 1.0
+     */
+    public int appendAll( final Collection< ? extends T > rows ) throws InterruptedException {
+        int numberOfRowsQueued = 0;
+        for ( final T row : rows ) {
+            if ( !append( row ) ) {
+                break;
+            }
+            numberOfRowsQueued++;
+        }
+
+        return numberOfRowsQueued;
+    }
+
+    /**
+     * Stops accepting rows from producers; rows that are already pending are
+     * still applied, after which the frame timer stops for good.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Returns {@code true} if this appender no longer accepts rows.
+     *
+     * @return {@code true} if this appender no longer accepts rows
+     *
+     * @since 1.0
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    ////////////////////////// Statistics methods ////////////////////////////
+
+    /**
+     * Returns the number of rows waiting to be applied.
+     *
+     * @return The number of rows waiting to be applied
+     *
+     * @since 1.0
+     */
+    public int getNumberOfPendingRows() {
+        return numberOfPendingRows.get();
+    }
+
+    /**
+     * Returns the number of rows applied to the table so far.
+     *
+     * @return The number of rows applied to the table so far
+     *
+     * @since 1.0
+     */
+    public long getNumberOfRowsApplied() {
+        return numberOfRowsApplied;
+    }
+
+    /**
+     * Returns the number of rows that were dropped, either to make room for
+     * newer rows or because the table had no room for them.
+     *
+     * @return The number of rows that were dropped
+     *
+     * @since 1.0
+     */
+    public long getNumberOfDroppedRows() {
+        return numberOfDroppedRows.sum();
+    }
+
+    /**
+     * Returns the number of rows that were replaced by a newer row with the
+     * same key before they were applied.
+     *
+     * @return The number of rows that were coalesced
+     *
+     * @since 1.0
+     */
+    public long getNumberOfCoalescedRows() {
+        return numberOfCoalescedRows.sum();
+    }
+
+    //////////////////////// Draining methods ////////////////////////////////
+
+    /**
+     * Applies the next batch of pending rows, once per frame, and stops the
+     * frame timer once the queue is empty.
+     *
+     * @param actionEvent
+     *            The timer event
+     *
+     * @since 1.0
+     */
+    @Override
+    public void actionPerformed( final ActionEvent actionEvent ) {
+        drainFrame();
+
+        if ( pendingQueue.isEmpty() ) {
+            frameTimer.stop();
+            drainScheduled.set( false );
+
+            // A producer may have queued a row after the check but before the
+            // flag was cleared, without scheduling a drain, so check again.
+            if ( !pendingQueue.isEmpty() && drainScheduled.compareAndSet( false, true ) ) {
+                frameTimer.start();
+            }
+        }
+    }
+
+    /**
+     * Applies up to one frame's worth of pending rows to the table as a
+     * single batch, on the event-dispatching thread.
+     *
+     * @return The number of entries taken from the queue
+     */
+    @SuppressWarnings("unchecked")
+    private int drainFrame() {
+        // The pending count can briefly lag the queue, so clamp it.
+        final int expectedNumberOfRows = FastMath.max( 0, numberOfPendingRows.get() );
+        final List< T > frameRows = new ArrayList<>( FastMath.min( maximumRowsPerFrame,
+                                                                   expectedNumberOfRows ) );
+        int numberOfEntries = 0;
+        Object entry;
+        while ( ( numberOfEntries < maximumRowsPerFrame )
+                && ( ( entry = pendingQueue.poll() ) != null ) ) {
+            numberOfEntries++;
+            numberOfPendingRows.decrementAndGet();
+
+            final T row = ( pendingRowsByKey != null )
+                ? pendingRowsByKey.remove( entry )
+                : ( T ) entry;
+            if ( row != null ) {
+                frameRows.add( row );
+            }
+        }
+
+        if ( ( freeSlots != null ) && ( numberOfEntries > 0 ) ) {
+            freeSlots.release( numberOfEntries );
+        }
+
+        if ( !frameRows.isEmpty() ) {
+            final int numberOfRowsAppliedNow = rowSink.applyAsInt( frameRows );
+            numberOfRowsApplied += numberOfRowsAppliedNow;
+            if ( numberOfRowsAppliedNow < frameRows.size() ) {
+                numberOfDroppedRows.add( frameRows.size() - numberOfRowsAppliedNow );
+            }
+        }
+
+        return numberOfEntries;
+    }
+
+    /**
+     * Adds an entry to the pending queue.
+     *
+     * @param entry
+     *            The row, or its key for the coalescing policy
+     */
+    private void enqueue( final Object entry ) {
+        pendingQueue.add( entry );
+        numberOfPendingRows.incrementAndGet();
+    }
+
+    /**
+     * Takes a free slot in the queue for the blocking policy, waiting for one
+     * if necessary.
+     *
+     * @return {@code false} if this appender was closed while waiting
+     * @throws InterruptedException
+     *             If the thread is interrupted while waiting for room
+     */
+    private boolean acquireSlot() throws InterruptedException {
+        if ( EventQueue.isDispatchThread() ) {
+            // Waiting here would stop the drainer, so make room directly.
+            while ( !freeSlots.tryAcquire() ) {
+                if ( drainFrame() == 0 ) {
+                    Thread.yield();
+                }
+            }
+        }
+        else {
+            freeSlots.acquire();
+        }
+
+        if ( closed ) {
+            freeSlots.release();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Starts the frame timer on the event-dispatching thread, unless it is
+     * already running or about to be started.
+     */
+    private void scheduleDrain() {
+        if ( drainScheduled.compareAndSet( false, true ) ) {
+            EventQueue.invokeLater( frameTimer::start );
+        }
+    }
+
+}
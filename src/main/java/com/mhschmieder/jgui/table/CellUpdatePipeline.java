@@ -0,0 +1,466 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code CellUpdatePipeline} funnels high-frequency cell updates from any
+ * number of background threads into a Table Model, once per frame, on the
+ * event-dispatching thread.
+ * <p>
+ * Updates are posted to a lock-free queue and drained by a one-shot timer
+ * that is only scheduled while updates are pending. Each drain keeps just the
+ * latest update for each cell, writes the values via a {@link CellValueWriter}
+ * without firing any per-cell events, and then fires one
+ * {@code TableModelEvent} per run of consecutive updated rows, restricted to a
+ * single column wherever the run only touched one column. The table then
+ * repaints just those row ranges.
+ * <p>
+ * Row and column indices are in model coordinates at the time of the drain;
+ * updates that fall outside the model at that time are discarded. Pending
+ * updates aren't renumbered when rows are inserted or deleted, so code that
+ * changes the row structure should flush the pipeline first.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class CellUpdatePipeline {
+
+    /**
+     * The delay between the first pending update and the drain, in
+     * milliseconds, which is roughly one frame at 60 Hz.
+     */
+    public static final int               FRAME_INTERVAL_MILLIS = 16;
+
+    /**
+     * The Table Model that the updates are written to.
+     */
+    private final AbstractTableModel      tableModel;
+
+    /**
+     * The writer that stores each value without firing events.
+     */
+    private final CellValueWriter         cellValueWriter;
+
+    /**
+     * The updates that are waiting to be drained, in posting order.
+     */
+    private final Queue< CellUpdate >     pendingUpdates;
+
+    /**
+     * Flag for whether a drain is already scheduled, so that each burst of
+     * updates schedules just one.
+     */
+    private final AtomicBoolean           drainScheduled;
+
+    /**
+     * The one-shot timer that drains the pending updates.
+     */
+    private final Timer                   drainTimer;
+
+    /**
+     * The latest update for each cell in the current drain, keyed by cell.
+     */
+    private final CellUpdateMap           latestUpdates;
+
+    /**
+     * Flag for whether this pipeline has been closed.
+     */
+    private volatile boolean              closed;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code CellUpdatePipeline} for the specified Table Model.
+     *
+     * @param model
+     *            The Table Model that the updates are written to, and that
+     *            fires the coalesced events
+     * @param writer
+     *            The writer that stores each value in the model without firing
+     *            events
+     *
+     * @since 1.0
+     */
+    public CellUpdatePipeline( final AbstractTableModel model, final CellValueWriter writer ) {
+        tableModel = model;
+        cellValueWriter = writer;
+        pendingUpdates = new ConcurrentLinkedQueue<>();
+        drainScheduled = new AtomicBoolean( false );
+        latestUpdates = new CellUpdateMap();
+        closed = false;
+
+        drainTimer = new Timer( FRAME_INTERVAL_MILLIS, actionEvent -> {
+            // Clear the flag before draining, so that updates posted during
+            // the drain schedule another one rather than being stranded.
+            drainScheduled.set( false );
+            flush();
+        } );
+        drainTimer.setRepeats( false );
+    }
+
+    /////////////////////// Update posting methods ///////////////////////////
+
+    /**
+     * Posts an update for a cell, to be applied on the next drain.
+     * <p>
+     * This method can be invoked from any thread, and never blocks.
+     *
+     * @param value
+     *            The new value of the cell
+     * @param row
+     *            The model row index
+     * @param column
+     *            The model column index
+     *
+     * @since 1.0
+     */
+    public void postUpdate( final Object value, final int row, final int column ) {
+        if ( closed || ( row < 0 ) || ( column < 0 ) ) {
+            return;
+        }
+
+        pendingUpdates.add( new CellUpdate( value, row, column ) );
+        if ( drainScheduled.compareAndSet( false, true ) ) {
+            drainTimer.restart();
+        }
+    }
+
+    /**
+     * Applies all of the pending updates immediately, rather than waiting for
+     * the next scheduled drain.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @return The number of distinct cells that were updated
+     *
+     * @since 1.0
+     */
+    public int flush() {
+        // Keep only the latest update for each cell.
+        CellUpdate cellUpdate;
+        while ( ( cellUpdate = pendingUpdates.poll() ) != null ) {
+            latestUpdates.put( cellUpdate );
+        }
+        if ( latestUpdates.isEmpty() ) {
+            return 0;
+        }
+
+        // Write the values in row order, so that the runs of consecutive rows
+        // fall out of a single pass.
+        final long[] cellKeys = latestUpdates.getKeys();
+        Arrays.sort( cellKeys );
+
+        final int numberOfRows = tableModel.getRowCount();
+        final int numberOfColumns = tableModel.getColumnCount();
+        int numberOfCellsUpdated = 0;
+        int firstRow = -1;
+        int lastRow = -1;
+        int runColumn = TableModelEvent.ALL_COLUMNS;
+        for ( final long cellKey : cellKeys ) {
+            final int row = ( int ) ( cellKey >>> 32 );
+            final int column = ( int ) cellKey;
+            if ( ( row >= numberOfRows ) || ( column >= numberOfColumns ) ) {
+                continue;
+            }
+
+            cellValueWriter.writeValue( latestUpdates.get( cellKey ), row, column );
+            numberOfCellsUpdated++;
+
+            if ( ( firstRow >= 0 ) && ( row <= ( lastRow + 1 ) ) ) {
+                // Extend the current run, which spans all columns as soon as
+                // it touches more than one.
+                if ( column != runColumn ) {
+                    runColumn = TableModelEvent.ALL_COLUMNS;
+                }
+                lastRow = row;
+            }
+            else {
+                fireRowsUpdated( firstRow, lastRow, runColumn );
+                firstRow = row;
+                lastRow = row;
+                runColumn = column;
+            }
+        }
+        fireRowsUpdated( firstRow, lastRow, runColumn );
+
+        latestUpdates.clear();
+
+        return numberOfCellsUpdated;
+    }
+
+    /**
+     * Stops accepting updates, and discards any that are still pending.
+     *
+     * @since 1.0
+     */
+    public void close() {
+        closed = true;
+        drainTimer.stop();
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Fires a single update event for a run of consecutive rows.
+     *
+     * @param firstRow
+     *            The first row of the run, or {@code -1} if there is no run
+     * @param lastRow
+     *            The last row of the run
+     * @param column
+     *            The only column updated in the run, or
+     *            {@link TableModelEvent#ALL_COLUMNS} if several were
+     */
+    private void fireRowsUpdated( final int firstRow, final int lastRow, final int column ) {
+        if ( firstRow >= 0 ) {
+            tableModel.fireTableChanged( new TableModelEvent( tableModel,
+                                                              firstRow,
+                                                              lastRow,
+                                                              column ) );
+        }
+    }
+
+    /**
+     * Returns the packed key for a cell, which sorts in row-major order.
+     *
+     * @param row
+     *            The model row index
+     * @param column
+     *            The model column index
+     * @return The packed key for the cell
+     */
+    private static long toCellKey( final int row, final int column ) {
+        return ( ( long ) row << 32 ) | ( column & 0xFFFFFFFFL );
+    }
+
+    /**
+     * {@code CellUpdate} is a single posted cell update.
+     */
+    private static final class CellUpdate {
+        /**
+         * The new value of the cell.
+         */
+        final Object value;
+
+        /**
+         * The packed key for the cell.
+         */
+        final long   cellKey;
+
+        /**
+         * Constructs a {@code CellUpdate}.
+         *
+         * @param cellValue
+         *            The new value of the cell
+         * @param row
+         *            The model row index
+         * @param column
+         *            The model column index
+         */
+        CellUpdate( final Object cellValue, final int row, final int column ) {
+            value = cellValue;
+            cellKey = toCellKey( row, column );
+        }
+    }
+
+    /**
+     * {@code CellUpdateMap} is an open-addressing hash map from packed cell
+     * keys to the latest value for each cell, which avoids boxing the keys
+     * and is reused from one drain to the next.
+     */
+    private static final class CellUpdateMap {
+        /**
+         * The key that marks an empty slot, which no valid cell can have.
+         */
+        private static final long EMPTY_KEY        = -1L;
+
+        /**
+         * The initial number of slots, which must be a power of two.
+         */
+        private static final int  INITIAL_CAPACITY = 256;
+
+        /**
+         * The packed cell key in each slot.
+         */
+        private long[]            keys;
+
+        /**
+         * The latest value for the cell in each slot.
+         */
+        private Object[]          values;
+
+        /**
+         * The number of occupied slots.
+         */
+        private int               size;
+
+        /**
+         * Constructs an empty {@code CellUpdateMap}.
+         */
+        CellUpdateMap() {
+            allocate( INITIAL_CAPACITY );
+        }
+
+        /**
+         * Returns {@code true} if no cells are in the map.
+         *
+         * @return {@code true} if no cells are in the map
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Records a cell update, replacing any earlier value for the cell.
+         *
+         * @param cellUpdate
+         *            The cell update to record
+         */
+        void put( final CellUpdate cellUpdate ) {
+            // Keep the load factor at or below one half.
+            if ( ( size << 1 ) >= keys.length ) {
+                rehash( keys.length << 1 );
+            }
+
+            final int slot = findSlot( cellUpdate.cellKey );
+            if ( keys[ slot ] == EMPTY_KEY ) {
+                keys[ slot ] = cellUpdate.cellKey;
+                size++;
+            }
+            values[ slot ] = cellUpdate.value;
+        }
+
+        /**
+         * Returns the latest value for the specified cell.
+         *
+         * @param cellKey
+         *            The packed key for the cell
+         * @return The latest value for the specified cell
+         */
+        Object get( final long cellKey ) {
+            return values[ findSlot( cellKey ) ];
+        }
+
+        /**
+         * Returns a new array of the keys of all cells in the map.
+         *
+         * @return A new array of the keys of all cells in the map
+         */
+        long[] getKeys() {
+            final long[] cellKeys = new long[ size ];
+            int index = 0;
+            for ( final long cellKey : keys ) {
+                if ( cellKey != EMPTY_KEY ) {
+                    cellKeys[ index++ ] = cellKey;
+                }
+            }
+
+            return cellKeys;
+        }
+
+        /**
+         * Removes all cells from the map, shrinking it back down if an
+         * unusually large drain grew it.
+         */
+        void clear() {
+            if ( keys.length > ( INITIAL_CAPACITY << 6 ) ) {
+                allocate( INITIAL_CAPACITY );
+                return;
+            }
+
+            Arrays.fill( keys, EMPTY_KEY );
+            Arrays.fill( values, null );
+            size = 0;
+        }
+
+        /**
+         * Returns the slot for the specified key, which is either the slot
+         * that holds it or the empty slot where it belongs.
+         *
+         * @param cellKey
+         *            The packed key for the cell
+         * @return The slot for the specified key
+         */
+        private int findSlot( final long cellKey ) {
+            final int mask = keys.length - 1;
+            final long hash = cellKey * 0x9E3779B97F4A7C15L;
+            int slot = ( int ) ( hash ^ ( hash >>> 32 ) ) & mask;
+            while ( ( keys[ slot ] != EMPTY_KEY ) && ( keys[ slot ] != cellKey ) ) {
+                slot = ( slot + 1 ) & mask;
+            }
+
+            return slot;
+        }
+
+        /**
+         * Grows the map to the specified number of slots, re-inserting all of
+         * the cells.
+         *
+         * @param capacity
+         *            The new number of slots, which must be a power of two
+         */
+        private void rehash( final int capacity ) {
+            final long[] oldKeys = keys;
+            final Object[] oldValues = values;
+            allocate( capacity );
+            for ( int slot = 0; slot < oldKeys.length; slot++ ) {
+                if ( oldKeys[ slot ] != EMPTY_KEY ) {
+                    final int newSlot = findSlot( oldKeys[ slot ] );
+                    keys[ newSlot ] = oldKeys[ slot ];
+                    values[ newSlot ] = oldValues[ slot ];
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * Allocates empty storage with the specified number of slots.
+         *
+         * @param capacity
+         *            The number of slots, which must be a power of two
+         */
+        private void allocate( final int capacity ) {
+            keys = new long[ capacity ];
+            Arrays.fill( keys, EMPTY_KEY );
+            values = new Object[ capacity ];
+            size = 0;
+        }
+    }
+
+}
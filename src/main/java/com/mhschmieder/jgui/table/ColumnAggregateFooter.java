@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.CellRendererPane;
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumnModel;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.text.NumberFormat;
+
+/**
+ * {@code ColumnAggregateFooter} is a footer row that shows an aggregate of
+ * each aggregated column directly beneath that column of a table, such as
+ * "Sum: 1,234.5", tracking column moves, resizes and horizontal scrolling.
+ * <p>
+ * The aggregates come from a {@link ColumnAggregates}, which keeps them up to
+ * date incrementally, so repainting the footer never scans the table. The
+ * cells are painted with the table header's renderer, so that the footer
+ * matches the look of the header.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class ColumnAggregateFooter extends JComponent {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long                  serialVersionUID = -4518066213187725390L;
+
+    /**
+     * The table whose columns the footer is aligned with.
+     */
+    private final JTable                       table;
+
+    /**
+     * The aggregates to show in the footer.
+     */
+    private final transient ColumnAggregates   columnAggregates;
+
+    /**
+     * The aggregate function to show for each model column, with {@code null}
+     * for columns that have no footer cell.
+     */
+    private final AggregateFunction[]          aggregateFunctions;
+
+    /**
+     * The renderer pane for painting the footer cells without adding the
+     * renderer components to the component hierarchy.
+     */
+    private final CellRendererPane             cellRendererPane;
+
+    /**
+     * The renderer for the footer cells when the table has no header.
+     */
+    private final DefaultTableCellRenderer     fallbackRenderer;
+
+    /**
+     * The number format for the sum, mean, minimum and maximum.
+     */
+    private NumberFormat                       numberFormat;
+
+    /**
+     * The number format for counts.
+     */
+    private final NumberFormat                 countFormat;
+
+    /**
+     * The listener that repaints the footer whenever the aggregates change or
+     * the viewport scrolls.
+     */
+    private final transient ChangeListener     repaintListener;
+
+    /**
+     * The listener that repaints the footer whenever the columns are moved,
+     * resized, added or removed.
+     */
+    private final transient TableColumnModelListener columnModelListener;
+
+    /**
+     * The listener that repaints the footer whenever the table moves or is
+     * resized within its container.
+     */
+    private final transient ComponentListener  tableListener;
+
+    /**
+     * The Column Model that the column listener is registered with.
+     */
+    private transient TableColumnModel         columnModel;
+
+    /**
+     * The viewport that the scroll listener is registered with, if any.
+     */
+    private transient JViewport                viewport;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code ColumnAggregateFooter} for the specified table.
+     *
+     * @param footerTable
+     *            The table whose columns the footer is aligned with
+     * @param aggregates
+     *            The aggregates to show in the footer, for the table's model
+     * @param functionsByModelColumn
+     *            The aggregate function to show for each model column, with
+     *            {@code null} for columns that have no footer cell
+     *
+     * @since 1.0
+     */
+    public ColumnAggregateFooter( final JTable footerTable,
+                                  final ColumnAggregates aggregates,
+                                  final AggregateFunction... functionsByModelColumn ) {
+        // Always call the superclass constructor first!
+        super();
+
+        table = footerTable;
+        columnAggregates = aggregates;
+        aggregateFunctions = functionsByModelColumn.clone();
+        cellRendererPane = new CellRendererPane();
+        fallbackRenderer = new DefaultTableCellRenderer();
+        numberFormat = NumberFormat.getNumberInstance();
+        countFormat = NumberFormat.getIntegerInstance();
+
+        repaintListener = changeEvent -> repaint();
+        columnModelListener = new TableColumnModelListener() {
+            @Override
+            public void columnAdded( final TableColumnModelEvent columnModelEvent ) {
+                revalidateAndRepaint();
+            }
+
+            @Override
+            public void columnRemoved( final TableColumnModelEvent columnModelEvent ) {
+                revalidateAndRepaint();
+            }
+
+            @Override
+            public void columnMoved( final TableColumnModelEvent columnModelEvent ) {
+                repaint();
+            }
+
+            @Override
+            public void columnMarginChanged( final ChangeEvent changeEvent ) {
+                repaint();
+            }
+
+            @Override
+            public void columnSelectionChanged( final ListSelectionEvent listSelectionEvent ) {}
+        };
+        tableListener = new ComponentAdapter() {
+            @Override
+            public void componentMoved( final ComponentEvent componentEvent ) {
+                repaint();
+            }
+
+            @Override
+            public void componentResized( final ComponentEvent componentEvent ) {
+                repaint();
+            }
+        };
+
+        add( cellRendererPane );
+
+        columnAggregates.addChangeListener( repaintListener );
+        table.addComponentListener( tableListener );
+        columnModel = table.getColumnModel();
+        columnModel.addColumnModelListener( columnModelListener );
+    }
+
+    /**
+     * Stops listening to the table and the aggregates, and disposes of the
+     * aggregates, after which the footer is no longer kept up to date.
+     *
+     * @since 1.0
+     */
+    public void dispose() {
+        columnAggregates.removeChangeListener( repaintListener );
+        columnAggregates.dispose();
+        table.removeComponentListener( tableListener );
+        columnModel.removeColumnModelListener( columnModelListener );
+        setViewport( null );
+    }
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Returns the aggregates that are shown in the footer.
+     *
+     * @return The aggregates that are shown in the footer
+     *
+     * @since 1.0
+     */
+    public final ColumnAggregates getColumnAggregates() {
+        return columnAggregates;
+    }
+
+    /**
+     * Sets the number format for the sum, mean, minimum and maximum.
+     *
+     * @param format
+     *            The number format for the sum, mean, minimum and maximum
+     *
+     * @since 1.0
+     */
+    public final void setNumberFormat( final NumberFormat format ) {
+        numberFormat = format;
+        repaint();
+    }
+
+    /**
+     * Returns the number format for the sum, mean, minimum and maximum.
+     *
+     * @return The number format for the sum, mean, minimum and maximum
+     *
+     * @since 1.0
+     */
+    public final NumberFormat getNumberFormat() {
+        return numberFormat;
+    }
+
+    /**
+     * Returns the text of the footer cell for a model column.
+     *
+     * @param modelColumn
+     *            The model column index
+     * @return The text of the footer cell, or {@code null} if the column has
+     *         no footer cell
+     *
+     * @since 1.0
+     */
+    public String getFooterText( final int modelColumn ) {
+        if ( ( modelColumn >= aggregateFunctions.length )
+                || ( aggregateFunctions[ modelColumn ] == null )
+                || !columnAggregates.isAggregated( modelColumn ) ) {
+            return null;
+        }
+
+        final AggregateFunction aggregateFunction = aggregateFunctions[ modelColumn ];
+        final String label = aggregateFunction.getLabel();
+        if ( AggregateFunction.COUNT.equals( aggregateFunction ) ) {
+            return label + ": " //$NON-NLS-1$
+                    + countFormat.format( columnAggregates.getCount( modelColumn ) );
+        }
+
+        final double value = columnAggregates.getValue( modelColumn, aggregateFunction );
+        return Double.isNaN( value ) ? label + ":" : label + ": " + numberFormat.format( value ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    ///////////////////// JComponent method overrides ////////////////////////
+
+    /**
+     * Registers for viewport scrolling once the footer is displayable, as the
+     * table might not be in a viewport until the layout is complete.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+
+        setViewport( ( JViewport ) SwingUtilities.getAncestorOfClass( JViewport.class, table ) );
+    }
+
+    /**
+     * Stops listening for viewport scrolling once the footer is no longer
+     * displayable.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void removeNotify() {
+        setViewport( null );
+
+        super.removeNotify();
+    }
+
+    /**
+     * Returns the preferred size of the footer, which is one header row high.
+     *
+     * @return The preferred size of the footer
+     *
+     * @since 1.0
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        if ( isPreferredSizeSet() ) {
+            return super.getPreferredSize();
+        }
+
+        int height = table.getRowHeight();
+        if ( table.getColumnCount() > 0 ) {
+            final Component component = prepareRenderer( 0, "0" ); //$NON-NLS-1$
+            height = FastMath.max( height, component.getPreferredSize().height );
+        }
+
+        return new Dimension( table.getPreferredSize().width, height );
+    }
+
+    /**
+     * Paints the footer cells beneath the visible columns of the table.
+     *
+     * @param graphics
+     *            The graphics context to paint in
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void paintComponent( final Graphics graphics ) {
+        super.paintComponent( graphics );
+
+        final int numberOfColumns = table.getColumnCount();
+        if ( numberOfColumns == 0 ) {
+            return;
+        }
+
+        // Paint only beneath the visible part of the table, as the footer
+        // doesn't scroll with it.
+        final Point tableOrigin = SwingUtilities.convertPoint( table, 0, 0, this );
+        final Rectangle visibleBounds = ( viewport != null )
+            ? SwingUtilities.convertRectangle( viewport,
+                                               new Rectangle( viewport.getSize() ),
+                                               this )
+            : new Rectangle( tableOrigin.x, 0, table.getWidth(), getHeight() );
+        final Rectangle clipBounds = graphics.getClipBounds( new Rectangle( getSize() ) )
+                .intersection( new Rectangle( visibleBounds.x, 0, visibleBounds.width, getHeight() ) );
+        if ( clipBounds.isEmpty() ) {
+            return;
+        }
+
+        final Graphics cellGraphics = graphics.create();
+        try {
+            cellGraphics.clipRect( clipBounds.x, clipBounds.y, clipBounds.width, clipBounds.height );
+
+            final int height = getHeight();
+            final TableColumnModel tableColumnModel = table.getColumnModel();
+            int x = tableOrigin.x;
+            for ( int column = 0; column < numberOfColumns; column++ ) {
+                final int width = tableColumnModel.getColumn( column ).getWidth();
+                if ( ( x + width > clipBounds.x ) && ( x < clipBounds.x + clipBounds.width ) ) {
+                    final String text = getFooterText( table.convertColumnIndexToModel( column ) );
+                    final Component component = prepareRenderer( column,
+                                                                 ( text != null ) ? text : "" ); //$NON-NLS-1$
+                    cellRendererPane.paintComponent( cellGraphics,
+                                                     component,
+                                                     this,
+                                                     x,
+                                                     0,
+                                                     width,
+                                                     height,
+                                                     true );
+                }
+                x += width;
+            }
+        }
+        finally {
+            cellGraphics.dispose();
+            cellRendererPane.removeAll();
+        }
+    }
+
+    ////////////////////// Painting support methods //////////////////////////
+
+    /**
+     * Returns the renderer component for a footer cell.
+     *
+     * @param viewColumn
+     *            The view column index
+     * @param text
+     *            The text of the footer cell
+     * @return The renderer component for the footer cell
+     */
+    private Component prepareRenderer( final int viewColumn, final String text ) {
+        final JTableHeader tableHeader = table.getTableHeader();
+        TableCellRenderer renderer = ( tableHeader != null )
+            ? tableHeader.getDefaultRenderer()
+            : null;
+        if ( renderer == null ) {
+            renderer = fallbackRenderer;
+        }
+
+        return renderer.getTableCellRendererComponent( table, text, false, false, -1, viewColumn );
+    }
+
+    /**
+     * Moves the scroll listener to the specified viewport.
+     *
+     * @param newViewport
+     *            The viewport to listen to, or {@code null} for none
+     */
+    private void setViewport( final JViewport newViewport ) {
+        if ( viewport != null ) {
+            viewport.removeChangeListener( repaintListener );
+        }
+        viewport = newViewport;
+        if ( viewport != null ) {
+            viewport.addChangeListener( repaintListener );
+        }
+    }
+
+    /**
+     * Re-lays out and repaints the footer, when its preferred size may have
+     * changed.
+     */
+    private void revalidateAndRepaint() {
+        revalidate();
+        repaint();
+    }
+
+}
@@ -0,0 +1,687 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.util.Arrays;
+
+/**
+ * {@code ColumnAggregates} maintains the count, sum, mean, minimum and maximum
+ * of the numeric values in selected columns of a Table Model, updating them
+ * incrementally from the model's events rather than re-scanning the model.
+ * <p>
+ * Table Model events don't carry the old values of changed or deleted cells,
+ * so a primitive copy of each aggregated column is kept for subtracting them.
+ * Sums use compensated summation so that they don't drift over long runs of
+ * edits, and minimum and maximum use heaps that support removal. So a cell
+ * update costs amortized {@code O(log n)}, and a block of inserted or deleted
+ * rows costs amortized {@code O(log n)} per row plus one primitive array
+ * shift. Full model refreshes and structure changes trigger a re-scan.
+ * <p>
+ * Cells that are {@code null}, not numeric, or NaN are ignored. As with all
+ * Swing models, this must only be used on the event-dispatching thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class ColumnAggregates implements TableModelListener {
+
+    /**
+     * The Table Model whose columns are aggregated.
+     */
+    private final TableModel           tableModel;
+
+    /**
+     * The model indices of the aggregated columns.
+     */
+    private final int[]                modelColumns;
+
+    /**
+     * The accumulators of the aggregated columns, in the same order.
+     */
+    private final ColumnAccumulator[]  accumulators;
+
+    /**
+     * The listeners to notify whenever the aggregates change.
+     */
+    private final EventListenerList    listenerList;
+
+    /**
+     * The shared change event, as it only ever has this object as its source.
+     */
+    private final ChangeEvent          changeEvent;
+
+    /**
+     * The number of rows in the copies of the aggregated columns.
+     */
+    private int                        rowCount;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code ColumnAggregates} for the specified model columns,
+     * computing the initial aggregates and then listening to the model for
+     * changes until {@link #dispose} is invoked.
+     *
+     * @param model
+     *            The Table Model whose columns are aggregated
+     * @param columns
+     *            The model indices of the columns to aggregate
+     *
+     * @since 1.0
+     */
+    public ColumnAggregates( final TableModel model, final int... columns ) {
+        tableModel = model;
+        modelColumns = columns.clone();
+        accumulators = new ColumnAccumulator[ modelColumns.length ];
+        for ( int column = 0; column < accumulators.length; column++ ) {
+            accumulators[ column ] = new ColumnAccumulator();
+        }
+        listenerList = new EventListenerList();
+        changeEvent = new ChangeEvent( this );
+        rowCount = 0;
+
+        rescan();
+        tableModel.addTableModelListener( this );
+    }
+
+    /**
+     * Stops listening to the Table Model, after which the aggregates are no
+     * longer kept up to date.
+     *
+     * @since 1.0
+     */
+    public void dispose() {
+        tableModel.removeTableModelListener( this );
+    }
+
+    ///////////////////////// Aggregate accessors ////////////////////////////
+
+    /**
+     * Returns the Table Model whose columns are aggregated.
+     *
+     * @return The Table Model whose columns are aggregated
+     *
+     * @since 1.0
+     */
+    public final TableModel getTableModel() {
+        return tableModel;
+    }
+
+    /**
+     * Returns {@code true} if the specified model column is aggregated.
+     *
+     * @param modelColumn
+     *            The model column index
+     * @return {@code true} if the specified model column is aggregated
+     *
+     * @since 1.0
+     */
+    public final boolean isAggregated( final int modelColumn ) {
+        return findAccumulator( modelColumn ) != null;
+    }
+
+    /**
+     * Returns the value of the specified aggregate function for a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @param aggregateFunction
+     *            The aggregate function to return the value of
+     * @return The value of the aggregate function, which is NaN for the mean,
+     *         minimum and maximum of a column with no numeric values
+     *
+     * @since 1.0
+     */
+    public final double getValue( final int modelColumn,
+                                  final AggregateFunction aggregateFunction ) {
+        switch ( aggregateFunction ) {
+        case COUNT:
+            return getCount( modelColumn );
+        case SUM:
+            return getSum( modelColumn );
+        case MEAN:
+            return getMean( modelColumn );
+        case MIN:
+            return getMinimum( modelColumn );
+        case MAX:
+            return getMaximum( modelColumn );
+        default:
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Returns the number of numeric values in a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The number of numeric values in the column
+     *
+     * @since 1.0
+     */
+    public final long getCount( final int modelColumn ) {
+        return getAccumulator( modelColumn ).count;
+    }
+
+    /**
+     * Returns the sum of the numeric values in a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The sum of the numeric values in the column
+     *
+     * @since 1.0
+     */
+    public final double getSum( final int modelColumn ) {
+        return getAccumulator( modelColumn ).getSum();
+    }
+
+    /**
+     * Returns the arithmetic mean of the numeric values in a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The mean of the numeric values in the column, or NaN if none
+     *
+     * @since 1.0
+     */
+    public final double getMean( final int modelColumn ) {
+        final ColumnAccumulator accumulator = getAccumulator( modelColumn );
+        return ( accumulator.count > 0L ) ? accumulator.getSum() / accumulator.count : Double.NaN;
+    }
+
+    /**
+     * Returns the smallest numeric value in a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The smallest numeric value in the column, or NaN if none
+     *
+     * @since 1.0
+     */
+    public final double getMinimum( final int modelColumn ) {
+        return getAccumulator( modelColumn ).minimumHeap.peek();
+    }
+
+    /**
+     * Returns the largest numeric value in a column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The largest numeric value in the column, or NaN if none
+     *
+     * @since 1.0
+     */
+    public final double getMaximum( final int modelColumn ) {
+        // The maximum heap holds negated values, so its minimum is the
+        // negated maximum.
+        return -getAccumulator( modelColumn ).maximumHeap.peek();
+    }
+
+    /**
+     * Adds a listener to notify whenever the aggregates change.
+     *
+     * @param changeListener
+     *            The listener to notify whenever the aggregates change
+     *
+     * @since 1.0
+     */
+    public final void addChangeListener( final ChangeListener changeListener ) {
+        listenerList.add( ChangeListener.class, changeListener );
+    }
+
+    /**
+     * Removes a listener that was notified whenever the aggregates change.
+     *
+     * @param changeListener
+     *            The listener to remove
+     *
+     * @since 1.0
+     */
+    public final void removeChangeListener( final ChangeListener changeListener ) {
+        listenerList.remove( ChangeListener.class, changeListener );
+    }
+
+    ////////////////// TableModelListener method overrides ///////////////////
+
+    /**
+     * Updates the aggregates from a Table Model event.
+     *
+     * @param tableModelEvent
+     *            The event describing the change to the Table Model
+     *
+     * @since 1.0
+     */
+    @Override
+    public void tableChanged( final TableModelEvent tableModelEvent ) {
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        if ( ( firstRow == TableModelEvent.HEADER_ROW ) || ( ( lastRow >= rowCount )
+                && ( tableModelEvent.getType() != TableModelEvent.INSERT ) ) ) {
+            // Structure changes and full data refreshes don't say what
+            // changed, so re-scan everything.
+            rescan();
+        }
+        else {
+            switch ( tableModelEvent.getType() ) {
+            case TableModelEvent.INSERT:
+                rowsInserted( firstRow, lastRow );
+                break;
+            case TableModelEvent.DELETE:
+                rowsDeleted( firstRow, lastRow );
+                break;
+            case TableModelEvent.UPDATE:
+            default:
+                rowsUpdated( firstRow, lastRow, tableModelEvent.getColumn() );
+                break;
+            }
+        }
+
+        fireStateChanged();
+    }
+
+    ////////////////////////// Update methods ////////////////////////////////
+
+    /**
+     * Re-computes all of the aggregates by scanning the Table Model.
+     */
+    private void rescan() {
+        rowCount = tableModel.getRowCount();
+        for ( int column = 0; column < accumulators.length; column++ ) {
+            final ColumnAccumulator accumulator = accumulators[ column ];
+            accumulator.clear();
+            accumulator.ensureCapacity( rowCount );
+            final int modelColumn = modelColumns[ column ];
+            for ( int row = 0; row < rowCount; row++ ) {
+                final double value = readValue( row, modelColumn );
+                accumulator.values[ row ] = value;
+                accumulator.add( value );
+            }
+        }
+    }
+
+    /**
+     * Adds the values of the inserted rows to the aggregates.
+     *
+     * @param firstRow
+     *            The index of the first inserted row
+     * @param lastRow
+     *            The index of the last inserted row
+     */
+    private void rowsInserted( final int firstRow, final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        for ( int column = 0; column < accumulators.length; column++ ) {
+            final ColumnAccumulator accumulator = accumulators[ column ];
+            accumulator.ensureCapacity( rowCount + numberOfRows );
+            System.arraycopy( accumulator.values,
+                              firstRow,
+                              accumulator.values,
+                              lastRow + 1,
+                              rowCount - firstRow );
+
+            final int modelColumn = modelColumns[ column ];
+            for ( int row = firstRow; row <= lastRow; row++ ) {
+                final double value = readValue( row, modelColumn );
+                accumulator.values[ row ] = value;
+                accumulator.add( value );
+            }
+        }
+        rowCount += numberOfRows;
+    }
+
+    /**
+     * Removes the values of the deleted rows from the aggregates.
+     *
+     * @param firstRow
+     *            The index of the first deleted row
+     * @param lastRow
+     *            The index of the last deleted row
+     */
+    private void rowsDeleted( final int firstRow, final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        for ( final ColumnAccumulator accumulator : accumulators ) {
+            for ( int row = firstRow; row <= lastRow; row++ ) {
+                accumulator.remove( accumulator.values[ row ] );
+            }
+            System.arraycopy( accumulator.values,
+                              lastRow + 1,
+                              accumulator.values,
+                              firstRow,
+                              rowCount - lastRow - 1 );
+        }
+        rowCount -= numberOfRows;
+    }
+
+    /**
+     * Replaces the old values of the updated cells with their new values.
+     *
+     * @param firstRow
+     *            The index of the first updated row
+     * @param lastRow
+     *            The index of the last updated row
+     * @param modelColumn
+     *            The model index of the updated column, or
+     *            {@link TableModelEvent#ALL_COLUMNS}
+     */
+    private void rowsUpdated( final int firstRow, final int lastRow, final int modelColumn ) {
+        for ( int column = 0; column < accumulators.length; column++ ) {
+            if ( ( modelColumn != TableModelEvent.ALL_COLUMNS )
+                    && ( modelColumn != modelColumns[ column ] ) ) {
+                continue;
+            }
+
+            final ColumnAccumulator accumulator = accumulators[ column ];
+            for ( int row = firstRow; row <= lastRow; row++ ) {
+                final double oldValue = accumulator.values[ row ];
+                final double newValue = readValue( row, modelColumns[ column ] );
+                if ( Double.doubleToLongBits( oldValue ) != Double.doubleToLongBits( newValue ) ) {
+                    accumulator.remove( oldValue );
+                    accumulator.add( newValue );
+                    accumulator.values[ row ] = newValue;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the numeric value of a cell, read without boxing from a
+     * {@link ColumnarTableModel}, or NaN if the cell has no numeric value.
+     *
+     * @param row
+     *            The model row index
+     * @param modelColumn
+     *            The model column index
+     * @return The numeric value of the cell, or NaN if it has none, or if the
+     *         column is no longer in the model
+     */
+    private double readValue( final int row, final int modelColumn ) {
+        if ( modelColumn >= tableModel.getColumnCount() ) {
+            return Double.NaN;
+        }
+
+        if ( tableModel instanceof ColumnarTableModel ) {
+            final ColumnarTableModel columnarTableModel = ( ColumnarTableModel ) tableModel;
+            switch ( columnarTableModel.getColumnType( modelColumn ) ) {
+            case DOUBLE:
+                return columnarTableModel.getDoubleAt( row, modelColumn );
+            case INT:
+                return columnarTableModel.getIntAt( row, modelColumn );
+            case LONG:
+                return columnarTableModel.getLongAt( row, modelColumn );
+            default:
+                break;
+            }
+        }
+
+        final Object value = tableModel.getValueAt( row, modelColumn );
+        return ( value instanceof Number ) ? ( ( Number ) value ).doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Returns the accumulator of an aggregated column.
+     *
+     * @param modelColumn
+     *            The model index of an aggregated column
+     * @return The accumulator of the aggregated column
+     * @throws IllegalArgumentException
+     *             if the column isn't aggregated
+     */
+    private ColumnAccumulator getAccumulator( final int modelColumn ) {
+        final ColumnAccumulator accumulator = findAccumulator( modelColumn );
+        if ( accumulator == null ) {
+            throw new IllegalArgumentException( "Column is not aggregated: " + modelColumn ); //$NON-NLS-1$
+        }
+
+        return accumulator;
+    }
+
+    /**
+     * Returns the accumulator of a column, or {@code null} if the column isn't
+     * aggregated.
+     *
+     * @param modelColumn
+     *            The model column index
+     * @return The accumulator of the column, or {@code null} if none
+     */
+    private ColumnAccumulator findAccumulator( final int modelColumn ) {
+        for ( int column = 0; column < modelColumns.length; column++ ) {
+            if ( modelColumns[ column ] == modelColumn ) {
+                return accumulators[ column ];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Notifies the listeners that the aggregates have changed.
+     */
+    private void fireStateChanged() {
+        final Object[] listeners = listenerList.getListenerList();
+        for ( int i = listeners.length - 2; i >= 0; i -= 2 ) {
+            if ( listeners[ i ] == ChangeListener.class ) {
+                ( ( ChangeListener ) listeners[ i + 1 ] ).stateChanged( changeEvent );
+            }
+        }
+    }
+
+    /**
+     * {@code ColumnAccumulator} holds the primitive running aggregates of one
+     * column, along with a copy of its values for subtracting them later.
+     */
+    private static final class ColumnAccumulator {
+
+        /**
+         * The copy of the column's values, in model row order, with NaN for
+         * cells that have no numeric value.
+         */
+        private double[]                  values;
+
+        /**
+         * The number of numeric values.
+         */
+        private long                      count;
+
+        /**
+         * The running sum of the finite values.
+         */
+        private double                    sum;
+
+        /**
+         * The running compensation for the rounding error in the sum.
+         */
+        private double                    compensation;
+
+        /**
+         * The number of positive infinities, which are kept out of the sum so
+         * that removing them doesn't leave it as NaN.
+         */
+        private long                      numberOfPositiveInfinities;
+
+        /**
+         * The number of negative infinities, which are kept out of the sum.
+         */
+        private long                      numberOfNegativeInfinities;
+
+        /**
+         * The heap of values, for tracking the minimum.
+         */
+        private final RemovableDoubleHeap minimumHeap;
+
+        /**
+         * The heap of negated values, for tracking the maximum.
+         */
+        private final RemovableDoubleHeap maximumHeap;
+
+        /**
+         * Constructs an empty {@code ColumnAccumulator}.
+         */
+        ColumnAccumulator() {
+            values = new double[ 16 ];
+            minimumHeap = new RemovableDoubleHeap();
+            maximumHeap = new RemovableDoubleHeap();
+            clear();
+        }
+
+        /**
+         * Resets the aggregates, without releasing any storage.
+         */
+        void clear() {
+            count = 0L;
+            sum = 0.0d;
+            compensation = 0.0d;
+            numberOfPositiveInfinities = 0L;
+            numberOfNegativeInfinities = 0L;
+            minimumHeap.clear();
+            maximumHeap.clear();
+        }
+
+        /**
+         * Grows the copy of the column's values, if necessary, so that it can
+         * hold at least the specified number of rows.
+         *
+         * @param minimumCapacity
+         *            The number of rows that the copy must be able to hold
+         */
+        void ensureCapacity( final int minimumCapacity ) {
+            if ( minimumCapacity > values.length ) {
+                final long grownCapacity = ( long ) values.length + ( values.length >> 1 ) + 1L;
+                values = Arrays.copyOf( values,
+                                        ( int ) FastMath.max( minimumCapacity,
+                                                              FastMath.min( grownCapacity,
+                                                                            Integer.MAX_VALUE
+                                                                                    - 8L ) ) );
+            }
+        }
+
+        /**
+         * Returns the sum of the values, including any infinities.
+         *
+         * @return The sum of the values
+         */
+        double getSum() {
+            if ( numberOfPositiveInfinities > 0L ) {
+                return ( numberOfNegativeInfinities > 0L ) ? Double.NaN : Double.POSITIVE_INFINITY;
+            }
+            if ( numberOfNegativeInfinities > 0L ) {
+                return Double.NEGATIVE_INFINITY;
+            }
+
+            return sum + compensation;
+        }
+
+        /**
+         * Adds a value to the aggregates, unless it is NaN.
+         *
+         * @param value
+         *            The value to add
+         */
+        void add( final double value ) {
+            if ( Double.isNaN( value ) ) {
+                return;
+            }
+
+            count++;
+            accumulate( value, 1L );
+            minimumHeap.add( value );
+            maximumHeap.add( -value );
+        }
+
+        /**
+         * Removes a value that was added earlier from the aggregates, unless it
+         * is NaN.
+         *
+         * @param value
+         *            The value to remove
+         */
+        void remove( final double value ) {
+            if ( Double.isNaN( value ) ) {
+                return;
+            }
+
+            count--;
+            minimumHeap.remove( value );
+            maximumHeap.remove( -value );
+
+            // Reset the sum when the column becomes empty, so that any
+            // residual rounding error doesn't carry over.
+            if ( count == 0L ) {
+                clear();
+            }
+            else {
+                accumulate( -value, -1L );
+            }
+        }
+
+        /**
+         * Adds a signed value to the sum with Neumaier's compensated summation,
+         * or adjusts the infinity counts if it isn't finite.
+         *
+         * @param value
+         *            The signed value to add to the sum
+         * @param infinityDelta
+         *            The amount to adjust the infinity counts by
+         */
+        private void accumulate( final double value, final long infinityDelta ) {
+            if ( Double.isInfinite( value ) ) {
+                // The value was negated for removal, so look at the sign that
+                // it was originally added with.
+                if ( ( value > 0.0d ) == ( infinityDelta > 0L ) ) {
+                    numberOfPositiveInfinities += infinityDelta;
+                }
+                else {
+                    numberOfNegativeInfinities += infinityDelta;
+                }
+                return;
+            }
+
+            final double total = sum + value;
+            if ( FastMath.abs( sum ) >= FastMath.abs( value ) ) {
+                compensation += ( sum - total ) + value;
+            }
+            else {
+                compensation += ( value - total ) + sum;
+            }
+            sum = total;
+        }
+
+    }
+
+}
@@ -0,0 +1,335 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.JLabel;
+import javax.swing.JTable;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Font;
+import java.awt.Insets;
+import java.awt.font.FontRenderContext;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@code ColumnAutoFitUtilities} is a utility class for sizing table columns
+ * to their content without measuring every cell on the event-dispatching
+ * thread.
+ * <p>
+ * Only a sample of the rows is considered: the first and last rows, which are
+ * what the user sees first and often hold the extremes of ordered data, plus
+ * a uniformly random selection from the rest. The cell text is captured from
+ * the renderers on the event-dispatching thread, measured against a single
+ * cached {@link FontRenderContext} on a background thread, and the resulting
+ * widths are then applied to all of the columns in one batch.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class ColumnAutoFitUtilities {
+
+    /**
+     * The default number of rows to sample, which is enough to size most
+     * columns well while keeping the renderer work on the event-dispatching
+     * thread to a few milliseconds.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 200;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private ColumnAutoFitUtilities() {}
+
+    /**
+     * Returns the sorted view row indices of a sample of the rows, made up of
+     * a quarter of the sample from the head of the table, a quarter from the
+     * tail, and the rest chosen at random from the rows in between.
+     * <p>
+     * The random rows are chosen with a seed based on the row count, so that
+     * repeated auto-fits of an unchanged table give the same widths.
+     *
+     * @param numberOfRows
+     *            The number of rows in the table
+     * @param sampleSize
+     *            The maximum number of rows to sample
+     * @return The sorted view row indices of the sampled rows
+     *
+     * @since 1.0
+     */
+    public static int[] sampleRows( final int numberOfRows, final int sampleSize ) {
+        if ( numberOfRows <= sampleSize ) {
+            final int[] allRows = new int[ FastMath.max( 0, numberOfRows ) ];
+            Arrays.setAll( allRows, row -> row );
+            return allRows;
+        }
+
+        final int headSize = sampleSize / 4;
+        final int tailSize = sampleSize / 4;
+        final int randomSize = sampleSize - headSize - tailSize;
+        final int middleSize = numberOfRows - headSize - tailSize;
+
+        final int[] sampledRows = new int[ sampleSize ];
+        int index = 0;
+        for ( int row = 0; row < headSize; row++ ) {
+            sampledRows[ index++ ] = row;
+        }
+        for ( int row = numberOfRows - tailSize; row < numberOfRows; row++ ) {
+            sampledRows[ index++ ] = row;
+        }
+
+        // Choose the random rows without replacement, by selection sampling
+        // over the middle rows, which visits them in order and so needs no
+        // extra storage to avoid duplicates.
+        final SplittableRandom random = new SplittableRandom( numberOfRows );
+        int needed = randomSize;
+        for ( int offset = 0; ( offset < middleSize ) && ( needed > 0 ); offset++ ) {
+            if ( random.nextInt( middleSize - offset ) < needed ) {
+                sampledRows[ index++ ] = headSize + offset;
+                needed--;
+            }
+        }
+
+        Arrays.sort( sampledRows );
+        return sampledRows;
+    }
+
+    /**
+     * Sizes each column of the table to fit its header and a sample of its
+     * cells, clamped to the column's minimum and maximum widths.
+     * <p>
+     * This method must be invoked on the event-dispatching thread, where it
+     * only captures the header widths and the sampled cell text; the text is
+     * measured on the specified executor, and the widths are applied back on
+     * the event-dispatching thread, as the column preferred widths.
+     *
+     * @param table
+     *            The table whose columns are to be sized
+     * @param sampleSize
+     *            The maximum number of rows to sample
+     * @param measurementExecutor
+     *            The executor to measure the cell text on
+     * @return A future that completes on the event-dispatching thread with the
+     *         new preferred width of each view column, once they are applied
+     *
+     * @since 1.0
+     */
+    public static CompletableFuture< int[] > autoFitColumnWidths(
+            final JTable table,
+            final int sampleSize,
+            final Executor measurementExecutor ) {
+        final TableColumnModel columnModel = table.getColumnModel();
+        final int numberOfColumns = columnModel.getColumnCount();
+        final int[] sampledRows = sampleRows( table.getRowCount(), sampleSize );
+
+        // Everything that involves the renderers happens here, on the
+        // event-dispatching thread; only immutable text and fonts, and
+        // primitive widths, cross over to the measurement thread.
+        final int[] fixedWidths = new int[ numberOfColumns ];
+        final int[] paddingWidths = new int[ numberOfColumns ];
+        final Font[] columnFonts = new Font[ numberOfColumns ];
+        final String[][] cellText = new String[ numberOfColumns ][];
+        final int intercellSpacing = table.getIntercellSpacing().width;
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            fixedWidths[ column ] = getHeaderWidth( table, columnModel.getColumn( column ), column );
+            cellText[ column ] = new String[ sampledRows.length ];
+
+            for ( int sample = 0; sample < sampledRows.length; sample++ ) {
+                final int row = sampledRows[ sample ];
+                final TableCellRenderer cellRenderer = table.getCellRenderer( row, column );
+                final Component cellComponent = table.prepareRenderer( cellRenderer, row, column );
+                if ( cellComponent instanceof JLabel ) {
+                    final JLabel cellLabel = ( JLabel ) cellComponent;
+                    cellText[ column ][ sample ] = cellLabel.getText();
+                    if ( columnFonts[ column ] == null ) {
+                        columnFonts[ column ] = cellLabel.getFont();
+                        final Insets insets = cellLabel.getInsets();
+                        paddingWidths[ column ] = insets.left + insets.right
+                                + intercellSpacing;
+                    }
+                }
+                else if ( cellComponent != null ) {
+                    // Other renderers, such as check boxes, are measured here,
+                    // as they have no text to defer.
+                    fixedWidths[ column ] = FastMath.max( fixedWidths[ column ],
+                                                          cellComponent.getPreferredSize().width
+                                                                  + intercellSpacing );
+                }
+            }
+        }
+
+        final Font tableFont = table.getFont();
+        final FontRenderContext fontRenderContext = table.getFontMetrics( tableFont )
+                .getFontRenderContext();
+
+        return CompletableFuture
+                .supplyAsync( () -> measureColumnWidths( cellText,
+                                                         columnFonts,
+                                                         paddingWidths,
+                                                         fixedWidths,
+                                                         fontRenderContext ),
+                              measurementExecutor )
+                .thenApplyAsync( columnWidths -> applyColumnWidths( table, columnWidths ),
+                                 EventQueue::invokeLater );
+    }
+
+    /**
+     * Returns the preferred width of the header for the specified column.
+     *
+     * @param table
+     *            The table whose header is to be measured
+     * @param tableColumn
+     *            The table column whose header is to be measured
+     * @param column
+     *            The view column index
+     * @return The preferred width of the header, or zero if there is none
+     */
+    private static int getHeaderWidth( final JTable table,
+                                       final TableColumn tableColumn,
+                                       final int column ) {
+        final JTableHeader tableHeader = table.getTableHeader();
+        if ( tableHeader == null ) {
+            return 0;
+        }
+
+        TableCellRenderer headerRenderer = tableColumn.getHeaderRenderer();
+        if ( headerRenderer == null ) {
+            headerRenderer = tableHeader.getDefaultRenderer();
+        }
+        final Component headerComponent = headerRenderer
+                .getTableCellRendererComponent( table,
+                                                tableColumn.getHeaderValue(),
+                                                false,
+                                                false,
+                                                -1,
+                                                column );
+
+        return headerComponent.getPreferredSize().width;
+    }
+
+    /**
+     * Returns the fitted width of each column, measuring the sampled text with
+     * a single font render context.
+     * <p>
+     * This method only uses immutable inputs, so is safe to invoke off the
+     * event-dispatching thread.
+     *
+     * @param cellText
+     *            The sampled cell text for each column, with {@code null}
+     *            entries for cells that have no text
+     * @param columnFonts
+     *            The font for each column, or {@code null} if it has no text
+     * @param paddingWidths
+     *            The horizontal padding around the text for each column
+     * @param fixedWidths
+     *            The widths already measured on the event-dispatching thread
+     *            for each column, such as for the header
+     * @param fontRenderContext
+     *            The font render context to measure the text with
+     * @return The fitted width of each column
+     */
+    private static int[] measureColumnWidths( final String[][] cellText,
+                                              final Font[] columnFonts,
+                                              final int[] paddingWidths,
+                                              final int[] fixedWidths,
+                                              final FontRenderContext fontRenderContext ) {
+        final int numberOfColumns = cellText.length;
+        final int[] columnWidths = new int[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            double maximumTextWidth = 0.0d;
+            final Font columnFont = columnFonts[ column ];
+            if ( columnFont != null ) {
+                for ( final String text : cellText[ column ] ) {
+                    if ( ( text != null ) && !text.isEmpty() ) {
+                        maximumTextWidth = FastMath.max( maximumTextWidth,
+                                                         columnFont.getStringBounds( text,
+                                                                                     fontRenderContext )
+                                                                 .getWidth() );
+                    }
+                }
+            }
+
+            final int textWidth = ( maximumTextWidth > 0.0d )
+                ? ( int ) FastMath.ceil( maximumTextWidth ) + paddingWidths[ column ]
+                : 0;
+            columnWidths[ column ] = FastMath.max( textWidth, fixedWidths[ column ] );
+        }
+
+        return columnWidths;
+    }
+
+    /**
+     * Returns the applied width of each column, after setting all of the
+     * column preferred widths in one batch.
+     * <p>
+     * Each width is clamped to its column's minimum and maximum widths. If the
+     * columns changed while the widths were being measured, nothing is
+     * applied.
+     *
+     * @param table
+     *            The table whose columns are to be sized
+     * @param columnWidths
+     *            The fitted width of each view column
+     * @return The applied width of each view column, or the unchanged fitted
+     *         widths if they could not be applied
+     */
+    private static int[] applyColumnWidths( final JTable table, final int[] columnWidths ) {
+        final TableColumnModel columnModel = table.getColumnModel();
+        if ( columnModel.getColumnCount() != columnWidths.length ) {
+            return columnWidths;
+        }
+
+        for ( int column = 0; column < columnWidths.length; column++ ) {
+            final TableColumn tableColumn = columnModel.getColumn( column );
+            final int columnWidth = FastMath.min( FastMath.max( columnWidths[ column ],
+                                                                tableColumn.getMinWidth() ),
+                                                  tableColumn.getMaxWidth() );
+            tableColumn.setPreferredWidth( columnWidth );
+            columnWidths[ column ] = columnWidth;
+        }
+
+        // Lay the table out once for the whole batch.
+        table.revalidate();
+        table.repaint();
+
+        return columnWidths;
+    }
+
+}
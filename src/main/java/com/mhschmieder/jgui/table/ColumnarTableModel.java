@@ -0,0 +1,944 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code ColumnarTableModel} is a Table Model that stores each numeric column
+ * in a primitive array, rather than storing each row as an array of boxed
+ * values, so that the data takes a fraction of the memory and can be read by
+ * renderers and other clients without allocating.
+ * <p>
+ * String columns with few distinct values, such as categories, states and
+ * units, can be stored as {@link PrimitiveColumnType#DICTIONARY} columns,
+ * which hold one {@code int} code per row into a {@link StringDictionary}
+ * that can be shared with other columns. Equality filters on such columns,
+ * as made by {@link #createEqualityFilter}, compare codes rather than
+ * strings. The numeric accessors don't apply to dictionary columns, and throw
+ * an {@link IllegalStateException} for them.
+ * <p>
+ * Storage is shared across columns and grows geometrically, so that rows can
+ * be inserted and deleted anywhere in amortized linear time, as needed by
+ * {@code JxDynamicTablePanel}. The generic {@link #getValueAt} API still boxes
+ * its results, so clients that know the column type should prefer the
+ * primitive accessors, as {@link PrimitiveCellRenderer} does.
+ * <p>
+ * As with most Swing models, this class must only be accessed from the
+ * event-dispatching thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class ColumnarTableModel extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long                     serialVersionUID         = 4726014934021355878L;
+
+    /**
+     * The initial row capacity of the column storage.
+     */
+    public static final int                       DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The names of the columns, in column order.
+     */
+    private final List< String >                  columnNames;
+
+    /**
+     * The storage types of the columns, in column order.
+     */
+    private final List< PrimitiveColumnType >     columnTypes;
+
+    /**
+     * The primitive storage arrays of the columns, in column order.
+     */
+    private final List< Object >                  columnData;
+
+    /**
+     * The dictionaries of the columns, in column order, which are
+     * {@code null} for numeric columns.
+     */
+    private final List< StringDictionary >        columnDictionaries;
+
+    /**
+     * The number of rows currently in use, which is at most the capacity.
+     */
+    private int                                   rowCount;
+
+    /**
+     * The number of rows that the column storage can hold without growing.
+     */
+    private int                                   capacity;
+
+    /**
+     * Flag for whether cells can be edited in place.
+     */
+    private boolean                               cellsEditable;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code ColumnarTableModel} with no columns and the
+     * default initial capacity.
+     *
+     * @since 1.0
+     */
+    public ColumnarTableModel() {
+        this( DEFAULT_INITIAL_CAPACITY );
+    }
+
+    /**
+     * Constructs an empty {@code ColumnarTableModel} with no columns and the
+     * specified initial capacity.
+     *
+     * @param initialCapacity
+     *            The number of rows that the column storage can initially hold
+     *            without growing
+     *
+     * @since 1.0
+     */
+    public ColumnarTableModel( final int initialCapacity ) {
+        // Always call the superclass constructor first!
+        super();
+
+        if ( initialCapacity < 0 ) {
+            throw new IllegalArgumentException( "Negative capacity: " + initialCapacity ); //$NON-NLS-1$
+        }
+
+        columnNames = new ArrayList<>();
+        columnTypes = new ArrayList<>();
+        columnData = new ArrayList<>();
+        columnDictionaries = new ArrayList<>();
+
+        rowCount = 0;
+        capacity = initialCapacity;
+        cellsEditable = true;
+    }
+
+    ////////////////////// TableModel method overrides ///////////////////////
+
+    /**
+     * Returns the number of rows currently in use.
+     *
+     * @return The number of rows currently in use
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getColumnCount() {
+        return columnTypes.size();
+    }
+
+    /**
+     * Returns the name of the specified column.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public String getColumnName( final int column ) {
+        return columnNames.get( column );
+    }
+
+    /**
+     * Returns the wrapper class for the storage type of the specified column.
+     *
+     * @param columnIndex
+     *            The column index
+     * @return The wrapper class for the storage type of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public Class< ? > getColumnClass( final int columnIndex ) {
+        return columnTypes.get( columnIndex ).getValueClass();
+    }
+
+    /**
+     * Returns {@code true} if cells are editable, regardless of the cell.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return {@code true} if cells are editable
+     *
+     * @since 1.0
+     */
+    @Override
+    public boolean isCellEditable( final int rowIndex, final int columnIndex ) {
+        return cellsEditable;
+    }
+
+    /**
+     * Returns the boxed value of the specified cell.
+     * <p>
+     * This allocates for most values; use the primitive accessors instead
+     * wherever the column type is known.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The boxed value of the specified cell
+     *
+     * @since 1.0
+     */
+    @Override
+    public Object getValueAt( final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            return ( ( double[] ) data )[ rowIndex ];
+        case INT:
+            return ( ( int[] ) data )[ rowIndex ];
+        case LONG:
+            return ( ( long[] ) data )[ rowIndex ];
+        case DICTIONARY:
+            return columnDictionaries.get( columnIndex ).decode( ( ( int[] ) data )[ rowIndex ] );
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Sets the specified cell from a {@link Number}, converting it to the
+     * storage type of the column; {@code null} is stored as zero.
+     * <p>
+     * Dictionary columns instead store the string form of any value, and
+     * store {@code null} as {@code null}.
+     *
+     * @param aValue
+     *            The new value of the cell, which must be a {@link Number}
+     *            for numeric columns
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @throws ClassCastException
+     *             If the value isn't a {@link Number} for a numeric column
+     *
+     * @since 1.0
+     */
+    @Override
+    public void setValueAt( final Object aValue, final int rowIndex, final int columnIndex ) {
+        if ( columnTypes.get( columnIndex ) == PrimitiveColumnType.DICTIONARY ) {
+            setStringAt( ( aValue != null ) ? aValue.toString() : null, rowIndex, columnIndex );
+            return;
+        }
+
+        final Number number = ( aValue != null ) ? ( Number ) aValue : Integer.valueOf( 0 );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            setDoubleAt( number.doubleValue(), rowIndex, columnIndex );
+            break;
+        case INT:
+            setIntAt( number.intValue(), rowIndex, columnIndex );
+            break;
+        case LONG:
+            setLongAt( number.longValue(), rowIndex, columnIndex );
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    //////////////////////// Column structure methods ////////////////////////
+
+    /**
+     * Returns the index of a newly appended column, after adding it with all
+     * of its existing rows set to zero.
+     * <p>
+     * A {@link PrimitiveColumnType#DICTIONARY} column gets a dictionary of its
+     * own, with all of its existing rows set to {@code null}.
+     *
+     * @param columnName
+     *            The name of the new column
+     * @param columnType
+     *            The storage type of the new column
+     * @return The index of the new column
+     *
+     * @since 1.0
+     */
+    public final int addColumn( final String columnName, final PrimitiveColumnType columnType ) {
+        final StringDictionary dictionary = ( columnType == PrimitiveColumnType.DICTIONARY )
+            ? new StringDictionary()
+            : null;
+        return addColumn( columnName, columnType, dictionary );
+    }
+
+    /**
+     * Returns the index of a newly appended dictionary column that uses the
+     * specified dictionary, after adding it with all of its existing rows set
+     * to {@code null}.
+     * <p>
+     * Columns that share a dictionary have equal codes for equal strings, and
+     * share the format caches of {@link PrimitiveCellRenderer}.
+     *
+     * @param columnName
+     *            The name of the new column
+     * @param dictionary
+     *            The dictionary for the string values of the new column
+     * @return The index of the new column
+     *
+     * @since 1.0
+     */
+    public final int addColumn( final String columnName, final StringDictionary dictionary ) {
+        Objects.requireNonNull( dictionary, "dictionary" ); //$NON-NLS-1$
+        return addColumn( columnName, PrimitiveColumnType.DICTIONARY, dictionary );
+    }
+
+    /**
+     * Returns the index of a newly appended column, after adding it with all
+     * of its existing rows cleared.
+     *
+     * @param columnName
+     *            The name of the new column
+     * @param columnType
+     *            The storage type of the new column
+     * @param dictionary
+     *            The dictionary of the new column, or {@code null} for a
+     *            numeric column
+     * @return The index of the new column
+     */
+    private int addColumn( final String columnName,
+                           final PrimitiveColumnType columnType,
+                           final StringDictionary dictionary ) {
+        columnNames.add( columnName );
+        columnTypes.add( columnType );
+        columnData.add( allocateColumn( columnType, capacity ) );
+        columnDictionaries.add( dictionary );
+
+        fireTableStructureChanged();
+
+        return columnTypes.size() - 1;
+    }
+
+    /**
+     * Returns the storage type of the specified column.
+     *
+     * @param column
+     *            The column index
+     * @return The storage type of the specified column
+     *
+     * @since 1.0
+     */
+    public final PrimitiveColumnType getColumnType( final int column ) {
+        return columnTypes.get( column );
+    }
+
+    /**
+     * Returns the dictionary of the specified column.
+     *
+     * @param column
+     *            The column index
+     * @return The dictionary of the specified column, or {@code null} if it
+     *         is a numeric column
+     *
+     * @since 1.0
+     */
+    public final StringDictionary getDictionary( final int column ) {
+        return columnDictionaries.get( column );
+    }
+
+    /**
+     * Sets whether cells can be edited in place.
+     *
+     * @param editable
+     *            {@code true} if cells can be edited in place
+     *
+     * @since 1.0
+     */
+    public final void setCellsEditable( final boolean editable ) {
+        cellsEditable = editable;
+    }
+
+    ///////////////////// Primitive cell accessor methods ////////////////////
+
+    /**
+     * Returns the value of the specified cell as a {@code double}, widening
+     * integral values as needed.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The value of the specified cell as a {@code double}
+     *
+     * @since 1.0
+     */
+    public final double getDoubleAt( final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            return ( ( double[] ) data )[ rowIndex ];
+        case INT:
+            return ( ( int[] ) data )[ rowIndex ];
+        case LONG:
+            return ( ( long[] ) data )[ rowIndex ];
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Returns the value of the specified cell as an {@code int}, converting as
+     * by a primitive cast for other column types.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The value of the specified cell as an {@code int}
+     *
+     * @since 1.0
+     */
+    public final int getIntAt( final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            return ( int ) ( ( double[] ) data )[ rowIndex ];
+        case INT:
+            return ( ( int[] ) data )[ rowIndex ];
+        case LONG:
+            return ( int ) ( ( long[] ) data )[ rowIndex ];
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Returns the value of the specified cell as a {@code long}, converting as
+     * by a primitive cast for floating-point columns.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The value of the specified cell as a {@code long}
+     *
+     * @since 1.0
+     */
+    public final long getLongAt( final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            return ( long ) ( ( double[] ) data )[ rowIndex ];
+        case INT:
+            return ( ( int[] ) data )[ rowIndex ];
+        case LONG:
+            return ( ( long[] ) data )[ rowIndex ];
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Sets the specified cell from a {@code double}, converting it to the
+     * storage type of the column as by a primitive cast.
+     *
+     * @param value
+     *            The new value of the cell
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     *
+     * @since 1.0
+     */
+    public final void setDoubleAt( final double value,
+                                   final int rowIndex,
+                                   final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            ( ( double[] ) data )[ rowIndex ] = value;
+            break;
+        case INT:
+            ( ( int[] ) data )[ rowIndex ] = ( int ) value;
+            break;
+        case LONG:
+            ( ( long[] ) data )[ rowIndex ] = ( long ) value;
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+
+        fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    /**
+     * Sets the specified cell from an {@code int}, widening it to the storage
+     * type of the column as needed.
+     *
+     * @param value
+     *            The new value of the cell
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     *
+     * @since 1.0
+     */
+    public final void setIntAt( final int value, final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            ( ( double[] ) data )[ rowIndex ] = value;
+            break;
+        case INT:
+            ( ( int[] ) data )[ rowIndex ] = value;
+            break;
+        case LONG:
+            ( ( long[] ) data )[ rowIndex ] = value;
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+
+        fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    /**
+     * Sets the specified cell from a {@code long}, converting it to the
+     * storage type of the column as by a primitive cast.
+     *
+     * @param value
+     *            The new value of the cell
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     *
+     * @since 1.0
+     */
+    public final void setLongAt( final long value, final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final Object data = columnData.get( columnIndex );
+        switch ( columnTypes.get( columnIndex ) ) {
+        case DOUBLE:
+            ( ( double[] ) data )[ rowIndex ] = value;
+            break;
+        case INT:
+            ( ( int[] ) data )[ rowIndex ] = ( int ) value;
+            break;
+        case LONG:
+            ( ( long[] ) data )[ rowIndex ] = value;
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+
+        fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    //////////////////// Dictionary cell accessor methods ////////////////////
+
+    /**
+     * Returns the string value of the specified dictionary cell.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The string value of the specified cell, which may be
+     *         {@code null}
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     *
+     * @since 1.0
+     */
+    public final String getStringAt( final int rowIndex, final int columnIndex ) {
+        return getDictionaryOf( columnIndex ).decode( getCodeAt( rowIndex, columnIndex ) );
+    }
+
+    /**
+     * Sets the specified dictionary cell from a string, adding the string to
+     * the dictionary of the column if it isn't already there.
+     *
+     * @param value
+     *            The new value of the cell, which may be {@code null}
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     *
+     * @since 1.0
+     */
+    public final void setStringAt( final String value,
+                                   final int rowIndex,
+                                   final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+
+        final int code = getDictionaryOf( columnIndex ).encode( value );
+        ( ( int[] ) columnData.get( columnIndex ) )[ rowIndex ] = code;
+
+        fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    /**
+     * Returns the dictionary code of the specified dictionary cell.
+     *
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @return The dictionary code of the specified cell
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     *
+     * @since 1.0
+     */
+    public final int getCodeAt( final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+        getDictionaryOf( columnIndex );
+
+        return ( ( int[] ) columnData.get( columnIndex ) )[ rowIndex ];
+    }
+
+    /**
+     * Sets the specified dictionary cell from a code that is already in the
+     * dictionary of the column, such as one copied from another cell.
+     *
+     * @param code
+     *            The new dictionary code of the cell
+     * @param rowIndex
+     *            The row index
+     * @param columnIndex
+     *            The column index
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     * @throws IndexOutOfBoundsException
+     *             If the code isn't in the dictionary of the column
+     *
+     * @since 1.0
+     */
+    public final void setCodeAt( final int code, final int rowIndex, final int columnIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+        Objects.checkIndex( code, getDictionaryOf( columnIndex ).size() );
+
+        ( ( int[] ) columnData.get( columnIndex ) )[ rowIndex ] = code;
+
+        fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    /**
+     * Returns a row filter that accepts the model rows whose value in the
+     * specified dictionary column equals the specified string, for use with
+     * {@link IncrementalRowSorter#setRowFilter}.
+     * <p>
+     * The string is looked up in the dictionary once, so that each row is
+     * tested with a single {@code int} comparison. If the string isn't in the
+     * dictionary yet, the lookup is repeated only when the dictionary grows.
+     *
+     * @param columnIndex
+     *            The column index
+     * @param value
+     *            The string to match, which may be {@code null}
+     * @return A row filter that tests model row indices
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     *
+     * @since 1.0
+     */
+    public final IntPredicate createEqualityFilter( final int columnIndex, final String value ) {
+        final StringDictionary dictionary = getDictionaryOf( columnIndex );
+        final int code = dictionary.getCode( value );
+        if ( code != StringDictionary.NO_CODE ) {
+            return modelRow -> ( ( int[] ) columnData.get( columnIndex ) )[ modelRow ] == code;
+        }
+
+        // Strings that aren't in the dictionary can't be in the column until
+        // they are added, so only look again once the dictionary has grown.
+        return new IntPredicate() {
+            private int dictionarySize = dictionary.size();
+            private int lateCode       = StringDictionary.NO_CODE;
+
+            @Override
+            public boolean test( final int modelRow ) {
+                if ( ( lateCode == StringDictionary.NO_CODE )
+                        && ( dictionarySize != dictionary.size() ) ) {
+                    dictionarySize = dictionary.size();
+                    lateCode = dictionary.getCode( value );
+                }
+                return ( lateCode != StringDictionary.NO_CODE )
+                        && ( ( ( int[] ) columnData.get( columnIndex ) )[ modelRow ] == lateCode );
+            }
+        };
+    }
+
+    /**
+     * Returns the dictionary of the specified column, which must be a
+     * dictionary column.
+     *
+     * @param columnIndex
+     *            The column index
+     * @return The dictionary of the specified column
+     * @throws IllegalArgumentException
+     *             If the column isn't a dictionary column
+     */
+    private StringDictionary getDictionaryOf( final int columnIndex ) {
+        final StringDictionary dictionary = columnDictionaries.get( columnIndex );
+        if ( dictionary == null ) {
+            throw new IllegalArgumentException( "Not a dictionary column: " + columnIndex ); //$NON-NLS-1$
+        }
+
+        return dictionary;
+    }
+
+    ////////////////////// Row manipulation methods //////////////////////////
+
+    /**
+     * Appends the specified number of rows, with all of their cells set to
+     * zero, or to {@code null} for dictionary columns.
+     *
+     * @param numberOfRows
+     *            The number of rows to append
+     *
+     * @since 1.0
+     */
+    public final void appendRows( final int numberOfRows ) {
+        insertRows( rowCount, numberOfRows );
+    }
+
+    /**
+     * Inserts the specified number of rows at the specified index, with all of
+     * their cells set to zero, or to {@code null} for dictionary columns, and
+     * fires a single insertion event.
+     *
+     * @param rowIndex
+     *            The index of the first inserted row
+     * @param numberOfRows
+     *            The number of rows to insert
+     *
+     * @since 1.0
+     */
+    public final void insertRows( final int rowIndex, final int numberOfRows ) {
+        Objects.checkIndex( rowIndex, rowCount + 1 );
+        if ( numberOfRows <= 0 ) {
+            return;
+        }
+
+        ensureCapacity( rowCount + numberOfRows );
+
+        // Open a gap in every column, then clear it, as the gap may contain
+        // stale values from rows that were previously shifted up.
+        final int numberOfColumns = columnTypes.size();
+        final int endIndex = rowIndex + numberOfRows;
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            final Object data = columnData.get( column );
+            System.arraycopy( data, rowIndex, data, endIndex, rowCount - rowIndex );
+            clearColumn( data, rowIndex, endIndex );
+        }
+        rowCount += numberOfRows;
+
+        fireTableRowsInserted( rowIndex, endIndex - 1 );
+    }
+
+    /**
+     * Removes the specified inclusive range of rows, and fires a single
+     * deletion event.
+     *
+     * @param firstRow
+     *            The index of the first row to remove
+     * @param lastRow
+     *            The index of the last row to remove
+     *
+     * @since 1.0
+     */
+    public final void removeRows( final int firstRow, final int lastRow ) {
+        Objects.checkFromToIndex( firstRow, lastRow + 1, rowCount );
+        if ( lastRow < firstRow ) {
+            return;
+        }
+
+        final int numberOfColumns = columnTypes.size();
+        final int endIndex = lastRow + 1;
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            final Object data = columnData.get( column );
+            System.arraycopy( data, endIndex, data, firstRow, rowCount - endIndex );
+        }
+        rowCount -= endIndex - firstRow;
+
+        fireTableRowsDeleted( firstRow, lastRow );
+    }
+
+    /**
+     * Removes all rows, keeping the current capacity for reuse.
+     *
+     * @since 1.0
+     */
+    public final void clearRows() {
+        if ( rowCount > 0 ) {
+            removeRows( 0, rowCount - 1 );
+        }
+    }
+
+    /**
+     * Grows the column storage, if necessary, so that it can hold at least the
+     * specified number of rows without growing again.
+     *
+     * @param minimumCapacity
+     *            The number of rows that the column storage must be able to
+     *            hold
+     *
+     * @since 1.0
+     */
+    public final void ensureCapacity( final int minimumCapacity ) {
+        if ( minimumCapacity <= capacity ) {
+            return;
+        }
+
+        // Grow geometrically, so that repeated inserts are amortized.
+        final long grownCapacity = ( long ) capacity + ( capacity >> 1 ) + 1L;
+        resizeColumns( ( int ) FastMath.max( minimumCapacity,
+                                             FastMath.min( grownCapacity,
+                                                           Integer.MAX_VALUE - 8L ) ) );
+    }
+
+    /**
+     * Shrinks the column storage to the number of rows currently in use.
+     *
+     * @since 1.0
+     */
+    public final void trimToSize() {
+        if ( rowCount < capacity ) {
+            resizeColumns( rowCount );
+        }
+    }
+
+    /**
+     * Reallocates every column to the specified capacity, preserving the rows
+     * that are in use.
+     *
+     * @param newCapacity
+     *            The new capacity, which must not be less than the row count
+     */
+    private void resizeColumns( final int newCapacity ) {
+        final int numberOfColumns = columnTypes.size();
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            final Object newData = allocateColumn( columnTypes.get( column ), newCapacity );
+            System.arraycopy( columnData.get( column ), 0, newData, 0, rowCount );
+            columnData.set( column, newData );
+        }
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns a new zero-filled primitive array for the specified column type.
+     *
+     * @param columnType
+     *            The storage type of the column
+     * @param length
+     *            The length of the new array
+     * @return A new zero-filled primitive array for the column type
+     */
+    private static Object allocateColumn( final PrimitiveColumnType columnType,
+                                          final int length ) {
+        switch ( columnType ) {
+        case DOUBLE:
+            return new double[ length ];
+        case INT:
+        case DICTIONARY:
+            return new int[ length ];
+        case LONG:
+            return new long[ length ];
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Sets the specified range of a primitive column array to zero, which is
+     * also {@link StringDictionary#NULL_CODE} for dictionary columns.
+     *
+     * @param data
+     *            The primitive column array
+     * @param fromIndex
+     *            The first index to clear, inclusive
+     * @param toIndex
+     *            The last index to clear, exclusive
+     */
+    private static void clearColumn( final Object data,
+                                     final int fromIndex,
+                                     final int toIndex ) {
+        if ( data instanceof double[] ) {
+            Arrays.fill( ( double[] ) data, fromIndex, toIndex, 0.0d );
+        }
+        else if ( data instanceof int[] ) {
+            Arrays.fill( ( int[] ) data, fromIndex, toIndex, 0 );
+        }
+        else {
+            Arrays.fill( ( long[] ) data, fromIndex, toIndex, 0L );
+        }
+    }
+
+}
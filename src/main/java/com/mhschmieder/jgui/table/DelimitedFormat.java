@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code DelimitedFormat} is an enumeration of the delimited text formats that
+ * tables can be exported to, along with their field escaping rules.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum DelimitedFormat {
+    /**
+     * Comma-separated values, as per RFC 4180: fields that contain commas,
+     * quotes or line breaks are quoted, with embedded quotes doubled, and
+     * records end with a carriage return and line feed.
+     */
+    CSV( ',', "\r\n" ), //$NON-NLS-1$
+    /**
+     * Tab-separated values, as per the IANA definition: tabs and line breaks
+     * aren't allowed within fields, so are replaced by spaces, and records
+     * end with a line feed.
+     */
+    TSV( '\t', "\n" ); //$NON-NLS-1$
+
+    /**
+     * The character that separates the fields of a record.
+     */
+    private final char   delimiter;
+
+    /**
+     * The character sequence that ends each record.
+     */
+    private final String recordSeparator;
+
+    /**
+     * Constructs a {@code DelimitedFormat} with its delimiters.
+     *
+     * @param fieldDelimiter
+     *            The character that separates the fields of a record
+     * @param recordTerminator
+     *            The character sequence that ends each record
+     */
+    DelimitedFormat( final char fieldDelimiter, final String recordTerminator ) {
+        delimiter = fieldDelimiter;
+        recordSeparator = recordTerminator;
+    }
+
+    /**
+     * Returns the character that separates the fields of a record.
+     *
+     * @return The character that separates the fields of a record
+     *
+     * @since 1.0
+     */
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Returns the character sequence that ends each record.
+     *
+     * @return The character sequence that ends each record
+     *
+     * @since 1.0
+     */
+    public String getRecordSeparator() {
+        return recordSeparator;
+    }
+
+    /**
+     * Appends a field to a record, escaping it as this format requires.
+     *
+     * @param record
+     *            The buffer holding the record being built
+     * @param field
+     *            The unescaped field text
+     *
+     * @since 1.0
+     */
+    public void appendField( final StringBuilder record, final CharSequence field ) {
+        final int length = field.length();
+        switch ( this ) {
+        case CSV:
+            if ( !needsQuoting( field ) ) {
+                record.append( field );
+                return;
+            }
+            record.append( '"' );
+            for ( int i = 0; i < length; i++ ) {
+                final char c = field.charAt( i );
+                if ( c == '"' ) {
+                    record.append( '"' );
+                }
+                record.append( c );
+            }
+            record.append( '"' );
+            break;
+        case TSV:
+            for ( int i = 0; i < length; i++ ) {
+                final char c = field.charAt( i );
+                record.append( ( ( c == '\t' ) || ( c == '\r' ) || ( c == '\n' ) ) ? ' ' : c );
+            }
+            break;
+        default:
+            record.append( field );
+            break;
+        }
+    }
+
+    /**
+     * Returns {@code true} if a CSV field has to be quoted.
+     *
+     * @param field
+     *            The unescaped field text
+     * @return {@code true} if the field has to be quoted
+     */
+    private boolean needsQuoting( final CharSequence field ) {
+        final int length = field.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = field.charAt( i );
+            if ( ( c == delimiter ) || ( c == '"' ) || ( c == '\r' ) || ( c == '\n' ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,470 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import javax.swing.JTable;
+import javax.swing.table.TableModel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code DelimitedTableExporter} streams the contents of a table to a byte
+ * channel as delimited text, such as CSV or TSV, with constant memory use
+ * regardless of the table size.
+ * <p>
+ * Records are built into a reusable character buffer, which is encoded in
+ * chunks into a reusable byte buffer and written to the channel
+ * whenever that fills up, so no per-row strings or byte arrays are created.
+ * Numeric cells of a {@link ColumnarTableModel} are formatted straight from
+ * their primitive storage.
+ * <p>
+ * An exporter can be reused for any number of exports, but not concurrently.
+ * Table Models are generally not thread-safe, so exports should run on the
+ * event-dispatching thread unless the model is known not to change during
+ * the export.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DelimitedTableExporter {
+
+    /**
+     * The default size of the byte buffer, in bytes.
+     */
+    public static final int     DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The delimited text format to export to.
+     */
+    private final DelimitedFormat format;
+
+    /**
+     * The encoder for the chosen character set, which is reset after each
+     * export.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * The reusable buffer that encoded bytes are written from.
+     */
+    private final ByteBuffer     byteBuffer;
+
+    /**
+     * The reusable buffer that records are built in before encoding.
+     */
+    private final StringBuilder  charBuffer;
+
+    /**
+     * The number of buffered characters at which a chunk is encoded.
+     */
+    private final int            chunkSize;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DelimitedTableExporter} with the default buffer size.
+     *
+     * @param delimitedFormat
+     *            The delimited text format to export to
+     * @param charset
+     *            The character set to encode the text with
+     *
+     * @since 1.0
+     */
+    public DelimitedTableExporter( final DelimitedFormat delimitedFormat,
+                                   final Charset charset ) {
+        this( delimitedFormat, charset, DEFAULT_BUFFER_SIZE );
+    }
+
+    /**
+     * Constructs a {@code DelimitedTableExporter} with the specified buffer
+     * size.
+     * <p>
+     * Characters that can't be encoded in the character set are replaced
+     * with its replacement byte sequence, rather than failing the export.
+     *
+     * @param delimitedFormat
+     *            The delimited text format to export to
+     * @param charset
+     *            The character set to encode the text with
+     * @param bufferSize
+     *            The size of the byte buffer, in bytes
+     *
+     * @since 1.0
+     */
+    public DelimitedTableExporter( final DelimitedFormat delimitedFormat,
+                                   final Charset charset,
+                                   final int bufferSize ) {
+        if ( bufferSize < 1024 ) {
+            throw new IllegalArgumentException( "Buffer size is too small: " + bufferSize ); //$NON-NLS-1$
+        }
+
+        format = delimitedFormat;
+        encoder = charset.newEncoder()
+                .onMalformedInput( CodingErrorAction.REPLACE )
+                .onUnmappableCharacter( CodingErrorAction.REPLACE );
+        // A heap buffer is cheap to allocate and is collected promptly, which
+        // suits exporters made per export; the JDK's channels stage heap
+        // buffers through their own cached direct buffers anyway.
+        byteBuffer = ByteBuffer.allocate( bufferSize );
+        chunkSize = bufferSize / 2;
+        charBuffer = new StringBuilder( chunkSize + 1024 );
+    }
+
+    //////////////////////////// Export methods //////////////////////////////
+
+    /**
+     * Returns the number of rows exported, after streaming the table to the
+     * channel, either in the current view order or in model order.
+     * <p>
+     * In view order, the rows are exported as sorted and filtered by the
+     * table's row sorter, and the columns as currently arranged; in model
+     * order, all model rows and columns are exported as stored.
+     *
+     * @param table
+     *            The table to export
+     * @param channel
+     *            The channel to write the delimited text to, which is left open
+     * @param includeHeader
+     *            {@code true} if a header record of column names is written
+     *            first
+     * @param viewOrder
+     *            {@code true} to export in the current view order, or
+     *            {@code false} to export in model order
+     * @param rowsToExclude
+     *            A predicate that returns {@code true} for the rows to exclude,
+     *            by view row index in view order or by model row index in
+     *            model order, or {@code null} if all rows should be included
+     * @return The number of rows exported, not counting the header
+     * @throws IOException
+     *             If writing to the channel fails
+     *
+     * @since 1.0
+     */
+    public long exportTable( final JTable table,
+                             final WritableByteChannel channel,
+                             final boolean includeHeader,
+                             final boolean viewOrder,
+                             final IntPredicate rowsToExclude )
+            throws IOException {
+        final TableModel tableModel = table.getModel();
+        if ( !viewOrder ) {
+            return exportModel( tableModel, channel, includeHeader, rowsToExclude );
+        }
+
+        final int numberOfColumns = table.getColumnCount();
+        final int[] modelColumns = new int[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            modelColumns[ column ] = table.convertColumnIndexToModel( column );
+        }
+
+        try {
+            if ( includeHeader ) {
+                writeHeader( tableModel, modelColumns, channel );
+            }
+
+            long numberOfRowsExported = 0L;
+            final int numberOfRows = table.getRowCount();
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                if ( ( rowsToExclude == null ) || !rowsToExclude.test( row ) ) {
+                    writeRecord( tableModel,
+                                 table.convertRowIndexToModel( row ),
+                                 modelColumns,
+                                 channel );
+                    numberOfRowsExported++;
+                }
+            }
+
+            finishExport( channel );
+            return numberOfRowsExported;
+        }
+        finally {
+            resetBuffers();
+        }
+    }
+
+    /**
+     * Returns the number of rows exported, after streaming all of the model's
+     * rows and columns to the channel, in model order.
+     * <p>
+     * This doesn't involve any Swing components, so may be used off the
+     * event-dispatching thread for models that are safe to read there.
+     *
+     * @param tableModel
+     *            The Table Model to export
+     * @param channel
+     *            The channel to write the delimited text to, which is left open
+     * @param includeHeader
+     *            {@code true} if a header record of column names is written
+     *            first
+     * @param rowsToExclude
+     *            A predicate that returns {@code true} for the model rows to
+     *            exclude, or {@code null} if all rows should be included
+     * @return The number of rows exported, not counting the header
+     * @throws IOException
+     *             If writing to the channel fails
+     *
+     * @since 1.0
+     */
+    public long exportModel( final TableModel tableModel,
+                             final WritableByteChannel channel,
+                             final boolean includeHeader,
+                             final IntPredicate rowsToExclude )
+            throws IOException {
+        final int numberOfColumns = tableModel.getColumnCount();
+        final int[] modelColumns = new int[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            modelColumns[ column ] = column;
+        }
+
+        try {
+            if ( includeHeader ) {
+                writeHeader( tableModel, modelColumns, channel );
+            }
+
+            long numberOfRowsExported = 0L;
+            final int numberOfRows = tableModel.getRowCount();
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                if ( ( rowsToExclude == null ) || !rowsToExclude.test( row ) ) {
+                    writeRecord( tableModel, row, modelColumns, channel );
+                    numberOfRowsExported++;
+                }
+            }
+
+            finishExport( channel );
+            return numberOfRowsExported;
+        }
+        finally {
+            resetBuffers();
+        }
+    }
+
+    /**
+     * Writes the header record of column names.
+     *
+     * @param tableModel
+     *            The Table Model to take the column names from
+     * @param modelColumns
+     *            The model column indices, in export order
+     * @param channel
+     *            The channel to write the delimited text to
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void writeHeader( final TableModel tableModel,
+                              final int[] modelColumns,
+                              final WritableByteChannel channel )
+            throws IOException {
+        for ( int column = 0; column < modelColumns.length; column++ ) {
+            if ( column > 0 ) {
+                charBuffer.append( format.getDelimiter() );
+            }
+            final String columnName = tableModel.getColumnName( modelColumns[ column ] );
+            if ( columnName != null ) {
+                format.appendField( charBuffer, columnName );
+            }
+        }
+        endRecord( channel );
+    }
+
+    /**
+     * Writes a single record for the specified model row.
+     *
+     * @param tableModel
+     *            The Table Model to export
+     * @param modelRow
+     *            The model row index
+     * @param modelColumns
+     *            The model column indices, in export order
+     * @param channel
+     *            The channel to write the delimited text to
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void writeRecord( final TableModel tableModel,
+                              final int modelRow,
+                              final int[] modelColumns,
+                              final WritableByteChannel channel )
+            throws IOException {
+        final ColumnarTableModel columnarTableModel = ( tableModel instanceof ColumnarTableModel )
+            ? ( ColumnarTableModel ) tableModel
+            : null;
+        for ( int column = 0; column < modelColumns.length; column++ ) {
+            if ( column > 0 ) {
+                charBuffer.append( format.getDelimiter() );
+            }
+
+            final int modelColumn = modelColumns[ column ];
+            if ( columnarTableModel != null ) {
+                appendPrimitiveField( columnarTableModel, modelRow, modelColumn );
+            }
+            else {
+                final Object value = tableModel.getValueAt( modelRow, modelColumn );
+                if ( value != null ) {
+                    format.appendField( charBuffer, value.toString() );
+                }
+            }
+        }
+        endRecord( channel );
+    }
+
+    /**
+     * Appends a field straight from the primitive storage of a columnar model,
+     * where numeric fields never need escaping.
+     *
+     * @param columnarTableModel
+     *            The columnar Table Model to export
+     * @param modelRow
+     *            The model row index
+     * @param modelColumn
+     *            The model column index
+     */
+    private void appendPrimitiveField( final ColumnarTableModel columnarTableModel,
+                                       final int modelRow,
+                                       final int modelColumn ) {
+        switch ( columnarTableModel.getColumnType( modelColumn ) ) {
+        case DOUBLE:
+            charBuffer.append( columnarTableModel.getDoubleAt( modelRow, modelColumn ) );
+            break;
+        case INT:
+        case LONG:
+            charBuffer.append( columnarTableModel.getLongAt( modelRow, modelColumn ) );
+            break;
+        case DICTIONARY:
+            final String value = columnarTableModel.getStringAt( modelRow, modelColumn );
+            if ( value != null ) {
+                format.appendField( charBuffer, value );
+            }
+            break;
+        default:
+            format.appendField( charBuffer,
+                                String.valueOf( columnarTableModel.getValueAt( modelRow,
+                                                                               modelColumn ) ) );
+            break;
+        }
+    }
+
+    /**
+     * Ends the current record, and encodes the buffered characters once a
+     * full chunk has built up.
+     *
+     * @param channel
+     *            The channel to write the delimited text to
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void endRecord( final WritableByteChannel channel ) throws IOException {
+        charBuffer.append( format.getRecordSeparator() );
+        if ( charBuffer.length() >= chunkSize ) {
+            encodeChunk( channel, false );
+        }
+    }
+
+    /**
+     * Encodes and writes all remaining characters, and flushes the encoder.
+     *
+     * @param channel
+     *            The channel to write the delimited text to
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void finishExport( final WritableByteChannel channel ) throws IOException {
+        encodeChunk( channel, true );
+        while ( encoder.flush( byteBuffer ).isOverflow() ) {
+            writeBytes( channel );
+        }
+        writeBytes( channel );
+    }
+
+    /**
+     * Encodes the buffered characters into the byte buffer, writing it to
+     * the channel each time it fills up.
+     * <p>
+     * Any trailing character that can't be encoded yet, such as the first
+     * half of a surrogate pair, stays buffered for the next chunk.
+     *
+     * @param channel
+     *            The channel to write the delimited text to
+     * @param endOfInput
+     *            {@code true} if no more characters will follow
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void encodeChunk( final WritableByteChannel channel, final boolean endOfInput )
+            throws IOException {
+        final CharBuffer chunk = CharBuffer.wrap( charBuffer );
+        CoderResult coderResult = encoder.encode( chunk, byteBuffer, endOfInput );
+        while ( coderResult.isOverflow() ) {
+            writeBytes( channel );
+            coderResult = encoder.encode( chunk, byteBuffer, endOfInput );
+        }
+        if ( coderResult.isError() ) {
+            coderResult.throwException();
+        }
+
+        charBuffer.delete( 0, chunk.position() );
+    }
+
+    /**
+     * Writes the contents of the byte buffer to the channel, and clears it.
+     *
+     * @param channel
+     *            The channel to write the delimited text to
+     * @throws IOException
+     *             If writing to the channel fails
+     */
+    private void writeBytes( final WritableByteChannel channel ) throws IOException {
+        byteBuffer.flip();
+        while ( byteBuffer.hasRemaining() ) {
+            channel.write( byteBuffer );
+        }
+        byteBuffer.clear();
+    }
+
+    /**
+     * Resets the buffers and the encoder, so that the exporter can be reused
+     * after an export, whether or not it succeeded.
+     */
+    private void resetBuffers() {
+        charBuffer.setLength( 0 );
+        byteBuffer.clear();
+        encoder.reset();
+    }
+
+}
@@ -0,0 +1,1246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code IncrementalRowSorter} is a row sorter and filter for tables that
+ * keeps its view index up to date incrementally as the model changes, rather
+ * than re-sorting every row on every change as {@code TableRowSorter} does.
+ * <p>
+ * The view-to-model index is a primitive {@code int[]}, and single-row
+ * inserts, deletes and updates find their new view position by binary search,
+ * so editing one cell in a large sorted table moves just that row. Batches of
+ * more than {@link #INCREMENTAL_CHANGE_LIMIT} rows fall back to a full sort.
+ * <p>
+ * Only the comparisons are O(log n), though. The indices are plain arrays
+ * rather than an order-statistic tree, so an insert or delete still shifts
+ * the view index and renumbers the model rows after it, and an update shifts
+ * the view rows between its old and new positions. These are linear passes
+ * over primitive arrays with no comparisons, key extraction or boxing, which
+ * is far cheaper than the full re-sort that {@code TableRowSorter} does, but
+ * it is O(n) rather than O(log n) per inserted or deleted row.
+ * <p>
+ * Numeric columns are sorted on primitive keys, which are extracted once and
+ * cached per model row, so comparisons never box or unbox; keys for
+ * {@link ColumnarTableModel} columns are extracted without boxing as well.
+ * Other columns are compared by their natural ordering if they are mutually
+ * comparable, or else by their string representation.
+ * <p>
+ * Rows with equal sort keys keep their model order. The filter, if any, is an
+ * {@link IntPredicate} on the model row index, so it can also be evaluated
+ * without boxing.
+ * <p>
+ * As with most Swing components, this class must only be accessed from the
+ * event-dispatching thread.
+ *
+ * @param <M>
+ *            The type of the underlying Table Model
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class IncrementalRowSorter< M extends TableModel > extends RowSorter< M > {
+
+    /**
+     * The maximum number of sort keys that are honored at one time.
+     */
+    public static final int       MAXIMUM_SORT_KEYS        = 3;
+
+    /**
+     * The largest number of rows in a single change that is applied
+     * incrementally, beyond which a full sort is cheaper.
+     */
+    public static final int       INCREMENTAL_CHANGE_LIMIT = 64;
+
+    /**
+     * The run length below which the merge sort switches to insertion sort.
+     */
+    private static final int      INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * The underlying Table Model.
+     */
+    private final M               model;
+
+    /**
+     * The current sort keys, in priority order.
+     */
+    private List< SortKey >       sortKeys;
+
+    /**
+     * The active sort columns, in priority order, with their key caches.
+     */
+    private SortColumn[]          sortColumns;
+
+    /**
+     * The filter on model row indices, or {@code null} if all rows are
+     * included.
+     */
+    private IntPredicate          rowFilter;
+
+    /**
+     * The number of model rows that this sorter currently knows about.
+     */
+    private int                   modelRowCount;
+
+    /**
+     * The model row index for each view row, valid up to the view row count;
+     * this is {@code null} whenever the view is neither sorted nor filtered.
+     */
+    private int[]                 viewToModel;
+
+    /**
+     * The number of rows in the view, when the view is sorted or filtered.
+     */
+    private int                   viewRowCount;
+
+    /**
+     * The view row index for each model row, or {@code -1} for rows that are
+     * filtered out; this is rebuilt lazily after changes that shift it.
+     */
+    private int[]                 modelToView;
+
+    /**
+     * Flag for whether the model-to-view index is up to date.
+     */
+    private boolean               modelToViewValid;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code IncrementalRowSorter} for the specified model,
+     * initially unsorted and unfiltered.
+     *
+     * @param tableModel
+     *            The underlying Table Model
+     *
+     * @since 1.0
+     */
+    public IncrementalRowSorter( final M tableModel ) {
+        // Always call the superclass constructor first!
+        super();
+
+        model = tableModel;
+        sortKeys = Collections.emptyList();
+        sortColumns = new SortColumn[ 0 ];
+        rowFilter = null;
+        modelRowCount = tableModel.getRowCount();
+        viewToModel = null;
+        viewRowCount = 0;
+        modelToView = null;
+        modelToViewValid = false;
+    }
+
+    /////////////////////// RowSorter method overrides ///////////////////////
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public M getModel() {
+        return model;
+    }
+
+    /**
+     * Makes the specified column the primary sort key, toggling its order if
+     * it already was, in the same manner as {@code DefaultRowSorter}.
+     *
+     * @param column
+     *            The model column index to toggle
+     *
+     * @since 1.0
+     */
+    @Override
+    public void toggleSortOrder( final int column ) {
+        checkColumn( column );
+
+        final List< SortKey > keys = new ArrayList<>( sortKeys );
+        int sortIndex = keys.size() - 1;
+        while ( ( sortIndex >= 0 ) && ( keys.get( sortIndex ).getColumn() != column ) ) {
+            sortIndex--;
+        }
+
+        if ( sortIndex == 0 ) {
+            final SortOrder sortOrder = ( keys.get( 0 ).getSortOrder() == SortOrder.ASCENDING )
+                ? SortOrder.DESCENDING
+                : SortOrder.ASCENDING;
+            keys.set( 0, new SortKey( column, sortOrder ) );
+        }
+        else {
+            if ( sortIndex > 0 ) {
+                keys.remove( sortIndex );
+            }
+            keys.add( 0, new SortKey( column, SortOrder.ASCENDING ) );
+        }
+
+        setSortKeys( ( keys.size() > MAXIMUM_SORT_KEYS )
+            ? keys.subList( 0, MAXIMUM_SORT_KEYS )
+            : keys );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int convertRowIndexToModel( final int index ) {
+        if ( viewToModel == null ) {
+            if ( ( index < 0 ) || ( index >= model.getRowCount() ) ) {
+                throw new IndexOutOfBoundsException( "Invalid view row index: " + index ); //$NON-NLS-1$
+            }
+            return index;
+        }
+
+        if ( ( index < 0 ) || ( index >= viewRowCount ) ) {
+            throw new IndexOutOfBoundsException( "Invalid view row index: " + index ); //$NON-NLS-1$
+        }
+        return viewToModel[ index ];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int convertRowIndexToView( final int index ) {
+        if ( viewToModel == null ) {
+            if ( ( index < 0 ) || ( index >= model.getRowCount() ) ) {
+                throw new IndexOutOfBoundsException( "Invalid model row index: " + index ); //$NON-NLS-1$
+            }
+            return index;
+        }
+
+        if ( ( index < 0 ) || ( index >= modelRowCount ) ) {
+            throw new IndexOutOfBoundsException( "Invalid model row index: " + index ); //$NON-NLS-1$
+        }
+        ensureModelToView();
+        return modelToView[ index ];
+    }
+
+    /**
+     * Sets the sort keys, re-sorting the view if they changed.
+     * <p>
+     * Keys beyond {@link #MAXIMUM_SORT_KEYS}, and keys whose order is
+     * {@link SortOrder#UNSORTED}, are ignored for sorting.
+     *
+     * @param keys
+     *            The new sort keys, or {@code null} to unsort the view
+     *
+     * @since 1.0
+     */
+    @Override
+    public void setSortKeys( final List< ? extends SortKey > keys ) {
+        final List< SortKey > newSortKeys = ( keys != null )
+            ? Collections.unmodifiableList( new ArrayList<>( keys ) )
+            : Collections.emptyList();
+        for ( final SortKey sortKey : newSortKeys ) {
+            checkColumn( sortKey.getColumn() );
+        }
+        if ( newSortKeys.equals( sortKeys ) ) {
+            return;
+        }
+
+        sortKeys = newSortKeys;
+        fireSortOrderChanged();
+
+        sort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List< ? extends SortKey > getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getViewRowCount() {
+        return ( viewToModel != null ) ? viewRowCount : model.getRowCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    /**
+     * Discards any sort keys that no longer refer to valid columns, and then
+     * re-sorts the view.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void modelStructureChanged() {
+        final int numberOfColumns = model.getColumnCount();
+        for ( final SortKey sortKey : sortKeys ) {
+            if ( sortKey.getColumn() >= numberOfColumns ) {
+                sortKeys = Collections.emptyList();
+                fireSortOrderChanged();
+                break;
+            }
+        }
+
+        sort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void allRowsChanged() {
+        sort();
+    }
+
+    /**
+     * Renumbers the view for the inserted model rows, and then adds each of
+     * them to the view at its sorted position.
+     * <p>
+     * Finding each sorted position takes O(log n) comparisons, but the
+     * renumbering and the insertion into the view index are linear array
+     * passes, so this is O(n) per inserted row.
+     *
+     * @param firstRow
+     *            The first inserted model row index
+     * @param endRow
+     *            The last inserted model row index
+     *
+     * @since 1.0
+     */
+    @Override
+    public void rowsInserted( final int firstRow, final int endRow ) {
+        final int newModelRowCount = model.getRowCount();
+        if ( ( firstRow < 0 ) || ( endRow < firstRow ) || ( firstRow > modelRowCount )
+                || ( endRow >= newModelRowCount ) ) {
+            throw new IndexOutOfBoundsException( "Invalid range" ); //$NON-NLS-1$
+        }
+
+        final int numberOfRows = ( endRow - firstRow ) + 1;
+        modelRowCount = newModelRowCount;
+        if ( viewToModel == null ) {
+            return;
+        }
+        if ( numberOfRows > INCREMENTAL_CHANGE_LIMIT ) {
+            sort();
+            return;
+        }
+
+        for ( final SortColumn sortColumn : sortColumns ) {
+            sortColumn.insertKeys( firstRow, numberOfRows );
+        }
+
+        // Shift the model indices at and after the insertion point, which
+        // preserves the relative order of the rows that were already there.
+        for ( int viewRow = 0; viewRow < viewRowCount; viewRow++ ) {
+            if ( viewToModel[ viewRow ] >= firstRow ) {
+                viewToModel[ viewRow ] += numberOfRows;
+            }
+        }
+
+        for ( int modelRow = firstRow; modelRow <= endRow; modelRow++ ) {
+            if ( isIncluded( modelRow ) ) {
+                insertIntoView( modelRow );
+            }
+        }
+
+        modelToViewValid = false;
+        fireRowSorterChanged( null );
+    }
+
+    /**
+     * Removes the deleted model rows from the view, and renumbers the rest.
+     * <p>
+     * This is a single linear pass over the view index, with no comparisons,
+     * so it is O(n) however many rows were deleted.
+     *
+     * @param firstRow
+     *            The first deleted model row index
+     * @param endRow
+     *            The last deleted model row index
+     *
+     * @since 1.0
+     */
+    @Override
+    public void rowsDeleted( final int firstRow, final int endRow ) {
+        if ( ( firstRow < 0 ) || ( endRow < firstRow ) || ( endRow >= modelRowCount ) ) {
+            throw new IndexOutOfBoundsException( "Invalid range" ); //$NON-NLS-1$
+        }
+
+        final int numberOfRows = ( endRow - firstRow ) + 1;
+        modelRowCount = model.getRowCount();
+        if ( viewToModel == null ) {
+            return;
+        }
+
+        for ( final SortColumn sortColumn : sortColumns ) {
+            sortColumn.deleteKeys( firstRow, numberOfRows );
+        }
+
+        // Compact the view in a single pass, dropping the deleted rows and
+        // shifting the model indices after them.
+        int newViewRowCount = 0;
+        for ( int viewRow = 0; viewRow < viewRowCount; viewRow++ ) {
+            final int modelRow = viewToModel[ viewRow ];
+            if ( modelRow < firstRow ) {
+                viewToModel[ newViewRowCount++ ] = modelRow;
+            }
+            else if ( modelRow > endRow ) {
+                viewToModel[ newViewRowCount++ ] = modelRow - numberOfRows;
+            }
+        }
+        viewRowCount = newViewRowCount;
+
+        modelToViewValid = false;
+        fireRowSorterChanged( null );
+    }
+
+    /**
+     * Moves each of the updated model rows to its new sorted position, and
+     * adds or removes it from the view if its filter status changed.
+     *
+     * @param firstRow
+     *            The first updated model row index
+     * @param endRow
+     *            The last updated model row index
+     *
+     * @since 1.0
+     */
+    @Override
+    public void rowsUpdated( final int firstRow, final int endRow ) {
+        rowsUpdated( firstRow, endRow, -1 );
+    }
+
+    /**
+     * Moves each of the updated model rows to its new sorted position, and
+     * adds or removes it from the view if its filter status changed.
+     * <p>
+     * Nothing is done if the view is unfiltered and the column isn't one of
+     * the sort columns, so the table merely repaints the updated cells.
+     *
+     * @param firstRow
+     *            The first updated model row index
+     * @param endRow
+     *            The last updated model row index
+     * @param column
+     *            The updated model column index, or {@code -1} for all columns
+     *
+     * @since 1.0
+     */
+    @Override
+    public void rowsUpdated( final int firstRow, final int endRow, final int column ) {
+        if ( ( firstRow < 0 ) || ( endRow < firstRow ) || ( endRow >= modelRowCount ) ) {
+            throw new IndexOutOfBoundsException( "Invalid range" ); //$NON-NLS-1$
+        }
+        if ( ( viewToModel == null )
+                || ( ( column >= 0 ) && ( rowFilter == null ) && !isSortColumn( column ) ) ) {
+            return;
+        }
+
+        final int numberOfRows = ( endRow - firstRow ) + 1;
+        if ( numberOfRows > INCREMENTAL_CHANGE_LIMIT ) {
+            sort();
+            return;
+        }
+
+        for ( final SortColumn sortColumn : sortColumns ) {
+            for ( int modelRow = firstRow; modelRow <= endRow; modelRow++ ) {
+                sortColumn.refreshKey( modelRow );
+            }
+        }
+
+        final boolean viewChanged = ( numberOfRows == 1 )
+            ? updateViewRow( firstRow )
+            : updateViewRows( firstRow, endRow );
+        if ( viewChanged ) {
+            fireRowSorterChanged( null );
+        }
+    }
+
+    ////////////////////// Filter and sort methods ///////////////////////////
+
+    /**
+     * Sets the filter on model row indices, and re-filters the view.
+     *
+     * @param filter
+     *            The predicate that returns {@code true} for the model rows to
+     *            include in the view, or {@code null} to include all rows
+     *
+     * @since 1.0
+     */
+    public final void setRowFilter( final IntPredicate filter ) {
+        rowFilter = filter;
+
+        sort();
+    }
+
+    /**
+     * Sets the filter on model row indices, along with the model rows that it
+     * is already known to include, and rebuilds the view in one step without
+     * evaluating the filter again.
+     * <p>
+     * This is for filters that were evaluated in bulk elsewhere, such as in
+     * parallel over a snapshot of the model; the filter itself is still used
+     * for the rows that change afterwards.
+     *
+     * @param filter
+     *            The predicate that returns {@code true} for the model rows to
+     *            include in the view
+     * @param includedModelRows
+     *            The model rows that pass the filter, in ascending order, for
+     *            the current model; this array is taken over by the sorter
+     * @param numberOfIncludedRows
+     *            The number of leading elements of the array that are in use
+     *
+     * @since 1.0
+     */
+    public final void setRowFilter( final IntPredicate filter,
+                                    final int[] includedModelRows,
+                                    final int numberOfIncludedRows ) {
+        Objects.requireNonNull( filter, "filter" ); //$NON-NLS-1$
+        Objects.checkFromIndexSize( 0, numberOfIncludedRows, includedModelRows.length );
+
+        rowFilter = filter;
+
+        rebuildView( includedModelRows, numberOfIncludedRows );
+    }
+
+    /**
+     * Returns the filter on model row indices.
+     *
+     * @return The filter on model row indices, or {@code null} if all rows are
+     *         included
+     *
+     * @since 1.0
+     */
+    public final IntPredicate getRowFilter() {
+        return rowFilter;
+    }
+
+    /**
+     * Re-sorts and re-filters the entire view, and notifies listeners with the
+     * previous view index, so that the table can restore its selection.
+     *
+     * @since 1.0
+     */
+    public final void sort() {
+        rebuildView( null, 0 );
+    }
+
+    /**
+     * Re-sorts the entire view, re-filtering it unless the included rows are
+     * provided, and notifies listeners with the previous view index.
+     *
+     * @param includedModelRows
+     *            The model rows that pass the filter, in ascending order, or
+     *            {@code null} to evaluate the filter for every model row
+     * @param numberOfIncludedRows
+     *            The number of leading elements of the array that are in use
+     */
+    private void rebuildView( final int[] includedModelRows, final int numberOfIncludedRows ) {
+        final int[] previousViewToModel = ( viewToModel != null )
+            ? Arrays.copyOf( viewToModel, viewRowCount )
+            : null;
+
+        modelRowCount = model.getRowCount();
+        sortColumns = createSortColumns();
+
+        if ( ( sortColumns.length == 0 ) && ( rowFilter == null ) ) {
+            // The view is the identity mapping, so we don't need the indices.
+            viewToModel = null;
+            viewRowCount = 0;
+            modelToView = null;
+        }
+        else {
+            final int[] newViewToModel;
+            int newViewRowCount = 0;
+            if ( includedModelRows != null ) {
+                newViewToModel = includedModelRows;
+                newViewRowCount = numberOfIncludedRows;
+            }
+            else {
+                newViewToModel = new int[ modelRowCount ];
+                for ( int modelRow = 0; modelRow < modelRowCount; modelRow++ ) {
+                    if ( isIncluded( modelRow ) ) {
+                        newViewToModel[ newViewRowCount++ ] = modelRow;
+                    }
+                }
+            }
+            if ( sortColumns.length > 0 ) {
+                mergeSort( newViewToModel,
+                           Arrays.copyOf( newViewToModel, newViewRowCount ),
+                           0,
+                           newViewRowCount );
+            }
+
+            viewToModel = newViewToModel;
+            viewRowCount = newViewRowCount;
+        }
+
+        modelToViewValid = false;
+        fireRowSorterChanged( previousViewToModel );
+    }
+
+    /**
+     * Returns the active sort columns for the current sort keys, with their
+     * key caches freshly built.
+     *
+     * @return The active sort columns, in priority order
+     */
+    private SortColumn[] createSortColumns() {
+        final List< SortColumn > columns = new ArrayList<>( sortKeys.size() );
+        for ( final SortKey sortKey : sortKeys ) {
+            final SortOrder sortOrder = sortKey.getSortOrder();
+            if ( ( sortOrder != SortOrder.UNSORTED ) && ( columns.size() < MAXIMUM_SORT_KEYS ) ) {
+                columns.add( new SortColumn( model,
+                                             sortKey.getColumn(),
+                                             sortOrder == SortOrder.DESCENDING,
+                                             modelRowCount ) );
+            }
+        }
+
+        return columns.toArray( new SortColumn[ columns.size() ] );
+    }
+
+    /**
+     * Returns {@code true} if the specified column is an active sort column.
+     *
+     * @param column
+     *            The model column index
+     * @return {@code true} if the specified column is an active sort column
+     */
+    private boolean isSortColumn( final int column ) {
+        for ( final SortColumn sortColumn : sortColumns ) {
+            if ( sortColumn.column == column ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the specified model row passes the filter.
+     *
+     * @param modelRow
+     *            The model row index
+     * @return {@code true} if the specified model row passes the filter
+     */
+    private boolean isIncluded( final int modelRow ) {
+        return ( rowFilter == null ) || rowFilter.test( modelRow );
+    }
+
+    /**
+     * Returns the result of comparing two model rows by the sort columns, with
+     * ties broken by model order so that the view order is always total.
+     *
+     * @param modelRow1
+     *            The first model row index
+     * @param modelRow2
+     *            The second model row index
+     * @return A negative number, zero, or a positive number as the first row
+     *         sorts before, equal to, or after the second row
+     */
+    private int compareRows( final int modelRow1, final int modelRow2 ) {
+        for ( final SortColumn sortColumn : sortColumns ) {
+            final int result = sortColumn.compare( modelRow1, modelRow2 );
+            if ( result != 0 ) {
+                return sortColumn.descending ? -result : result;
+            }
+        }
+
+        return Integer.compare( modelRow1, modelRow2 );
+    }
+
+    /**
+     * Sorts a range of model row indices by the sort columns, using a stable
+     * merge sort on primitive indices.
+     *
+     * @param rows
+     *            The model row indices to sort, which receive the result
+     * @param buffer
+     *            A scratch copy of the same range of model row indices
+     * @param fromIndex
+     *            The first index to sort, inclusive
+     * @param toIndex
+     *            The last index to sort, exclusive
+     */
+    private void mergeSort( final int[] rows,
+                            final int[] buffer,
+                            final int fromIndex,
+                            final int toIndex ) {
+        final int length = toIndex - fromIndex;
+        if ( length <= INSERTION_SORT_THRESHOLD ) {
+            for ( int i = fromIndex + 1; i < toIndex; i++ ) {
+                final int row = rows[ i ];
+                int j = i - 1;
+                while ( ( j >= fromIndex ) && ( compareRows( rows[ j ], row ) > 0 ) ) {
+                    rows[ j + 1 ] = rows[ j ];
+                    j--;
+                }
+                rows[ j + 1 ] = row;
+            }
+            return;
+        }
+
+        // Sort each half into the buffer, then merge them back, alternating
+        // the roles of the two arrays to avoid copying at each level.
+        final int middleIndex = ( fromIndex + toIndex ) >>> 1;
+        mergeSort( buffer, rows, fromIndex, middleIndex );
+        mergeSort( buffer, rows, middleIndex, toIndex );
+
+        int left = fromIndex;
+        int right = middleIndex;
+        for ( int i = fromIndex; i < toIndex; i++ ) {
+            if ( ( right >= toIndex )
+                    || ( ( left < middleIndex )
+                            && ( compareRows( buffer[ left ], buffer[ right ] ) <= 0 ) ) ) {
+                rows[ i ] = buffer[ left++ ];
+            }
+            else {
+                rows[ i ] = buffer[ right++ ];
+            }
+        }
+    }
+
+    /////////////////////// Incremental view methods /////////////////////////
+
+    /**
+     * Returns the view position at which the specified model row belongs,
+     * found by binary search over the view with one position left out.
+     *
+     * @param modelRow
+     *            The model row index to find the position for
+     * @param excludedViewRow
+     *            The view row to leave out of the search, or {@code -1} for
+     *            none
+     * @return The view position at which the model row belongs, in terms of
+     *         the view without the excluded row
+     */
+    private int findViewPosition( final int modelRow, final int excludedViewRow ) {
+        int low = 0;
+        int high = ( excludedViewRow >= 0 ) ? viewRowCount - 1 : viewRowCount;
+        while ( low < high ) {
+            final int middle = ( low + high ) >>> 1;
+            final int viewRow = ( ( excludedViewRow >= 0 ) && ( middle >= excludedViewRow ) )
+                ? middle + 1
+                : middle;
+            if ( compareRows( viewToModel[ viewRow ], modelRow ) < 0 ) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Inserts the specified model row into the view at its sorted position,
+     * growing the view index if needed.
+     *
+     * @param modelRow
+     *            The model row index to insert
+     */
+    private void insertIntoView( final int modelRow ) {
+        final int viewRow = findViewPosition( modelRow, -1 );
+        if ( viewRowCount == viewToModel.length ) {
+            viewToModel = Arrays.copyOf( viewToModel, viewRowCount + ( viewRowCount >> 1 ) + 1 );
+        }
+        System.arraycopy( viewToModel, viewRow, viewToModel, viewRow + 1, viewRowCount - viewRow );
+        viewToModel[ viewRow ] = modelRow;
+        viewRowCount++;
+    }
+
+    /**
+     * Returns {@code true} if the view changed, after moving a single updated
+     * model row to its new position, or adding or removing it.
+     * <p>
+     * When the row stays in the view, only the span between its old and new
+     * positions is shifted, and the model-to-view index is patched in place.
+     *
+     * @param modelRow
+     *            The updated model row index
+     * @return {@code true} if the view changed
+     */
+    private boolean updateViewRow( final int modelRow ) {
+        ensureModelToView();
+        final int oldViewRow = modelToView[ modelRow ];
+        final boolean included = isIncluded( modelRow );
+
+        if ( oldViewRow < 0 ) {
+            if ( !included ) {
+                return false;
+            }
+            insertIntoView( modelRow );
+            modelToViewValid = false;
+            return true;
+        }
+
+        if ( !included ) {
+            System.arraycopy( viewToModel,
+                              oldViewRow + 1,
+                              viewToModel,
+                              oldViewRow,
+                              viewRowCount - oldViewRow - 1 );
+            viewRowCount--;
+            modelToViewValid = false;
+            return true;
+        }
+
+        final int newViewRow = findViewPosition( modelRow, oldViewRow );
+        if ( newViewRow == oldViewRow ) {
+            return false;
+        }
+
+        final int fromViewRow;
+        final int toViewRow;
+        if ( newViewRow < oldViewRow ) {
+            System.arraycopy( viewToModel,
+                              newViewRow,
+                              viewToModel,
+                              newViewRow + 1,
+                              oldViewRow - newViewRow );
+            fromViewRow = newViewRow;
+            toViewRow = oldViewRow;
+        }
+        else {
+            System.arraycopy( viewToModel,
+                              oldViewRow + 1,
+                              viewToModel,
+                              oldViewRow,
+                              newViewRow - oldViewRow );
+            fromViewRow = oldViewRow;
+            toViewRow = newViewRow;
+        }
+        viewToModel[ newViewRow ] = modelRow;
+
+        for ( int viewRow = fromViewRow; viewRow <= toViewRow; viewRow++ ) {
+            modelToView[ viewToModel[ viewRow ] ] = viewRow;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the view changed, after removing a block of
+     * updated model rows from the view and re-inserting each of them at its
+     * sorted position.
+     * <p>
+     * All of the updated rows are removed first, so that the binary searches
+     * only ever run over rows whose sort keys haven't changed.
+     *
+     * @param firstRow
+     *            The first updated model row index
+     * @param endRow
+     *            The last updated model row index
+     * @return {@code true} if the view changed
+     */
+    private boolean updateViewRows( final int firstRow, final int endRow ) {
+        final int[] previousViewToModel = Arrays.copyOf( viewToModel, viewRowCount );
+
+        int newViewRowCount = 0;
+        for ( int viewRow = 0; viewRow < viewRowCount; viewRow++ ) {
+            final int modelRow = viewToModel[ viewRow ];
+            if ( ( modelRow < firstRow ) || ( modelRow > endRow ) ) {
+                viewToModel[ newViewRowCount++ ] = modelRow;
+            }
+        }
+        viewRowCount = newViewRowCount;
+
+        for ( int modelRow = firstRow; modelRow <= endRow; modelRow++ ) {
+            if ( isIncluded( modelRow ) ) {
+                insertIntoView( modelRow );
+            }
+        }
+
+        modelToViewValid = false;
+
+        return !Arrays.equals( previousViewToModel, 0, previousViewToModel.length,
+                               viewToModel, 0, viewRowCount );
+    }
+
+    /**
+     * Rebuilds the model-to-view index, if it is out of date.
+     */
+    private void ensureModelToView() {
+        if ( modelToViewValid ) {
+            return;
+        }
+
+        if ( ( modelToView == null ) || ( modelToView.length < modelRowCount ) ) {
+            modelToView = new int[ modelRowCount ];
+        }
+        Arrays.fill( modelToView, -1 );
+        for ( int viewRow = 0; viewRow < viewRowCount; viewRow++ ) {
+            modelToView[ viewToModel[ viewRow ] ] = viewRow;
+        }
+
+        modelToViewValid = true;
+    }
+
+    /**
+     * Verifies that the specified column is valid for the model.
+     *
+     * @param column
+     *            The model column index
+     * @throws IndexOutOfBoundsException
+     *             If the column isn't valid for the model
+     */
+    private void checkColumn( final int column ) {
+        if ( ( column < 0 ) || ( column >= model.getColumnCount() ) ) {
+            throw new IndexOutOfBoundsException( "Invalid column: " + column ); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * {@code SortColumn} compares model rows by one sort column, using
+     * primitive keys wherever the column is numeric.
+     */
+    private static final class SortColumn {
+        /**
+         * The model column index.
+         */
+        final int                  column;
+
+        /**
+         * Flag for whether this column sorts in descending order.
+         */
+        final boolean              descending;
+
+        /**
+         * The underlying Table Model.
+         */
+        private final TableModel   model;
+
+        /**
+         * The model, if it is a columnar model and this column is numeric,
+         * so that keys can be extracted directly from the primitive storage.
+         */
+        private final ColumnarTableModel columnarModel;
+
+        /**
+         * Flag for whether this column holds floating-point values.
+         */
+        private final boolean      floatingPoint;
+
+        /**
+         * Flag for whether every key so far was extracted exactly; this is
+         * cleared if an integral column of a generic model holds a value that
+         * is not integral, at which point the key cache is dropped.
+         */
+        private boolean            exactKeys;
+
+        /**
+         * The cached sortable key for each model row, for numeric columns, or
+         * {@code null} if keys aren't cached.
+         */
+        private long[]             keys;
+
+        /**
+         * The number of model rows that have cached keys.
+         */
+        private int                numberOfKeys;
+
+        /**
+         * Constructs a {@code SortColumn}, building its key cache if needed.
+         *
+         * @param tableModel
+         *            The underlying Table Model
+         * @param modelColumn
+         *            The model column index
+         * @param descendingOrder
+         *            {@code true} if this column sorts in descending order
+         * @param numberOfRows
+         *            The number of model rows
+         */
+        SortColumn( final TableModel tableModel,
+                    final int modelColumn,
+                    final boolean descendingOrder,
+                    final int numberOfRows ) {
+            model = tableModel;
+            column = modelColumn;
+            descending = descendingOrder;
+
+            final Class< ? > columnClass = tableModel.getColumnClass( modelColumn );
+            final boolean numeric = Number.class.isAssignableFrom( columnClass );
+            columnarModel = ( numeric && ( tableModel instanceof ColumnarTableModel ) )
+                ? ( ColumnarTableModel ) tableModel
+                : null;
+            floatingPoint = ( columnarModel != null )
+                ? columnarModel.getColumnType( modelColumn ) == PrimitiveColumnType.DOUBLE
+                : ( columnClass == Double.class ) || ( columnClass == Float.class );
+
+            // Only cache keys for column classes whose values all map into
+            // one primitive key space; other numeric classes, such as
+            // BigDecimal or Number itself, are compared value by value.
+            final boolean cacheable = ( columnarModel != null )
+                    || floatingPoint
+                    || isIntegralClass( columnClass );
+
+            // Extract the keys once up front, so that sorting compares them
+            // straight out of a primitive array.
+            keys = null;
+            numberOfKeys = 0;
+            exactKeys = true;
+            if ( cacheable ) {
+                keys = new long[ numberOfRows ];
+                for ( int modelRow = 0; modelRow < numberOfRows; modelRow++ ) {
+                    keys[ modelRow ] = getSortableKey( modelRow );
+                }
+                numberOfKeys = numberOfRows;
+                dropInexactKeys();
+            }
+        }
+
+        /**
+         * Returns the result of comparing two model rows by this column, in
+         * ascending order.
+         *
+         * @param modelRow1
+         *            The first model row index
+         * @param modelRow2
+         *            The second model row index
+         * @return A negative number, zero, or a positive number as the first
+         *         row sorts before, equal to, or after the second row
+         */
+        int compare( final int modelRow1, final int modelRow2 ) {
+            if ( keys != null ) {
+                return Long.compare( keys[ modelRow1 ], keys[ modelRow2 ] );
+            }
+
+            return compareValues( model.getValueAt( modelRow1, column ),
+                                  model.getValueAt( modelRow2, column ) );
+        }
+
+        /**
+         * Refreshes the cached key for an updated model row.
+         *
+         * @param modelRow
+         *            The updated model row index
+         */
+        void refreshKey( final int modelRow ) {
+            if ( keys != null ) {
+                keys[ modelRow ] = getSortableKey( modelRow );
+                dropInexactKeys();
+            }
+        }
+
+        /**
+         * Opens a gap in the key cache for inserted model rows, and fills it.
+         *
+         * @param firstRow
+         *            The first inserted model row index
+         * @param numberOfRows
+         *            The number of inserted model rows
+         */
+        void insertKeys( final int firstRow, final int numberOfRows ) {
+            if ( keys == null ) {
+                return;
+            }
+
+            // Grow geometrically, so that repeated inserts are amortized.
+            final int newNumberOfKeys = numberOfKeys + numberOfRows;
+            if ( newNumberOfKeys > keys.length ) {
+                keys = Arrays.copyOf( keys,
+                                      FastMath.max( newNumberOfKeys,
+                                                    numberOfKeys + ( numberOfKeys >> 1 ) + 1 ) );
+            }
+            System.arraycopy( keys,
+                              firstRow,
+                              keys,
+                              firstRow + numberOfRows,
+                              numberOfKeys - firstRow );
+            numberOfKeys = newNumberOfKeys;
+            for ( int modelRow = firstRow; modelRow < ( firstRow + numberOfRows ); modelRow++ ) {
+                keys[ modelRow ] = getSortableKey( modelRow );
+            }
+            dropInexactKeys();
+        }
+
+        /**
+         * Closes the gap in the key cache for deleted model rows.
+         *
+         * @param firstRow
+         *            The first deleted model row index
+         * @param numberOfRows
+         *            The number of deleted model rows
+         */
+        void deleteKeys( final int firstRow, final int numberOfRows ) {
+            if ( keys == null ) {
+                return;
+            }
+
+            System.arraycopy( keys,
+                              firstRow + numberOfRows,
+                              keys,
+                              firstRow,
+                              numberOfKeys - firstRow - numberOfRows );
+            numberOfKeys -= numberOfRows;
+        }
+
+        /**
+         * Returns a primitive key for the specified model row whose signed
+         * ordering matches the numeric ordering of the cell value.
+         * <p>
+         * Floating-point values are mapped to their IEEE bit patterns, with
+         * the magnitude bits flipped for negative values, which orders them
+         * the same as {@link Double#compare}; {@code null} and non-numeric
+         * values sort first. Columnar models are read without boxing.
+         * <p>
+         * The key is chosen per value rather than trusting the column class:
+         * if an integral column holds a value that is not an
+         * {@code Integer}, {@code Long}, {@code Short} or {@code Byte}, the
+         * keys are flagged as inexact, so that they are dropped in favour of
+         * comparing the values themselves.
+         *
+         * @param modelRow
+         *            The model row index
+         * @return A primitive sort key for the specified model row
+         */
+        private long getSortableKey( final int modelRow ) {
+            if ( columnarModel != null ) {
+                return floatingPoint
+                    ? toSortableBits( columnarModel.getDoubleAt( modelRow, column ) )
+                    : columnarModel.getLongAt( modelRow, column );
+            }
+
+            final Object value = model.getValueAt( modelRow, column );
+            if ( !( value instanceof Number ) ) {
+                return Long.MIN_VALUE;
+            }
+
+            final Number number = ( Number ) value;
+            if ( floatingPoint ) {
+                return toSortableBits( number.doubleValue() );
+            }
+            if ( !isIntegralClass( number.getClass() ) ) {
+                exactKeys = false;
+            }
+
+            return number.longValue();
+        }
+
+        /**
+         * Drops the key cache if any key could not be extracted exactly, so
+         * that this column falls back to comparing the cell values.
+         */
+        private void dropInexactKeys() {
+            if ( !exactKeys ) {
+                keys = null;
+                numberOfKeys = 0;
+            }
+        }
+
+        /**
+         * Returns {@code true} if the specified class is one of the boxed
+         * integral types whose values convert exactly to a {@code long}.
+         *
+         * @param numberClass
+         *            The class to check
+         * @return {@code true} if the class is {@code Integer}, {@code Long},
+         *         {@code Short} or {@code Byte}
+         */
+        private static boolean isIntegralClass( final Class< ? > numberClass ) {
+            return ( numberClass == Integer.class )
+                    || ( numberClass == Long.class )
+                    || ( numberClass == Short.class )
+                    || ( numberClass == Byte.class );
+        }
+
+        /**
+         * Returns the IEEE bit pattern of a floating-point value, with the
+         * magnitude bits flipped for negative values so that the signed
+         * ordering of the result matches {@link Double#compare}.
+         *
+         * @param value
+         *            The floating-point value to convert
+         * @return The sortable bit pattern of the value
+         */
+        private static long toSortableBits( final double value ) {
+            final long bits = Double.doubleToLongBits( value );
+            return bits ^ ( ( bits >> 63 ) & Long.MAX_VALUE );
+        }
+
+        /**
+         * Returns the result of comparing two cell values, by their natural
+         * ordering if they are mutually comparable, numerically if they are
+         * numbers of different classes, or else by their string
+         * representation; {@code null} values sort first.
+         *
+         * @param value1
+         *            The first cell value
+         * @param value2
+         *            The second cell value
+         * @return A negative number, zero, or a positive number as the first
+         *         value sorts before, equal to, or after the second value
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private static int compareValues( final Object value1, final Object value2 ) {
+            if ( value1 == value2 ) {
+                return 0;
+            }
+            if ( value1 == null ) {
+                return -1;
+            }
+            if ( value2 == null ) {
+                return 1;
+            }
+            if ( ( value1 instanceof Comparable ) && ( value1.getClass() == value2.getClass() ) ) {
+                return ( ( Comparable ) value1 ).compareTo( value2 );
+            }
+            if ( ( value1 instanceof Number ) && ( value2 instanceof Number ) ) {
+                return Double.compare( ( ( Number ) value1 ).doubleValue(),
+                                       ( ( Number ) value2 ).doubleValue() );
+            }
+
+            return value1.toString().compareTo( value2.toString() );
+        }
+    }
+
+}
@@ -0,0 +1,1160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.ListSelectionModel;
+import javax.swing.event.EventListenerList;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code IntervalListSelectionModel} is a {@link ListSelectionModel} that
+ * stores the selection as a sorted list of disjoint, non-adjacent index
+ * ranges, rather than as one bit or one entry per selected index.
+ * <p>
+ * Its cost is proportional to the number of selected ranges rather than to
+ * the number of selected indices, so selecting all of a million-row table,
+ * counting the selection, and deleting it are all cheap. Membership tests
+ * use a binary search over the ranges.
+ * <p>
+ * The selection modes, lead and anchor handling, and event notification
+ * follow {@link javax.swing.DefaultListSelectionModel}, so this can be used
+ * as a drop-in replacement for it in any {@code JTable}.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class IntervalListSelectionModel implements ListSelectionModel, Serializable {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long    serialVersionUID   = 6410934257707208411L;
+
+    /**
+     * The initial capacity of the range storage, in ranges.
+     */
+    private static final int     INITIAL_RANGE_CAPACITY = 8;
+
+    /**
+     * The sentinel for an empty lower bound of the changed indices.
+     */
+    private static final int     MAX                = Integer.MAX_VALUE;
+
+    /**
+     * The sentinel for an empty upper bound of the changed indices.
+     */
+    private static final int     MIN                = -1;
+
+    /**
+     * The listeners for selection changes.
+     */
+    protected EventListenerList  listenerList;
+
+    /**
+     * The selected ranges, flattened into pairs, so that the first and last
+     * indices of range {@code n} are at array indices {@code 2n} and
+     * {@code 2n + 1} respectively.
+     */
+    private int[]                rangeBounds;
+
+    /**
+     * The number of selected ranges.
+     */
+    private int                  numberOfRanges;
+
+    /**
+     * The total number of selected indices.
+     */
+    private long                 numberOfSelectedIndices;
+
+    /**
+     * The current selection mode.
+     */
+    private int                  selectionMode;
+
+    /**
+     * The anchor selection index, or {@code -1} if none.
+     */
+    private int                  anchorIndex;
+
+    /**
+     * The lead selection index, or {@code -1} if none.
+     */
+    private int                  leadIndex;
+
+    /**
+     * Flag for whether the selection is undergoing a series of changes.
+     */
+    private boolean              valueIsAdjusting;
+
+    /**
+     * The lowest index changed since the last event.
+     */
+    private int                  firstAdjustedIndex;
+
+    /**
+     * The highest index changed since the last event.
+     */
+    private int                  lastAdjustedIndex;
+
+    /**
+     * The lowest index changed since the selection started adjusting.
+     */
+    private int                  firstChangedIndex;
+
+    /**
+     * The highest index changed since the selection started adjusting.
+     */
+    private int                  lastChangedIndex;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code IntervalListSelectionModel} that allows
+     * multiple interval selection.
+     *
+     * @since 1.0
+     */
+    public IntervalListSelectionModel() {
+        this( MULTIPLE_INTERVAL_SELECTION );
+    }
+
+    /**
+     * Constructs an empty {@code IntervalListSelectionModel} with the
+     * specified selection mode.
+     *
+     * @param mode
+     *            The selection mode, as defined in {@code ListSelectionModel}
+     *
+     * @since 1.0
+     */
+    public IntervalListSelectionModel( final int mode ) {
+        listenerList = new EventListenerList();
+        rangeBounds = new int[ 2 * INITIAL_RANGE_CAPACITY ];
+        numberOfRanges = 0;
+        numberOfSelectedIndices = 0L;
+        anchorIndex = -1;
+        leadIndex = -1;
+        valueIsAdjusting = false;
+        firstAdjustedIndex = MAX;
+        lastAdjustedIndex = MIN;
+        firstChangedIndex = MAX;
+        lastChangedIndex = MIN;
+
+        setSelectionMode( mode );
+    }
+
+    ////////////////// ListSelectionModel method overrides ///////////////////
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSelectionInterval( final int index0, final int index1 ) {
+        if ( ( index0 == -1 ) || ( index1 == -1 ) ) {
+            return;
+        }
+
+        final int anchor = ( selectionMode == SINGLE_SELECTION ) ? index1 : index0;
+        updateLeadAnchorIndices( anchor, index1 );
+
+        final int setMin = FastMath.min( anchor, index1 );
+        final int setMax = FastMath.max( anchor, index1 );
+        if ( ( numberOfRanges != 1 ) || ( rangeBounds[ 0 ] != setMin )
+                || ( rangeBounds[ 1 ] != setMax ) ) {
+            // Only the indices whose state flips are changed, which are those
+            // of the old and new selections outside of their overlap.
+            if ( !isSelectionEmpty() ) {
+                markAsDirty( getMinSelectionIndex() );
+                markAsDirty( getMaxSelectionIndex() );
+            }
+            markAsDirty( setMin );
+            markAsDirty( setMax );
+
+            numberOfRanges = 0;
+            numberOfSelectedIndices = 0L;
+            insertRange( 0, setMin, setMax );
+        }
+
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addSelectionInterval( final int index0, final int index1 ) {
+        if ( ( index0 == -1 ) || ( index1 == -1 ) ) {
+            return;
+        }
+
+        // If we only allow a single selection, channel through
+        // setSelectionInterval() to enforce the rule.
+        if ( selectionMode == SINGLE_SELECTION ) {
+            setSelectionInterval( index0, index1 );
+            return;
+        }
+
+        final int setMin = FastMath.min( index0, index1 );
+        final int setMax = FastMath.max( index0, index1 );
+
+        // If we only allow a single interval and this would result in
+        // multiple intervals, then set the selection to be just the new range.
+        if ( ( selectionMode == SINGLE_INTERVAL_SELECTION ) && !isSelectionEmpty()
+                && ( ( setMax < ( getMinSelectionIndex() - 1L ) )
+                        || ( setMin > ( getMaxSelectionIndex() + 1L ) ) ) ) {
+            setSelectionInterval( index0, index1 );
+            return;
+        }
+
+        updateLeadAnchorIndices( index0, index1 );
+        addRange( setMin, setMax );
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeSelectionInterval( final int index0, final int index1 ) {
+        removeSelectionInterval( index0, index1, true );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMinSelectionIndex() {
+        return ( numberOfRanges > 0 ) ? rangeBounds[ 0 ] : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxSelectionIndex() {
+        return ( numberOfRanges > 0 ) ? rangeBounds[ ( 2 * numberOfRanges ) - 1 ] : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSelectedIndex( final int index ) {
+        final int rangeIndex = findFloorRange( index );
+        return ( rangeIndex >= 0 ) && ( index <= rangeBounds[ ( 2 * rangeIndex ) + 1 ] );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAnchorSelectionIndex() {
+        return anchorIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAnchorSelectionIndex( final int index ) {
+        updateLeadAnchorIndices( index, leadIndex );
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLeadSelectionIndex() {
+        return leadIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLeadSelectionIndex( final int index ) {
+        int anchor = anchorIndex;
+
+        // Only allow a -1 lead if the anchor is already -1, and otherwise
+        // don't do anything if the anchor is -1.
+        if ( index == -1 ) {
+            if ( anchor == -1 ) {
+                updateLeadAnchorIndices( anchor, index );
+                fireValueChanged();
+            }
+            return;
+        }
+        else if ( anchor == -1 ) {
+            return;
+        }
+
+        if ( leadIndex == -1 ) {
+            leadIndex = index;
+        }
+
+        boolean shouldSelect = isSelectedIndex( anchorIndex );
+        if ( selectionMode == SINGLE_SELECTION ) {
+            anchor = index;
+            shouldSelect = true;
+        }
+
+        final int oldMin = FastMath.min( anchorIndex, leadIndex );
+        final int oldMax = FastMath.max( anchorIndex, leadIndex );
+        final int newMin = FastMath.min( anchor, index );
+        final int newMax = FastMath.max( anchor, index );
+
+        updateLeadAnchorIndices( anchor, index );
+
+        // Extend or shrink the anchor's state from the old lead to the new
+        // one, where the later operation wins wherever the two ranges overlap.
+        if ( shouldSelect ) {
+            removeRange( oldMin, oldMax );
+            addRange( newMin, newMax );
+        }
+        else {
+            addRange( oldMin, oldMax );
+            removeRange( newMin, newMax );
+        }
+        fireValueChanged();
+    }
+
+    /**
+     * Moves the lead selection index without changing the selection.
+     *
+     * @param index
+     *            The new lead selection index
+     *
+     * @since 1.0
+     */
+    public void moveLeadSelectionIndex( final int index ) {
+        // Disallow a -1 lead unless the anchor is already -1.
+        if ( ( index == -1 ) && ( anchorIndex != -1 ) ) {
+            return;
+        }
+
+        updateLeadAnchorIndices( anchorIndex, index );
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearSelection() {
+        if ( !isSelectionEmpty() ) {
+            removeSelectionInterval( getMinSelectionIndex(), getMaxSelectionIndex(), false );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSelectionEmpty() {
+        return numberOfRanges == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insertIndexInterval( final int index, final int length, final boolean before ) {
+        if ( ( length < 0 ) || ( index < 0 ) ) {
+            throw new IndexOutOfBoundsException( "index or length is negative" ); //$NON-NLS-1$
+        }
+        if ( ( index == Integer.MAX_VALUE ) || ( length == 0 ) ) {
+            return;
+        }
+
+        // The new indices appear at the insertion point, and take on the
+        // selection state of the index that they were inserted next to.
+        final int insertMin = before ? index : index + 1;
+        final int insertMax = ( int ) FastMath.min( ( long ) insertMin + length - 1L,
+                                                    Integer.MAX_VALUE );
+        final boolean selectInserted = ( selectionMode != SINGLE_SELECTION )
+                && isSelectedIndex( index );
+
+        // Every index from the insertion point up to the shifted maximum may
+        // have changed state.
+        final int oldMax = getMaxSelectionIndex();
+        if ( selectInserted || ( oldMax >= insertMin ) ) {
+            markAsDirty( insertMin );
+            markAsDirty( ( int ) FastMath.min( ( long ) FastMath.max( oldMax, insertMax ) + length,
+                                               Integer.MAX_VALUE ) );
+        }
+
+        shiftRanges( insertMin, length );
+        if ( selectInserted ) {
+            addRange( insertMin, insertMax );
+        }
+
+        int lead = leadIndex;
+        if ( ( lead > index ) || ( before && ( lead == index ) ) ) {
+            lead = leadIndex + length;
+        }
+        int anchor = anchorIndex;
+        if ( ( anchor > index ) || ( before && ( anchor == index ) ) ) {
+            anchor = anchorIndex + length;
+        }
+        if ( ( lead != leadIndex ) || ( anchor != anchorIndex ) ) {
+            updateLeadAnchorIndices( anchor, lead );
+        }
+
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeIndexInterval( final int index0, final int index1 ) {
+        if ( ( index0 < 0 ) || ( index1 < 0 ) ) {
+            throw new IndexOutOfBoundsException( "index is negative" ); //$NON-NLS-1$
+        }
+
+        final int removeMin = FastMath.min( index0, index1 );
+        final int removeMax = FastMath.max( index0, index1 );
+        final long gapLength = ( ( long ) removeMax - removeMin ) + 1L;
+
+        // Every index from the start of the gap up to the old maximum may have
+        // changed state.
+        final int oldMax = getMaxSelectionIndex();
+        if ( oldMax >= removeMin ) {
+            markAsDirty( removeMin );
+            markAsDirty( oldMax );
+        }
+
+        removeRange( removeMin, removeMax );
+        shiftRanges( removeMin, -gapLength );
+
+        int lead = leadIndex;
+        if ( ( lead == 0 ) && ( removeMin == 0 ) ) {
+            // Do nothing.
+        }
+        else if ( lead > removeMax ) {
+            lead = ( int ) ( leadIndex - gapLength );
+        }
+        else if ( lead >= removeMin ) {
+            lead = removeMin - 1;
+        }
+        int anchor = anchorIndex;
+        if ( ( anchor == 0 ) && ( removeMin == 0 ) ) {
+            // Do nothing.
+        }
+        else if ( anchor > removeMax ) {
+            anchor = ( int ) ( anchorIndex - gapLength );
+        }
+        else if ( anchor >= removeMin ) {
+            anchor = removeMin - 1;
+        }
+        if ( ( removeMin == 0 ) && ( removeMax == Integer.MAX_VALUE ) ) {
+            lead = -1;
+            anchor = -1;
+        }
+        if ( ( lead != leadIndex ) || ( anchor != anchorIndex ) ) {
+            updateLeadAnchorIndices( anchor, lead );
+        }
+
+        fireValueChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setValueIsAdjusting( final boolean isAdjusting ) {
+        if ( isAdjusting != valueIsAdjusting ) {
+            valueIsAdjusting = isAdjusting;
+            fireAccumulatedValueChanged( isAdjusting );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getValueIsAdjusting() {
+        return valueIsAdjusting;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSelectionMode( final int mode ) {
+        final int oldMode = selectionMode;
+        switch ( mode ) {
+        case SINGLE_SELECTION:
+        case SINGLE_INTERVAL_SELECTION:
+        case MULTIPLE_INTERVAL_SELECTION:
+            selectionMode = mode;
+            break;
+        default:
+            throw new IllegalArgumentException( "invalid selectionMode" ); //$NON-NLS-1$
+        }
+
+        // Narrow an existing selection to what the new mode allows.
+        if ( ( oldMode > selectionMode ) && !isSelectionEmpty() ) {
+            final int minimumIndex = getMinSelectionIndex();
+            setSelectionInterval( minimumIndex,
+                                  ( selectionMode == SINGLE_SELECTION )
+                                      ? minimumIndex
+                                      : rangeBounds[ 1 ] );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSelectionMode() {
+        return selectionMode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListSelectionListener( final ListSelectionListener listSelectionListener ) {
+        listenerList.add( ListSelectionListener.class, listSelectionListener );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListSelectionListener( final ListSelectionListener listSelectionListener ) {
+        listenerList.remove( ListSelectionListener.class, listSelectionListener );
+    }
+
+    /**
+     * Returns the registered selection listeners.
+     *
+     * @return The registered selection listeners
+     *
+     * @since 1.0
+     */
+    public ListSelectionListener[] getListSelectionListeners() {
+        return listenerList.getListeners( ListSelectionListener.class );
+    }
+
+    /**
+     * Returns the selected indices in increasing order, which is computed from
+     * the ranges without scanning any unselected indices.
+     *
+     * @return The selected indices in increasing order
+     *
+     * @since 1.0
+     */
+    @Override
+    public int[] getSelectedIndices() {
+        final int[] selectedIndices = new int[ getSelectedItemsCount() ];
+        int selectionIndex = 0;
+        for ( int rangeIndex = 0; rangeIndex < numberOfRanges; rangeIndex++ ) {
+            final int rangeEnd = getRangeEnd( rangeIndex );
+            for ( int index = getRangeStart( rangeIndex );
+                  ( index <= rangeEnd ) && ( selectionIndex < selectedIndices.length ); index++ ) {
+                selectedIndices[ selectionIndex++ ] = index;
+            }
+        }
+
+        return selectedIndices;
+    }
+
+    /**
+     * Returns the number of selected indices, in constant time.
+     *
+     * @return The number of selected indices
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getSelectedItemsCount() {
+        return ( int ) FastMath.min( numberOfSelectedIndices, Integer.MAX_VALUE );
+    }
+
+    //////////////////////// Range access methods ////////////////////////////
+
+    /**
+     * Returns the number of disjoint selected ranges.
+     *
+     * @return The number of disjoint selected ranges
+     *
+     * @since 1.0
+     */
+    public final int getRangeCount() {
+        return numberOfRanges;
+    }
+
+    /**
+     * Returns the first index of the specified selected range.
+     *
+     * @param rangeIndex
+     *            The range index, in increasing order of selected indices
+     * @return The first index of the specified selected range
+     *
+     * @since 1.0
+     */
+    public final int getRangeStart( final int rangeIndex ) {
+        return rangeBounds[ 2 * rangeIndex ];
+    }
+
+    /**
+     * Returns the last index of the specified selected range.
+     *
+     * @param rangeIndex
+     *            The range index, in increasing order of selected indices
+     * @return The last index of the specified selected range
+     *
+     * @since 1.0
+     */
+    public final int getRangeEnd( final int rangeIndex ) {
+        return rangeBounds[ ( 2 * rangeIndex ) + 1 ];
+    }
+
+    /**
+     * Returns a snapshot of the selected ranges in reverse order, clipped to
+     * the specified maximum index, flattened into pairs so that the first and
+     * last indices of range {@code n} are at array indices {@code 2n} and
+     * {@code 2n + 1} respectively.
+     *
+     * @param maximumIndex
+     *            The highest index to include, such as the last valid row
+     * @return A snapshot of the selected ranges in reverse order
+     *
+     * @since 1.0
+     */
+    public final int[] getSelectedRanges( final int maximumIndex ) {
+        final int lastRange = findFloorRange( maximumIndex );
+        final int[] selectedRanges = new int[ 2 * ( lastRange + 1 ) ];
+        int rangeIndex = 0;
+        for ( int range = lastRange; range >= 0; range-- ) {
+            selectedRanges[ rangeIndex++ ] = getRangeStart( range );
+            selectedRanges[ rangeIndex++ ] = FastMath.min( getRangeEnd( range ), maximumIndex );
+        }
+
+        return selectedRanges;
+    }
+
+    /**
+     * Returns the number of selected indices that are no higher than the
+     * specified maximum index.
+     *
+     * @param maximumIndex
+     *            The highest index to count, such as the last valid row
+     * @return The number of selected indices up to the maximum index
+     *
+     * @since 1.0
+     */
+    public final int getSelectedItemsCount( final int maximumIndex ) {
+        final int lastRange = findFloorRange( maximumIndex );
+        if ( lastRange < 0 ) {
+            return 0;
+        }
+
+        // Only the last range that starts in bounds can extend beyond them.
+        final long numberOfClippedIndices = FastMath.max( 0L,
+                                                          ( long ) getRangeEnd( lastRange )
+                                                                  - maximumIndex );
+        long numberOfIndices = numberOfSelectedIndices - numberOfClippedIndices;
+        for ( int range = lastRange + 1; range < numberOfRanges; range++ ) {
+            numberOfIndices -= ( ( long ) getRangeEnd( range ) - getRangeStart( range ) ) + 1L;
+        }
+
+        return ( int ) FastMath.min( numberOfIndices, Integer.MAX_VALUE );
+    }
+
+    /**
+     * Visits the selected indices that are no higher than the specified
+     * maximum index, in reverse order, stopping early if the visitor rejects
+     * an index.
+     * <p>
+     * The visitor must not modify the selection.
+     *
+     * @param maximumIndex
+     *            The highest index to visit, such as the last valid row
+     * @param indexVisitor
+     *            The visitor to apply to each selected index; returns
+     *            {@code false} to stop visiting any further indices
+     * @return {@code true} if every selected index was visited and accepted
+     *
+     * @since 1.0
+     */
+    public final boolean visitSelectedIndicesInReverse( final int maximumIndex,
+                                                        final IntPredicate indexVisitor ) {
+        for ( int range = findFloorRange( maximumIndex ); range >= 0; range-- ) {
+            final int rangeStart = getRangeStart( range );
+            for ( int index = FastMath.min( getRangeEnd( range ), maximumIndex );
+                  index >= rangeStart; index-- ) {
+                if ( !indexVisitor.test( index ) ) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Visits the selected indices within the specified window, in increasing
+     * order, stopping early if the visitor rejects an index.
+     * <p>
+     * This finds the first range by binary search, so visiting a small window
+     * costs {@code O(log r)} for {@code r} ranges, regardless of how many
+     * indices are selected elsewhere. The visitor must not modify the
+     * selection.
+     *
+     * @param firstIndex
+     *            The lowest index to visit
+     * @param lastIndex
+     *            The highest index to visit
+     * @param indexVisitor
+     *            The visitor to apply to each selected index; returns
+     *            {@code false} to stop visiting any further indices
+     * @return {@code true} if every selected index in the window was visited
+     *         and accepted
+     *
+     * @since 1.0
+     */
+    public final boolean visitSelectedIndices( final int firstIndex,
+                                               final int lastIndex,
+                                               final IntPredicate indexVisitor ) {
+        for ( int range = FastMath.max( 0, findFloorRange( firstIndex ) );
+              ( range < numberOfRanges ) && ( getRangeStart( range ) <= lastIndex ); range++ ) {
+            final int rangeEnd = FastMath.min( getRangeEnd( range ), lastIndex );
+            for ( int index = FastMath.max( getRangeStart( range ), firstIndex );
+                  index <= rangeEnd; index++ ) {
+                if ( !indexVisitor.test( index ) ) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a string representation of the selection, listing its ranges.
+     *
+     * @return A string representation of the selection
+     *
+     * @since 1.0
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder( getClass().getName() );
+        stringBuilder.append( valueIsAdjusting ? " ~{" : " ={" ); //$NON-NLS-1$ //$NON-NLS-2$
+        for ( int range = 0; range < numberOfRanges; range++ ) {
+            if ( range > 0 ) {
+                stringBuilder.append( ", " ); //$NON-NLS-1$
+            }
+            stringBuilder.append( getRangeStart( range ) ).append( '-' )
+                    .append( getRangeEnd( range ) );
+        }
+
+        return stringBuilder.append( '}' ).toString();
+    }
+
+    ////////////////////// Range manipulation methods ////////////////////////
+
+    /**
+     * Removes the specified selection interval, optionally updating the lead
+     * and anchor, which a plain clear of the selection doesn't do.
+     *
+     * @param index0
+     *            One end of the interval to remove
+     * @param index1
+     *            The other end of the interval to remove
+     * @param changeLeadAnchor
+     *            {@code true} if the lead and anchor should be updated
+     */
+    private void removeSelectionInterval( final int index0,
+                                          final int index1,
+                                          final boolean changeLeadAnchor ) {
+        if ( ( index0 == -1 ) || ( index1 == -1 ) ) {
+            return;
+        }
+
+        if ( changeLeadAnchor ) {
+            updateLeadAnchorIndices( index0, index1 );
+        }
+
+        // If the removal would produce two disjoint selections in a mode that
+        // only allows one, extend the removal to the end of the selection.
+        final int clearMin = FastMath.min( index0, index1 );
+        int clearMax = FastMath.max( index0, index1 );
+        if ( ( selectionMode != MULTIPLE_INTERVAL_SELECTION ) && !isSelectionEmpty()
+                && ( clearMin > getMinSelectionIndex() )
+                && ( clearMax < getMaxSelectionIndex() ) ) {
+            clearMax = getMaxSelectionIndex();
+        }
+
+        removeRange( clearMin, clearMax );
+        fireValueChanged();
+    }
+
+    /**
+     * Returns the index of the last range that starts at or before the
+     * specified index, or {@code -1} if there is none.
+     *
+     * @param index
+     *            The index to search for
+     * @return The index of the last range that starts at or before the index
+     */
+    private int findFloorRange( final int index ) {
+        int low = 0;
+        int high = numberOfRanges - 1;
+        while ( low <= high ) {
+            final int middle = ( low + high ) >>> 1;
+            if ( rangeBounds[ 2 * middle ] <= index ) {
+                low = middle + 1;
+            }
+            else {
+                high = middle - 1;
+            }
+        }
+
+        return high;
+    }
+
+    /**
+     * Selects the specified range, merging it with any ranges that it
+     * overlaps or touches, and marks the range as changed if any of its
+     * indices weren't already selected.
+     *
+     * @param setMin
+     *            The first index to select
+     * @param setMax
+     *            The last index to select
+     */
+    private void addRange( final int setMin, final int setMax ) {
+        // Find the ranges that overlap or touch the new one; the first range
+        // that could touch it is the one before the first range starting
+        // after it.
+        int firstRange = findFloorRange( setMin );
+        if ( ( firstRange < 0 ) || ( getRangeEnd( firstRange ) < ( setMin - 1L ) ) ) {
+            firstRange++;
+        }
+        final int lastRange = ( setMax == Integer.MAX_VALUE )
+            ? numberOfRanges - 1
+            : findFloorRange( setMax + 1 );
+
+        if ( firstRange > lastRange ) {
+            markAsDirty( setMin );
+            markAsDirty( setMax );
+            insertRange( firstRange, setMin, setMax );
+            return;
+        }
+
+        // Nothing changes if a single existing range already covers it all.
+        if ( ( firstRange == lastRange ) && ( getRangeStart( firstRange ) <= setMin )
+                && ( getRangeEnd( firstRange ) >= setMax ) ) {
+            return;
+        }
+
+        markAsDirty( setMin );
+        markAsDirty( setMax );
+        final int mergedMin = FastMath.min( setMin, getRangeStart( firstRange ) );
+        final int mergedMax = FastMath.max( setMax, getRangeEnd( lastRange ) );
+        deleteRanges( firstRange, lastRange );
+        insertRange( firstRange, mergedMin, mergedMax );
+    }
+
+    /**
+     * Deselects the specified range, trimming or splitting any ranges that it
+     * overlaps, and marks the deselected indices as changed.
+     *
+     * @param clearMin
+     *            The first index to deselect
+     * @param clearMax
+     *            The last index to deselect
+     */
+    private void removeRange( final int clearMin, final int clearMax ) {
+        int firstRange = findFloorRange( clearMin );
+        if ( ( firstRange < 0 ) || ( getRangeEnd( firstRange ) < clearMin ) ) {
+            firstRange++;
+        }
+        final int lastRange = findFloorRange( clearMax );
+        if ( firstRange > lastRange ) {
+            return;
+        }
+
+        final int firstStart = getRangeStart( firstRange );
+        final int lastEnd = getRangeEnd( lastRange );
+        markAsDirty( FastMath.max( clearMin, firstStart ) );
+        markAsDirty( FastMath.min( clearMax, lastEnd ) );
+
+        deleteRanges( firstRange, lastRange );
+        int insertIndex = firstRange;
+        if ( firstStart < clearMin ) {
+            insertRange( insertIndex++, firstStart, clearMin - 1 );
+        }
+        if ( lastEnd > clearMax ) {
+            insertRange( insertIndex, clearMax + 1, lastEnd );
+        }
+    }
+
+    /**
+     * Shifts all selected indices at or above the specified index by the
+     * specified distance, splitting the range that straddles the index when
+     * inserting, and merging ranges that become adjacent when removing.
+     * <p>
+     * When removing, the indices from the shift point up to the end of the
+     * gap must already have been deselected.
+     *
+     * @param fromIndex
+     *            The lowest index to shift
+     * @param distance
+     *            The distance to shift by, which is negative for removals
+     */
+    private void shiftRanges( final int fromIndex, final long distance ) {
+        int firstRange = findFloorRange( fromIndex );
+        if ( ( firstRange >= 0 ) && ( getRangeStart( firstRange ) < fromIndex ) ) {
+            if ( ( distance > 0L ) && ( getRangeEnd( firstRange ) >= fromIndex ) ) {
+                // Split the straddling range, leaving a gap for the inserted
+                // indices.
+                final int rangeEnd = getRangeEnd( firstRange );
+                rangeBounds[ ( 2 * firstRange ) + 1 ] = fromIndex - 1;
+                insertRange( firstRange + 1, fromIndex, rangeEnd );
+                numberOfSelectedIndices -= ( ( long ) rangeEnd - fromIndex ) + 1L;
+            }
+            firstRange++;
+        }
+        else if ( firstRange < 0 ) {
+            firstRange = 0;
+        }
+
+        // Shift the remaining ranges, dropping any that are pushed beyond the
+        // largest possible index.
+        int range = firstRange;
+        for ( ; range < numberOfRanges; range++ ) {
+            final long shiftedStart = getRangeStart( range ) + distance;
+            if ( shiftedStart > Integer.MAX_VALUE ) {
+                break;
+            }
+            final long shiftedEnd = FastMath.min( getRangeEnd( range ) + distance,
+                                                  Integer.MAX_VALUE );
+            numberOfSelectedIndices += ( shiftedEnd - shiftedStart )
+                    - ( getRangeEnd( range ) - ( long ) getRangeStart( range ) );
+            rangeBounds[ 2 * range ] = ( int ) shiftedStart;
+            rangeBounds[ ( 2 * range ) + 1 ] = ( int ) shiftedEnd;
+        }
+        if ( range < numberOfRanges ) {
+            deleteRanges( range, numberOfRanges - 1 );
+        }
+
+        // Removing a gap can join the ranges on either side of it.
+        if ( ( distance < 0L ) && ( firstRange > 0 ) && ( firstRange < numberOfRanges )
+                && ( ( getRangeEnd( firstRange - 1 ) + 1L ) == getRangeStart( firstRange ) ) ) {
+            final int mergedEnd = getRangeEnd( firstRange );
+            final int mergedStart = getRangeStart( firstRange - 1 );
+            deleteRanges( firstRange - 1, firstRange );
+            insertRange( firstRange - 1, mergedStart, mergedEnd );
+        }
+    }
+
+    /**
+     * Inserts a new range at the specified position in the range list, which
+     * must keep the list sorted and disjoint.
+     *
+     * @param rangeIndex
+     *            The position at which to insert the range
+     * @param rangeStart
+     *            The first index of the range
+     * @param rangeEnd
+     *            The last index of the range
+     */
+    private void insertRange( final int rangeIndex, final int rangeStart, final int rangeEnd ) {
+        if ( ( 2 * numberOfRanges ) == rangeBounds.length ) {
+            rangeBounds = Arrays.copyOf( rangeBounds, 2 * rangeBounds.length );
+        }
+
+        System.arraycopy( rangeBounds,
+                          2 * rangeIndex,
+                          rangeBounds,
+                          2 * ( rangeIndex + 1 ),
+                          2 * ( numberOfRanges - rangeIndex ) );
+        rangeBounds[ 2 * rangeIndex ] = rangeStart;
+        rangeBounds[ ( 2 * rangeIndex ) + 1 ] = rangeEnd;
+        numberOfRanges++;
+        numberOfSelectedIndices += ( ( long ) rangeEnd - rangeStart ) + 1L;
+    }
+
+    /**
+     * Deletes the specified inclusive span of ranges from the range list.
+     *
+     * @param firstRange
+     *            The position of the first range to delete
+     * @param lastRange
+     *            The position of the last range to delete
+     */
+    private void deleteRanges( final int firstRange, final int lastRange ) {
+        for ( int range = firstRange; range <= lastRange; range++ ) {
+            numberOfSelectedIndices -= ( ( long ) getRangeEnd( range ) - getRangeStart( range ) )
+                    + 1L;
+        }
+
+        final int numberOfDeletedRanges = ( lastRange - firstRange ) + 1;
+        System.arraycopy( rangeBounds,
+                          2 * ( lastRange + 1 ),
+                          rangeBounds,
+                          2 * firstRange,
+                          2 * ( numberOfRanges - lastRange - 1 ) );
+        numberOfRanges -= numberOfDeletedRanges;
+    }
+
+    ///////////////////////// Notification methods ///////////////////////////
+
+    /**
+     * Updates the lead and anchor indices, marking both the old and new
+     * indices as changed so that they are repainted.
+     *
+     * @param anchor
+     *            The new anchor index
+     * @param lead
+     *            The new lead index
+     */
+    private void updateLeadAnchorIndices( final int anchor, final int lead ) {
+        if ( anchorIndex != anchor ) {
+            markAsDirty( anchorIndex );
+            markAsDirty( anchor );
+        }
+        if ( leadIndex != lead ) {
+            markAsDirty( leadIndex );
+            markAsDirty( lead );
+        }
+
+        anchorIndex = anchor;
+        leadIndex = lead;
+    }
+
+    /**
+     * Widens the span of changed indices to include the specified index.
+     *
+     * @param index
+     *            The changed index, or {@code -1} to ignore
+     */
+    private void markAsDirty( final int index ) {
+        if ( index == -1 ) {
+            return;
+        }
+
+        firstAdjustedIndex = FastMath.min( firstAdjustedIndex, index );
+        lastAdjustedIndex = FastMath.max( lastAdjustedIndex, index );
+    }
+
+    /**
+     * Notifies the listeners of the indices changed by the latest operation,
+     * if any, and accumulates them while the selection is adjusting.
+     */
+    private void fireValueChanged() {
+        if ( lastAdjustedIndex == MIN ) {
+            return;
+        }
+
+        // If the selection is adjusting, keep track of the full span of
+        // changes, so that it can be reported once adjusting is finished.
+        if ( valueIsAdjusting ) {
+            firstChangedIndex = FastMath.min( firstChangedIndex, firstAdjustedIndex );
+            lastChangedIndex = FastMath.max( lastChangedIndex, lastAdjustedIndex );
+        }
+
+        // Reset the span before notifying, in case a listener changes the
+        // selection again.
+        final int firstIndex = firstAdjustedIndex;
+        final int lastIndex = lastAdjustedIndex;
+        firstAdjustedIndex = MAX;
+        lastAdjustedIndex = MIN;
+
+        fireValueChanged( firstIndex, lastIndex, valueIsAdjusting );
+    }
+
+    /**
+     * Notifies the listeners of all the indices changed while the selection
+     * was adjusting, if any.
+     *
+     * @param isAdjusting
+     *            {@code true} if the selection is still adjusting
+     */
+    private void fireAccumulatedValueChanged( final boolean isAdjusting ) {
+        if ( lastChangedIndex == MIN ) {
+            return;
+        }
+
+        final int firstIndex = firstChangedIndex;
+        final int lastIndex = lastChangedIndex;
+        firstChangedIndex = MAX;
+        lastChangedIndex = MIN;
+
+        fireValueChanged( firstIndex, lastIndex, isAdjusting );
+    }
+
+    /**
+     * Notifies the listeners that the selection changed between the specified
+     * indices.
+     *
+     * @param firstIndex
+     *            The first index that may have changed
+     * @param lastIndex
+     *            The last index that may have changed
+     * @param isAdjusting
+     *            {@code true} if the selection is still adjusting
+     *
+     * @since 1.0
+     */
+    protected void fireValueChanged( final int firstIndex,
+                                     final int lastIndex,
+                                     final boolean isAdjusting ) {
+        final Object[] listeners = listenerList.getListenerList();
+        ListSelectionEvent listSelectionEvent = null;
+        for ( int i = listeners.length - 2; i >= 0; i -= 2 ) {
+            if ( listeners[ i ] == ListSelectionListener.class ) {
+                if ( listSelectionEvent == null ) {
+                    listSelectionEvent = new ListSelectionEvent( this,
+                                                                 firstIndex,
+                                                                 lastIndex,
+                                                                 isAdjusting );
+                }
+                ( ( ListSelectionListener ) listeners[ i + 1 ] )
+                        .valueChanged( listSelectionEvent );
+            }
+        }
+    }
+
+}
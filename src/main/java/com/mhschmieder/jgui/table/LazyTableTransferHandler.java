@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.TransferHandler;
+import java.awt.datatransfer.Transferable;
+
+/**
+ * {@code LazyTableTransferHandler} is a copy-only {@link TransferHandler} for
+ * tables that exports the selected cells as a {@link LazyTableTransferable},
+ * so that copying a large selection to the clipboard doesn't format all of
+ * its cells up front on the event-dispatching thread.
+ * <p>
+ * Installing it on a table makes the table's standard copy key binding use
+ * it, in place of the default handler that builds the text eagerly.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class LazyTableTransferHandler extends TransferHandler {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long     serialVersionUID = 3395728476047318218L;
+
+    /**
+     * The delimited text format to copy the cells in.
+     */
+    private final DelimitedFormat format;
+
+    /**
+     * The most recently created transferable, which is disposed of when the
+     * next one replaces it, or {@code null} if none was created yet.
+     */
+    private transient LazyTableTransferable lastTransferable;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code LazyTableTransferHandler} that copies the cells as
+     * tab-separated values, which is what spreadsheets expect on paste.
+     *
+     * @since 1.0
+     */
+    public LazyTableTransferHandler() {
+        this( DelimitedFormat.TSV );
+    }
+
+    /**
+     * Constructs a {@code LazyTableTransferHandler} that copies the cells in
+     * the specified delimited text format.
+     *
+     * @param delimitedFormat
+     *            The delimited text format to copy the cells in
+     *
+     * @since 1.0
+     */
+    public LazyTableTransferHandler( final DelimitedFormat delimitedFormat ) {
+        // Always call the superclass constructor first!
+        super();
+
+        format = delimitedFormat;
+        lastTransferable = null;
+    }
+
+    /////////////////// TransferHandler method overrides /////////////////////
+
+    /**
+     * Returns {@link TransferHandler#COPY}, as tables are only copied from.
+     *
+     * @param component
+     *            The component holding the data to transfer
+     * @return {@link TransferHandler#COPY}
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getSourceActions( final JComponent component ) {
+        return COPY;
+    }
+
+    /**
+     * Returns a lazy transferable for the selected cells of the table, which
+     * only captures the selected row ranges and columns.
+     * <p>
+     * The previous transferable from this handler is disposed of, as it has
+     * presumably been replaced on the clipboard, so that its Table Model
+     * listener doesn't keep it alive.
+     *
+     * @param component
+     *            The table holding the data to transfer
+     * @return A lazy transferable for the selected cells, or {@code null} if
+     *         nothing is selected
+     *
+     * @since 1.0
+     */
+    @Override
+    protected Transferable createTransferable( final JComponent component ) {
+        if ( !( component instanceof JTable ) ) {
+            return null;
+        }
+
+        if ( lastTransferable != null ) {
+            lastTransferable.dispose();
+        }
+        lastTransferable = LazyTableTransferable.fromSelection( ( JTable ) component, format );
+
+        return lastTransferable;
+    }
+
+}
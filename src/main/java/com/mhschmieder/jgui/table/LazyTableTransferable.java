@@ -0,0 +1,813 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.awt.EventQueue;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+/**
+ * {@code LazyTableTransferable} is a {@link Transferable} for the selected
+ * cells of a table that defers writing them as delimited text until the data
+ * is actually requested, such as when it is pasted.
+ * <p>
+ * Only the selected row ranges and column indices are captured up front, so
+ * copying even hundreds of thousands of rows returns immediately. When the
+ * data is requested, the rows are streamed through a {@link Reader} that
+ * formats a block of rows at a time; blocks are read on the event-dispatching
+ * thread, so that paste requests from the clipboard's own thread don't race
+ * model updates, without blocking the event-dispatching thread for the whole
+ * selection.
+ * <p>
+ * As with any lazily rendered clipboard content, the cell values are those at
+ * the time of the request, so edits made in between are reflected. Inserting
+ * or deleting rows would change which model rows the captured indices refer
+ * to, though, so on the first such change the captured rows are mapped past
+ * it and their cell values are copied into a {@link TableSnapshot}; from then
+ * on, the transfer no longer reflects edits, and deleted rows are left out.
+ * A change to the whole table, such as a structure change, can't be mapped,
+ * so it invalidates the transfer, and requests for its data then fail with an
+ * {@link IOException}.
+ * <p>
+ * The changes are tracked by listening to the Table Model until the first of
+ * them, or until {@link #dispose()} is invoked once the transfer is no longer
+ * needed, such as when it has been replaced on the clipboard.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class LazyTableTransferable implements Transferable {
+
+    /**
+     * The data flavor for reading the text as a stream of characters.
+     */
+    public static final DataFlavor    READER_FLAVOR          =
+            createFlavor( "text/plain;class=java.io.Reader" ); //$NON-NLS-1$
+
+    /**
+     * The default number of rows that are formatted at a time.
+     */
+    public static final int           DEFAULT_ROWS_PER_BLOCK = 2048;
+
+    /**
+     * The supported data flavors, in order of preference.
+     */
+    private static final DataFlavor[] FLAVORS                =
+            new DataFlavor[] { READER_FLAVOR, DataFlavor.stringFlavor };
+
+    /**
+     * The Table Model whose cells are transferred.
+     */
+    private final TableModel       tableModel;
+
+    /**
+     * The model rows to transfer in view order, as inclusive ranges that are
+     * flattened into pairs of first and last model row indices.
+     */
+    private int[]                  modelRowRanges;
+
+    /**
+     * The model columns to transfer, in view order.
+     */
+    private final int[]            modelColumns;
+
+    /**
+     * The delimited text format to write the cells in.
+     */
+    private final DelimitedFormat  format;
+
+    /**
+     * The number of rows that are formatted at a time.
+     */
+    private final int              rowsPerBlock;
+
+    /**
+     * The copied cell values of the transferred rows, in order, once rows
+     * have been inserted into or deleted from the model since the copy; this
+     * is {@code null} until then.
+     */
+    private TableSnapshot          tableSnapshot;
+
+    /**
+     * Flag for whether the whole table changed since the copy, so that the
+     * transferred rows can no longer be found.
+     */
+    private boolean                invalidated;
+
+    /**
+     * The listener that catches the first structural change to the Table
+     * Model since the copy, or {@code null} once it has been removed.
+     */
+    private TableModelListener     structureTracker;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code LazyTableTransferable} for the specified model rows
+     * and columns.
+     * <p>
+     * This must be invoked on the event-dispatching thread, as it starts
+     * listening for structural changes to the Table Model.
+     *
+     * @param model
+     *            The Table Model whose cells are transferred
+     * @param rowRanges
+     *            The model rows to transfer in order, as inclusive ranges that
+     *            are flattened into pairs of first and last model row indices
+     * @param columns
+     *            The model columns to transfer, in order
+     * @param delimitedFormat
+     *            The delimited text format to write the cells in
+     * @param numberOfRowsPerBlock
+     *            The number of rows that are formatted at a time
+     *
+     * @since 1.0
+     */
+    public LazyTableTransferable( final TableModel model,
+                                  final int[] rowRanges,
+                                  final int[] columns,
+                                  final DelimitedFormat delimitedFormat,
+                                  final int numberOfRowsPerBlock ) {
+        tableModel = model;
+        modelRowRanges = rowRanges;
+        modelColumns = columns;
+        format = delimitedFormat;
+        rowsPerBlock = FastMath.max( 1, numberOfRowsPerBlock );
+        tableSnapshot = null;
+        invalidated = false;
+
+        structureTracker = this::modelChanged;
+        tableModel.addTableModelListener( structureTracker );
+    }
+
+    /**
+     * Returns a {@code LazyTableTransferable} for the selected cells of a
+     * table, or {@code null} if nothing is selected.
+     * <p>
+     * All columns are transferred unless column selection is allowed, as with
+     * the table's own copy action. The selection is read in time proportional
+     * to the number of selected ranges when it is held by an
+     * {@link IntervalListSelectionModel} and the table is unsorted; otherwise
+     * each selected row is visited once, but no cells are read.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @param table
+     *            The table whose selected cells are transferred
+     * @param delimitedFormat
+     *            The delimited text format to write the cells in
+     * @return A transferable for the selected cells, or {@code null} if
+     *         nothing is selected
+     *
+     * @since 1.0
+     */
+    public static LazyTableTransferable fromSelection( final JTable table,
+                                                       final DelimitedFormat delimitedFormat ) {
+        final int[] viewColumns = table.getColumnSelectionAllowed()
+            ? table.getSelectedColumns()
+            : null;
+        final int numberOfColumns = ( viewColumns != null )
+            ? viewColumns.length
+            : table.getColumnCount();
+        final int[] columns = new int[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            columns[ column ] = table.convertColumnIndexToModel( ( viewColumns != null )
+                ? viewColumns[ column ]
+                : column );
+        }
+
+        final int[] rowRanges = getSelectedModelRowRanges( table );
+        if ( ( columns.length == 0 ) || ( rowRanges.length == 0 ) ) {
+            return null;
+        }
+
+        return new LazyTableTransferable( table.getModel(),
+                                          rowRanges,
+                                          columns,
+                                          delimitedFormat,
+                                          DEFAULT_ROWS_PER_BLOCK );
+    }
+
+    /**
+     * Returns the selected rows of a table as model row ranges in view order,
+     * coalescing consecutive model rows into a single range. All rows are
+     * returned if row selection isn't allowed.
+     *
+     * @param table
+     *            The table whose selected rows are returned
+     * @return The selected model rows in view order, as inclusive ranges that
+     *         are flattened into pairs of first and last model row indices
+     */
+    private static int[] getSelectedModelRowRanges( final JTable table ) {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int lastViewRow = table.getRowCount() - 1;
+        final boolean sorted = table.getRowSorter() != null;
+        final RangeBuilder rangeBuilder = new RangeBuilder();
+        if ( lastViewRow < 0 ) {
+            return rangeBuilder.toArray();
+        }
+
+        if ( !table.getRowSelectionAllowed() ) {
+            if ( !sorted ) {
+                rangeBuilder.addRange( 0, lastViewRow );
+            }
+            else {
+                for ( int row = 0; row <= lastViewRow; row++ ) {
+                    rangeBuilder.addRow( table.convertRowIndexToModel( row ) );
+                }
+            }
+        }
+        else if ( selectionModel instanceof IntervalListSelectionModel ) {
+            final IntervalListSelectionModel intervalSelectionModel =
+                                                                    ( IntervalListSelectionModel ) selectionModel;
+            final int numberOfRanges = intervalSelectionModel.getRangeCount();
+            for ( int range = 0; range < numberOfRanges; range++ ) {
+                final int first = intervalSelectionModel.getRangeStart( range );
+                final int last = FastMath.min( intervalSelectionModel.getRangeEnd( range ),
+                                               lastViewRow );
+                if ( first > last ) {
+                    break;
+                }
+                if ( !sorted ) {
+                    rangeBuilder.addRange( first, last );
+                    continue;
+                }
+                for ( int row = first; row <= last; row++ ) {
+                    rangeBuilder.addRow( table.convertRowIndexToModel( row ) );
+                }
+            }
+        }
+        else if ( !selectionModel.isSelectionEmpty() ) {
+            final int first = selectionModel.getMinSelectionIndex();
+            final int last = FastMath.min( selectionModel.getMaxSelectionIndex(), lastViewRow );
+            for ( int row = first; row <= last; row++ ) {
+                if ( selectionModel.isSelectedIndex( row ) ) {
+                    rangeBuilder.addRow( sorted ? table.convertRowIndexToModel( row ) : row );
+                }
+            }
+        }
+
+        return rangeBuilder.toArray();
+    }
+
+    /**
+     * Stops tracking structural changes to the Table Model, which should be
+     * invoked once this transfer is no longer needed, so that the model
+     * doesn't keep it alive.
+     * <p>
+     * If rows are inserted or deleted afterwards, and this transfer's data is
+     * still requested, the captured model row indices may refer to different
+     * rows than the ones that were copied.
+     * <p>
+     * This method must be invoked on the event-dispatching thread.
+     *
+     * @since 1.0
+     */
+    public final void dispose() {
+        if ( structureTracker != null ) {
+            tableModel.removeTableModelListener( structureTracker );
+            structureTracker = null;
+        }
+    }
+
+    /**
+     * Maps the transferred rows past the first structural change to the Table
+     * Model since the copy, and copies their cell values so that later
+     * changes can't affect them; changes to the whole table invalidate the
+     * transfer instead. Cell updates are ignored, as they are read lazily.
+     *
+     * @param tableModelEvent
+     *            The event describing the change to the Table Model
+     */
+    private void modelChanged( final TableModelEvent tableModelEvent ) {
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        final int eventType = tableModelEvent.getType();
+        final boolean wholeTableChanged = ( firstRow == TableModelEvent.HEADER_ROW )
+                || ( lastRow == Integer.MAX_VALUE );
+        if ( !wholeTableChanged && ( eventType == TableModelEvent.UPDATE ) ) {
+            return;
+        }
+
+        dispose();
+
+        if ( wholeTableChanged ) {
+            invalidated = true;
+            return;
+        }
+
+        modelRowRanges = ( eventType == TableModelEvent.INSERT )
+            ? insertRows( modelRowRanges, firstRow, lastRow )
+            : deleteRows( modelRowRanges, firstRow, lastRow );
+
+        final int[] modelRows = new int[ ( int ) getNumberOfRows() ];
+        int row = 0;
+        for ( int range = 0; range < modelRowRanges.length; range += 2 ) {
+            for ( int modelRow = modelRowRanges[ range ];
+                  modelRow <= modelRowRanges[ range + 1 ]; modelRow++ ) {
+                modelRows[ row++ ] = modelRow;
+            }
+        }
+        tableSnapshot = TableSnapshot.of( tableModel, modelRows, modelColumns );
+    }
+
+    /**
+     * Returns the specified model row ranges, renumbered past a block of
+     * inserted rows; a range that the block is inserted into is split around
+     * it, as the inserted rows weren't copied.
+     *
+     * @param rowRanges
+     *            The flattened model row ranges to renumber
+     * @param firstRow
+     *            The first inserted model row index
+     * @param lastRow
+     *            The last inserted model row index
+     * @return The renumbered, flattened model row ranges
+     */
+    private static int[] insertRows( final int[] rowRanges,
+                                     final int firstRow,
+                                     final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        final RangeBuilder rangeBuilder = new RangeBuilder();
+        for ( int range = 0; range < rowRanges.length; range += 2 ) {
+            final int first = rowRanges[ range ];
+            final int last = rowRanges[ range + 1 ];
+            if ( last < firstRow ) {
+                rangeBuilder.addRange( first, last );
+            }
+            else if ( first >= firstRow ) {
+                rangeBuilder.addRange( first + numberOfRows, last + numberOfRows );
+            }
+            else {
+                rangeBuilder.addRange( first, firstRow - 1 );
+                rangeBuilder.addRange( firstRow + numberOfRows, last + numberOfRows );
+            }
+        }
+
+        return rangeBuilder.toArray();
+    }
+
+    /**
+     * Returns the specified model row ranges without a block of deleted rows,
+     * with the rows after it renumbered.
+     *
+     * @param rowRanges
+     *            The flattened model row ranges to renumber
+     * @param firstRow
+     *            The first deleted model row index
+     * @param lastRow
+     *            The last deleted model row index
+     * @return The renumbered, flattened model row ranges
+     */
+    private static int[] deleteRows( final int[] rowRanges,
+                                     final int firstRow,
+                                     final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        final RangeBuilder rangeBuilder = new RangeBuilder();
+        for ( int range = 0; range < rowRanges.length; range += 2 ) {
+            final int first = rowRanges[ range ];
+            final int last = rowRanges[ range + 1 ];
+            final int lastBefore = FastMath.min( last, firstRow - 1 );
+            if ( first <= lastBefore ) {
+                rangeBuilder.addRange( first, lastBefore );
+            }
+            final int firstAfter = FastMath.max( first, lastRow + 1 );
+            if ( firstAfter <= last ) {
+                rangeBuilder.addRange( firstAfter - numberOfRows, last - numberOfRows );
+            }
+        }
+
+        return rangeBuilder.toArray();
+    }
+
+    /**
+     * Returns the data flavor for the specified MIME type.
+     *
+     * @param mimeType
+     *            The MIME type of the data flavor
+     * @return The data flavor for the MIME type
+     */
+    private static DataFlavor createFlavor( final String mimeType ) {
+        try {
+            return new DataFlavor( mimeType );
+        }
+        catch ( final ClassNotFoundException cnfe ) {
+            throw new IllegalStateException( cnfe );
+        }
+    }
+
+    ////////////////// Transferable method implementations ///////////////////
+
+    /**
+     * Returns the supported data flavors, with the streaming flavor first.
+     *
+     * @return The supported data flavors
+     *
+     * @since 1.0
+     */
+    @Override
+    public DataFlavor[] getTransferDataFlavors() {
+        return FLAVORS.clone();
+    }
+
+    /**
+     * Returns {@code true} if the specified data flavor is supported.
+     *
+     * @param flavor
+     *            The requested data flavor
+     * @return {@code true} if the data flavor is supported
+     *
+     * @since 1.0
+     */
+    @Override
+    public boolean isDataFlavorSupported( final DataFlavor flavor ) {
+        return READER_FLAVOR.equals( flavor ) || DataFlavor.stringFlavor.equals( flavor );
+    }
+
+    /**
+     * Returns the transferred cells as delimited text, either as a
+     * {@link Reader} that formats the rows as they are read, or as a single
+     * {@link String}.
+     *
+     * @param flavor
+     *            The requested data flavor
+     * @return The transferred cells as delimited text
+     * @throws UnsupportedFlavorException
+     *             If the data flavor is not supported
+     * @throws IOException
+     *             If the rows can't be read from the event-dispatching thread,
+     *             or the whole table changed since the copy
+     *
+     * @since 1.0
+     */
+    @Override
+    public Object getTransferData( final DataFlavor flavor )
+            throws UnsupportedFlavorException, IOException {
+        if ( READER_FLAVOR.equals( flavor ) ) {
+            return new TableTextReader();
+        }
+        if ( !DataFlavor.stringFlavor.equals( flavor ) ) {
+            throw new UnsupportedFlavorException( flavor );
+        }
+
+        final StringBuilder text = new StringBuilder();
+        try ( final Reader reader = new TableTextReader() ) {
+            final char[] buffer = new char[ 8192 ];
+            int numberOfChars;
+            while ( ( numberOfChars = reader.read( buffer ) ) >= 0 ) {
+                text.append( buffer, 0, numberOfChars );
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Returns the number of transferred rows, including any that have since
+     * been deleted from the end of the model if the deletion wasn't tracked.
+     *
+     * @return The number of transferred rows
+     *
+     * @since 1.0
+     */
+    public final long getNumberOfRows() {
+        long numberOfRows = 0L;
+        for ( int range = 0; range < modelRowRanges.length; range += 2 ) {
+            numberOfRows += ( modelRowRanges[ range + 1 ] - modelRowRanges[ range ] ) + 1L;
+        }
+
+        return numberOfRows;
+    }
+
+    /**
+     * {@code TableTextReader} is a {@link Reader} over the delimited text of
+     * the transferred cells, which formats one block of rows at a time on the
+     * event-dispatching thread.
+     */
+    private final class TableTextReader extends Reader {
+
+        /**
+         * The formatted text of the current block of rows.
+         */
+        private final StringBuilder block;
+
+        /**
+         * The position of the next character to read from the current block.
+         */
+        private int                 blockPosition;
+
+        /**
+         * The index of the current range in the flattened row ranges.
+         */
+        private int                 rangeIndex;
+
+        /**
+         * The next model row to format, within the current range.
+         */
+        private int                 nextRow;
+
+        /**
+         * The number of rows formatted so far, which is the position of the
+         * next row to format once the rows have been copied into a snapshot.
+         */
+        private int                 numberOfRowsRead;
+
+        /**
+         * Flag for whether the whole table changed since the copy, as seen
+         * from the event-dispatching thread.
+         */
+        private boolean             failed;
+
+        /**
+         * Flag for whether this reader has been closed.
+         */
+        private boolean             closed;
+
+        /**
+         * Constructs a {@code TableTextReader} positioned at the first row.
+         */
+        TableTextReader() {
+            // Always call the superclass constructor first!
+            super();
+
+            block = new StringBuilder();
+            blockPosition = 0;
+            rangeIndex = 0;
+            nextRow = ( modelRowRanges.length > 0 ) ? modelRowRanges[ 0 ] : 0;
+            numberOfRowsRead = 0;
+            failed = false;
+            closed = false;
+        }
+
+        @Override
+        public int read( final char[] buffer, final int offset, final int length )
+                throws IOException {
+            if ( length == 0 ) {
+                return 0;
+            }
+            if ( ( blockPosition >= block.length() ) && !fillBlock() ) {
+                return -1;
+            }
+
+            final int numberOfChars = FastMath.min( length, block.length() - blockPosition );
+            block.getChars( blockPosition, blockPosition + numberOfChars, buffer, offset );
+            blockPosition += numberOfChars;
+
+            return numberOfChars;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            block.setLength( 0 );
+            blockPosition = 0;
+        }
+
+        /**
+         * Formats the next non-empty block of rows, on the event-dispatching
+         * thread.
+         * <p>
+         * A block whose rows were all deleted since the copy formats empty,
+         * so blocks keep being formatted until one produces some text or the
+         * ranges run out; each block is formatted in its own trip to the
+         * event-dispatching thread, to keep that thread responsive.
+         *
+         * @return {@code false} if there are no more rows
+         * @throws IOException
+         *             If the rows can't be read from the event-dispatching
+         *             thread, or the whole table changed since the copy
+         */
+        private boolean fillBlock() throws IOException {
+            block.setLength( 0 );
+            blockPosition = 0;
+            boolean moreRows = !closed;
+            while ( ( block.length() == 0 ) && moreRows ) {
+                if ( EventQueue.isDispatchThread() ) {
+                    formatBlock();
+                }
+                else {
+                    try {
+                        EventQueue.invokeAndWait( this::formatBlock );
+                    }
+                    catch ( final InterruptedException ie ) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException( ie.getMessage() );
+                    }
+                    catch ( final InvocationTargetException ite ) {
+                        throw new IOException( ite.getCause() );
+                    }
+                }
+                if ( failed ) {
+                    throw new IOException( "The table changed since it was copied" ); //$NON-NLS-1$
+                }
+                moreRows = hasMoreRows();
+            }
+
+            return block.length() > 0;
+        }
+
+        /**
+         * Returns {@code true} if there are rows left to format.
+         *
+         * @return {@code true} if there are rows left to format
+         */
+        private boolean hasMoreRows() {
+            if ( closed ) {
+                return false;
+            }
+            final TableSnapshot snapshot = tableSnapshot;
+            return ( snapshot != null )
+                ? numberOfRowsRead < snapshot.getRowCount()
+                : rangeIndex < modelRowRanges.length;
+        }
+
+        /**
+         * Formats up to one block of rows, from the snapshot if the rows have
+         * been copied into one, or else from the model, skipping rows that
+         * are no longer in it.
+         */
+        private void formatBlock() {
+            if ( invalidated ) {
+                failed = true;
+                return;
+            }
+            if ( tableSnapshot != null ) {
+                formatSnapshotBlock();
+                return;
+            }
+
+            final int rowCount = tableModel.getRowCount();
+            int numberOfRows = 0;
+            while ( ( numberOfRows < rowsPerBlock ) && ( rangeIndex < modelRowRanges.length ) ) {
+                if ( nextRow > modelRowRanges[ rangeIndex + 1 ] ) {
+                    rangeIndex += 2;
+                    if ( rangeIndex < modelRowRanges.length ) {
+                        nextRow = modelRowRanges[ rangeIndex ];
+                    }
+                    continue;
+                }
+
+                if ( nextRow >= rowCount ) {
+                    // The rest of this range was deleted since the copy.
+                    nextRow = modelRowRanges[ rangeIndex + 1 ] + 1;
+                    continue;
+                }
+
+                formatRow( nextRow );
+                nextRow++;
+                numberOfRows++;
+                numberOfRowsRead++;
+            }
+        }
+
+        /**
+         * Formats up to one block of rows from the snapshot, continuing from
+         * the same position if the rows were copied partway through reading.
+         */
+        private void formatSnapshotBlock() {
+            final int lastRow = FastMath.min( numberOfRowsRead + rowsPerBlock,
+                                              tableSnapshot.getRowCount() );
+            for ( ; numberOfRowsRead < lastRow; numberOfRowsRead++ ) {
+                for ( int column = 0; column < modelColumns.length; column++ ) {
+                    if ( column > 0 ) {
+                        block.append( format.getDelimiter() );
+                    }
+                    appendValue( tableSnapshot.getValueAt( numberOfRowsRead,
+                                                           modelColumns[ column ] ) );
+                }
+                block.append( format.getRecordSeparator() );
+            }
+        }
+
+        /**
+         * Appends one record for the specified model row to the block.
+         *
+         * @param modelRow
+         *            The model row index
+         */
+        private void formatRow( final int modelRow ) {
+            for ( int column = 0; column < modelColumns.length; column++ ) {
+                if ( column > 0 ) {
+                    block.append( format.getDelimiter() );
+                }
+                appendValue( tableModel.getValueAt( modelRow, modelColumns[ column ] ) );
+            }
+            block.append( format.getRecordSeparator() );
+        }
+
+        /**
+         * Appends one cell value to the block, as an empty field if it is
+         * {@code null}.
+         *
+         * @param value
+         *            The cell value to append
+         */
+        private void appendValue( final Object value ) {
+            if ( value != null ) {
+                format.appendField( block, value.toString() );
+            }
+        }
+
+    }
+
+    /**
+     * {@code RangeBuilder} accumulates row indices into flattened inclusive
+     * ranges, extending the last range when rows are consecutive.
+     */
+    private static final class RangeBuilder {
+
+        /**
+         * The flattened ranges, as pairs of first and last row indices.
+         */
+        private int[] ranges = new int[ 16 ];
+
+        /**
+         * The number of used elements in the flattened ranges.
+         */
+        private int   size   = 0;
+
+        /**
+         * Adds a row, extending the last range if it follows on from it.
+         *
+         * @param row
+         *            The row index to add
+         */
+        void addRow( final int row ) {
+            addRange( row, row );
+        }
+
+        /**
+         * Adds an inclusive range of rows, extending the last range if it
+         * follows on from it.
+         *
+         * @param first
+         *            The first row index of the range
+         * @param last
+         *            The last row index of the range
+         */
+        void addRange( final int first, final int last ) {
+            if ( ( size > 0 ) && ( ranges[ size - 1 ] == first - 1 ) ) {
+                ranges[ size - 1 ] = last;
+                return;
+            }
+            if ( size == ranges.length ) {
+                ranges = Arrays.copyOf( ranges, size << 1 );
+            }
+            ranges[ size++ ] = first;
+            ranges[ size++ ] = last;
+        }
+
+        /**
+         * Returns the flattened ranges, trimmed to size.
+         *
+         * @return The flattened ranges
+         */
+        int[] toArray() {
+            return Arrays.copyOf( ranges, size );
+        }
+
+    }
+
+}
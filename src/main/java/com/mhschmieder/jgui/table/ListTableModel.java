@@ -0,0 +1,577 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * {@code ListTableModel} is a Table Model for a list of row data objects,
+ * which can be refreshed from a new version of the list by applying a
+ * {@link SnapshotDiff} rather than by replacing the model.
+ * <p>
+ * Applying a diff fires one event per contiguous run of deleted, inserted or
+ * updated rows, so the table keeps its selection and scroll position, and
+ * row sorters and listeners only do work in proportion to the change.
+ * <p>
+ * The rows are stored in a gap buffer, so that the runs of a diff can be
+ * applied in a single forward sweep, with the model consistent at each event
+ * and each row moved at most once per sweep.
+ * <p>
+ * As with all Swing models, this model must only be used on the
+ * event-dispatching thread.
+ *
+ * @param <T>
+ *            The type of the row data objects
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class ListTableModel< T > extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long            serialVersionUID         = 3384105372964712306L;
+
+    /**
+     * The initial capacity of the row storage.
+     */
+    public static final int              DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The accessor that presents the fields of each row as columns.
+     */
+    private final TableRowAccessor< T > rowAccessor;
+
+    /**
+     * The row storage, which has a gap of unused slots between the rows
+     * before the gap start and the rows from the gap end onwards.
+     */
+    private Object[]                    elements;
+
+    /**
+     * The number of rows.
+     */
+    private int                         rowCount;
+
+    /**
+     * The storage index of the first unused slot in the gap.
+     */
+    private int                         gapStart;
+
+    /**
+     * The storage index just past the last unused slot in the gap.
+     */
+    private int                         gapEnd;
+
+    /**
+     * The number of structural or content changes made to the rows, which is
+     * used to detect whether a snapshot of them has gone stale.
+     */
+    private long                        modificationCount;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code ListTableModel}.
+     *
+     * @param accessor
+     *            The accessor that presents the fields of each row as columns
+     *
+     * @since 1.0
+     */
+    public ListTableModel( final TableRowAccessor< T > accessor ) {
+        // Always call the superclass constructor first!
+        super();
+
+        rowAccessor = Objects.requireNonNull( accessor, "accessor" ); //$NON-NLS-1$
+
+        elements = new Object[ DEFAULT_INITIAL_CAPACITY ];
+        rowCount = 0;
+        gapStart = 0;
+        gapEnd = elements.length;
+        modificationCount = 0L;
+    }
+
+    /**
+     * Constructs a {@code ListTableModel} with the specified initial rows.
+     *
+     * @param accessor
+     *            The accessor that presents the fields of each row as columns
+     * @param rows
+     *            The initial row data objects, in row order
+     *
+     * @since 1.0
+     */
+    public ListTableModel( final TableRowAccessor< T > accessor, final List< ? extends T > rows ) {
+        this( accessor );
+
+        insertElements( 0, rows, 0, rows.size() );
+    }
+
+    ////////////////////// TableModel method overrides ///////////////////////
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getColumnCount() {
+        return rowAccessor.getColumnCount();
+    }
+
+    /**
+     * Returns the name of the specified column.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public String getColumnName( final int column ) {
+        return rowAccessor.getColumnName( column );
+    }
+
+    /**
+     * Returns the class of the values in the specified column.
+     *
+     * @param columnIndex
+     *            The column index
+     * @return The class of the values in the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public Class< ? > getColumnClass( final int columnIndex ) {
+        return rowAccessor.getColumnClass( columnIndex );
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param rowIndex
+     *            The model row index
+     * @param columnIndex
+     *            The model column index
+     * @return The value of the specified cell
+     *
+     * @since 1.0
+     */
+    @Override
+    public Object getValueAt( final int rowIndex, final int columnIndex ) {
+        return rowAccessor.getValueAt( getRow( rowIndex ), columnIndex );
+    }
+
+    ///////////////////////// Row access methods /////////////////////////////
+
+    /**
+     * Returns the row data object at the specified model row index.
+     *
+     * @param rowIndex
+     *            The model row index
+     * @return The row data object at the specified model row index
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public final T getRow( final int rowIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+        return ( T ) elements[ toStorageIndex( rowIndex ) ];
+    }
+
+    /**
+     * Returns the number of changes made to the rows so far, which can be
+     * compared before and after some other work to find out whether the rows
+     * changed in the meantime.
+     *
+     * @return The number of changes made to the rows so far
+     *
+     * @since 1.0
+     */
+    public final long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a read-only view of the rows, which reflects all later changes
+     * to the model, such as for use as the old rows of a {@link SnapshotDiff}.
+     *
+     * @return A read-only view of the rows
+     *
+     * @since 1.0
+     */
+    public final List< T > getRows() {
+        return new RowView();
+    }
+
+    /**
+     * Replaces the row at the specified index, and fires an update event.
+     *
+     * @param rowIndex
+     *            The model row index
+     * @param row
+     *            The new row data object
+     *
+     * @since 1.0
+     */
+    public final void setRow( final int rowIndex, final T row ) {
+        Objects.checkIndex( rowIndex, rowCount );
+        elements[ toStorageIndex( rowIndex ) ] = row;
+        modificationCount++;
+
+        fireTableRowsUpdated( rowIndex, rowIndex );
+    }
+
+    /**
+     * Inserts the specified rows at the specified index, and fires a single
+     * insertion event.
+     *
+     * @param rowIndex
+     *            The index of the first inserted row
+     * @param rows
+     *            The row data objects to insert, in row order
+     *
+     * @since 1.0
+     */
+    public final void insertRows( final int rowIndex, final List< ? extends T > rows ) {
+        Objects.checkIndex( rowIndex, rowCount + 1 );
+        if ( rows.isEmpty() ) {
+            return;
+        }
+
+        insertElements( rowIndex, rows, 0, rows.size() );
+        fireTableRowsInserted( rowIndex, ( rowIndex + rows.size() ) - 1 );
+    }
+
+    /**
+     * Appends the specified rows, and fires a single insertion event.
+     *
+     * @param rows
+     *            The row data objects to append, in row order
+     *
+     * @since 1.0
+     */
+    public final void appendRows( final List< ? extends T > rows ) {
+        insertRows( rowCount, rows );
+    }
+
+    /**
+     * Removes the specified inclusive range of rows, and fires a single
+     * deletion event.
+     *
+     * @param firstRow
+     *            The index of the first row to remove
+     * @param lastRow
+     *            The index of the last row to remove
+     *
+     * @since 1.0
+     */
+    public final void removeRows( final int firstRow, final int lastRow ) {
+        Objects.checkFromToIndex( firstRow, lastRow + 1, rowCount );
+        if ( lastRow < firstRow ) {
+            return;
+        }
+
+        deleteElements( firstRow, ( lastRow - firstRow ) + 1 );
+        fireTableRowsDeleted( firstRow, lastRow );
+    }
+
+    /**
+     * Replaces all of the rows, and fires a data changed event, which resets
+     * the table's selection; use {@link #applySnapshot} to keep it instead.
+     *
+     * @param rows
+     *            The new row data objects, in row order
+     *
+     * @since 1.0
+     */
+    public final void setRows( final List< ? extends T > rows ) {
+        Arrays.fill( elements, null );
+        rowCount = 0;
+        gapStart = 0;
+        gapEnd = elements.length;
+        insertElements( 0, rows, 0, rows.size() );
+
+        fireTableDataChanged();
+    }
+
+    ////////////////////// Snapshot refresh methods //////////////////////////
+
+    /**
+     * Returns the difference that was applied, after refreshing the model
+     * from a new version of its rows.
+     *
+     * @param newRows
+     *            The new version of the rows
+     * @param rowKey
+     *            The function that returns the identifying key of a row
+     * @param rowEquality
+     *            The predicate that returns {@code true} if an old row and the
+     *            matching new row have the same contents
+     * @return The difference that was applied
+     *
+     * @see SnapshotDiff#compute
+     *
+     * @since 1.0
+     */
+    public final SnapshotDiff applySnapshot( final List< ? extends T > newRows,
+                                             final Function< ? super T, ? > rowKey,
+                                             final BiPredicate< ? super T, ? super T > rowEquality ) {
+        final SnapshotDiff snapshotDiff = SnapshotDiff.compute( getRows(),
+                                                                newRows,
+                                                                rowKey,
+                                                                rowEquality );
+        applySnapshotDiff( snapshotDiff, newRows );
+
+        return snapshotDiff;
+    }
+
+    /**
+     * Refreshes the model from a new version of its rows, using a difference
+     * computed earlier, such as off the event-dispatching thread from a copy
+     * of the rows.
+     * <p>
+     * Runs of deleted rows are removed first, then runs of inserted rows are
+     * added, and finally runs of updated rows are reported, each with one
+     * event per run. All retained rows are replaced by their new versions,
+     * whether or not their contents changed.
+     *
+     * @param snapshotDiff
+     *            The difference between the model's current rows and the new
+     *            rows, which must have been computed from the current rows
+     * @param newRows
+     *            The new version of the rows
+     *
+     * @since 1.0
+     */
+    public final void applySnapshotDiff( final SnapshotDiff snapshotDiff,
+                                         final List< ? extends T > newRows ) {
+        if ( ( snapshotDiff.getOldRowCount() != rowCount )
+                || ( snapshotDiff.getNewRowCount() != newRows.size() ) ) {
+            throw new IllegalArgumentException( "Snapshot diff does not match the row counts" ); //$NON-NLS-1$
+        }
+
+        // Sweep forwards through the deletions and then the insertions, so
+        // that the gap only ever moves towards the end of the rows.
+        snapshotDiff.visitDeletedRuns( ( firstRow, runLength ) -> {
+            deleteElements( firstRow, runLength );
+            fireTableRowsDeleted( firstRow, ( firstRow + runLength ) - 1 );
+        } );
+        snapshotDiff.visitInsertedRuns( ( firstRow, runLength ) -> {
+            insertElements( firstRow, newRows, firstRow, runLength );
+            fireTableRowsInserted( firstRow, ( firstRow + runLength ) - 1 );
+        } );
+
+        // The model now has the new rows in the new order, so swap in the new
+        // versions of the retained rows, and report the ones that changed.
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            elements[ toStorageIndex( rowIndex ) ] = newRows.get( rowIndex );
+        }
+        modificationCount++;
+        snapshotDiff.visitUpdatedRuns( ( firstRow, runLength ) -> {
+            fireTableRowsUpdated( firstRow, ( firstRow + runLength ) - 1 );
+        } );
+    }
+
+    ///////////////////////// Gap buffer methods /////////////////////////////
+
+    /**
+     * Returns the storage index of the specified model row index.
+     *
+     * @param rowIndex
+     *            The model row index
+     * @return The storage index of the specified model row index
+     */
+    private int toStorageIndex( final int rowIndex ) {
+        return ( rowIndex < gapStart ) ? rowIndex : rowIndex + ( gapEnd - gapStart );
+    }
+
+    /**
+     * Inserts a run of rows from a list at the specified index, without firing
+     * any events.
+     *
+     * @param rowIndex
+     *            The index of the first inserted row
+     * @param rows
+     *            The list to take the row data objects from
+     * @param firstRow
+     *            The index in the list of the first row to insert
+     * @param numberOfRows
+     *            The number of rows to insert
+     */
+    private void insertElements( final int rowIndex,
+                                 final List< ? extends T > rows,
+                                 final int firstRow,
+                                 final int numberOfRows ) {
+        moveGap( rowIndex );
+        ensureGap( numberOfRows );
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            elements[ gapStart++ ] = rows.get( firstRow + row );
+        }
+        rowCount += numberOfRows;
+        modificationCount++;
+    }
+
+    /**
+     * Deletes a run of rows from the specified index, without firing any
+     * events.
+     *
+     * @param rowIndex
+     *            The index of the first deleted row
+     * @param numberOfRows
+     *            The number of rows to delete
+     */
+    private void deleteElements( final int rowIndex, final int numberOfRows ) {
+        moveGap( rowIndex );
+        Arrays.fill( elements, gapEnd, gapEnd + numberOfRows, null );
+        gapEnd += numberOfRows;
+        rowCount -= numberOfRows;
+        modificationCount++;
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified row index, copying only
+     * the rows between the old and new gap positions.
+     *
+     * @param rowIndex
+     *            The row index at which the gap should start
+     */
+    private void moveGap( final int rowIndex ) {
+        final int gapLength = gapEnd - gapStart;
+        if ( rowIndex < gapStart ) {
+            // Shift the rows between the new and old gap start to after the
+            // gap, then release the slots they vacated.
+            final int distance = gapStart - rowIndex;
+            System.arraycopy( elements, rowIndex, elements, gapEnd - distance, distance );
+            Arrays.fill( elements, rowIndex, FastMath.min( gapStart, gapEnd - distance ), null );
+            gapStart = rowIndex;
+            gapEnd -= distance;
+        }
+        else if ( rowIndex > gapStart ) {
+            // Shift the rows between the old and new gap start to before the
+            // gap, then release the slots they vacated.
+            final int distance = rowIndex - gapStart;
+            System.arraycopy( elements, gapEnd, elements, gapStart, distance );
+            Arrays.fill( elements,
+                         FastMath.max( gapEnd, gapStart + distance ),
+                         gapEnd + distance,
+                         null );
+            gapStart = rowIndex;
+            gapEnd = rowIndex + gapLength;
+        }
+    }
+
+    /**
+     * Grows the storage, if necessary, so that the gap can hold at least the
+     * specified number of rows.
+     *
+     * @param numberOfRows
+     *            The number of rows that the gap must be able to hold
+     */
+    private void ensureGap( final int numberOfRows ) {
+        if ( ( gapEnd - gapStart ) >= numberOfRows ) {
+            return;
+        }
+
+        // Grow geometrically, so that repeated inserts are amortized.
+        final int capacity = elements.length;
+        final long grownCapacity = ( long ) capacity + ( capacity >> 1 ) + 1L;
+        final int newCapacity = ( int ) FastMath.max( ( long ) rowCount + numberOfRows,
+                                                      FastMath.min( grownCapacity,
+                                                                    Integer.MAX_VALUE - 8L ) );
+        final Object[] newElements = new Object[ newCapacity ];
+        final int numberOfTrailingRows = capacity - gapEnd;
+        System.arraycopy( elements, 0, newElements, 0, gapStart );
+        System.arraycopy( elements,
+                          gapEnd,
+                          newElements,
+                          newCapacity - numberOfTrailingRows,
+                          numberOfTrailingRows );
+        elements = newElements;
+        gapEnd = newCapacity - numberOfTrailingRows;
+    }
+
+    /**
+     * {@code RowView} is a read-only list view of the model's rows.
+     */
+    private final class RowView extends AbstractList< T > implements RandomAccess {
+
+        /**
+         * Returns the row data object at the specified index.
+         *
+         * @param index
+         *            The model row index
+         * @return The row data object at the specified index
+         */
+        @Override
+        public T get( final int index ) {
+            return getRow( index );
+        }
+
+        /**
+         * Returns the number of rows.
+         *
+         * @return The number of rows
+         */
+        @Override
+        public int size() {
+            return rowCount;
+        }
+
+    }
+
+}
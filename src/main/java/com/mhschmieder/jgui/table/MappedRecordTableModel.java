@@ -0,0 +1,415 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.table.AbstractTableModel;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code MappedRecordTableModel} is a read-only Table Model that is backed by
+ * a memory-mapped file of fixed-width binary records, one record per row.
+ * <p>
+ * Rows are decoded on demand from page-sized mappings of the file, of which
+ * only a small number are kept in a least-recently-used cache, so that
+ * startup time and heap use stay flat regardless of the size of the file.
+ * This makes it possible to browse multi-million-row datasets in a table.
+ * <p>
+ * As with most Swing models, this class must only be accessed from the
+ * event-dispatching thread. Note that automatic row sorting allocates index
+ * arrays proportional to the row count, so should usually be turned off for
+ * very large files.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class MappedRecordTableModel extends AbstractTableModel implements Closeable {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long                         serialVersionUID             =
+                                                                       -3108462958226093351L;
+
+    /**
+     * The default size of each mapped page, in bytes.
+     */
+    public static final int                           DEFAULT_PAGE_SIZE_BYTES      = 1 << 20;
+
+    /**
+     * The default maximum number of mapped pages to keep in the page cache.
+     */
+    public static final int                           DEFAULT_MAXIMUM_CACHED_PAGES = 16;
+
+    /**
+     * The file channel that the records are mapped from.
+     */
+    private final transient FileChannel               fileChannel;
+
+    /**
+     * The decoder for the cell values of each record.
+     */
+    private final transient RecordDecoder             recordDecoder;
+
+    /**
+     * The length of the file header that precedes the first record, in bytes.
+     */
+    private final long                                headerLength;
+
+    /**
+     * The length of each record, in bytes.
+     */
+    private final int                                 recordLength;
+
+    /**
+     * The number of records in each mapped page.
+     */
+    private final int                                 recordsPerPage;
+
+    /**
+     * The number of records in the file, which is also the row count.
+     */
+    private final int                                 numberOfRecords;
+
+    /**
+     * The least-recently-used cache of mapped pages, keyed by page index.
+     */
+    private final transient Map< Integer, ByteBuffer > pageCache;
+
+    /**
+     * The index of the most recently accessed page, as consecutive cell
+     * lookups nearly always hit the same page and shouldn't pay for a cache
+     * lookup.
+     */
+    private int                                       currentPageIndex;
+
+    /**
+     * The most recently accessed page.
+     */
+    private transient ByteBuffer                      currentPage;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code MappedRecordTableModel} for the specified file, using
+     * the default page size and page cache size.
+     *
+     * @param recordFile
+     *            The file of fixed-width records to map
+     * @param fileHeaderLength
+     *            The length of the file header that precedes the first record,
+     *            in bytes
+     * @param fileRecordLength
+     *            The length of each record, in bytes
+     * @param decoder
+     *            The decoder for the cell values of each record
+     * @throws IOException
+     *             If the file cannot be opened, or has too many records
+     *
+     * @since 1.0
+     */
+    public MappedRecordTableModel( final Path recordFile,
+                                   final long fileHeaderLength,
+                                   final int fileRecordLength,
+                                   final RecordDecoder decoder )
+            throws IOException {
+        this( recordFile,
+              fileHeaderLength,
+              fileRecordLength,
+              decoder,
+              FastMath.max( 1, DEFAULT_PAGE_SIZE_BYTES / fileRecordLength ),
+              DEFAULT_MAXIMUM_CACHED_PAGES );
+    }
+
+    /**
+     * Constructs a {@code MappedRecordTableModel} for the specified file.
+     * <p>
+     * Only the file size is read at construction time; no records are mapped
+     * or decoded until they are first accessed.
+     *
+     * @param recordFile
+     *            The file of fixed-width records to map
+     * @param fileHeaderLength
+     *            The length of the file header that precedes the first record,
+     *            in bytes
+     * @param fileRecordLength
+     *            The length of each record, in bytes
+     * @param decoder
+     *            The decoder for the cell values of each record
+     * @param pageRecordCount
+     *            The number of records in each mapped page
+     * @param maximumCachedPages
+     *            The maximum number of mapped pages to keep in the page cache
+     * @throws IOException
+     *             If the file cannot be opened, or has too many records
+     *
+     * @since 1.0
+     */
+    public MappedRecordTableModel( final Path recordFile,
+                                   final long fileHeaderLength,
+                                   final int fileRecordLength,
+                                   final RecordDecoder decoder,
+                                   final int pageRecordCount,
+                                   final int maximumCachedPages )
+            throws IOException {
+        // Always call the superclass constructor first!
+        super();
+
+        if ( ( fileHeaderLength < 0L ) || ( fileRecordLength <= 0 ) ) {
+            throw new IllegalArgumentException( "Invalid header or record length" ); //$NON-NLS-1$
+        }
+        if ( ( pageRecordCount <= 0 ) || ( maximumCachedPages <= 0 ) ) {
+            throw new IllegalArgumentException( "Invalid page or cache size" ); //$NON-NLS-1$
+        }
+
+        // Keep each page within the limits of a single mapping.
+        recordsPerPage = FastMath.min( pageRecordCount,
+                                       Integer.MAX_VALUE / fileRecordLength );
+        headerLength = fileHeaderLength;
+        recordLength = fileRecordLength;
+        recordDecoder = decoder;
+
+        fileChannel = FileChannel.open( recordFile, StandardOpenOption.READ );
+        try {
+            final long recordCount = FastMath.max( 0L, fileChannel.size() - headerLength )
+                    / recordLength;
+            if ( recordCount > Integer.MAX_VALUE ) {
+                throw new IOException( "Too many records for a table: " + recordCount ); //$NON-NLS-1$
+            }
+            numberOfRecords = ( int ) recordCount;
+        }
+        catch ( final IOException ioe ) {
+            fileChannel.close();
+            throw ioe;
+        }
+
+        // Use an access-ordered map so that the eldest entry is always the
+        // least recently used page.
+        pageCache = new LinkedHashMap< Integer, ByteBuffer >( 2 * maximumCachedPages,
+                                                               0.75f,
+                                                               true ) {
+            private static final long serialVersionUID = 6519284467739811524L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry< Integer, ByteBuffer > eldest ) {
+                return size() > maximumCachedPages;
+            }
+        };
+
+        currentPageIndex = -1;
+        currentPage = null;
+    }
+
+    ////////////////////// TableModel method overrides ///////////////////////
+
+    /**
+     * Returns the number of records in the file.
+     *
+     * @return The number of records in the file
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getRowCount() {
+        return numberOfRecords;
+    }
+
+    /**
+     * Returns the number of columns in each record.
+     *
+     * @return The number of columns in each record
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getColumnCount() {
+        return recordDecoder.getColumnCount();
+    }
+
+    /**
+     * Returns the name of the specified column, as supplied by the decoder.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public String getColumnName( final int column ) {
+        return recordDecoder.getColumnName( column );
+    }
+
+    /**
+     * Returns the class of the specified column, as supplied by the decoder.
+     *
+     * @param column
+     *            The column index
+     * @return The class of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public Class< ? > getColumnClass( final int column ) {
+        return recordDecoder.getColumnClass( column );
+    }
+
+    /**
+     * Returns the decoded value of the specified cell, mapping its page if it
+     * isn't already in the page cache.
+     *
+     * @param rowIndex
+     *            The row index, which is also the record index
+     * @param columnIndex
+     *            The column index
+     * @return The decoded value of the specified cell
+     * @throws UncheckedIOException
+     *             If the page containing the record cannot be mapped
+     *
+     * @since 1.0
+     */
+    @Override
+    public Object getValueAt( final int rowIndex, final int columnIndex ) {
+        final int pageIndex = rowIndex / recordsPerPage;
+        final ByteBuffer page = getPage( pageIndex );
+        final int recordOffset = ( rowIndex - ( pageIndex * recordsPerPage ) ) * recordLength;
+        return recordDecoder.decodeValue( page, recordOffset, columnIndex );
+    }
+
+    ///////////////////// Closeable method overrides /////////////////////////
+
+    /**
+     * Releases the page cache and closes the underlying file.
+     * <p>
+     * Mapped pages are released by the garbage collector once they are no
+     * longer referenced, so the file may remain mapped for a while after this
+     * method returns.
+     *
+     * @throws IOException
+     *             If the underlying file cannot be closed
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        pageCache.clear();
+        currentPageIndex = -1;
+        currentPage = null;
+
+        fileChannel.close();
+    }
+
+    /////////////////////// Page cache methods ///////////////////////////////
+
+    /**
+     * Returns the length of each record, in bytes.
+     *
+     * @return The length of each record, in bytes
+     *
+     * @since 1.0
+     */
+    public final int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Returns the number of records in each mapped page.
+     *
+     * @return The number of records in each mapped page
+     *
+     * @since 1.0
+     */
+    public final int getRecordsPerPage() {
+        return recordsPerPage;
+    }
+
+    /**
+     * Returns the specified page, mapping it and adding it to the page cache
+     * if it isn't already cached.
+     *
+     * @param pageIndex
+     *            The index of the page to return
+     * @return The specified page
+     * @throws UncheckedIOException
+     *             If the page cannot be mapped
+     */
+    private ByteBuffer getPage( final int pageIndex ) {
+        if ( pageIndex == currentPageIndex ) {
+            return currentPage;
+        }
+
+        ByteBuffer page = pageCache.get( pageIndex );
+        if ( page == null ) {
+            page = mapPage( pageIndex );
+            pageCache.put( pageIndex, page );
+        }
+
+        currentPageIndex = pageIndex;
+        currentPage = page;
+
+        return page;
+    }
+
+    /**
+     * Returns a new read-only mapping of the specified page.
+     * <p>
+     * The last page is truncated to the end of the last whole record.
+     *
+     * @param pageIndex
+     *            The index of the page to map
+     * @return A new read-only mapping of the specified page
+     * @throws UncheckedIOException
+     *             If the page cannot be mapped
+     */
+    private ByteBuffer mapPage( final int pageIndex ) {
+        final int firstRecord = pageIndex * recordsPerPage;
+        final int pageRecordCount = FastMath.min( recordsPerPage, numberOfRecords - firstRecord );
+        final long position = headerLength + ( ( long ) firstRecord * recordLength );
+        final long size = ( long ) pageRecordCount * recordLength;
+
+        try {
+            return fileChannel.map( FileChannel.MapMode.READ_ONLY, position, size );
+        }
+        catch ( final IOException ioe ) {
+            throw new UncheckedIOException( ioe );
+        }
+    }
+
+}
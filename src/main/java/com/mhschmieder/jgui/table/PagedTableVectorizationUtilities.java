@@ -0,0 +1,374 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import com.mhschmieder.jgui.util.ProgressListener;
+import com.mhschmieder.jgui.util.VectorPageSink;
+
+import javax.swing.CellRendererPane;
+import javax.swing.JTable;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code PagedTableVectorizationUtilities} is a utility class for vectorizing
+ * tables in page-sized bands of rows, streaming each page to the output
+ * target as soon as it is complete, so that memory use is bounded by the page
+ * size rather than by the table size.
+ * <p>
+ * Cells are rendered through the table's own cell renderers, in their
+ * unselected and unfocused state, so that the output matches the table's
+ * appearance without any transient selection highlighting.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class PagedTableVectorizationUtilities {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PagedTableVectorizationUtilities() {}
+
+    /**
+     * Returns the number of pages emitted, after vectorizing the table one
+     * page-sized band of rows at a time.
+     * <p>
+     * Rows are processed in view order, and excluded rows don't count towards
+     * the number of rows per page. At least one page is always emitted, so that
+     * an empty table still outputs its header.
+     * <p>
+     * This method must be invoked on the event-dispatching thread, as it reads
+     * the table and its renderers; progress is reported after each page.
+     *
+     * @param pageSink
+     *            The multi-page output target to vectorize the pages into
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows on each page
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table rows on each page
+     * @param table
+     *            The table to vectorize
+     * @param tableHeaderInUse
+     *            {@code true} if the table header should be repeated at the
+     *            top of each page
+     * @param rowsPerPage
+     *            The maximum number of table rows to put on each page
+     * @param rowsToExclude
+     *            The view rows to exclude from vectorization, or {@code null}
+     *            if all rows should be included
+     * @param backgroundColor
+     *            The background color to fill the table area with
+     * @param progressListener
+     *            The listener to report progress to, in units of view rows, or
+     *            {@code null} if progress isn't needed
+     * @return The number of pages emitted
+     *
+     * @since 1.0
+     */
+    public static int vectorizeTablePages( final VectorPageSink pageSink,
+                                           final int offsetX,
+                                           final int offsetY,
+                                           final JTable table,
+                                           final boolean tableHeaderInUse,
+                                           final int rowsPerPage,
+                                           final IntPredicate rowsToExclude,
+                                           final Color backgroundColor,
+                                           final ProgressListener progressListener ) {
+        if ( rowsPerPage <= 0 ) {
+            throw new IllegalArgumentException( "Rows per page must be positive" ); //$NON-NLS-1$
+        }
+
+        // Cache the column layout, as it is the same for every row.
+        final TableColumnModel columnModel = table.getColumnModel();
+        final int numberOfColumns = columnModel.getColumnCount();
+        final int[] columnX = new int[ numberOfColumns + 1 ];
+        columnX[ 0 ] = offsetX;
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            columnX[ column + 1 ] = columnX[ column ] + columnModel.getColumn( column ).getWidth();
+        }
+
+        // A single renderer pane is reused for every cell on every page, and
+        // is cleared after each page so that it doesn't retain components.
+        final CellRendererPane rendererPane = new CellRendererPane();
+        final int numberOfRows = table.getRowCount();
+        int row = 0;
+        int pageIndex = 0;
+        do {
+            row = skipExcludedRows( row, numberOfRows, rowsToExclude );
+
+            final Graphics2D graphicsContext = pageSink.beginPage( pageIndex );
+            try {
+                int y = offsetY;
+                if ( tableHeaderInUse ) {
+                    y += vectorizeTableHeader( graphicsContext,
+                                               rendererPane,
+                                               table,
+                                               columnX,
+                                               y,
+                                               backgroundColor );
+                }
+
+                int rowsOnPage = 0;
+                while ( ( row < numberOfRows ) && ( rowsOnPage < rowsPerPage ) ) {
+                    if ( ( rowsToExclude == null ) || !rowsToExclude.test( row ) ) {
+                        y += vectorizeTableRow( graphicsContext,
+                                                rendererPane,
+                                                table,
+                                                row,
+                                                columnX,
+                                                y,
+                                                backgroundColor );
+                        rowsOnPage++;
+                    }
+                    row++;
+                }
+
+                // Skip trailing excluded rows, so that we never emit an empty
+                // page just because the remaining rows were all excluded.
+                row = skipExcludedRows( row, numberOfRows, rowsToExclude );
+            }
+            finally {
+                rendererPane.removeAll();
+                pageSink.endPage( pageIndex, graphicsContext );
+            }
+
+            pageIndex++;
+            if ( progressListener != null ) {
+                progressListener.progressChanged( row, numberOfRows );
+            }
+        }
+        while ( row < numberOfRows );
+
+        return pageIndex;
+    }
+
+    /**
+     * Returns the height of the vectorized table header, after vectorizing it
+     * at the specified vertical position.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for the current page
+     * @param rendererPane
+     *            The renderer pane to paint the header renderers through
+     * @param table
+     *            The table whose header is to be vectorized
+     * @param columnX
+     *            The x-coordinates of the left edge of each column, plus the
+     *            right edge of the last column
+     * @param y
+     *            The y-coordinate of the top of the header
+     * @param backgroundColor
+     *            The background color to fill the header area with
+     * @return The height of the vectorized table header
+     */
+    private static int vectorizeTableHeader( final Graphics2D graphicsContext,
+                                             final CellRendererPane rendererPane,
+                                             final JTable table,
+                                             final int[] columnX,
+                                             final int y,
+                                             final Color backgroundColor ) {
+        final JTableHeader tableHeader = table.getTableHeader();
+        if ( tableHeader == null ) {
+            return 0;
+        }
+
+        final int headerHeight = tableHeader.getPreferredSize().height;
+        final int numberOfColumns = columnX.length - 1;
+        fillBackground( graphicsContext, columnX, y, headerHeight, backgroundColor );
+
+        final TableColumnModel columnModel = table.getColumnModel();
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            final TableColumn tableColumn = columnModel.getColumn( column );
+            TableCellRenderer headerRenderer = tableColumn.getHeaderRenderer();
+            if ( headerRenderer == null ) {
+                headerRenderer = tableHeader.getDefaultRenderer();
+            }
+            final Component headerComponent = headerRenderer
+                    .getTableCellRendererComponent( table,
+                                                    tableColumn.getHeaderValue(),
+                                                    false,
+                                                    false,
+                                                    -1,
+                                                    column );
+            rendererPane.paintComponent( graphicsContext,
+                                         headerComponent,
+                                         table,
+                                         columnX[ column ],
+                                         y,
+                                         columnX[ column + 1 ] - columnX[ column ],
+                                         headerHeight,
+                                         true );
+        }
+
+        return headerHeight;
+    }
+
+    /**
+     * Returns the height of the vectorized table row, after vectorizing it at
+     * the specified vertical position.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for the current page
+     * @param rendererPane
+     *            The renderer pane to paint the cell renderers through
+     * @param table
+     *            The table whose row is to be vectorized
+     * @param row
+     *            The view row index of the row to vectorize
+     * @param columnX
+     *            The x-coordinates of the left edge of each column, plus the
+     *            right edge of the last column
+     * @param y
+     *            The y-coordinate of the top of the row
+     * @param backgroundColor
+     *            The background color to fill the row area with
+     * @return The height of the vectorized table row
+     */
+    private static int vectorizeTableRow( final Graphics2D graphicsContext,
+                                          final CellRendererPane rendererPane,
+                                          final JTable table,
+                                          final int row,
+                                          final int[] columnX,
+                                          final int y,
+                                          final Color backgroundColor ) {
+        final int rowHeight = table.getRowHeight( row );
+        final int numberOfColumns = columnX.length - 1;
+        fillBackground( graphicsContext, columnX, y, rowHeight, backgroundColor );
+
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            final TableCellRenderer cellRenderer = table.getCellRenderer( row, column );
+            final Component cellComponent = cellRenderer
+                    .getTableCellRendererComponent( table,
+                                                    table.getValueAt( row, column ),
+                                                    false,
+                                                    false,
+                                                    row,
+                                                    column );
+            rendererPane.paintComponent( graphicsContext,
+                                         cellComponent,
+                                         table,
+                                         columnX[ column ],
+                                         y,
+                                         columnX[ column + 1 ] - columnX[ column ],
+                                         rowHeight,
+                                         true );
+        }
+
+        // Draw the grid lines last, so that cell backgrounds don't cover them.
+        final int bottomY = ( y + rowHeight ) - 1;
+        graphicsContext.setColor( table.getGridColor() );
+        if ( table.getShowHorizontalLines() ) {
+            graphicsContext.drawLine( columnX[ 0 ],
+                                      bottomY,
+                                      columnX[ numberOfColumns ] - 1,
+                                      bottomY );
+        }
+        if ( table.getShowVerticalLines() ) {
+            for ( int column = 1; column <= numberOfColumns; column++ ) {
+                final int rightX = columnX[ column ] - 1;
+                graphicsContext.drawLine( rightX, y, rightX, bottomY );
+            }
+        }
+
+        return rowHeight;
+    }
+
+    /**
+     * Returns the first view row at or after the specified row that isn't
+     * excluded, or the number of rows if all of the remaining rows are excluded.
+     *
+     * @param row
+     *            The view row index to start searching from
+     * @param numberOfRows
+     *            The number of view rows in the table
+     * @param rowsToExclude
+     *            The view rows to exclude from vectorization, or {@code null}
+     *            if all rows should be included
+     * @return The first view row at or after the specified row that isn't
+     *         excluded
+     */
+    private static int skipExcludedRows( final int row,
+                                         final int numberOfRows,
+                                         final IntPredicate rowsToExclude ) {
+        if ( rowsToExclude == null ) {
+            return row;
+        }
+
+        int nextRow = row;
+        while ( ( nextRow < numberOfRows ) && rowsToExclude.test( nextRow ) ) {
+            nextRow++;
+        }
+
+        return nextRow;
+    }
+
+    /**
+     * Fills the background of a horizontal band that spans all of the columns.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for the current page
+     * @param columnX
+     *            The x-coordinates of the left edge of each column, plus the
+     *            right edge of the last column
+     * @param y
+     *            The y-coordinate of the top of the band
+     * @param height
+     *            The height of the band
+     * @param backgroundColor
+     *            The background color to fill the band with
+     */
+    private static void fillBackground( final Graphics2D graphicsContext,
+                                        final int[] columnX,
+                                        final int y,
+                                        final int height,
+                                        final Color backgroundColor ) {
+        if ( backgroundColor == null ) {
+            return;
+        }
+
+        graphicsContext.setColor( backgroundColor );
+        graphicsContext.fillRect( columnX[ 0 ],
+                                  y,
+                                  columnX[ columnX.length - 1 ] - columnX[ 0 ],
+                                  height );
+    }
+
+}
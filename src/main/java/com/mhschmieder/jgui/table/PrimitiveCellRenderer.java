@@ -0,0 +1,358 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.JTable;
+import javax.swing.SwingConstants;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableModel;
+import java.awt.Component;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@code PrimitiveCellRenderer} is a cell renderer for the columns of a
+ * {@link ColumnarTableModel}, which reads each cell through the primitive
+ * accessors and formats it into a reusable buffer, rather than formatting the
+ * boxed value that the table passes in.
+ * <p>
+ * Subclasses can override the formatting hooks for each primitive type, which
+ * append to the shared buffer without boxing. Dictionary columns are instead
+ * formatted once per dictionary code, and the text is cached for as long as
+ * the renderer lives, as codes never change meaning. For tables whose model
+ * isn't a {@link ColumnarTableModel}, the boxed value is rendered as usual.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class PrimitiveCellRenderer extends DefaultTableCellRenderer {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long      serialVersionUID        = -6172594010357622834L;
+
+    /**
+     * The largest number of fraction digits supported by fixed-point
+     * formatting.
+     */
+    public static final int        MAXIMUM_FRACTION_DIGITS = 9;
+
+    /**
+     * The number of fraction digits that signifies the shortest decimal
+     * representation that uniquely identifies the value.
+     */
+    private static final int       SHORTEST_REPRESENTATION = -1;
+
+    /**
+     * The number of fraction digits to format floating-point values with, or
+     * {@link #SHORTEST_REPRESENTATION} for the shortest unique representation.
+     */
+    private final int              fractionDigits;
+
+    /**
+     * The power of ten that scales the fraction digits into an integer.
+     */
+    private final long             fractionScale;
+
+    /**
+     * The largest magnitude that can be formatted as fixed-point without
+     * losing integer precision once scaled.
+     */
+    private final double           fixedPointLimit;
+
+    /**
+     * The reusable buffer that cell text is formatted into.
+     */
+    private final transient StringBuilder textBuffer;
+
+    /**
+     * The formatted text of each dictionary code, by dictionary, where codes
+     * that haven't been rendered yet are {@code null}.
+     */
+    private final transient Map< StringDictionary, String[] > formatCaches;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code PrimitiveCellRenderer} that formats floating-point
+     * values with the shortest decimal representation that uniquely
+     * identifies them.
+     *
+     * @since 1.0
+     */
+    public PrimitiveCellRenderer() {
+        this( SHORTEST_REPRESENTATION );
+    }
+
+    /**
+     * Constructs a {@code PrimitiveCellRenderer} that formats floating-point
+     * values in fixed-point notation with the specified number of fraction
+     * digits.
+     *
+     * @param numberOfFractionDigits
+     *            The number of fraction digits, from zero to
+     *            {@link #MAXIMUM_FRACTION_DIGITS}
+     *
+     * @since 1.0
+     */
+    public PrimitiveCellRenderer( final int numberOfFractionDigits ) {
+        // Always call the superclass constructor first!
+        super();
+
+        if ( ( numberOfFractionDigits < SHORTEST_REPRESENTATION )
+                || ( numberOfFractionDigits > MAXIMUM_FRACTION_DIGITS ) ) {
+            throw new IllegalArgumentException( "Unsupported number of fraction digits: " //$NON-NLS-1$
+                    + numberOfFractionDigits );
+        }
+
+        fractionDigits = numberOfFractionDigits;
+        long scale = 1L;
+        for ( int digit = 0; digit < numberOfFractionDigits; digit++ ) {
+            scale *= 10L;
+        }
+        fractionScale = scale;
+        fixedPointLimit = 1.0e15d / scale;
+        textBuffer = new StringBuilder( 32 );
+        formatCaches = new IdentityHashMap<>();
+
+        // Numbers are conventionally right-aligned so that digits line up.
+        setHorizontalAlignment( SwingConstants.RIGHT );
+    }
+
+    ///////////////// DefaultTableCellRenderer method overrides //////////////
+
+    /**
+     * Returns this renderer, configured to render the specified cell.
+     * <p>
+     * When the model is a {@link ColumnarTableModel}, the cell is read through
+     * the primitive accessors and the boxed value is ignored.
+     *
+     * @param table
+     *            The table that is rendering the cell
+     * @param value
+     *            The boxed value of the cell, which is only used for tables
+     *            whose model isn't a {@link ColumnarTableModel}
+     * @param isSelected
+     *            {@code true} if the cell is selected
+     * @param hasFocus
+     *            {@code true} if the cell has focus
+     * @param row
+     *            The view row index of the cell
+     * @param column
+     *            The view column index of the cell
+     * @return This renderer, configured to render the specified cell
+     *
+     * @since 1.0
+     */
+    @Override
+    public Component getTableCellRendererComponent( final JTable table,
+                                                    final Object value,
+                                                    final boolean isSelected,
+                                                    final boolean hasFocus,
+                                                    final int row,
+                                                    final int column ) {
+        final TableModel tableModel = ( table != null ) ? table.getModel() : null;
+        if ( !( tableModel instanceof ColumnarTableModel ) ) {
+            return super.getTableCellRendererComponent( table,
+                                                        value,
+                                                        isSelected,
+                                                        hasFocus,
+                                                        row,
+                                                        column );
+        }
+
+        // Let the superclass set up the colors, font and border, but do the
+        // value formatting here, straight from the primitive storage.
+        super.getTableCellRendererComponent( table, null, isSelected, hasFocus, row, column );
+
+        final ColumnarTableModel columnarTableModel = ( ColumnarTableModel ) tableModel;
+        final int modelRow = table.convertRowIndexToModel( row );
+        final int modelColumn = table.convertColumnIndexToModel( column );
+
+        if ( columnarTableModel.getColumnType( modelColumn ) == PrimitiveColumnType.DICTIONARY ) {
+            setHorizontalAlignment( SwingConstants.LEADING );
+            setText( getFormattedString( columnarTableModel.getDictionary( modelColumn ),
+                                         columnarTableModel.getCodeAt( modelRow,
+                                                                       modelColumn ) ) );
+            return this;
+        }
+
+        // Numbers are conventionally right-aligned so that digits line up.
+        setHorizontalAlignment( SwingConstants.RIGHT );
+        textBuffer.setLength( 0 );
+        switch ( columnarTableModel.getColumnType( modelColumn ) ) {
+        case DOUBLE:
+            formatDouble( textBuffer, columnarTableModel.getDoubleAt( modelRow, modelColumn ) );
+            break;
+        case INT:
+            formatInt( textBuffer, columnarTableModel.getIntAt( modelRow, modelColumn ) );
+            break;
+        case LONG:
+            formatLong( textBuffer, columnarTableModel.getLongAt( modelRow, modelColumn ) );
+            break;
+        default:
+            break;
+        }
+        setText( textBuffer.toString() );
+
+        return this;
+    }
+
+    /**
+     * Returns the cached text for the specified dictionary code, formatting it
+     * first if this is the first time that it is rendered.
+     *
+     * @param dictionary
+     *            The dictionary that the code belongs to
+     * @param code
+     *            The dictionary code of the cell
+     * @return The text for the dictionary code
+     */
+    private String getFormattedString( final StringDictionary dictionary, final int code ) {
+        String[] formatCache = formatCaches.get( dictionary );
+        if ( ( formatCache == null ) || ( code >= formatCache.length ) ) {
+            // Dictionaries only grow, so grow the cache to match.
+            final int cacheLength = FastMath.max( code + 1, dictionary.size() );
+            formatCache = ( formatCache == null )
+                ? new String[ cacheLength ]
+                : Arrays.copyOf( formatCache, cacheLength );
+            formatCaches.put( dictionary, formatCache );
+        }
+
+        String text = formatCache[ code ];
+        if ( text == null ) {
+            text = formatString( dictionary.decode( code ) );
+            formatCache[ code ] = ( text != null ) ? text : ""; //$NON-NLS-1$
+        }
+
+        return formatCache[ code ];
+    }
+
+    /**
+     * Discards the cached text of all dictionary codes, such as after
+     * changing the settings that {@link #formatString} depends on.
+     *
+     * @since 1.0
+     */
+    public final void clearFormatCache() {
+        formatCaches.clear();
+    }
+
+    ///////////////////////// Formatting hooks ///////////////////////////////
+
+    /**
+     * Appends the text for a floating-point cell value to the buffer.
+     * <p>
+     * Values that are too large for fixed-point notation at the configured
+     * precision, or that aren't finite, fall back to the shortest unique
+     * representation.
+     *
+     * @param buffer
+     *            The buffer to append the cell text to
+     * @param value
+     *            The cell value to format
+     *
+     * @since 1.0
+     */
+    protected void formatDouble( final StringBuilder buffer, final double value ) {
+        if ( ( fractionDigits == SHORTEST_REPRESENTATION )
+                || !( FastMath.abs( value ) < fixedPointLimit ) ) {
+            buffer.append( value );
+            return;
+        }
+
+        // Format in integer arithmetic, so that no intermediate objects are
+        // needed, and avoid printing a sign for values that round to zero.
+        final long scaledValue = FastMath.round( FastMath.abs( value ) * fractionScale );
+        if ( ( value < 0.0d ) && ( scaledValue != 0L ) ) {
+            buffer.append( '-' );
+        }
+        buffer.append( scaledValue / fractionScale );
+        if ( fractionDigits > 0 ) {
+            buffer.append( '.' );
+            final long fraction = scaledValue % fractionScale;
+            for ( long place = fractionScale / 10L; ( place > 1L )
+                    && ( place > fraction ); place /= 10L ) {
+                buffer.append( '0' );
+            }
+            buffer.append( fraction );
+        }
+    }
+
+    /**
+     * Appends the text for an {@code int} cell value to the buffer.
+     *
+     * @param buffer
+     *            The buffer to append the cell text to
+     * @param value
+     *            The cell value to format
+     *
+     * @since 1.0
+     */
+    protected void formatInt( final StringBuilder buffer, final int value ) {
+        buffer.append( value );
+    }
+
+    /**
+     * Appends the text for a {@code long} cell value to the buffer.
+     *
+     * @param buffer
+     *            The buffer to append the cell text to
+     * @param value
+     *            The cell value to format
+     *
+     * @since 1.0
+     */
+    protected void formatLong( final StringBuilder buffer, final long value ) {
+        buffer.append( value );
+    }
+
+    /**
+     * Returns the text for a dictionary cell value.
+     * <p>
+     * This is called at most once per dictionary code, as the result is
+     * cached, so it can afford to be more expensive than the numeric hooks.
+     *
+     * @param value
+     *            The cell value to format, which may be {@code null}
+     * @return The text for the cell value
+     *
+     * @since 1.0
+     */
+    protected String formatString( final String value ) {
+        return ( value != null ) ? value : ""; //$NON-NLS-1$
+    }
+
+}
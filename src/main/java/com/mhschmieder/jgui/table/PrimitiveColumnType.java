@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code PrimitiveColumnType} is an enumeration of the primitive storage types
+ * that are supported for the columns of a {@link ColumnarTableModel}.
+ * <p>
+ * All types but {@link #DICTIONARY} are numeric.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum PrimitiveColumnType {
+    /** Values are stored in a {@code double[]} array. */
+    DOUBLE( Double.class ),
+    /** Values are stored in an {@code int[]} array. */
+    INT( Integer.class ),
+    /** Values are stored in a {@code long[]} array. */
+    LONG( Long.class ),
+    /**
+     * Values are strings, stored in an {@code int[]} array of codes into a
+     * {@link StringDictionary}.
+     */
+    DICTIONARY( String.class );
+
+    /**
+     * The wrapper class that represents values of this type in the generic
+     * Table Model API.
+     */
+    private final Class< ? > valueClass;
+
+    /**
+     * Constructs a {@code PrimitiveColumnType} for the specified wrapper class.
+     *
+     * @param wrapperClass
+     *            The wrapper class that represents values of this type in the
+     *            generic Table Model API
+     */
+    PrimitiveColumnType( final Class< ? > wrapperClass ) {
+        valueClass = wrapperClass;
+    }
+
+    /**
+     * Returns the wrapper class that represents values of this type in the
+     * generic Table Model API.
+     *
+     * @return The wrapper class that represents values of this type
+     *
+     * @since 1.0
+     */
+    public Class< ? > getValueClass() {
+        return valueClass;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@code RecordDecoder} is an interface for decoding the cell values of
+ * fixed-width binary records, one column at a time, so that records can be
+ * decoded on demand rather than all being loaded up front.
+ * <p>
+ * Implementations should only use absolute reads on the buffer, as it is
+ * shared by all of the records on the same page.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface RecordDecoder {
+
+    /**
+     * Returns the number of columns in each record.
+     *
+     * @return The number of columns in each record
+     *
+     * @since 1.0
+     */
+    int getColumnCount();
+
+    /**
+     * Returns the name of the specified column, for use in the table header.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    String getColumnName( int column );
+
+    /**
+     * Returns the most specific class of the values in the specified column,
+     * so that the table can choose a suitable cell renderer.
+     *
+     * @param column
+     *            The column index
+     * @return The most specific class of the values in the specified column
+     *
+     * @since 1.0
+     */
+    Class< ? > getColumnClass( int column );
+
+    /**
+     * Returns the decoded value of the specified column of a record.
+     *
+     * @param recordBuffer
+     *            The buffer that contains the record, which must only be read
+     *            using absolute reads
+     * @param recordOffset
+     *            The offset of the first byte of the record within the buffer
+     * @param column
+     *            The column index
+     * @return The decoded value of the specified column of the record
+     *
+     * @since 1.0
+     */
+    Object decodeValue( ByteBuffer recordBuffer, int recordOffset, int column );
+
+}
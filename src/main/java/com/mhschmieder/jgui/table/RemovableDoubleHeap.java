@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import java.util.Arrays;
+
+/**
+ * {@code RemovableDoubleHeap} is a primitive binary min-heap of doubles that
+ * also supports removing arbitrary values, so that the minimum of a changing
+ * multiset of values can be tracked without boxing.
+ * <p>
+ * Removals are lazy: a removed value goes into a second heap, and is only
+ * dropped from the main heap once it reaches the top. So additions, removals
+ * and peeks all take amortized logarithmic time. If the pending removals
+ * ever outnumber the live values, both heaps are compacted in one pass.
+ * <p>
+ * Values must not be NaN, and removed values must have been added first.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class RemovableDoubleHeap {
+
+    /**
+     * The initial capacity of each heap.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The heap of values, including any that are pending removal.
+     */
+    private double[]         values;
+
+    /**
+     * The number of values in the heap of values.
+     */
+    private int              numberOfValues;
+
+    /**
+     * The heap of values that are pending removal.
+     */
+    private double[]         removedValues;
+
+    /**
+     * The number of values that are pending removal.
+     */
+    private int              numberOfRemovedValues;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code RemovableDoubleHeap}.
+     */
+    RemovableDoubleHeap() {
+        values = new double[ INITIAL_CAPACITY ];
+        numberOfValues = 0;
+        removedValues = new double[ INITIAL_CAPACITY ];
+        numberOfRemovedValues = 0;
+    }
+
+    /**
+     * Returns the number of live values, not counting pending removals.
+     *
+     * @return The number of live values
+     */
+    int size() {
+        return numberOfValues - numberOfRemovedValues;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value
+     *            The value to add
+     */
+    void add( final double value ) {
+        values = push( values, numberOfValues++, value );
+    }
+
+    /**
+     * Removes one occurrence of a value that was added earlier.
+     *
+     * @param value
+     *            The value to remove
+     */
+    void remove( final double value ) {
+        // Drop the value straight away if it is the minimum, as that's the
+        // common case for sliding and shrinking value sets.
+        if ( ( numberOfValues > 0 ) && ( values[ 0 ] == value ) ) {
+            pop( values, numberOfValues-- );
+            prune();
+            return;
+        }
+
+        removedValues = push( removedValues, numberOfRemovedValues++, value );
+        if ( numberOfRemovedValues > ( ( numberOfValues >> 1 ) + INITIAL_CAPACITY ) ) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the minimum live value, or NaN if there are none.
+     *
+     * @return The minimum live value, or NaN if there are none
+     */
+    double peek() {
+        prune();
+        return ( size() > 0 ) ? values[ 0 ] : Double.NaN;
+    }
+
+    /**
+     * Removes all values, keeping the current capacity for reuse.
+     */
+    void clear() {
+        numberOfValues = 0;
+        numberOfRemovedValues = 0;
+    }
+
+    /**
+     * Drops values from the top of the heap for as long as they are pending
+     * removal.
+     */
+    private void prune() {
+        while ( ( numberOfRemovedValues > 0 ) && ( numberOfValues > 0 )
+                && ( values[ 0 ] == removedValues[ 0 ] ) ) {
+            pop( values, numberOfValues-- );
+            pop( removedValues, numberOfRemovedValues-- );
+        }
+    }
+
+    /**
+     * Applies all pending removals at once, by sorting both heaps and merging
+     * them; a sorted array is also a valid min-heap.
+     */
+    private void compact() {
+        Arrays.sort( values, 0, numberOfValues );
+        Arrays.sort( removedValues, 0, numberOfRemovedValues );
+
+        int liveIndex = 0;
+        int removedIndex = 0;
+        for ( int valueIndex = 0; valueIndex < numberOfValues; valueIndex++ ) {
+            final double value = values[ valueIndex ];
+            while ( ( removedIndex < numberOfRemovedValues )
+                    && ( removedValues[ removedIndex ] < value ) ) {
+                removedIndex++;
+            }
+            if ( ( removedIndex < numberOfRemovedValues )
+                    && ( removedValues[ removedIndex ] == value ) ) {
+                removedIndex++;
+            }
+            else {
+                values[ liveIndex++ ] = value;
+            }
+        }
+
+        numberOfValues = liveIndex;
+        numberOfRemovedValues = 0;
+    }
+
+    /**
+     * Returns the heap array, grown if necessary, after adding a value to the
+     * heap and sifting it up into place.
+     *
+     * @param heap
+     *            The heap array
+     * @param size
+     *            The number of values in the heap before the addition
+     * @param value
+     *            The value to add
+     * @return The heap array, which may have been reallocated
+     */
+    private static double[] push( final double[] heap, final int size, final double value ) {
+        final double[] grownHeap = ( size == heap.length )
+            ? Arrays.copyOf( heap, 2 * heap.length )
+            : heap;
+
+        int index = size;
+        while ( index > 0 ) {
+            final int parent = ( index - 1 ) >>> 1;
+            if ( grownHeap[ parent ] <= value ) {
+                break;
+            }
+            grownHeap[ index ] = grownHeap[ parent ];
+            index = parent;
+        }
+        grownHeap[ index ] = value;
+
+        return grownHeap;
+    }
+
+    /**
+     * Removes the minimum value from the heap, sifting the last value down
+     * into its place.
+     *
+     * @param heap
+     *            The heap array
+     * @param size
+     *            The number of values in the heap before the removal
+     */
+    private static void pop( final double[] heap, final int size ) {
+        final int lastIndex = size - 1;
+        final double value = heap[ lastIndex ];
+        int index = 0;
+        int child = 1;
+        while ( child < lastIndex ) {
+            if ( ( ( child + 1 ) < lastIndex ) && ( heap[ child + 1 ] < heap[ child ] ) ) {
+                child++;
+            }
+            if ( value <= heap[ child ] ) {
+                break;
+            }
+            heap[ index ] = heap[ child ];
+            index = child;
+            child = ( 2 * index ) + 1;
+        }
+        heap[ index ] = value;
+    }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code RingBufferTableModel} is a read-only Table Model for append-only
+ * tables such as live event logs, which holds at most a fixed number of rows
+ * in a circular buffer that is allocated once, up front.
+ * <p>
+ * Once the buffer is full, each append evicts the oldest rows, so memory use
+ * stays fixed however many rows are appended over time. Appends and
+ * evictions are O(1) per row, as no row is ever shifted, and each batch of
+ * appends fires at most one deletion event for all of the rows it evicts,
+ * followed by one insertion event for the rows it adds.
+ * <p>
+ * As with all Swing models, this model must only be used on the
+ * event-dispatching thread.
+ *
+ * @param <T>
+ *            The type of the row data objects
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class RingBufferTableModel< T > extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long            serialVersionUID = 2871546260339317525L;
+
+    /**
+     * The accessor that presents the fields of each row as columns.
+     */
+    private final TableRowAccessor< T > rowAccessor;
+
+    /**
+     * The circular buffer of rows, whose length is the maximum row count.
+     */
+    private final Object[]              rows;
+
+    /**
+     * The buffer index of the oldest row, which is model row zero.
+     */
+    private int                         headIndex;
+
+    /**
+     * The number of rows currently in the buffer.
+     */
+    private int                         rowCount;
+
+    /**
+     * The total number of rows evicted since construction or the last clear.
+     */
+    private long                        numberOfRowsEvicted;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code RingBufferTableModel} with a fixed maximum
+     * row count.
+     *
+     * @param accessor
+     *            The accessor that presents the fields of each row as columns
+     * @param maximumRowCount
+     *            The maximum number of rows held at any one time
+     *
+     * @since 1.0
+     */
+    public RingBufferTableModel( final TableRowAccessor< T > accessor,
+                                 final int maximumRowCount ) {
+        // Always call the superclass constructor first!
+        super();
+
+        if ( maximumRowCount <= 0 ) {
+            throw new IllegalArgumentException( "Maximum row count must be positive: " //$NON-NLS-1$
+                    + maximumRowCount );
+        }
+
+        rowAccessor = Objects.requireNonNull( accessor, "accessor" ); //$NON-NLS-1$
+        rows = new Object[ maximumRowCount ];
+
+        headIndex = 0;
+        rowCount = 0;
+        numberOfRowsEvicted = 0L;
+    }
+
+    ////////////////////// TableModel method overrides ///////////////////////
+
+    /**
+     * Returns the number of rows currently held.
+     *
+     * @return The number of rows currently held
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getColumnCount() {
+        return rowAccessor.getColumnCount();
+    }
+
+    /**
+     * Returns the name of the specified column.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public String getColumnName( final int column ) {
+        return rowAccessor.getColumnName( column );
+    }
+
+    /**
+     * Returns the class of the values in the specified column.
+     *
+     * @param columnIndex
+     *            The column index
+     * @return The class of the values in the specified column
+     *
+     * @since 1.0
+     */
+    @Override
+    public Class< ? > getColumnClass( final int columnIndex ) {
+        return rowAccessor.getColumnClass( columnIndex );
+    }
+
+    /**
+     * Returns the value of the specified cell.
+     *
+     * @param rowIndex
+     *            The model row index, where zero is the oldest row
+     * @param columnIndex
+     *            The model column index
+     * @return The value of the specified cell
+     *
+     * @since 1.0
+     */
+    @Override
+    public Object getValueAt( final int rowIndex, final int columnIndex ) {
+        return rowAccessor.getValueAt( getRow( rowIndex ), columnIndex );
+    }
+
+    //////////////////////// Ring buffer methods /////////////////////////////
+
+    /**
+     * Returns the maximum number of rows held at any one time.
+     *
+     * @return The maximum number of rows held at any one time
+     *
+     * @since 1.0
+     */
+    public final int getMaximumRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the total number of rows evicted since construction or the last
+     * clear, which is useful for showing how much of a log was dropped.
+     *
+     * @return The total number of rows evicted
+     *
+     * @since 1.0
+     */
+    public final long getNumberOfRowsEvicted() {
+        return numberOfRowsEvicted;
+    }
+
+    /**
+     * Returns the row data object at the specified model row index.
+     *
+     * @param rowIndex
+     *            The model row index, where zero is the oldest row
+     * @return The row data object at the specified model row index
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public final T getRow( final int rowIndex ) {
+        Objects.checkIndex( rowIndex, rowCount );
+        return ( T ) rows[ toBufferIndex( rowIndex ) ];
+    }
+
+    /**
+     * Returns the number of rows evicted, after appending a single row and
+     * evicting the oldest row if the buffer was full.
+     *
+     * @param row
+     *            The row data object to append
+     * @return The number of rows evicted, which is zero or one
+     *
+     * @since 1.0
+     */
+    public final int appendRow( final T row ) {
+        final int numberOfEvictedRows = ( rowCount == rows.length ) ? 1 : 0;
+        evictRows( numberOfEvictedRows );
+
+        rows[ toBufferIndex( rowCount ) ] = row;
+        rowCount++;
+
+        fireTableRowsInserted( rowCount - 1, rowCount - 1 );
+
+        return numberOfEvictedRows;
+    }
+
+    /**
+     * Returns the number of rows evicted, after appending a batch of rows and
+     * evicting as many of the oldest rows as are needed to make room.
+     * <p>
+     * A single deletion event is fired for all of the evicted rows, followed
+     * by a single insertion event for the appended rows. If the batch is
+     * larger than the buffer, only its newest rows are kept.
+     *
+     * @param newRows
+     *            The row data objects to append, oldest first
+     * @return The number of rows evicted, including any of the batch's own
+     *         rows that didn't fit
+     *
+     * @since 1.0
+     */
+    public final int appendRows( final List< ? extends T > newRows ) {
+        final int numberOfNewRows = newRows.size();
+        if ( numberOfNewRows == 0 ) {
+            return 0;
+        }
+
+        // Skip any leading rows of the batch that would be evicted by the
+        // rest of it anyway.
+        final int firstKeptRow = FastMath.max( 0, numberOfNewRows - rows.length );
+        final int numberOfKeptRows = numberOfNewRows - firstKeptRow;
+        final int numberOfEvictedRows =
+                                      FastMath.max( 0,
+                                                    ( rowCount + numberOfKeptRows ) - rows.length );
+        evictRows( numberOfEvictedRows );
+
+        final int firstInsertedRow = rowCount;
+        for ( int row = firstKeptRow; row < numberOfNewRows; row++ ) {
+            rows[ toBufferIndex( rowCount ) ] = newRows.get( row );
+            rowCount++;
+        }
+        numberOfRowsEvicted += firstKeptRow;
+
+        fireTableRowsInserted( firstInsertedRow, rowCount - 1 );
+
+        return numberOfEvictedRows + firstKeptRow;
+    }
+
+    /**
+     * Removes all rows, and resets the eviction count.
+     *
+     * @since 1.0
+     */
+    public final void clear() {
+        final int numberOfRows = rowCount;
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            rows[ toBufferIndex( row ) ] = null;
+        }
+        headIndex = 0;
+        rowCount = 0;
+        numberOfRowsEvicted = 0L;
+
+        if ( numberOfRows > 0 ) {
+            fireTableRowsDeleted( 0, numberOfRows - 1 );
+        }
+    }
+
+    /**
+     * Evicts the specified number of oldest rows, releasing their row data
+     * objects and firing a single deletion event for them.
+     *
+     * @param numberOfRows
+     *            The number of oldest rows to evict
+     */
+    private void evictRows( final int numberOfRows ) {
+        if ( numberOfRows <= 0 ) {
+            return;
+        }
+
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            rows[ toBufferIndex( row ) ] = null;
+        }
+        headIndex = toBufferIndex( numberOfRows );
+        rowCount -= numberOfRows;
+        numberOfRowsEvicted += numberOfRows;
+
+        fireTableRowsDeleted( 0, numberOfRows - 1 );
+    }
+
+    /**
+     * Returns the buffer index of the specified model row index, which may be
+     * up to the maximum row count.
+     *
+     * @param rowIndex
+     *            The model row index, where zero is the oldest row
+     * @return The buffer index of the specified model row index
+     */
+    private int toBufferIndex( final int rowIndex ) {
+        // Wrap with a subtraction rather than a modulo, as the sum is always
+        // less than twice the buffer length.
+        final int bufferIndex = headIndex + rowIndex;
+        return ( bufferIndex >= rows.length ) ? bufferIndex - rows.length : bufferIndex;
+    }
+
+}
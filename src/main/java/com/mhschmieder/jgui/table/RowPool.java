@@ -0,0 +1,317 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@code RowPool} is a bounded pool of row data objects, so that rows that
+ * are deleted from a table can be reset and reused for later insertions
+ * rather than being left for the garbage collector, which smooths out the
+ * allocation churn of long editing sessions.
+ * <p>
+ * Rows are reused most-recently-released first, as those are the most likely
+ * to still be in the processor's caches. Statistics on the pool's size and
+ * hit rate are kept, so that its maximum size can be tuned.
+ * <p>
+ * A row must not be released while anything else still refers to it, such as
+ * an undo history or a snapshot of the table. As with all Swing models, this
+ * must only be used on the event-dispatching thread.
+ *
+ * @param <T>
+ *            The type of the row data objects
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class RowPool< T > {
+
+    /**
+     * The default maximum number of pooled rows.
+     */
+    public static final int            DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * The released rows that are available for reuse, most recent last.
+     */
+    private final ArrayDeque< T >      pooledRows;
+
+    /**
+     * The function that resets a released row to a neutral state, such as
+     * clearing any references it holds so that they can be collected.
+     */
+    private final Consumer< ? super T > rowResetter;
+
+    /**
+     * The maximum number of pooled rows.
+     */
+    private int                        maximumSize;
+
+    /**
+     * The number of requests that reused a pooled row.
+     */
+    private long                       numberOfHits;
+
+    /**
+     * The number of requests that found the pool empty.
+     */
+    private long                       numberOfMisses;
+
+    /**
+     * The number of released rows that were discarded as the pool was full.
+     */
+    private long                       numberOfDiscards;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code RowPool} with the default maximum size.
+     *
+     * @param resetter
+     *            The function that resets a released row to a neutral state
+     *
+     * @since 1.0
+     */
+    public RowPool( final Consumer< ? super T > resetter ) {
+        this( resetter, DEFAULT_MAXIMUM_SIZE );
+    }
+
+    /**
+     * Constructs an empty {@code RowPool} with the specified maximum size.
+     *
+     * @param resetter
+     *            The function that resets a released row to a neutral state
+     * @param maximumNumberOfRows
+     *            The maximum number of pooled rows
+     *
+     * @since 1.0
+     */
+    public RowPool( final Consumer< ? super T > resetter, final int maximumNumberOfRows ) {
+        rowResetter = resetter;
+        maximumSize = FastMath.max( 0, maximumNumberOfRows );
+        pooledRows = new ArrayDeque<>( FastMath.min( maximumSize, 64 ) );
+
+        numberOfHits = 0L;
+        numberOfMisses = 0L;
+        numberOfDiscards = 0L;
+    }
+
+    ////////////////////////// Pooling methods ///////////////////////////////
+
+    /**
+     * Returns a pooled row for reuse, or {@code null} if the pool is empty.
+     *
+     * @return A pooled row, which has been reset, or {@code null} if none
+     *
+     * @since 1.0
+     */
+    public T poll() {
+        final T row = pooledRows.pollLast();
+        if ( row != null ) {
+            numberOfHits++;
+        }
+        else {
+            numberOfMisses++;
+        }
+
+        return row;
+    }
+
+    /**
+     * Returns a pooled row for reuse, or a new row from the specified factory
+     * if the pool is empty.
+     *
+     * @param rowFactory
+     *            The factory for a new row if the pool is empty
+     * @return A pooled row, which has been reset, or a new row
+     *
+     * @since 1.0
+     */
+    public T acquire( final Supplier< ? extends T > rowFactory ) {
+        final T row = poll();
+        return ( row != null ) ? row : rowFactory.get();
+    }
+
+    /**
+     * Resets a row that is no longer in use and returns it to the pool,
+     * unless the pool is full.
+     *
+     * @param row
+     *            The row that is no longer in use, or {@code null} for none
+     * @return {@code true} if the row was pooled, or {@code false} if it was
+     *         discarded
+     *
+     * @since 1.0
+     */
+    public boolean release( final T row ) {
+        if ( row == null ) {
+            return false;
+        }
+        if ( pooledRows.size() >= maximumSize ) {
+            numberOfDiscards++;
+            return false;
+        }
+
+        rowResetter.accept( row );
+        pooledRows.addLast( row );
+
+        return true;
+    }
+
+    /**
+     * Discards all of the pooled rows, without resetting the statistics.
+     *
+     * @since 1.0
+     */
+    public void clear() {
+        pooledRows.clear();
+    }
+
+    ////////////////////////// Tuning methods ////////////////////////////////
+
+    /**
+     * Returns the number of pooled rows that are available for reuse.
+     *
+     * @return The number of pooled rows
+     *
+     * @since 1.0
+     */
+    public int getSize() {
+        return pooledRows.size();
+    }
+
+    /**
+     * Returns the maximum number of pooled rows.
+     *
+     * @return The maximum number of pooled rows
+     *
+     * @since 1.0
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of pooled rows, discarding the least recently
+     * released rows if there are now too many.
+     *
+     * @param maximumNumberOfRows
+     *            The maximum number of pooled rows
+     *
+     * @since 1.0
+     */
+    public void setMaximumSize( final int maximumNumberOfRows ) {
+        maximumSize = FastMath.max( 0, maximumNumberOfRows );
+        while ( pooledRows.size() > maximumSize ) {
+            pooledRows.pollFirst();
+        }
+    }
+
+    /**
+     * Returns the number of requests that reused a pooled row.
+     *
+     * @return The number of requests that reused a pooled row
+     *
+     * @since 1.0
+     */
+    public long getNumberOfHits() {
+        return numberOfHits;
+    }
+
+    /**
+     * Returns the number of requests that found the pool empty.
+     *
+     * @return The number of requests that found the pool empty
+     *
+     * @since 1.0
+     */
+    public long getNumberOfMisses() {
+        return numberOfMisses;
+    }
+
+    /**
+     * Returns the number of released rows that were discarded because the
+     * pool was full, which suggests raising the maximum size if it is high
+     * along with the number of misses.
+     *
+     * @return The number of released rows that were discarded
+     *
+     * @since 1.0
+     */
+    public long getNumberOfDiscards() {
+        return numberOfDiscards;
+    }
+
+    /**
+     * Returns the fraction of requests that reused a pooled row.
+     *
+     * @return The fraction of requests that reused a pooled row, from zero to
+     *         one, or zero if there haven't been any requests
+     *
+     * @since 1.0
+     */
+    public double getHitRate() {
+        final long numberOfRequests = numberOfHits + numberOfMisses;
+        return ( numberOfRequests > 0L ) ? ( double ) numberOfHits / numberOfRequests : 0.0d;
+    }
+
+    /**
+     * Resets the hit, miss and discard counts, such as at the start of a
+     * tuning run.
+     *
+     * @since 1.0
+     */
+    public void resetStatistics() {
+        numberOfHits = 0L;
+        numberOfMisses = 0L;
+        numberOfDiscards = 0L;
+    }
+
+    /**
+     * Returns a summary of the pool's size and statistics, for logging.
+     *
+     * @return A summary of the pool's size and statistics
+     *
+     * @since 1.0
+     */
+    @Override
+    public String toString() {
+        return "RowPool[size=" + pooledRows.size() + "/" + maximumSize //$NON-NLS-1$ //$NON-NLS-2$
+                + ", hits=" + numberOfHits + ", misses=" + numberOfMisses //$NON-NLS-1$ //$NON-NLS-2$
+                + ", discards=" + numberOfDiscards + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+}
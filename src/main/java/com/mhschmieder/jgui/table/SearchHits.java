@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import java.util.Objects;
+
+/**
+ * {@code SearchHits} is an immutable list of the model cells that matched a
+ * table search, in row-major model order, stored as primitive arrays so that
+ * large result sets don't allocate an object per hit.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class SearchHits {
+
+    /**
+     * The shared result for searches that have no hits.
+     */
+    public static final SearchHits EMPTY = new SearchHits( new int[ 0 ], new int[ 0 ], 0 );
+
+    /**
+     * The model row index of each hit.
+     */
+    private final int[]            modelRows;
+
+    /**
+     * The model column index of each hit.
+     */
+    private final int[]            modelColumns;
+
+    /**
+     * The number of hits.
+     */
+    private final int              numberOfHits;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code SearchHits} from the pre-sorted hit arrays, which
+     * are taken over rather than copied.
+     *
+     * @param hitModelRows
+     *            The model row index of each hit
+     * @param hitModelColumns
+     *            The model column index of each hit
+     * @param hitCount
+     *            The number of leading elements of the arrays that are in use
+     */
+    SearchHits( final int[] hitModelRows, final int[] hitModelColumns, final int hitCount ) {
+        modelRows = hitModelRows;
+        modelColumns = hitModelColumns;
+        numberOfHits = hitCount;
+    }
+
+    ////////////////////////// Hit accessor methods //////////////////////////
+
+    /**
+     * Returns the number of hits.
+     *
+     * @return The number of hits
+     *
+     * @since 1.0
+     */
+    public int getCount() {
+        return numberOfHits;
+    }
+
+    /**
+     * Returns {@code true} if there are no hits.
+     *
+     * @return {@code true} if there are no hits
+     *
+     * @since 1.0
+     */
+    public boolean isEmpty() {
+        return numberOfHits == 0;
+    }
+
+    /**
+     * Returns the model row index of the specified hit.
+     *
+     * @param hit
+     *            The index of the hit
+     * @return The model row index of the hit
+     *
+     * @since 1.0
+     */
+    public int getModelRow( final int hit ) {
+        Objects.checkIndex( hit, numberOfHits );
+        return modelRows[ hit ];
+    }
+
+    /**
+     * Returns the model column index of the specified hit.
+     *
+     * @param hit
+     *            The index of the hit
+     * @return The model column index of the hit
+     *
+     * @since 1.0
+     */
+    public int getModelColumn( final int hit ) {
+        Objects.checkIndex( hit, numberOfHits );
+        return modelColumns[ hit ];
+    }
+
+}
@@ -0,0 +1,427 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * {@code SnapshotDiff} is the difference between two versions of a keyed row
+ * list, expressed as the old rows to delete, the new rows to insert, and the
+ * matched rows whose contents changed.
+ * <p>
+ * Rows are matched by key with a hash join. Of the matched rows, the longest
+ * run that kept its relative order stays in place, and the rest are treated
+ * as moved, that is deleted from their old position and inserted at their new
+ * one. So applying a diff in order, deletions first, then insertions, then
+ * updates, turns the old list into the new one with the fewest row moves.
+ * <p>
+ * Diffs are immutable and don't hold on to either row list, so they can be
+ * computed off the event-dispatching thread from snapshots and applied to a
+ * model later.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class SnapshotDiff {
+
+    /**
+     * The number of rows in the old list.
+     */
+    private final int    oldRowCount;
+
+    /**
+     * The number of rows in the new list.
+     */
+    private final int    newRowCount;
+
+    /**
+     * The indices in the old list of the rows to delete.
+     */
+    private final BitSet deletedRows;
+
+    /**
+     * The indices in the new list of the rows to insert.
+     */
+    private final BitSet insertedRows;
+
+    /**
+     * The indices in the new list of the retained rows whose contents changed.
+     */
+    private final BitSet updatedRows;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code SnapshotDiff} from its computed row sets.
+     *
+     * @param oldCount
+     *            The number of rows in the old list
+     * @param newCount
+     *            The number of rows in the new list
+     * @param deleted
+     *            The indices in the old list of the rows to delete
+     * @param inserted
+     *            The indices in the new list of the rows to insert
+     * @param updated
+     *            The indices in the new list of the retained rows whose
+     *            contents changed
+     */
+    private SnapshotDiff( final int oldCount,
+                          final int newCount,
+                          final BitSet deleted,
+                          final BitSet inserted,
+                          final BitSet updated ) {
+        oldRowCount = oldCount;
+        newRowCount = newCount;
+        deletedRows = deleted;
+        insertedRows = inserted;
+        updatedRows = updated;
+    }
+
+    /**
+     * Returns the difference between two versions of a keyed row list.
+     * <p>
+     * Keys must have consistent {@code equals} and {@code hashCode}
+     * implementations. If a key occurs more than once in either list, its
+     * first occurrences are matched and the rest are deleted or inserted.
+     * <p>
+     * This takes time linear in the total number of rows, plus
+     * {@code m log m} for the {@code m} matched rows when finding the ones
+     * that kept their order.
+     *
+     * @param <T>
+     *            The type of the row data objects
+     * @param oldRows
+     *            The old version of the row list
+     * @param newRows
+     *            The new version of the row list
+     * @param rowKey
+     *            The function that returns the identifying key of a row
+     * @param rowEquality
+     *            The predicate that returns {@code true} if an old row and the
+     *            matching new row have the same contents
+     * @return The difference between the two versions of the row list
+     *
+     * @since 1.0
+     */
+    public static < T > SnapshotDiff compute( final List< ? extends T > oldRows,
+                                              final List< ? extends T > newRows,
+                                              final Function< ? super T, ? > rowKey,
+                                              final BiPredicate< ? super T, ? super T > rowEquality ) {
+        final int oldCount = oldRows.size();
+        final int newCount = newRows.size();
+
+        // Hash join the new rows against the old ones by key, removing each
+        // match so that duplicate new keys aren't matched twice.
+        final Map< Object, Integer > oldIndexByKey = new HashMap<>( ( 4 * oldCount ) / 3 + 1 );
+        for ( int oldIndex = 0; oldIndex < oldCount; oldIndex++ ) {
+            oldIndexByKey.putIfAbsent( rowKey.apply( oldRows.get( oldIndex ) ),
+                                       Integer.valueOf( oldIndex ) );
+        }
+        final int[] matchedOldIndices = new int[ newCount ];
+        for ( int newIndex = 0; newIndex < newCount; newIndex++ ) {
+            final Integer oldIndex = oldIndexByKey.remove( rowKey.apply( newRows.get( newIndex ) ) );
+            matchedOldIndices[ newIndex ] = ( oldIndex != null ) ? oldIndex.intValue() : -1;
+        }
+
+        // Keep the matched rows that are in the longest increasing run of old
+        // indices, as those can stay where they are; everything else is either
+        // deleted or inserted.
+        final BitSet keptNewRows = findLongestIncreasingSubsequence( matchedOldIndices );
+        final BitSet deleted = new BitSet( oldCount );
+        deleted.set( 0, oldCount );
+        final BitSet inserted = new BitSet( newCount );
+        inserted.set( 0, newCount );
+        final BitSet updated = new BitSet( newCount );
+        for ( int newIndex = keptNewRows.nextSetBit( 0 ); newIndex >= 0;
+              newIndex = keptNewRows.nextSetBit( newIndex + 1 ) ) {
+            final int oldIndex = matchedOldIndices[ newIndex ];
+            deleted.clear( oldIndex );
+            inserted.clear( newIndex );
+            if ( !rowEquality.test( oldRows.get( oldIndex ), newRows.get( newIndex ) ) ) {
+                updated.set( newIndex );
+            }
+        }
+
+        return new SnapshotDiff( oldCount, newCount, deleted, inserted, updated );
+    }
+
+    /**
+     * Returns the positions of one longest strictly increasing subsequence of
+     * the non-negative values, using patience sorting.
+     *
+     * @param values
+     *            The values, where negative values are skipped
+     * @return The positions of a longest strictly increasing subsequence
+     */
+    private static BitSet findLongestIncreasingSubsequence( final int[] values ) {
+        // The position of the smallest tail value of each run length so far,
+        // and the predecessor of each position in its run.
+        final int[] tailPositions = new int[ values.length ];
+        final int[] predecessors = new int[ values.length ];
+        int longestLength = 0;
+        for ( int position = 0; position < values.length; position++ ) {
+            final int value = values[ position ];
+            if ( value < 0 ) {
+                continue;
+            }
+
+            int low = 0;
+            int high = longestLength;
+            while ( low < high ) {
+                final int middle = ( low + high ) >>> 1;
+                if ( values[ tailPositions[ middle ] ] < value ) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+
+            predecessors[ position ] = ( low > 0 ) ? tailPositions[ low - 1 ] : -1;
+            tailPositions[ low ] = position;
+            if ( low == longestLength ) {
+                longestLength++;
+            }
+        }
+
+        final BitSet subsequence = new BitSet( values.length );
+        for ( int position = ( longestLength > 0 ) ? tailPositions[ longestLength - 1 ] : -1;
+              position >= 0; position = predecessors[ position ] ) {
+            subsequence.set( position );
+        }
+
+        return subsequence;
+    }
+
+    /**
+     * Returns the number of rows in the old list.
+     *
+     * @return The number of rows in the old list
+     *
+     * @since 1.0
+     */
+    public int getOldRowCount() {
+        return oldRowCount;
+    }
+
+    /**
+     * Returns the number of rows in the new list.
+     *
+     * @return The number of rows in the new list
+     *
+     * @since 1.0
+     */
+    public int getNewRowCount() {
+        return newRowCount;
+    }
+
+    /**
+     * Returns the indices in the old list of the rows to delete, including
+     * matched rows that moved.
+     *
+     * @return A copy of the indices in the old list of the rows to delete
+     *
+     * @since 1.0
+     */
+    public BitSet getDeletedRows() {
+        return ( BitSet ) deletedRows.clone();
+    }
+
+    /**
+     * Returns the indices in the new list of the rows to insert, including
+     * matched rows that moved.
+     *
+     * @return A copy of the indices in the new list of the rows to insert
+     *
+     * @since 1.0
+     */
+    public BitSet getInsertedRows() {
+        return ( BitSet ) insertedRows.clone();
+    }
+
+    /**
+     * Returns the indices in the new list of the retained rows whose contents
+     * changed.
+     *
+     * @return A copy of the indices in the new list of the updated rows
+     *
+     * @since 1.0
+     */
+    public BitSet getUpdatedRows() {
+        return ( BitSet ) updatedRows.clone();
+    }
+
+    /**
+     * Returns the number of rows to delete.
+     *
+     * @return The number of rows to delete
+     *
+     * @since 1.0
+     */
+    public int getNumberOfDeletedRows() {
+        return deletedRows.cardinality();
+    }
+
+    /**
+     * Returns the number of rows to insert.
+     *
+     * @return The number of rows to insert
+     *
+     * @since 1.0
+     */
+    public int getNumberOfInsertedRows() {
+        return insertedRows.cardinality();
+    }
+
+    /**
+     * Returns the number of retained rows whose contents changed.
+     *
+     * @return The number of retained rows whose contents changed
+     *
+     * @since 1.0
+     */
+    public int getNumberOfUpdatedRows() {
+        return updatedRows.cardinality();
+    }
+
+    /**
+     * Returns {@code true} if the two versions of the row list have the same
+     * rows in the same order with the same contents.
+     *
+     * @return {@code true} if there is no difference to apply
+     *
+     * @since 1.0
+     */
+    public boolean isEmpty() {
+        return deletedRows.isEmpty() && insertedRows.isEmpty() && updatedRows.isEmpty();
+    }
+
+    /**
+     * Visits each contiguous run of rows to delete, in increasing order, with
+     * the run's start index adjusted for the runs deleted before it.
+     *
+     * @param runVisitor
+     *            The visitor to apply to each run, given its first index in
+     *            the partially updated list and its length
+     */
+    void visitDeletedRuns( final RunVisitor runVisitor ) {
+        int numberOfRowsDeleted = 0;
+        for ( int firstRow = deletedRows.nextSetBit( 0 ); firstRow >= 0; ) {
+            final int endRow = deletedRows.nextClearBit( firstRow );
+            final int runLength = endRow - firstRow;
+            runVisitor.visitRun( firstRow - numberOfRowsDeleted, runLength );
+            numberOfRowsDeleted += runLength;
+            firstRow = deletedRows.nextSetBit( endRow );
+        }
+    }
+
+    /**
+     * Visits each contiguous run of rows to insert, in increasing order, by
+     * its index in the new list.
+     *
+     * @param runVisitor
+     *            The visitor to apply to each run, given its first index and
+     *            its length
+     */
+    void visitInsertedRuns( final RunVisitor runVisitor ) {
+        visitRuns( insertedRows, runVisitor );
+    }
+
+    /**
+     * Visits each contiguous run of updated rows, in increasing order, by its
+     * index in the new list.
+     *
+     * @param runVisitor
+     *            The visitor to apply to each run, given its first index and
+     *            its length
+     */
+    void visitUpdatedRuns( final RunVisitor runVisitor ) {
+        visitRuns( updatedRows, runVisitor );
+    }
+
+    /**
+     * Visits each contiguous run of set bits, in increasing order.
+     *
+     * @param rows
+     *            The row indices to visit the runs of
+     * @param runVisitor
+     *            The visitor to apply to each run, given its first index and
+     *            its length
+     */
+    private static void visitRuns( final BitSet rows, final RunVisitor runVisitor ) {
+        for ( int firstRow = rows.nextSetBit( 0 ); firstRow >= 0; ) {
+            final int endRow = rows.nextClearBit( firstRow );
+            runVisitor.visitRun( firstRow, endRow - firstRow );
+            firstRow = rows.nextSetBit( endRow );
+        }
+    }
+
+    /**
+     * Returns a summary of the row counts of this diff.
+     *
+     * @return A summary of the row counts of this diff
+     *
+     * @since 1.0
+     */
+    @Override
+    public String toString() {
+        return "SnapshotDiff[" + oldRowCount + " -> " + newRowCount //$NON-NLS-1$ //$NON-NLS-2$
+                + " rows, deleted=" + getNumberOfDeletedRows() //$NON-NLS-1$
+                + ", inserted=" + getNumberOfInsertedRows() //$NON-NLS-1$
+                + ", updated=" + getNumberOfUpdatedRows() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * {@code RunVisitor} is a callback for visiting contiguous runs of rows.
+     */
+    @FunctionalInterface
+    interface RunVisitor {
+
+        /**
+         * Visits a contiguous run of rows.
+         *
+         * @param firstRow
+         *            The index of the first row in the run
+         * @param runLength
+         *            The number of rows in the run
+         */
+        void visitRun( int firstRow, int runLength );
+
+    }
+
+}
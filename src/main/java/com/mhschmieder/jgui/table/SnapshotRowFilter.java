@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code SnapshotRowFilter} is an interface for row filters that are evaluated
+ * against a {@link TableSnapshot} rather than the live Table Model, so that
+ * they can be evaluated in parallel off the event-dispatching thread.
+ * <p>
+ * Implementations are invoked concurrently from several threads, so they must
+ * be stateless or thread-safe, and must read cell values only through the
+ * snapshot.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@FunctionalInterface
+public interface SnapshotRowFilter {
+
+    /**
+     * Returns {@code true} if the specified snapshot row should be included in
+     * the table view.
+     *
+     * @param tableSnapshot
+     *            The snapshot that holds the cell values of the row
+     * @param snapshotRow
+     *            The row index within the snapshot; use
+     *            {@link TableSnapshot#getModelRow} to get the model row index
+     * @return {@code true} if the row should be included in the table view
+     *
+     * @since 1.0
+     */
+    boolean include( TableSnapshot tableSnapshot, int snapshotRow );
+
+}
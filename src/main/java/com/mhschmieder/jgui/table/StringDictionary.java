@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code StringDictionary} assigns a small, stable {@code int} code to each
+ * distinct string, so that a column with few distinct values can store one
+ * code per row instead of one string reference per row.
+ * <p>
+ * Codes are handed out in order of first appearance and are never reused or
+ * reassigned, so they can be cached against, such as by renderers. Code
+ * {@link #NULL_CODE} always stands for {@code null}, so that zero-filled code
+ * arrays hold {@code null} values. A dictionary can be shared by several
+ * columns, or by the columns of several models, that hold the same kind of
+ * values, so that equal strings have equal codes across all of them.
+ * <p>
+ * As with all Swing models, this must only be used on the event-dispatching
+ * thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class StringDictionary implements Serializable {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long            serialVersionUID = -2906410628466103154L;
+
+    /**
+     * The code that stands for {@code null}.
+     */
+    public static final int              NULL_CODE        = 0;
+
+    /**
+     * The code that is returned for strings that aren't in the dictionary.
+     */
+    public static final int              NO_CODE          = -1;
+
+    /**
+     * The code of each distinct string.
+     */
+    private final Map< String, Integer > codesByString;
+
+    /**
+     * The distinct strings, indexed by code.
+     */
+    private String[]                     stringsByCode;
+
+    /**
+     * The number of codes in use, including the code for {@code null}.
+     */
+    private int                          size;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code StringDictionary} that only holds {@code null}.
+     *
+     * @since 1.0
+     */
+    public StringDictionary() {
+        codesByString = new HashMap<>();
+        stringsByCode = new String[ 16 ];
+        stringsByCode[ NULL_CODE ] = null;
+        size = 1;
+    }
+
+    /////////////////////// Encoding and decoding methods ////////////////////
+
+    /**
+     * Returns the code of the specified string, adding it to the dictionary
+     * first if it isn't already there.
+     *
+     * @param value
+     *            The string to encode, which may be {@code null}
+     * @return The code of the string
+     *
+     * @since 1.0
+     */
+    public int encode( final String value ) {
+        if ( value == null ) {
+            return NULL_CODE;
+        }
+
+        final Integer code = codesByString.get( value );
+        if ( code != null ) {
+            return code.intValue();
+        }
+
+        if ( size == stringsByCode.length ) {
+            stringsByCode = Arrays.copyOf( stringsByCode, size + ( size >> 1 ) );
+        }
+        final int newCode = size++;
+        stringsByCode[ newCode ] = value;
+        codesByString.put( value, Integer.valueOf( newCode ) );
+
+        return newCode;
+    }
+
+    /**
+     * Returns the code of the specified string, without adding it to the
+     * dictionary.
+     *
+     * @param value
+     *            The string to look up, which may be {@code null}
+     * @return The code of the string, or {@link #NO_CODE} if it isn't in the
+     *         dictionary
+     *
+     * @since 1.0
+     */
+    public int getCode( final String value ) {
+        if ( value == null ) {
+            return NULL_CODE;
+        }
+
+        final Integer code = codesByString.get( value );
+        return ( code != null ) ? code.intValue() : NO_CODE;
+    }
+
+    /**
+     * Returns the string for the specified code.
+     *
+     * @param code
+     *            A code that was returned by this dictionary
+     * @return The string for the code, which is {@code null} for
+     *         {@link #NULL_CODE}
+     * @throws IndexOutOfBoundsException
+     *             If the code isn't in use
+     *
+     * @since 1.0
+     */
+    public String decode( final int code ) {
+        if ( ( code < 0 ) || ( code >= size ) ) {
+            throw new IndexOutOfBoundsException( "Unknown dictionary code: " + code ); //$NON-NLS-1$
+        }
+
+        return stringsByCode[ code ];
+    }
+
+    /**
+     * Returns the number of codes in use, including the code for
+     * {@code null}, so that every code is less than this.
+     *
+     * @return The number of codes in use
+     *
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the strings in this dictionary, indexed by code, for
+     * decoding on other threads.
+     *
+     * @return A copy of the strings in this dictionary, indexed by code
+     */
+    String[] copyStrings() {
+        return Arrays.copyOf( stringsByCode, size );
+    }
+
+}
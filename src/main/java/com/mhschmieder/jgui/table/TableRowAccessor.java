@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+/**
+ * {@code TableRowAccessor} is an interface for presenting the fields of a row
+ * data object as table columns, so that generic Table Models can hold rows of
+ * any type without converting them to cell arrays up front.
+ *
+ * @param <T>
+ *            The type of the row data objects
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface TableRowAccessor< T > {
+
+    /**
+     * Returns the number of columns in each row.
+     *
+     * @return The number of columns in each row
+     *
+     * @since 1.0
+     */
+    int getColumnCount();
+
+    /**
+     * Returns the name of the specified column, for use in the table header.
+     *
+     * @param column
+     *            The column index
+     * @return The name of the specified column
+     *
+     * @since 1.0
+     */
+    String getColumnName( int column );
+
+    /**
+     * Returns the most specific class of the values in the specified column,
+     * so that the table can choose a suitable cell renderer.
+     *
+     * @param column
+     *            The column index
+     * @return The most specific class of the values in the specified column
+     *
+     * @since 1.0
+     */
+    Class< ? > getColumnClass( int column );
+
+    /**
+     * Returns the value of the specified column of a row.
+     *
+     * @param row
+     *            The row data object
+     * @param column
+     *            The column index
+     * @return The value of the specified column of the row
+     *
+     * @since 1.0
+     */
+    Object getValueAt( T row, int column );
+
+}
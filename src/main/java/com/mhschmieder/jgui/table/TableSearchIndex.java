@@ -0,0 +1,836 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import org.apache.commons.math3.util.FastMath;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.awt.EventQueue;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code TableSearchIndex} is a trigram index over the text of selected
+ * columns of a Table Model, for case-insensitive substring search without
+ * scanning every cell's {@code toString()} on every keystroke.
+ * <p>
+ * The index maps each three-character sequence to the cells whose text
+ * contains it. A query looks up its own trigrams, takes the shortest posting
+ * list, and checks only those cells against the live model, so a query costs
+ * time proportional to its rarest trigram rather than to the model size.
+ * Queries shorter than a trigram, and queries made before the index is first
+ * built, fall back to a scan.
+ * <p>
+ * The index is built from a {@link TableSnapshot} on a background executor,
+ * and is then kept current from the model's events. Cells are tracked by
+ * stable row identifiers, so inserting and deleting rows doesn't renumber the
+ * postings. Postings of edited and deleted cells are left in place and simply
+ * fail the check against the live model; once they outnumber the live cells,
+ * the index is rebuilt in the background while the old one keeps serving.
+ * Full model refreshes and structure changes also trigger a rebuild.
+ * <p>
+ * As with all Swing models, this must only be used on the event-dispatching
+ * thread; only the builds run elsewhere.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class TableSearchIndex implements TableModelListener {
+
+    /**
+     * The number of characters in each indexed character sequence, which is
+     * the shortest query that the index can answer.
+     */
+    public static final int                GRAM_LENGTH                 = 3;
+
+    /**
+     * The number of rows that a background build indexes between checks for
+     * whether it has been superseded.
+     */
+    private static final int               ROWS_PER_CANCELLATION_CHECK = 4096;
+
+    /**
+     * The Table Model whose columns are indexed.
+     */
+    private final TableModel               tableModel;
+
+    /**
+     * The model indices of the indexed columns, in ascending order.
+     */
+    private final int[]                    modelColumns;
+
+    /**
+     * The executor that runs the background builds.
+     */
+    private final Executor                 buildExecutor;
+
+    /**
+     * A counter that is incremented whenever a build is started, so that
+     * builds that are still running can tell that they are stale.
+     */
+    private final AtomicInteger            buildGeneration;
+
+    /**
+     * The stable row identifier of each model row, valid up to the row count.
+     */
+    private int[]                          rowIds;
+
+    /**
+     * The number of model rows that this index currently knows about.
+     */
+    private int                            rowCount;
+
+    /**
+     * The next unused row identifier.
+     */
+    private int                            nextRowId;
+
+    /**
+     * The model row of each row identifier, or {@code -1} for deleted rows;
+     * this is rebuilt lazily after rows are inserted or deleted.
+     */
+    private int[]                          rowsById;
+
+    /**
+     * Flag for whether the model rows by row identifier are up to date.
+     */
+    private boolean                        rowsByIdValid;
+
+    /**
+     * The cell identifiers for each trigram, or {@code null} until the first
+     * build completes.
+     */
+    private Map< Long, CellPostings >      postings;
+
+    /**
+     * The number of cells whose postings were superseded since the last build.
+     */
+    private long                           staleCellCount;
+
+    /**
+     * The identifiers of the rows that were inserted or updated while a build
+     * is running, or {@code null} if no build is running.
+     */
+    private BitSet                         rowIdsChangedDuringBuild;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code TableSearchIndex} for the specified model columns,
+     * starting its first build on the specified executor and then listening
+     * to the model for changes until {@link #dispose} is invoked.
+     *
+     * @param model
+     *            The Table Model whose columns are indexed
+     * @param executor
+     *            The executor that runs the background builds
+     * @param columns
+     *            The model indices of the columns to index, or none to index
+     *            all of the columns that the model has at this time
+     *
+     * @since 1.0
+     */
+    public TableSearchIndex( final TableModel model,
+                             final Executor executor,
+                             final int... columns ) {
+        tableModel = model;
+        modelColumns = ( columns.length > 0 )
+            ? Arrays.stream( columns ).sorted().distinct().toArray()
+            : createAllColumns( model.getColumnCount() );
+        buildExecutor = executor;
+        buildGeneration = new AtomicInteger();
+        rowIds = new int[ 0 ];
+        rowCount = 0;
+        nextRowId = 0;
+        rowsById = new int[ 0 ];
+        rowsByIdValid = false;
+        postings = null;
+        staleCellCount = 0L;
+        rowIdsChangedDuringBuild = null;
+
+        resetRows();
+        tableModel.addTableModelListener( this );
+    }
+
+    /**
+     * Stops listening to the Table Model and abandons any build that is still
+     * running, after which the index is no longer kept up to date.
+     *
+     * @since 1.0
+     */
+    public void dispose() {
+        tableModel.removeTableModelListener( this );
+        buildGeneration.incrementAndGet();
+        rowIdsChangedDuringBuild = null;
+    }
+
+    //////////////////////////// Search methods //////////////////////////////
+
+    /**
+     * Returns the Table Model whose columns are indexed.
+     *
+     * @return The Table Model whose columns are indexed
+     *
+     * @since 1.0
+     */
+    public final TableModel getTableModel() {
+        return tableModel;
+    }
+
+    /**
+     * Returns {@code true} if the index has been built, so that queries of at
+     * least {@link #GRAM_LENGTH} characters no longer scan the model.
+     *
+     * @return {@code true} if the index has been built
+     *
+     * @since 1.0
+     */
+    public final boolean isReady() {
+        return postings != null;
+    }
+
+    /**
+     * Returns the indexed cells whose text contains the specified query,
+     * ignoring case.
+     *
+     * @param query
+     *            The text to search for
+     * @return The matching cells, in row-major model order
+     *
+     * @since 1.0
+     */
+    public final SearchHits findAll( final String query ) {
+        final String normalizedQuery = normalize( query );
+        if ( normalizedQuery.isEmpty() ) {
+            return SearchHits.EMPTY;
+        }
+        if ( ( postings == null ) || ( normalizedQuery.length() < GRAM_LENGTH ) ) {
+            return scan( tableModel, normalizedQuery, validColumns() );
+        }
+
+        final CellPostings candidates = findShortestPostings( normalizedQuery );
+        if ( candidates == null ) {
+            return SearchHits.EMPTY;
+        }
+
+        ensureRowsById();
+        final int numberOfColumns = modelColumns.length;
+        final int modelColumnCount = tableModel.getColumnCount();
+        long[] hits = new long[ 16 ];
+        int numberOfHits = 0;
+        for ( int candidate = 0; candidate < candidates.size; candidate++ ) {
+            final int cellId = candidates.cellIds[ candidate ];
+            final int modelRow = rowsById[ cellId / numberOfColumns ];
+            final int modelColumn = modelColumns[ cellId % numberOfColumns ];
+            if ( ( modelRow >= 0 ) && ( modelColumn < modelColumnCount )
+                    && contains( tableModel, modelRow, modelColumn, normalizedQuery ) ) {
+                if ( numberOfHits == hits.length ) {
+                    hits = Arrays.copyOf( hits, numberOfHits << 1 );
+                }
+                hits[ numberOfHits++ ] = ( ( long ) modelRow << 32 ) | modelColumn;
+            }
+        }
+
+        // Edited cells can be posted more than once, and postings are in
+        // indexing order rather than model order, so sort and de-duplicate.
+        Arrays.sort( hits, 0, numberOfHits );
+        final int[] hitRows = new int[ numberOfHits ];
+        final int[] hitColumns = new int[ numberOfHits ];
+        int numberOfDistinctHits = 0;
+        for ( int hit = 0; hit < numberOfHits; hit++ ) {
+            if ( ( hit == 0 ) || ( hits[ hit ] != hits[ hit - 1 ] ) ) {
+                hitRows[ numberOfDistinctHits ] = ( int ) ( hits[ hit ] >>> 32 );
+                hitColumns[ numberOfDistinctHits ] = ( int ) hits[ hit ];
+                numberOfDistinctHits++;
+            }
+        }
+
+        return new SearchHits( hitRows, hitColumns, numberOfDistinctHits );
+    }
+
+    /**
+     * Returns the model rows that may hold an indexed cell whose text contains
+     * the specified query, ignoring case, without checking any cells against
+     * the live model.
+     * <p>
+     * This is for searches that stop at the first match, which can then skip
+     * the rows that can't match and only check the rest, in whatever order
+     * they need.
+     *
+     * @param query
+     *            The text to search for
+     * @return The model rows that may match, which is a superset of the rows
+     *         that do; or {@code null} if the index can't narrow the search,
+     *         because it isn't built yet or the query is shorter than
+     *         {@link #GRAM_LENGTH}
+     *
+     * @since 1.0
+     */
+    public final BitSet findCandidateRows( final String query ) {
+        final String normalizedQuery = normalize( query );
+        if ( ( postings == null ) || ( normalizedQuery.length() < GRAM_LENGTH ) ) {
+            return null;
+        }
+
+        final BitSet candidateRows = new BitSet( rowCount );
+        final CellPostings candidates = findShortestPostings( normalizedQuery );
+        if ( candidates == null ) {
+            return candidateRows;
+        }
+
+        ensureRowsById();
+        final int numberOfColumns = modelColumns.length;
+        for ( int candidate = 0; candidate < candidates.size; candidate++ ) {
+            final int modelRow = rowsById[ candidates.cellIds[ candidate ] / numberOfColumns ];
+            if ( modelRow >= 0 ) {
+                candidateRows.set( modelRow );
+            }
+        }
+
+        return candidateRows;
+    }
+
+    /**
+     * Returns {@code true} if the specified model column is indexed.
+     *
+     * @param modelColumn
+     *            The model column index
+     * @return {@code true} if the specified model column is indexed
+     *
+     * @since 1.0
+     */
+    public final boolean isIndexedColumn( final int modelColumn ) {
+        return Arrays.binarySearch( modelColumns, modelColumn ) >= 0;
+    }
+
+    /**
+     * Returns the cells of the specified columns whose text contains the
+     * specified query, ignoring case, by scanning every cell.
+     * <p>
+     * This is the fallback for when no index is available.
+     *
+     * @param model
+     *            The Table Model to search
+     * @param query
+     *            The text to search for
+     * @param columns
+     *            The model indices of the columns to search, in ascending
+     *            order, or none to search all of the columns
+     * @return The matching cells, in row-major model order
+     *
+     * @since 1.0
+     */
+    public static SearchHits scan( final TableModel model,
+                                   final String query,
+                                   final int... columns ) {
+        final String normalizedQuery = normalize( query );
+        if ( normalizedQuery.isEmpty() ) {
+            return SearchHits.EMPTY;
+        }
+
+        final int[] searchColumns = ( columns.length > 0 )
+            ? columns
+            : createAllColumns( model.getColumnCount() );
+        final int numberOfRows = model.getRowCount();
+        int[] hitRows = new int[ 16 ];
+        int[] hitColumns = new int[ 16 ];
+        int numberOfHits = 0;
+        for ( int modelRow = 0; modelRow < numberOfRows; modelRow++ ) {
+            for ( final int modelColumn : searchColumns ) {
+                if ( contains( model, modelRow, modelColumn, normalizedQuery ) ) {
+                    if ( numberOfHits == hitRows.length ) {
+                        hitRows = Arrays.copyOf( hitRows, numberOfHits << 1 );
+                        hitColumns = Arrays.copyOf( hitColumns, numberOfHits << 1 );
+                    }
+                    hitRows[ numberOfHits ] = modelRow;
+                    hitColumns[ numberOfHits ] = modelColumn;
+                    numberOfHits++;
+                }
+            }
+        }
+
+        return new SearchHits( hitRows, hitColumns, numberOfHits );
+    }
+
+    ////////////////// TableModelListener method overrides //////////////////
+
+    /**
+     * Updates the index to account for a Table Model change.
+     *
+     * @param tableModelEvent
+     *            The event describing the Table Model change
+     *
+     * @since 1.0
+     */
+    @Override
+    public void tableChanged( final TableModelEvent tableModelEvent ) {
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        if ( ( firstRow == TableModelEvent.HEADER_ROW ) || ( ( lastRow >= rowCount )
+                && ( tableModelEvent.getType() != TableModelEvent.INSERT ) ) ) {
+            // Structure changes and full data refreshes don't say what
+            // changed, so start over.
+            resetRows();
+            return;
+        }
+
+        switch ( tableModelEvent.getType() ) {
+        case TableModelEvent.INSERT:
+            rowsInserted( firstRow, lastRow );
+            break;
+        case TableModelEvent.DELETE:
+            rowsDeleted( firstRow, lastRow );
+            break;
+        case TableModelEvent.UPDATE:
+        default:
+            rowsUpdated( firstRow, lastRow, tableModelEvent.getColumn() );
+            break;
+        }
+    }
+
+    ////////////////////////// Update methods ////////////////////////////////
+
+    /**
+     * Assigns fresh row identifiers to every model row, discards the index,
+     * and starts a build.
+     */
+    private void resetRows() {
+        rowCount = tableModel.getRowCount();
+        rowIds = new int[ rowCount ];
+        for ( int row = 0; row < rowCount; row++ ) {
+            rowIds[ row ] = row;
+        }
+        nextRowId = rowCount;
+        rowsByIdValid = false;
+        postings = null;
+
+        rebuild();
+    }
+
+    /**
+     * Starts building a fresh index from a snapshot of the model, on the build
+     * executor; the current index, if any, keeps serving and being updated in
+     * the meantime.
+     */
+    private void rebuild() {
+        final int generation = buildGeneration.incrementAndGet();
+        final int[] modelRows = new int[ rowCount ];
+        for ( int row = 0; row < rowCount; row++ ) {
+            modelRows[ row ] = row;
+        }
+        final int[] snapshotRowIds = Arrays.copyOf( rowIds, rowCount );
+        final TableSnapshot tableSnapshot = TableSnapshot.of( tableModel,
+                                                              modelRows,
+                                                              validColumns() );
+        rowIdsChangedDuringBuild = new BitSet();
+
+        buildExecutor.execute( () -> {
+            final Map< Long, CellPostings > builtPostings = new HashMap<>();
+            final int numberOfColumns = modelColumns.length;
+            for ( int row = 0; row < snapshotRowIds.length; row++ ) {
+                if ( ( ( row % ROWS_PER_CANCELLATION_CHECK ) == 0 )
+                        && ( buildGeneration.get() != generation ) ) {
+                    return;
+                }
+                for ( int column = 0; column < numberOfColumns; column++ ) {
+                    if ( tableSnapshot.isColumnCopied( modelColumns[ column ] ) ) {
+                        indexCell( builtPostings,
+                                   ( snapshotRowIds[ row ] * numberOfColumns ) + column,
+                                   tableSnapshot.getValueAt( row, modelColumns[ column ] ) );
+                    }
+                }
+            }
+
+            EventQueue.invokeLater( () -> installPostings( generation, builtPostings ) );
+        } );
+    }
+
+    /**
+     * Installs a freshly built index, unless it has been superseded, and then
+     * indexes the rows that changed while it was being built.
+     *
+     * @param generation
+     *            The build generation at the start of the build
+     * @param builtPostings
+     *            The freshly built index
+     */
+    private void installPostings( final int generation,
+                                  final Map< Long, CellPostings > builtPostings ) {
+        if ( buildGeneration.get() != generation ) {
+            return;
+        }
+
+        final BitSet changedRowIds = rowIdsChangedDuringBuild;
+        rowIdsChangedDuringBuild = null;
+        postings = builtPostings;
+        staleCellCount = 0L;
+
+        ensureRowsById();
+        for ( int rowId = changedRowIds.nextSetBit( 0 ); rowId >= 0; rowId = changedRowIds
+                .nextSetBit( rowId + 1 ) ) {
+            final int modelRow = rowsById[ rowId ];
+            if ( modelRow >= 0 ) {
+                indexRow( modelRow, TableModelEvent.ALL_COLUMNS );
+            }
+        }
+    }
+
+    /**
+     * Assigns row identifiers to the inserted rows, and indexes them.
+     *
+     * @param firstRow
+     *            The first inserted model row index
+     * @param lastRow
+     *            The last inserted model row index
+     */
+    private void rowsInserted( final int firstRow, final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        if ( ( ( long ) nextRowId + numberOfRows ) * modelColumns.length > Integer.MAX_VALUE ) {
+            // The cell identifiers would overflow, so renumber the rows.
+            resetRows();
+            return;
+        }
+
+        if ( ( rowCount + numberOfRows ) > rowIds.length ) {
+            rowIds = Arrays.copyOf( rowIds,
+                                    FastMath.max( rowCount + numberOfRows,
+                                              rowIds.length + ( rowIds.length >> 1 ) ) );
+        }
+        System.arraycopy( rowIds, firstRow, rowIds, lastRow + 1, rowCount - firstRow );
+        for ( int row = firstRow; row <= lastRow; row++ ) {
+            rowIds[ row ] = nextRowId++;
+        }
+        rowCount += numberOfRows;
+        rowsByIdValid = false;
+
+        for ( int row = firstRow; row <= lastRow; row++ ) {
+            rowChanged( row, TableModelEvent.ALL_COLUMNS );
+        }
+    }
+
+    /**
+     * Drops the row identifiers of the deleted rows, whose postings become
+     * stale.
+     *
+     * @param firstRow
+     *            The first deleted model row index
+     * @param lastRow
+     *            The last deleted model row index
+     */
+    private void rowsDeleted( final int firstRow, final int lastRow ) {
+        final int numberOfRows = ( lastRow - firstRow ) + 1;
+        System.arraycopy( rowIds, lastRow + 1, rowIds, firstRow, rowCount - lastRow - 1 );
+        rowCount -= numberOfRows;
+        rowsByIdValid = false;
+
+        staleCellCount += ( long ) numberOfRows * modelColumns.length;
+        compactIfStale();
+    }
+
+    /**
+     * Re-indexes the updated cells, whose previous postings become stale.
+     *
+     * @param firstRow
+     *            The first updated model row index
+     * @param lastRow
+     *            The last updated model row index
+     * @param column
+     *            The updated model column index, or
+     *            {@link TableModelEvent#ALL_COLUMNS} for all columns
+     */
+    private void rowsUpdated( final int firstRow, final int lastRow, final int column ) {
+        if ( ( column != TableModelEvent.ALL_COLUMNS )
+                && ( Arrays.binarySearch( modelColumns, column ) < 0 ) ) {
+            return;
+        }
+
+        for ( int row = firstRow; row <= lastRow; row++ ) {
+            rowChanged( row, column );
+        }
+
+        final int numberOfColumns = ( column == TableModelEvent.ALL_COLUMNS )
+            ? modelColumns.length
+            : 1;
+        staleCellCount += ( long ) ( ( lastRow - firstRow ) + 1 ) * numberOfColumns;
+        compactIfStale();
+    }
+
+    /**
+     * Indexes the current text of an inserted or updated row, and flags it
+     * for the build that is running, if any.
+     *
+     * @param modelRow
+     *            The model row index
+     * @param column
+     *            The changed model column index, or
+     *            {@link TableModelEvent#ALL_COLUMNS} for all columns
+     */
+    private void rowChanged( final int modelRow, final int column ) {
+        if ( rowIdsChangedDuringBuild != null ) {
+            rowIdsChangedDuringBuild.set( rowIds[ modelRow ] );
+        }
+        if ( postings != null ) {
+            indexRow( modelRow, column );
+        }
+    }
+
+    /**
+     * Adds postings for the current text of the specified cells of a row.
+     *
+     * @param modelRow
+     *            The model row index
+     * @param column
+     *            The model column index, or {@link TableModelEvent#ALL_COLUMNS}
+     *            for all indexed columns
+     */
+    private void indexRow( final int modelRow, final int column ) {
+        final int numberOfColumns = modelColumns.length;
+        final int firstCellId = rowIds[ modelRow ] * numberOfColumns;
+        final int modelColumnCount = tableModel.getColumnCount();
+        for ( int index = 0; index < numberOfColumns; index++ ) {
+            final int modelColumn = modelColumns[ index ];
+            if ( ( ( column == TableModelEvent.ALL_COLUMNS ) || ( column == modelColumn ) )
+                    && ( modelColumn < modelColumnCount ) ) {
+                indexCell( postings,
+                           firstCellId + index,
+                           tableModel.getValueAt( modelRow, modelColumn ) );
+            }
+        }
+    }
+
+    /**
+     * Starts a rebuild once the stale postings outnumber the live cells,
+     * unless one is already running.
+     */
+    private void compactIfStale() {
+        if ( ( postings != null ) && ( rowIdsChangedDuringBuild == null )
+                && ( staleCellCount > ( ( long ) rowCount * modelColumns.length ) ) ) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the model rows by row identifier, if they are out of date.
+     */
+    private void ensureRowsById() {
+        if ( rowsByIdValid ) {
+            return;
+        }
+
+        if ( rowsById.length < nextRowId ) {
+            rowsById = new int[ nextRowId ];
+        }
+        Arrays.fill( rowsById, -1 );
+        for ( int row = 0; row < rowCount; row++ ) {
+            rowsById[ rowIds[ row ] ] = row;
+        }
+
+        rowsByIdValid = true;
+    }
+
+    /**
+     * Returns the shortest posting list among the query's trigrams, which is
+     * a superset of the cells that match, as every match contains all of the
+     * query's trigrams.
+     *
+     * @param normalizedQuery
+     *            The query, normalized for case, of at least
+     *            {@link #GRAM_LENGTH} characters
+     * @return The shortest posting list, or {@code null} if any of the
+     *         query's trigrams is in no cell at all
+     */
+    private CellPostings findShortestPostings( final String normalizedQuery ) {
+        CellPostings candidates = null;
+        for ( int gram = 0; gram <= ( normalizedQuery.length() - GRAM_LENGTH ); gram++ ) {
+            final CellPostings gramPostings = postings.get( gramKey( normalizedQuery, gram ) );
+            if ( gramPostings == null ) {
+                return null;
+            }
+            if ( ( candidates == null ) || ( gramPostings.size < candidates.size ) ) {
+                candidates = gramPostings;
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Returns the indexed columns that still exist in the model.
+     *
+     * @return The indexed columns that still exist in the model
+     */
+    private int[] validColumns() {
+        final int modelColumnCount = tableModel.getColumnCount();
+        return Arrays.stream( modelColumns ).filter( column -> column < modelColumnCount ).toArray();
+    }
+
+    ////////////////////////// Utility methods ///////////////////////////////
+
+    /**
+     * Adds postings for every trigram of a cell's text.
+     *
+     * @param index
+     *            The index to add the postings to
+     * @param cellId
+     *            The identifier of the cell
+     * @param value
+     *            The value of the cell, which may be {@code null}
+     */
+    private static void indexCell( final Map< Long, CellPostings > index,
+                                   final int cellId,
+                                   final Object value ) {
+        if ( value == null ) {
+            return;
+        }
+
+        final String text = normalize( value.toString() );
+        for ( int gram = 0; gram <= ( text.length() - GRAM_LENGTH ); gram++ ) {
+            index.computeIfAbsent( gramKey( text, gram ), key -> new CellPostings() ).add( cellId );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the text of the specified cell contains the
+     * normalized query.
+     *
+     * @param model
+     *            The Table Model that holds the cell
+     * @param modelRow
+     *            The model row index
+     * @param modelColumn
+     *            The model column index
+     * @param normalizedQuery
+     *            The query, normalized for case by {@link #normalize}
+     * @return {@code true} if the text of the cell contains the query
+     *
+     * @since 1.0
+     */
+    public static boolean contains( final TableModel model,
+                                     final int modelRow,
+                                     final int modelColumn,
+                                     final String normalizedQuery ) {
+        final Object value = model.getValueAt( modelRow, modelColumn );
+        return ( value != null ) && normalize( value.toString() ).contains( normalizedQuery );
+    }
+
+    /**
+     * Returns the specified text normalized for case-insensitive comparison.
+     *
+     * @param text
+     *            The text to normalize, which may be {@code null}
+     * @return The normalized text, which is empty for {@code null}
+     *
+     * @since 1.0
+     */
+    public static String normalize( final String text ) {
+        return ( text != null ) ? text.toLowerCase( Locale.ROOT ) : ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the key for the trigram that starts at the specified index of
+     * the normalized text.
+     *
+     * @param text
+     *            The normalized text
+     * @param index
+     *            The index of the first character of the trigram
+     * @return The key for the trigram
+     */
+    private static Long gramKey( final String text, final int index ) {
+        return Long.valueOf( ( ( long ) text.charAt( index ) << 32 )
+                | ( ( long ) text.charAt( index + 1 ) << 16 ) | text.charAt( index + 2 ) );
+    }
+
+    /**
+     * Returns the indices of all of the columns of a model.
+     *
+     * @param numberOfColumns
+     *            The number of columns in the model
+     * @return The indices of all of the columns, in ascending order
+     */
+    private static int[] createAllColumns( final int numberOfColumns ) {
+        final int[] columns = new int[ numberOfColumns ];
+        for ( int column = 0; column < numberOfColumns; column++ ) {
+            columns[ column ] = column;
+        }
+        return columns;
+    }
+
+    /**
+     * {@code CellPostings} is a growable list of the identifiers of the cells
+     * that contain a trigram.
+     */
+    private static final class CellPostings {
+        /**
+         * The cell identifiers, valid up to the size.
+         */
+        int[] cellIds;
+
+        /**
+         * The number of cell identifiers in use.
+         */
+        int   size;
+
+        /**
+         * Constructs an empty {@code CellPostings}.
+         */
+        CellPostings() {
+            cellIds = new int[ 4 ];
+            size = 0;
+        }
+
+        /**
+         * Appends a cell identifier, unless it was the last one appended, as
+         * happens when a trigram repeats within a cell.
+         *
+         * @param cellId
+         *            The cell identifier to append
+         */
+        void add( final int cellId ) {
+            if ( ( size > 0 ) && ( cellIds[ size - 1 ] == cellId ) ) {
+                return;
+            }
+            if ( size == cellIds.length ) {
+                cellIds = Arrays.copyOf( cellIds, size << 1 );
+            }
+            cellIds[ size++ ] = cellId;
+        }
+    }
+
+}
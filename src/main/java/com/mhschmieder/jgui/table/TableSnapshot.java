@@ -0,0 +1,483 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.table;
+
+import javax.swing.table.TableModel;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * {@code TableSnapshot} is an immutable copy of the cell values for a subset
+ * of the rows in a {@link TableModel}, so that work such as parsing and
+ * validation can proceed on other threads while the model itself remains
+ * confined to the event-dispatching thread.
+ * <p>
+ * The snapshot only copies cell references, not the cell values themselves,
+ * so it is only as immutable as the values are; this is the case for the
+ * usual cell types such as strings, numbers, and enums. To keep snapshots of
+ * large tables cheap, a snapshot can be limited to the columns that the work
+ * on the other threads actually reads.
+ * <p>
+ * Snapshots of a {@link ColumnarTableModel} copy each column into a primitive
+ * array instead, so that taking the snapshot doesn't box; the values are
+ * boxed on demand when read, on whichever thread reads them.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TableSnapshot {
+
+    /**
+     * The model row indices of the rows in this snapshot, in snapshot order.
+     */
+    private final int[]      modelRows;
+
+    /**
+     * The number of model columns, which are all addressable in this
+     * snapshot, whether or not they were copied.
+     */
+    private final int        numberOfColumns;
+
+    /**
+     * The position of each model column within a copied row, or {@code -1}
+     * for columns that weren't copied; this is {@code null} when all columns
+     * were copied, in model order.
+     */
+    private final int[]      columnSlots;
+
+    /**
+     * The number of cell values copied per row.
+     */
+    private final int        rowStride;
+
+    /**
+     * The cell values, in row-major order, or {@code null} for snapshots of a
+     * {@link ColumnarTableModel}.
+     */
+    private final Object[]   cellValues;
+
+    /**
+     * The primitive copy of each copied column, by position, for snapshots of
+     * a {@link ColumnarTableModel}, or else {@code null}.
+     */
+    private final Object[]   primitiveColumns;
+
+    /**
+     * The strings of each copied dictionary column, indexed by code, by
+     * position, or {@code null} for columns that aren't dictionary columns.
+     */
+    private final String[][] columnStrings;
+
+    /**
+     * The Table Model that the cells are read from directly, for the one-row
+     * live views behind {@link #createLiveRowFilter}, or else {@code null}.
+     */
+    private final TableModel liveTableModel;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code TableSnapshot} from the pre-copied data.
+     *
+     * @param snapshotModelRows
+     *            The model row indices of the rows in this snapshot
+     * @param columnCount
+     *            The number of model columns
+     * @param snapshotColumnSlots
+     *            The position of each model column within a copied row, or
+     *            {@code null} if all columns were copied
+     * @param stride
+     *            The number of cell values copied per row
+     * @param snapshotCellValues
+     *            The cell values, in row-major order, or {@code null} if the
+     *            columns were copied into primitive arrays
+     * @param snapshotPrimitiveColumns
+     *            The primitive copy of each copied column, by position, or
+     *            {@code null} if the cell values were copied instead
+     * @param snapshotColumnStrings
+     *            The strings of each copied dictionary column, by position, or
+     *            {@code null} if the cell values were copied instead
+     * @param liveModel
+     *            The Table Model to read the cells from directly, or
+     *            {@code null} if the cells were copied
+     */
+    private TableSnapshot( final int[] snapshotModelRows,
+                           final int columnCount,
+                           final int[] snapshotColumnSlots,
+                           final int stride,
+                           final Object[] snapshotCellValues,
+                           final Object[] snapshotPrimitiveColumns,
+                           final String[][] snapshotColumnStrings,
+                           final TableModel liveModel ) {
+        modelRows = snapshotModelRows;
+        numberOfColumns = columnCount;
+        columnSlots = snapshotColumnSlots;
+        rowStride = stride;
+        cellValues = snapshotCellValues;
+        primitiveColumns = snapshotPrimitiveColumns;
+        columnStrings = snapshotColumnStrings;
+        liveTableModel = liveModel;
+    }
+
+    /**
+     * Returns a snapshot of the specified rows of a Table Model, across all of
+     * its columns.
+     * <p>
+     * This method must be invoked on the thread that owns the Table Model,
+     * which is usually the event-dispatching thread.
+     *
+     * @param tableModel
+     *            The Table Model to copy the cell values from
+     * @param modelRows
+     *            The model row indices of the rows to copy, in the order that
+     *            they should appear in the snapshot
+     * @return A snapshot of the specified rows of the Table Model
+     *
+     * @since 1.0
+     */
+    public static TableSnapshot of( final TableModel tableModel, final int[] modelRows ) {
+        if ( tableModel instanceof ColumnarTableModel ) {
+            final int[] columns = new int[ tableModel.getColumnCount() ];
+            for ( int column = 0; column < columns.length; column++ ) {
+                columns[ column ] = column;
+            }
+            return of( tableModel, modelRows, columns );
+        }
+
+        final int numberOfRows = modelRows.length;
+        final int numberOfColumns = tableModel.getColumnCount();
+        final Object[] cellValues = new Object[ numberOfRows * numberOfColumns ];
+        int cellIndex = 0;
+        for ( final int modelRow : modelRows ) {
+            for ( int column = 0; column < numberOfColumns; column++ ) {
+                cellValues[ cellIndex++ ] = tableModel.getValueAt( modelRow, column );
+            }
+        }
+
+        return new TableSnapshot( modelRows.clone(),
+                                  numberOfColumns,
+                                  null,
+                                  numberOfColumns,
+                                  cellValues,
+                                  null,
+                                  null,
+                                  null );
+    }
+
+    /**
+     * Returns a snapshot of the specified rows of a Table Model, across only
+     * the specified columns; the other columns can't be read from it.
+     * <p>
+     * This method must be invoked on the thread that owns the Table Model,
+     * which is usually the event-dispatching thread.
+     *
+     * @param tableModel
+     *            The Table Model to copy the cell values from
+     * @param modelRows
+     *            The model row indices of the rows to copy, in the order that
+     *            they should appear in the snapshot
+     * @param columns
+     *            The model column indices of the columns to copy
+     * @return A snapshot of the specified cells of the Table Model
+     * @throws IndexOutOfBoundsException
+     *             If any of the columns isn't valid for the model
+     *
+     * @since 1.0
+     */
+    public static TableSnapshot of( final TableModel tableModel,
+                                    final int[] modelRows,
+                                    final int[] columns ) {
+        final int numberOfColumns = tableModel.getColumnCount();
+        final int[] columnSlots = new int[ numberOfColumns ];
+        Arrays.fill( columnSlots, -1 );
+        int stride = 0;
+        for ( final int column : columns ) {
+            Objects.checkIndex( column, numberOfColumns );
+            if ( columnSlots[ column ] < 0 ) {
+                columnSlots[ column ] = stride++;
+            }
+        }
+
+        if ( tableModel instanceof ColumnarTableModel ) {
+            return ofColumnar( ( ColumnarTableModel ) tableModel, modelRows, columnSlots, stride );
+        }
+
+        final int numberOfRows = modelRows.length;
+        final Object[] cellValues = new Object[ numberOfRows * stride ];
+        int cellIndex = 0;
+        for ( final int modelRow : modelRows ) {
+            for ( int column = 0; column < numberOfColumns; column++ ) {
+                if ( columnSlots[ column ] >= 0 ) {
+                    cellValues[ cellIndex++ ] = tableModel.getValueAt( modelRow, column );
+                }
+            }
+        }
+
+        return new TableSnapshot( modelRows.clone(),
+                                  numberOfColumns,
+                                  columnSlots,
+                                  stride,
+                                  cellValues,
+                                  null,
+                                  null,
+                                  null );
+    }
+
+    /**
+     * Returns a snapshot of the specified cells of a columnar Table Model,
+     * with each column copied into a primitive array.
+     *
+     * @param columnarTableModel
+     *            The columnar Table Model to copy the cell values from
+     * @param modelRows
+     *            The model row indices of the rows to copy
+     * @param columnSlots
+     *            The position of each model column among the copied columns,
+     *            or {@code -1} for columns that aren't copied
+     * @param stride
+     *            The number of copied columns
+     * @return A snapshot of the specified cells of the Table Model
+     */
+    private static TableSnapshot ofColumnar( final ColumnarTableModel columnarTableModel,
+                                             final int[] modelRows,
+                                             final int[] columnSlots,
+                                             final int stride ) {
+        final int numberOfRows = modelRows.length;
+        final Object[] primitiveColumns = new Object[ stride ];
+        final String[][] columnStrings = new String[ stride ][];
+        for ( int column = 0; column < columnSlots.length; column++ ) {
+            final int columnSlot = columnSlots[ column ];
+            if ( columnSlot < 0 ) {
+                continue;
+            }
+
+            switch ( columnarTableModel.getColumnType( column ) ) {
+            case DOUBLE:
+                final double[] doubleValues = new double[ numberOfRows ];
+                for ( int row = 0; row < numberOfRows; row++ ) {
+                    doubleValues[ row ] = columnarTableModel.getDoubleAt( modelRows[ row ], column );
+                }
+                primitiveColumns[ columnSlot ] = doubleValues;
+                break;
+            case LONG:
+                final long[] longValues = new long[ numberOfRows ];
+                for ( int row = 0; row < numberOfRows; row++ ) {
+                    longValues[ row ] = columnarTableModel.getLongAt( modelRows[ row ], column );
+                }
+                primitiveColumns[ columnSlot ] = longValues;
+                break;
+            case DICTIONARY:
+                final int[] codes = new int[ numberOfRows ];
+                for ( int row = 0; row < numberOfRows; row++ ) {
+                    codes[ row ] = columnarTableModel.getCodeAt( modelRows[ row ], column );
+                }
+                primitiveColumns[ columnSlot ] = codes;
+                columnStrings[ columnSlot ] = columnarTableModel.getDictionary( column )
+                        .copyStrings();
+                break;
+            case INT:
+            default:
+                final int[] intValues = new int[ numberOfRows ];
+                for ( int row = 0; row < numberOfRows; row++ ) {
+                    intValues[ row ] = columnarTableModel.getIntAt( modelRows[ row ], column );
+                }
+                primitiveColumns[ columnSlot ] = intValues;
+                break;
+            }
+        }
+
+        return new TableSnapshot( modelRows.clone(),
+                                  columnSlots.length,
+                                  columnSlots,
+                                  stride,
+                                  null,
+                                  primitiveColumns,
+                                  columnStrings,
+                                  null );
+    }
+
+    /////////////////////// Snapshot accessor methods ////////////////////////
+
+    /**
+     * Returns a filter on live model rows that evaluates a snapshot row filter
+     * against the Table Model directly, so that a row sorter can check the
+     * rows that change after the filter was applied to a snapshot.
+     * <p>
+     * The filter is handed a single one-row view that is reused for every
+     * row, and that reads its cells straight from the model rather than
+     * copying them, so checking a row doesn't allocate. The snapshot row
+     * filter must therefore not keep the view past the call. The returned
+     * filter must only be used on the thread that owns the Table Model.
+     *
+     * @param tableModel
+     *            The Table Model to filter
+     * @param rowFilter
+     *            The snapshot row filter to evaluate
+     * @param columns
+     *            The model column indices that the filter reads, or none if it
+     *            may read any column
+     * @return A filter on live model rows
+     * @throws IndexOutOfBoundsException
+     *             If any of the columns isn't valid for the model
+     *
+     * @since 1.0
+     */
+    public static IntPredicate createLiveRowFilter( final TableModel tableModel,
+                                                    final SnapshotRowFilter rowFilter,
+                                                    final int... columns ) {
+        final int numberOfColumns = tableModel.getColumnCount();
+        int[] columnSlots = null;
+        if ( columns.length > 0 ) {
+            columnSlots = new int[ numberOfColumns ];
+            Arrays.fill( columnSlots, -1 );
+            for ( final int column : columns ) {
+                Objects.checkIndex( column, numberOfColumns );
+                columnSlots[ column ] = column;
+            }
+        }
+
+        final int[] liveModelRow = new int[ 1 ];
+        final TableSnapshot liveRow = new TableSnapshot( liveModelRow,
+                                                         numberOfColumns,
+                                                         columnSlots,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         tableModel );
+        return modelRow -> {
+            liveModelRow[ 0 ] = modelRow;
+            return rowFilter.include( liveRow, 0 );
+        };
+    }
+
+    /**
+     * Returns the number of rows in this snapshot.
+     *
+     * @return The number of rows in this snapshot
+     *
+     * @since 1.0
+     */
+    public int getRowCount() {
+        return modelRows.length;
+    }
+
+    /**
+     * Returns the number of columns in this snapshot, which is the number of
+     * model columns even if only some of them were copied.
+     *
+     * @return The number of columns in this snapshot
+     *
+     * @since 1.0
+     */
+    public int getColumnCount() {
+        return numberOfColumns;
+    }
+
+    /**
+     * Returns {@code true} if the cell values of the specified column were
+     * copied into this snapshot.
+     *
+     * @param column
+     *            The model column index
+     * @return {@code true} if the specified column can be read from this
+     *         snapshot
+     *
+     * @since 1.0
+     */
+    public boolean isColumnCopied( final int column ) {
+        return ( column >= 0 ) && ( column < numberOfColumns )
+                && ( ( columnSlots == null ) || ( columnSlots[ column ] >= 0 ) );
+    }
+
+    /**
+     * Returns the model row index that the specified snapshot row was copied
+     * from.
+     *
+     * @param snapshotRow
+     *            The row index within this snapshot
+     * @return The model row index that the snapshot row was copied from
+     *
+     * @since 1.0
+     */
+    public int getModelRow( final int snapshotRow ) {
+        return modelRows[ snapshotRow ];
+    }
+
+    /**
+     * Returns the cell value that was copied from the specified cell.
+     *
+     * @param snapshotRow
+     *            The row index within this snapshot
+     * @param column
+     *            The model column index
+     * @return The cell value that was copied from the specified cell
+     * @throws IllegalArgumentException
+     *             If the column wasn't copied into this snapshot
+     *
+     * @since 1.0
+     */
+    public Object getValueAt( final int snapshotRow, final int column ) {
+        if ( liveTableModel != null ) {
+            if ( !isColumnCopied( column ) ) {
+                throw new IllegalArgumentException( "Column not in snapshot: " + column ); //$NON-NLS-1$
+            }
+            return liveTableModel.getValueAt( modelRows[ snapshotRow ], column );
+        }
+        if ( columnSlots == null ) {
+            return cellValues[ ( snapshotRow * rowStride ) + column ];
+        }
+
+        final int columnSlot = columnSlots[ column ];
+        if ( columnSlot < 0 ) {
+            throw new IllegalArgumentException( "Column not in snapshot: " + column ); //$NON-NLS-1$
+        }
+        if ( primitiveColumns == null ) {
+            return cellValues[ ( snapshotRow * rowStride ) + columnSlot ];
+        }
+
+        Objects.checkIndex( snapshotRow, modelRows.length );
+        final Object primitiveColumn = primitiveColumns[ columnSlot ];
+        if ( primitiveColumn instanceof double[] ) {
+            return ( ( double[] ) primitiveColumn )[ snapshotRow ];
+        }
+        else if ( primitiveColumn instanceof long[] ) {
+            return ( ( long[] ) primitiveColumn )[ snapshotRow ];
+        }
+
+        final int value = ( ( int[] ) primitiveColumn )[ snapshotRow ];
+        final String[] strings = columnStrings[ columnSlot ];
+        return ( strings != null ) ? strings[ value ] : Integer.valueOf( value );
+    }
+
+}
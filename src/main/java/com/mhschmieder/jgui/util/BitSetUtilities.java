@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.util;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.BitSet;
+
+/**
+ * {@code BitSetUtilities} is a utility class for {@link BitSet} manipulation
+ * that the JDK doesn't provide directly, such as opening and closing gaps in
+ * a set of indices when the underlying list grows or shrinks in the middle.
+ * <p>
+ * These are primarily used for keeping per-row state in sync with table row
+ * insertions and deletions, without resorting to boxed index collections.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BitSetUtilities {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private BitSetUtilities() {}
+
+    /**
+     * Opens a gap of cleared bits at the specified index, shifting all of the
+     * bits at or above that index up by the length of the gap.
+     * <p>
+     * The cost is proportional to the number of set bits that are shifted, so
+     * this is efficient for sparse sets such as dirty row flags.
+     *
+     * @param bits
+     *            The {@link BitSet} to modify in place
+     * @param fromIndex
+     *            The index of the first bit in the gap
+     * @param length
+     *            The number of bits in the gap
+     *
+     * @since 1.0
+     */
+    public static void insertRange( final BitSet bits,
+                                    final int fromIndex,
+                                    final int length ) {
+        if ( ( length <= 0 ) || ( fromIndex >= bits.length() ) ) {
+            return;
+        }
+
+        final BitSet shiftedBits = bits.get( fromIndex, bits.length() );
+        bits.clear( fromIndex, bits.length() );
+        for ( int bitIndex = shiftedBits.nextSetBit( 0 ); bitIndex >= 0;
+              bitIndex = shiftedBits.nextSetBit( bitIndex + 1 ) ) {
+            bits.set( fromIndex + length + bitIndex );
+        }
+    }
+
+    /**
+     * Removes the specified range of bits, shifting all of the bits above the
+     * range down by the length of the range so that the gap is closed.
+     * <p>
+     * The cost is proportional to the number of set bits that are shifted, so
+     * this is efficient for sparse sets such as dirty row flags.
+     *
+     * @param bits
+     *            The {@link BitSet} to modify in place
+     * @param fromIndex
+     *            The index of the first bit to remove
+     * @param toIndex
+     *            The index after the last bit to remove
+     *
+     * @since 1.0
+     */
+    public static void removeRange( final BitSet bits,
+                                    final int fromIndex,
+                                    final int toIndex ) {
+        if ( ( toIndex <= fromIndex ) || ( fromIndex >= bits.length() ) ) {
+            return;
+        }
+
+        final BitSet shiftedBits = bits.get( toIndex, FastMath.max( toIndex, bits.length() ) );
+        bits.clear( fromIndex, bits.length() );
+        for ( int bitIndex = shiftedBits.nextSetBit( 0 ); bitIndex >= 0;
+              bitIndex = shiftedBits.nextSetBit( bitIndex + 1 ) ) {
+            bits.set( fromIndex + bitIndex );
+        }
+    }
+
+}
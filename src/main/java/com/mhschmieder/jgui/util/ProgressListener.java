@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.util;
+
+/**
+ * {@code ProgressListener} is an interface that establishes the contract for
+ * receiving progress reports from long-running operations, such as exports
+ * or background loading of large tables, in terms of units of work done out
+ * of the total units of work.
+ * <p>
+ * Each operation documents which thread it reports progress on; most report
+ * on the event-dispatching thread, so that the listener can update the GUI
+ * directly, such as via a {@code JProgressBar}.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Reports the current progress of an operation.
+     *
+     * @param workDone
+     *            The units of work done so far
+     * @param totalWork
+     *            The total units of work, or {@code -1} if unknown
+     *
+     * @since 1.0
+     */
+    void progressChanged( final long workDone, final long totalWork );
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jgui Library
+ *
+ * You should have received a copy of the MIT License along with the jgui
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jgui
+ */
+package com.mhschmieder.jgui.util;
+
+import java.awt.Graphics2D;
+
+/**
+ * {@code VectorPageSink} is an interface that establishes the contract for
+ * multi-page vector output targets, such as PDF or EPS document writers, that
+ * provide a fresh {@link Graphics2D} Graphics Context for each page.
+ * <p>
+ * The purpose of providing this interface, is to allow large components to
+ * be vectorized one page at a time, so that only the current page needs to be
+ * held in memory by the output target, rather than the entire document.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface VectorPageSink {
+
+    /**
+     * Returns the {@link Graphics2D} Graphics Context for a new page.
+     *
+     * @param pageIndex
+     *            The zero-based index of the new page
+     * @return The {@link Graphics2D} Graphics Context to vectorize the new
+     *         page into
+     *
+     * @since 1.0
+     */
+    Graphics2D beginPage( final int pageIndex );
+
+    /**
+     * Finishes a page, after all of its content has been vectorized; this is
+     * the point at which the output target should flush the page and release
+     * any memory associated with it.
+     *
+     * @param pageIndex
+     *            The zero-based index of the finished page
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context that was returned for
+     *            this page by {@link #beginPage(int)}
+     *
+     * @since 1.0
+     */
+    void endPage( final int pageIndex, final Graphics2D graphicsContext );
+}
@@ -32,6 +32,7 @@ module jgui {
     exports com.mhschmieder.jgui.border;
     exports com.mhschmieder.jgui.frame;
     exports com.mhschmieder.jgui.layout;
+    exports com.mhschmieder.jgui.table;
     exports com.mhschmieder.jgui.text;
     exports com.mhschmieder.jgui.util;
     requires commons.math3;